@@ -1,10 +1,12 @@
 package com.tradinghub.application.dto;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 import com.tradinghub.application.exception.order.InvalidOrderException;
 import com.tradinghub.domain.model.order.Order.OrderSide;
 import com.tradinghub.domain.model.order.Order.OrderType;
+import com.tradinghub.domain.model.order.Order.TimeInForce;
 import com.tradinghub.domain.model.user.User;
 
 public record PlaceOrderCommand(
@@ -13,11 +15,69 @@ public record PlaceOrderCommand(
     OrderType type,
     OrderSide side,
     BigDecimal price,
-    BigDecimal amount
+    BigDecimal amount,
+    BigDecimal stopPrice,
+    BigDecimal trailingDelta,
+    TimeInForce timeInForce,
+    LocalDateTime expireAt,
+    Long groupId
 ) {
     public PlaceOrderCommand {
-        if (type == OrderType.LIMIT && price == null) {
-            throw new InvalidOrderException("Limit order requires a price");
+        if ((type == OrderType.LIMIT || type == OrderType.STOP_LIMIT) && price == null) {
+            throw new InvalidOrderException(type == OrderType.LIMIT
+                ? "Limit order requires a price" : "Stop-limit order requires a price");
         }
+        if ((type == OrderType.STOP_MARKET || type == OrderType.STOP_LIMIT || type == OrderType.TAKE_PROFIT)
+                && stopPrice == null) {
+            throw new InvalidOrderException(type + " order requires a stop price");
+        }
+        if (type == OrderType.TRAILING_STOP && trailingDelta == null) {
+            throw new InvalidOrderException("Trailing stop order requires a trailing delta");
+        }
+        if (timeInForce == null) {
+            timeInForce = TimeInForce.GTC;
+        }
+        if (timeInForce.isImmediate() && type != OrderType.LIMIT) {
+            throw new InvalidOrderException(timeInForce + " is only supported for limit orders");
+        }
+        if (timeInForce == TimeInForce.GTD) {
+            if (type == OrderType.MARKET) {
+                throw new InvalidOrderException("GTD is not supported for market orders");
+            }
+            if (expireAt == null) {
+                throw new InvalidOrderException("GTD order requires an expiry time");
+            }
+            if (!expireAt.isAfter(LocalDateTime.now())) {
+                throw new InvalidOrderException("GTD expiry time must be in the future");
+            }
+        } else if (expireAt != null) {
+            throw new InvalidOrderException("Expiry time is only allowed for GTD orders");
+        }
+    }
+
+    public PlaceOrderCommand(User user, String symbol, OrderType type, OrderSide side,
+                             BigDecimal price, BigDecimal amount) {
+        this(user, symbol, type, side, price, amount, null, null, null, null, null);
+    }
+
+    public PlaceOrderCommand(User user, String symbol, OrderType type, OrderSide side,
+                             BigDecimal price, BigDecimal amount, BigDecimal stopPrice, BigDecimal trailingDelta) {
+        this(user, symbol, type, side, price, amount, stopPrice, trailingDelta, null, null, null);
+    }
+
+    public PlaceOrderCommand(User user, String symbol, OrderType type, OrderSide side,
+                             BigDecimal price, BigDecimal amount, BigDecimal stopPrice, BigDecimal trailingDelta,
+                             TimeInForce timeInForce, LocalDateTime expireAt) {
+        this(user, symbol, type, side, price, amount, stopPrice, trailingDelta, timeInForce, expireAt, null);
+    }
+
+    /**
+     * 이미 등록된 OCO 그룹에 넣을 주문으로 복사합니다. 같은 그룹의 주문은 잔고 예약을 나눠 씁니다.
+     *
+     * @param groupId 그룹 ID (그룹의 첫 주문 ID)
+     */
+    public PlaceOrderCommand withGroup(Long groupId) {
+        return new PlaceOrderCommand(user, symbol, type, side, price, amount, stopPrice, trailingDelta,
+            timeInForce, expireAt, groupId);
     }
 }
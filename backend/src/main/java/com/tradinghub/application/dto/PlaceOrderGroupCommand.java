@@ -0,0 +1,95 @@
+package com.tradinghub.application.dto;
+
+import java.util.List;
+
+import com.tradinghub.application.exception.order.InvalidOrderException;
+import com.tradinghub.domain.model.order.Order.OrderSide;
+import com.tradinghub.domain.model.order.Order.OrderType;
+import com.tradinghub.domain.model.user.User;
+
+/**
+ * OCO/브래킷 주문 그룹 등록 명령
+ *
+ * @param type  그룹 유형
+ * @param entry 브래킷 진입 주문 (OCO는 null)
+ * @param legs  서로 취소 관계인 두 주문. 브래킷은 익절, 손절 순서
+ */
+public record PlaceOrderGroupCommand(
+    User user,
+    GroupType type,
+    PlaceOrderCommand entry,
+    List<PlaceOrderCommand> legs
+) {
+    public enum GroupType {
+        /** 한 주문이 체결/발동되면 다른 주문을 취소 */
+        OCO,
+        /** 진입 주문이 체결되면 익절/손절 OCO를 활성화 */
+        BRACKET
+    }
+
+    public PlaceOrderGroupCommand {
+        if (type == null) {
+            throw new InvalidOrderException("Order group type is required");
+        }
+        if (legs == null || legs.size() != 2) {
+            throw new InvalidOrderException("Order group requires exactly two legs");
+        }
+        legs = List.copyOf(legs);
+        for (PlaceOrderCommand order : entry != null ? List.of(entry, legs.get(0), legs.get(1)) : legs) {
+            if (order.timeInForce().isImmediate()) {
+                throw new InvalidOrderException("Order group orders cannot be " + order.timeInForce());
+            }
+        }
+        if (type == GroupType.OCO) {
+            validateOco(entry, legs);
+        } else {
+            validateBracket(entry, legs);
+        }
+    }
+
+    /** 그룹의 거래 심볼 (모든 주문이 같은 심볼) */
+    public String symbol() {
+        return legs.get(0).symbol();
+    }
+
+    private static void validateOco(PlaceOrderCommand entry, List<PlaceOrderCommand> legs) {
+        if (entry != null) {
+            throw new InvalidOrderException("OCO order does not take an entry order");
+        }
+        PlaceOrderCommand first = legs.get(0);
+        for (PlaceOrderCommand leg : legs) {
+            if (leg.type() == OrderType.MARKET) {
+                throw new InvalidOrderException("OCO legs cannot be market orders");
+            }
+            if (!leg.symbol().equalsIgnoreCase(first.symbol()) || leg.side() != first.side()) {
+                throw new InvalidOrderException("OCO legs must share symbol and side");
+            }
+        }
+    }
+
+    private static void validateBracket(PlaceOrderCommand entry, List<PlaceOrderCommand> legs) {
+        if (entry == null) {
+            throw new InvalidOrderException("Bracket order requires an entry order");
+        }
+        if (entry.type() != OrderType.MARKET && entry.type() != OrderType.LIMIT) {
+            throw new InvalidOrderException("Bracket entry must be a market or limit order");
+        }
+        PlaceOrderCommand takeProfit = legs.get(0);
+        PlaceOrderCommand stopLoss = legs.get(1);
+        if (takeProfit.type() != OrderType.LIMIT && takeProfit.type() != OrderType.TAKE_PROFIT) {
+            throw new InvalidOrderException("Bracket take-profit must be a limit or take-profit order");
+        }
+        if (stopLoss.type() != OrderType.STOP_MARKET && stopLoss.type() != OrderType.STOP_LIMIT) {
+            throw new InvalidOrderException("Bracket stop-loss must be a stop-market or stop-limit order");
+        }
+        OrderSide exitSide = entry.side() == OrderSide.BUY ? OrderSide.SELL : OrderSide.BUY;
+        for (PlaceOrderCommand leg : legs) {
+            if (!leg.symbol().equalsIgnoreCase(entry.symbol()) || leg.side() != exitSide) {
+                throw new InvalidOrderException("Bracket exits must share the entry symbol and take the opposite side");
+            }
+            if (leg.amount() == null || entry.amount() == null || leg.amount().compareTo(entry.amount()) != 0) {
+                throw new InvalidOrderException("Bracket exits must have the entry amount");
+            }
+        }
+    }
+}
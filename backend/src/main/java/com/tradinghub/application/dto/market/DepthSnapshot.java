@@ -0,0 +1,95 @@
+package com.tradinghub.application.dto.market;
+
+import lombok.Getter;
+
+/**
+ * 상위 20호가(@depth20) 이벤트
+ * 호가 배열은 생성 시 한 번만 할당하고 프레임마다 덮어씁니다. 가격/수량은 배율 값입니다.
+ */
+public class DepthSnapshot extends MarketDataEvent {
+    /** 보관하는 최대 호가 단계 수 */
+    public static final int MAX_LEVELS = 20;
+
+    /** 마지막 업데이트 ID (lastUpdateId) */
+    @Getter
+    private long lastUpdateId;
+
+    private final long[] bidPrices = new long[MAX_LEVELS];
+    private final long[] bidQuantities = new long[MAX_LEVELS];
+    private final long[] askPrices = new long[MAX_LEVELS];
+    private final long[] askQuantities = new long[MAX_LEVELS];
+
+    /** 유효한 매수호가 단계 수 */
+    @Getter
+    private int bidCount;
+
+    /** 유효한 매도호가 단계 수 */
+    @Getter
+    private int askCount;
+
+    @Override
+    public StreamType streamType() {
+        return StreamType.DEPTH20;
+    }
+
+    @Override
+    protected void clearFields() {
+        this.lastUpdateId = 0L;
+        this.bidCount = 0;
+        this.askCount = 0;
+    }
+
+    @Override
+    protected void copyFields(MarketDataEvent source) {
+        DepthSnapshot other = (DepthSnapshot) source;
+        this.lastUpdateId = other.lastUpdateId;
+        this.bidCount = other.bidCount;
+        this.askCount = other.askCount;
+        System.arraycopy(other.bidPrices, 0, bidPrices, 0, other.bidCount);
+        System.arraycopy(other.bidQuantities, 0, bidQuantities, 0, other.bidCount);
+        System.arraycopy(other.askPrices, 0, askPrices, 0, other.askCount);
+        System.arraycopy(other.askQuantities, 0, askQuantities, 0, other.askCount);
+    }
+
+    public void setLastUpdateId(long lastUpdateId) {
+        this.lastUpdateId = lastUpdateId;
+    }
+
+    /**
+     * 매수호가 단계를 추가합니다. 최대 단계 수를 넘는 값은 무시합니다.
+     */
+    public void addBid(long price, long quantity) {
+        if (bidCount < MAX_LEVELS) {
+            bidPrices[bidCount] = price;
+            bidQuantities[bidCount] = quantity;
+            bidCount++;
+        }
+    }
+
+    /**
+     * 매도호가 단계를 추가합니다. 최대 단계 수를 넘는 값은 무시합니다.
+     */
+    public void addAsk(long price, long quantity) {
+        if (askCount < MAX_LEVELS) {
+            askPrices[askCount] = price;
+            askQuantities[askCount] = quantity;
+            askCount++;
+        }
+    }
+
+    public long getBidPrice(int level) {
+        return bidPrices[level];
+    }
+
+    public long getBidQuantity(int level) {
+        return bidQuantities[level];
+    }
+
+    public long getAskPrice(int level) {
+        return askPrices[level];
+    }
+
+    public long getAskQuantity(int level) {
+        return askQuantities[level];
+    }
+}
@@ -0,0 +1,10 @@
+package com.tradinghub.application.dto.market;
+
+/**
+ * 스트림 유형별 구독자 전송 현황
+ *
+ * @param streamType 스트림 유형
+ * @param delivered  구독자에게 전송된 메시지 수
+ * @param suppressed 전송 주기 안에서 더 최신 스냅샷으로 대체되어 전송되지 않은 메시지 수
+ */
+public record FanoutStats(StreamType streamType, long delivered, long suppressed) {}
@@ -0,0 +1,90 @@
+package com.tradinghub.application.dto.market;
+
+import com.tradinghub.common.SymbolRegistry;
+
+import lombok.Getter;
+
+/**
+ * Binance 시세 스트림 이벤트의 공통 상위 클래스
+ *
+ * 심볼은 {@link SymbolRegistry}의 정수 ID로, 가격과 수량은
+ * {@link com.tradinghub.common.ScaledDecimal} 배율 long 값으로 보관하여
+ * 체결 판단과 브로드캐스트 경로에서 문자열을 다시 파싱하지 않습니다.
+ *
+ * 파서는 스레드마다 유형별 인스턴스를 하나씩 두고 매 프레임 재사용합니다.
+ * 따라서 이벤트는 같은 스레드의 다음 parse 호출 전까지만 유효하며,
+ * 다른 스레드로 넘기거나 보관하려면 값을 복사해야 합니다.
+ */
+@Getter
+public abstract class MarketDataEvent {
+    /** 심볼 ID */
+    private int symbolId;
+
+    /** 이벤트 발생 시각 (epoch millis, 없으면 0) */
+    private long eventTime;
+
+    /** 원본 프레임의 data 객체 JSON 문자열 (브로드캐스트 페이로드로 그대로 사용) */
+    private String rawData;
+
+    /**
+     * 이벤트의 스트림 유형
+     */
+    public abstract StreamType streamType();
+
+    /**
+     * 대문자 거래 심볼 (예: BTCUSDT)
+     */
+    public String getSymbol() {
+        return SymbolRegistry.symbol(symbolId);
+    }
+
+    /**
+     * 소문자 티커 (예: btc)
+     */
+    public String getTicker() {
+        return SymbolRegistry.ticker(symbolId);
+    }
+
+    /**
+     * 새 프레임을 채우기 전에 공통 필드와 유형별 필드를 초기화합니다.
+     *
+     * @param symbolId 심볼 ID
+     */
+    public void reset(int symbolId) {
+        this.symbolId = symbolId;
+        this.eventTime = 0L;
+        this.rawData = null;
+        clearFields();
+    }
+
+    public void setEventTime(long eventTime) {
+        this.eventTime = eventTime;
+    }
+
+    public void setRawData(String rawData) {
+        this.rawData = rawData;
+    }
+
+    /**
+     * 같은 유형의 다른 이벤트 값을 복사합니다.
+     * 재사용 인스턴스를 다른 스레드로 넘길 때 사용합니다.
+     *
+     * @param source 복사할 이벤트 (같은 유형이어야 함)
+     */
+    public void copyFrom(MarketDataEvent source) {
+        this.symbolId = source.symbolId;
+        this.eventTime = source.eventTime;
+        this.rawData = source.rawData;
+        copyFields(source);
+    }
+
+    /**
+     * 유형별 필드를 초기화합니다.
+     */
+    protected abstract void clearFields();
+
+    /**
+     * 유형별 필드를 복사합니다.
+     */
+    protected abstract void copyFields(MarketDataEvent source);
+}
@@ -0,0 +1,16 @@
+package com.tradinghub.application.dto.market;
+
+/**
+ * 지정가 주문 체결 판단 현황
+ *
+ * @param passes     체결 판단 횟수 (합쳐진 구간 수)
+ * @param trades     체결 판단에 반영된 체결 수
+ * @param totalNanos 체결 판단에 걸린 총 시간 (나노초)
+ * @param maxNanos   가장 오래 걸린 체결 판단 시간 (나노초)
+ */
+public record MatchStats(long passes, long trades, long totalNanos, long maxNanos) {
+
+    public long averageNanos() {
+        return passes == 0 ? 0L : totalNanos / passes;
+    }
+}
@@ -0,0 +1,39 @@
+package com.tradinghub.application.dto.market;
+
+/**
+ * Binance 결합 스트림에서 구독하는 스트림 유형
+ * 스트림 이름의 '@' 뒤 접미사(예: btcusdt@trade → trade)와 1:1로 대응합니다.
+ */
+public enum StreamType {
+    /** 개별 체결 스트림 */
+    TRADE("trade"),
+    /** 24시간 티커 스트림 */
+    TICKER("ticker"),
+    /** 상위 20호가 스트림 */
+    DEPTH20("depth20");
+
+    private final String suffix;
+
+    StreamType(String suffix) {
+        this.suffix = suffix;
+    }
+
+    public String suffix() {
+        return suffix;
+    }
+
+    /**
+     * 스트림 접미사로 유형을 조회합니다.
+     *
+     * @param suffix 스트림 접미사 (예: trade)
+     * @return 대응하는 유형, 지원하지 않는 접미사면 null
+     */
+    public static StreamType fromSuffix(String suffix) {
+        for (StreamType type : values()) {
+            if (type.suffix.equals(suffix)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.tradinghub.application.dto.market;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 24시간 티커(@ticker) 이벤트
+ * 모든 가격/수량 필드는 배율 값입니다.
+ */
+@Getter
+@Setter
+public class TickerSnapshot extends MarketDataEvent {
+    /** 최종 체결가 (c) */
+    private long lastPrice;
+
+    /** 가격 변동 (p) */
+    private long priceChange;
+
+    /** 가격 변동률 (P) */
+    private long priceChangePercent;
+
+    /** 시가 (o) */
+    private long openPrice;
+
+    /** 고가 (h) */
+    private long highPrice;
+
+    /** 저가 (l) */
+    private long lowPrice;
+
+    /** 기준 자산 거래량 (v) */
+    private long volume;
+
+    /** 견적 자산 거래량 (q) */
+    private long quoteVolume;
+
+    /** 최우선 매수호가 (b) */
+    private long bestBid;
+
+    /** 최우선 매도호가 (a) */
+    private long bestAsk;
+
+    @Override
+    public StreamType streamType() {
+        return StreamType.TICKER;
+    }
+
+    @Override
+    protected void clearFields() {
+        this.lastPrice = 0L;
+        this.priceChange = 0L;
+        this.priceChangePercent = 0L;
+        this.openPrice = 0L;
+        this.highPrice = 0L;
+        this.lowPrice = 0L;
+        this.volume = 0L;
+        this.quoteVolume = 0L;
+        this.bestBid = 0L;
+        this.bestAsk = 0L;
+    }
+
+    @Override
+    protected void copyFields(MarketDataEvent source) {
+        TickerSnapshot other = (TickerSnapshot) source;
+        this.lastPrice = other.lastPrice;
+        this.priceChange = other.priceChange;
+        this.priceChangePercent = other.priceChangePercent;
+        this.openPrice = other.openPrice;
+        this.highPrice = other.highPrice;
+        this.lowPrice = other.lowPrice;
+        this.volume = other.volume;
+        this.quoteVolume = other.quoteVolume;
+        this.bestBid = other.bestBid;
+        this.bestAsk = other.bestAsk;
+    }
+}
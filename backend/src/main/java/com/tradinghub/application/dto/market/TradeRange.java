@@ -0,0 +1,165 @@
+package com.tradinghub.application.dto.market;
+
+import java.util.Arrays;
+
+import com.tradinghub.common.SymbolRegistry;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 한 심볼의 연속된 체결을 (고가, 저가, 종가) 범위로 합친 값
+ *
+ * 범위 안의 어떤 가격에서든 체결 조건을 만족하는 주문은 한 번의 조회로 찾을 수 있으므로,
+ * 체결마다 조회하지 않고 범위 단위로 체결 판단을 수행합니다.
+ * 가격은 {@link com.tradinghub.common.ScaledDecimal} 배율 값입니다.
+ *
+ * 지정가 주문이 실제 체결량만큼만 체결되도록 개별 체결의 가격/수량도 순서대로 보관합니다.
+ * 배열은 구간을 비워도 유지해 재사용하므로, 구간 크기가 안정되면 체결을 합칠 때 할당이 없습니다.
+ * 버려진 체결처럼 수량을 모르는 구간은 따로 보관하며, 그 구간에 걸린 주문은 전량 체결로 판단합니다.
+ */
+@Getter
+public class TradeRange {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int symbolId;
+    private long high;
+    private long low;
+    private long last;
+    /** 합쳐진 체결 수 */
+    private int count;
+    /** 첫 체결 시각 */
+    private long firstTradeTime;
+    /** 마지막 체결 시각 */
+    private long lastTradeTime;
+
+    /** 개별 체결 가격 (앞에서 {@link #tradeCount}개만 유효) */
+    @Getter(AccessLevel.NONE)
+    private long[] tradePrices = new long[INITIAL_CAPACITY];
+    /** 개별 체결 수량 (앞에서 {@link #tradeCount}개만 유효) */
+    @Getter(AccessLevel.NONE)
+    private long[] tradeQuantities = new long[INITIAL_CAPACITY];
+    /** 수량이 기록된 체결 수 */
+    private int tradeCount;
+
+    /** 수량을 모르는 체결 구간의 저가/고가 ({@link #hasUnknownVolume()}일 때만 유효) */
+    private long unknownLow;
+    private long unknownHigh;
+    @Getter(AccessLevel.NONE)
+    private boolean unknownVolume;
+
+    public TradeRange(int symbolId) {
+        this.symbolId = symbolId;
+    }
+
+    public String getSymbol() {
+        return SymbolRegistry.symbol(symbolId);
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public void include(TradeTick trade) {
+        include(trade.getPrice(), trade.getQuantity(), trade.getTradeTime());
+    }
+
+    public void include(long price, long quantity, long tradeTime) {
+        if (tradeCount == tradePrices.length) {
+            tradePrices = Arrays.copyOf(tradePrices, tradeCount * 2);
+            tradeQuantities = Arrays.copyOf(tradeQuantities, tradeCount * 2);
+        }
+        tradePrices[tradeCount] = price;
+        tradeQuantities[tradeCount] = quantity;
+        tradeCount++;
+
+        if (count == 0) {
+            high = price;
+            low = price;
+            firstTradeTime = tradeTime;
+        } else {
+            high = Math.max(high, price);
+            low = Math.min(low, price);
+        }
+        last = price;
+        lastTradeTime = tradeTime;
+        count++;
+    }
+
+    /**
+     * 개별 체결 없이 가격 구간만 알려진 경우(버퍼가 가득 차 버려진 체결 등) 구간을 넓힙니다.
+     */
+    public void widen(long low, long high) {
+        if (unknownVolume) {
+            unknownLow = Math.min(unknownLow, low);
+            unknownHigh = Math.max(unknownHigh, high);
+        } else {
+            unknownLow = low;
+            unknownHigh = high;
+            unknownVolume = true;
+        }
+        if (count == 0) {
+            this.high = high;
+            this.low = low;
+            this.last = high;
+        } else {
+            this.high = Math.max(this.high, high);
+            this.low = Math.min(this.low, low);
+        }
+        count++;
+    }
+
+    /**
+     * i번째 체결 가격 (0 <= i < {@link #getTradeCount()})
+     */
+    public long getTradePrice(int i) {
+        return tradePrices[i];
+    }
+
+    /**
+     * i번째 체결 수량 (0 <= i < {@link #getTradeCount()})
+     */
+    public long getTradeQuantity(int i) {
+        return tradeQuantities[i];
+    }
+
+    /**
+     * 수량을 모르는 체결 구간이 있는지 여부
+     */
+    public boolean hasUnknownVolume() {
+        return unknownVolume;
+    }
+
+    /**
+     * 다른 스레드에 넘길 수 있도록 현재 구간을 복사합니다.
+     */
+    public TradeRange copy() {
+        TradeRange copy = new TradeRange(symbolId);
+        copy.high = high;
+        copy.low = low;
+        copy.last = last;
+        copy.count = count;
+        copy.firstTradeTime = firstTradeTime;
+        copy.lastTradeTime = lastTradeTime;
+        copy.tradePrices = Arrays.copyOf(tradePrices, Math.max(tradeCount, 1));
+        copy.tradeQuantities = Arrays.copyOf(tradeQuantities, Math.max(tradeCount, 1));
+        copy.tradeCount = tradeCount;
+        copy.unknownLow = unknownLow;
+        copy.unknownHigh = unknownHigh;
+        copy.unknownVolume = unknownVolume;
+        return copy;
+    }
+
+    public void clear() {
+        high = 0L;
+        low = 0L;
+        last = 0L;
+        count = 0;
+        firstTradeTime = 0L;
+        lastTradeTime = 0L;
+        tradeCount = 0;
+        unknownLow = 0L;
+        unknownHigh = 0L;
+        unknownVolume = false;
+    }
+}
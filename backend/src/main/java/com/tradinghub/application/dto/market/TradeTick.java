@@ -0,0 +1,51 @@
+package com.tradinghub.application.dto.market;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 개별 체결(@trade) 이벤트
+ * 지정가 주문 체결 판단에 필요한 필드만 보관합니다.
+ */
+@Getter
+@Setter
+public class TradeTick extends MarketDataEvent {
+    /** 체결 ID (t) */
+    private long tradeId;
+
+    /** 체결 가격 (p, 배율 값) */
+    private long price;
+
+    /** 체결 수량 (q, 배율 값) */
+    private long quantity;
+
+    /** 체결 시각 (T) */
+    private long tradeTime;
+
+    /** 매수자가 메이커인지 여부 (m) */
+    private boolean buyerMaker;
+
+    @Override
+    public StreamType streamType() {
+        return StreamType.TRADE;
+    }
+
+    @Override
+    protected void clearFields() {
+        this.tradeId = 0L;
+        this.price = 0L;
+        this.quantity = 0L;
+        this.tradeTime = 0L;
+        this.buyerMaker = false;
+    }
+
+    @Override
+    protected void copyFields(MarketDataEvent source) {
+        TradeTick other = (TradeTick) source;
+        this.tradeId = other.tradeId;
+        this.price = other.price;
+        this.quantity = other.quantity;
+        this.tradeTime = other.tradeTime;
+        this.buyerMaker = other.buyerMaker;
+    }
+}
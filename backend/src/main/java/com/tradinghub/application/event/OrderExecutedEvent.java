@@ -10,7 +10,7 @@ import lombok.Getter;
 
 /**
  * 주문 체결 이벤트
- * 주문이 체결되었을 때 발생하는 이벤트
+ * 주문이 체결되었을 때 정산 대기열에 기록할 체결 정보이며, 나눠 체결되는 주문은 체결마다 그 체결분의 수량/가격으로 만들어집니다.
  */
 @Getter
 public class OrderExecutedEvent {
@@ -30,8 +30,13 @@ public class OrderExecutedEvent {
         this.userId = order.getUser().getId();
         this.symbol = order.getSymbol();
         this.side = order.getSide();
-        this.amount = order.getAmount();
-        this.price = order.getExecutedPrice() != null ? order.getExecutedPrice() : order.getPrice();
+        if (order.getLastFillAmount() != null) {
+            this.amount = order.getLastFillAmount();
+            this.price = order.getLastFillPrice();
+        } else {
+            this.amount = order.getAmount();
+            this.price = order.getExecutedPrice() != null ? order.getExecutedPrice() : order.getPrice();
+        }
         this.executedAt = LocalDateTime.now();
     }
 } 
\ No newline at end of file
@@ -1,27 +1,206 @@
 package com.tradinghub.application.handler;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.tradinghub.application.dto.ParsedBinanceMessage;
+import com.tradinghub.application.dto.market.FanoutStats;
+import com.tradinghub.application.dto.market.MarketDataEvent;
+import com.tradinghub.application.dto.market.StreamType;
+import com.tradinghub.common.SymbolRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
+/**
+ * 시세 이벤트를 STOMP 구독자에게 전달합니다.
+ *
+ * trade 스트림은 즉시 전달하고, ticker/depth20 스트림은 목적지별 최신 스냅샷만 보관했다가
+ * 설정된 주기마다 전송합니다. 브라우저가 그릴 수 있는 빈도 이상으로 보내지 않기 위함이며,
+ * 주기 안에서 대체된 스냅샷은 suppressed로 집계합니다.
+ *
+ * 페이로드는 Binance 원본 data JSON을 한 번만 UTF-8로 인코딩해 메시지로 만들어 보내므로,
+ * 메시지 컨버터를 거치지 않고 모든 구독 세션이 같은 바이트 배열을 본문으로 사용합니다.
+ */
 @Component
 public class BinanceMessagePublisher {
     private final SimpMessagingTemplate messagingTemplate;
     private static final Logger log = LoggerFactory.getLogger(BinanceMessagePublisher.class);
 
+    /** 스냅샷 전송 주기 (0이면 모든 메시지를 즉시 전송) */
+    private final long conflateIntervalMs;
+    private final long statsIntervalSec;
+
+    /** 심볼 ID와 스트림 유형별 목적지 (/{ticker}/{streamType}) */
+    private volatile Destination[][] destinations = new Destination[0][];
+
+    private final LongAdder[] delivered = newCounters();
+    private final LongAdder[] suppressed = newCounters();
+
+    private ScheduledExecutorService scheduler;
+
     @Autowired
-    public BinanceMessagePublisher(SimpMessagingTemplate messagingTemplate) {
+    public BinanceMessagePublisher(
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${binance.fanout.conflate-interval-ms:100}") long conflateIntervalMs,
+            @Value("${binance.pipeline.stats-interval-sec:60}") long statsIntervalSec) {
         this.messagingTemplate = messagingTemplate;
+        this.conflateIntervalMs = conflateIntervalMs;
+        this.statsIntervalSec = statsIntervalSec;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "md-fanout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (conflateIntervalMs > 0) {
+            scheduler.scheduleAtFixedRate(this::flushSafely, conflateIntervalMs, conflateIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        if (statsIntervalSec > 0) {
+            scheduler.scheduleAtFixedRate(this::reportStats, statsIntervalSec, statsIntervalSec, TimeUnit.SECONDS);
+        }
     }
 
-    public void handle(ParsedBinanceMessage message) {
-        String destination = "/" + message.ticker() + "/" + message.streamType();
-        log.debug("Publishing message to {}: {}", destination, message.data());
-        messagingTemplate.convertAndSend(destination, message.data());
-        log.debug("Successfully published message to {}", destination);
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public void handle(MarketDataEvent event) {
+        StreamType type = event.streamType();
+        Destination destination = destination(event.getSymbolId(), type);
+
+        if (type == StreamType.TRADE || conflateIntervalMs <= 0) {
+            send(destination.path, event.getRawData(), type);
+            return;
+        }
+
+        // 이전 스냅샷이 아직 전송되지 않았다면 최신 값으로 대체
+        if (destination.latest.getAndSet(event.getRawData()) != null) {
+            suppressed[type.ordinal()].increment();
+        }
+    }
+
+    /**
+     * 보관 중인 최신 스냅샷을 모두 전송합니다.
+     */
+    public void flush() {
+        for (Destination[] byType : destinations) {
+            for (StreamType type : StreamType.values()) {
+                Destination destination = byType[type.ordinal()];
+                String payload = destination.latest.getAndSet(null);
+                if (payload != null) {
+                    send(destination.path, payload, type);
+                }
+            }
+        }
+    }
+
+    /**
+     * 스트림 유형별 전송/대체 건수를 반환합니다.
+     */
+    public List<FanoutStats> stats() {
+        List<FanoutStats> stats = new ArrayList<>();
+        for (StreamType type : StreamType.values()) {
+            stats.add(new FanoutStats(type, delivered[type.ordinal()].sum(), suppressed[type.ordinal()].sum()));
+        }
+        return stats;
+    }
+
+    private void send(String path, String payload, StreamType type) {
+        log.debug("Publishing message to {}: {}", path, payload);
+        messagingTemplate.send(path, toMessage(payload));
+        delivered[type.ordinal()].increment();
+    }
+
+    /**
+     * 원본 JSON을 인코딩된 메시지로 만듭니다.
+     * 헤더를 변경 가능한 상태로 두어 템플릿이 목적지만 채우고 그대로 브로커에 전달하게 합니다.
+     */
+    private static Message<byte[]> toMessage(String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Error flushing conflated market data", e);
+        }
+    }
+
+    private void reportStats() {
+        log.info("Market data fan-out stats: {}", stats());
+    }
+
+    private Destination destination(int symbolId, StreamType type) {
+        Destination[][] cache = destinations;
+        if (symbolId >= cache.length) {
+            cache = growDestinations(symbolId);
+        }
+        return cache[symbolId][type.ordinal()];
+    }
+
+    private synchronized Destination[][] growDestinations(int symbolId) {
+        Destination[][] cache = destinations;
+        if (symbolId < cache.length) {
+            return cache;
+        }
+        Destination[][] grown = Arrays.copyOf(cache, symbolId + 1);
+        for (int id = cache.length; id < grown.length; id++) {
+            Destination[] byType = new Destination[StreamType.values().length];
+            for (StreamType type : StreamType.values()) {
+                byType[type.ordinal()] = new Destination("/" + SymbolRegistry.ticker(id) + "/" + type.suffix());
+            }
+            grown[id] = byType;
+        }
+        destinations = grown;
+        return grown;
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[StreamType.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    /**
+     * 목적지 경로와 전송 대기 중인 최신 스냅샷
+     */
+    private static final class Destination {
+        private final String path;
+        private final AtomicReference<String> latest = new AtomicReference<>();
+
+        Destination(String path) {
+            this.path = path;
+        }
     }
 }
@@ -0,0 +1,56 @@
+package com.tradinghub.application.handler;
+
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.application.dto.market.MarketDataEvent;
+import com.tradinghub.application.dto.market.TradeTick;
+import com.tradinghub.application.service.market.MarketStateCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시세 이벤트 처리 단계
+ *
+ * 심볼별 파이프라인 워커 스레드에서 호출되며, 시세 상태 캐시를 갱신하고, 체결 이벤트는
+ * 가격 구간으로 합쳐 대기 주문 체결 판단에 사용하며, 모든 이벤트를 구독자에게 전달합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MarketDataProcessor {
+
+    private final MarketStateCache marketStateCache;
+    private final TradeCoalescer tradeCoalescer;
+    private final BinanceMessagePublisher publisher;
+
+    public void process(MarketDataEvent event) {
+        marketStateCache.update(event);
+
+        // trade 스트림인 경우 지정가 주문 체결 구간에 포함
+        if (event instanceof TradeTick trade) {
+            tradeCoalescer.add(trade);
+        }
+
+        publisher.handle(event);
+    }
+
+    /**
+     * 버퍼가 가득 차거나 재연결 공백으로 처리하지 못한 체결의 가격 구간을 체결 판단에 반영합니다.
+     */
+    public void recoverMissedTrades(int symbolId, long low, long high) {
+        tradeCoalescer.widen(symbolId, low, high);
+    }
+
+    /**
+     * 배치 처리 후 또는 대기 시간 초과 시 호출되어, 합쳐진 체결 구간을 처리합니다.
+     */
+    public void endOfBatch(int symbolId) {
+        tradeCoalescer.flush(symbolId);
+    }
+
+    /**
+     * 새 이벤트가 없어도 {@link #endOfBatch}를 호출해야 하는 최대 간격
+     */
+    public long flushIntervalNanos() {
+        return tradeCoalescer.flushIntervalNanos();
+    }
+}
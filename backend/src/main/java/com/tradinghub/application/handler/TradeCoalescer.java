@@ -0,0 +1,192 @@
+package com.tradinghub.application.handler;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.application.dto.market.MatchStats;
+import com.tradinghub.application.dto.market.TradeRange;
+import com.tradinghub.application.dto.market.TradeTick;
+import com.tradinghub.application.exception.order.OrderExecutionException;
+import com.tradinghub.application.service.order.MatchingEngine;
+import com.tradinghub.common.SymbolRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체결 이벤트를 심볼별 가격 구간으로 합쳐 지정가 주문 체결 판단 횟수를 줄입니다.
+ *
+ * 체결마다 DB를 조회하지 않고, 구간이 열린 뒤 설정된 시간이 지나면 (high, low)
+ * 구간으로 한 번만 조회합니다. 이전 체결 판단이 진행 중인 동안 들어온 체결은
+ * 링 버퍼에 쌓였다가 다음 배치에서 한 구간으로 합쳐집니다.
+ * 구간 안의 모든 가격을 포함하므로 놓치는 체결 조건은 없습니다.
+ *
+ * 체결 판단은 해당 심볼의 {@link MatchingEngine} 스레드에서 실행되며, 워커는 결과를 기다리지 않고
+ * 다음 이벤트를 처리합니다. 엔진이 명령을 받으면 그 즉시 구간을 비우므로 같은 체결이 두 번 제출되지 않으며,
+ * 그 명령이 끝날 때까지는 새 구간을 제출하지 않고 들어온 체결을 계속 합칩니다.
+ * 엔진이 명령을 거부하면(큐가 가득 참) 구간을 비우지 않고 다음 flush에서 다시 시도합니다.
+ *
+ * 심볼별 상태는 해당 심볼의 파이프라인 워커 스레드에서만 접근합니다.
+ */
+@Slf4j
+@Component
+public class TradeCoalescer {
+    /** 합칠 구간이 없어도 버려진 체결을 확인하기 위한 최대 대기 시간 */
+    private static final long IDLE_FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final MatchingEngine matchingEngine;
+    private final long windowNanos;
+
+    /** 심볼 ID로 색인되는 대기 구간 */
+    private volatile Pending[] pending = new Pending[0];
+
+    private final LongAdder passes = new LongAdder();
+    private final LongAdder matchedTrades = new LongAdder();
+    private final LongAdder matchNanos = new LongAdder();
+    private final AtomicLong maxMatchNanos = new AtomicLong();
+
+    public TradeCoalescer(
+            MatchingEngine matchingEngine,
+            @Value("${binance.coalesce.window-ms:20}") long windowMs) {
+        this.matchingEngine = matchingEngine;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, windowMs));
+    }
+
+    /**
+     * 워커가 새 이벤트를 기다리다 {@link #flush}를 호출해야 하는 최대 간격
+     */
+    public long flushIntervalNanos() {
+        return windowNanos > 0 ? windowNanos : IDLE_FLUSH_INTERVAL_NANOS;
+    }
+
+    public void add(TradeTick trade) {
+        Pending state = state(trade.getSymbolId());
+        state.open();
+        state.range.include(trade);
+    }
+
+    /**
+     * 개별 이벤트 없이 가격 구간만 알려진 체결을 합칩니다.
+     */
+    public void widen(int symbolId, long low, long high) {
+        Pending state = state(symbolId);
+        state.open();
+        state.range.widen(low, high);
+    }
+
+    /**
+     * 구간의 대기 시간이 지났으면 체결 판단을 한 번 제출하고 구간을 비웁니다.
+     * 이전에 제출한 체결 판단이 아직 실행 중이면 제출하지 않고 다음 flush까지 구간에 계속 합칩니다.
+     */
+    public void flush(int symbolId) {
+        Pending[] current = pending;
+        if (symbolId >= current.length || current[symbolId] == null) {
+            return;
+        }
+        Pending state = current[symbolId];
+        if (state.inFlight != null) {
+            if (!state.inFlight.isDone()) {
+                return;
+            }
+            state.inFlight = null;
+        }
+        if (state.range.isEmpty() || System.nanoTime() - state.openedAt < windowNanos) {
+            return;
+        }
+
+        TradeRange range = state.range;
+        log.debug("Matching coalesced trades: symbol={}, trades={}, low={}, high={}",
+            range.getSymbol(), range.getCount(), range.getLow(), range.getHigh());
+        long started = System.nanoTime();
+        // 명령은 엔진 스레드에서 나중에 실행되므로 워커가 계속 쓰는 구간 대신 복사본을 넘김
+        CompletableFuture<Void> future = matchingEngine.match(range.copy());
+        if (isRejected(future)) {
+            log.warn("Matching deferred to next flush, engine rejected the command: symbol={}, trades={}",
+                range.getSymbol(), range.getCount());
+            return;
+        }
+        // 엔진이 받은 구간은 바로 비워, 명령이 늦게 실행되더라도 같은 체결량이 다시 제출되지 않게 함
+        int trades = range.getCount();
+        range.clear();
+        state.inFlight = future;
+        matchedTrades.add(trades);
+        // 워커는 기다리지 않고 다음 이벤트를 처리하며, 소요 시간은 엔진 스레드에서 명령이 끝날 때 기록
+        future.whenComplete((ignored, error) -> {
+            long elapsed = System.nanoTime() - started;
+            passes.increment();
+            matchNanos.add(elapsed);
+            maxMatchNanos.accumulateAndGet(elapsed, Math::max);
+            if (error != null) {
+                log.warn("Matching failed: symbol={}, trades={}", SymbolRegistry.symbol(symbolId), trades, error);
+            }
+        });
+    }
+
+    /**
+     * 체결 판단 횟수와 소요 시간
+     */
+    public MatchStats stats() {
+        return new MatchStats(passes.sum(), matchedTrades.sum(), matchNanos.sum(), maxMatchNanos.get());
+    }
+
+    /**
+     * 엔진이 명령을 큐에 넣지 못해 바로 실패한 결과인지 여부 (큐가 가득 찼거나 엔진이 종료됨)
+     */
+    private static boolean isRejected(CompletableFuture<?> future) {
+        if (!future.isCompletedExceptionally()) {
+            return false;
+        }
+        try {
+            future.getNow(null);
+            return false;
+        } catch (CompletionException e) {
+            return e.getCause() instanceof OrderExecutionException;
+        } catch (CancellationException e) {
+            return false;
+        }
+    }
+
+    private Pending state(int symbolId) {
+        Pending[] current = pending;
+        if (symbolId < current.length && current[symbolId] != null) {
+            return current[symbolId];
+        }
+        return createState(symbolId);
+    }
+
+    private synchronized Pending createState(int symbolId) {
+        Pending[] current = pending;
+        if (symbolId < current.length && current[symbolId] != null) {
+            return current[symbolId];
+        }
+        Pending[] grown = symbolId < current.length ? current.clone() : Arrays.copyOf(current, symbolId + 1);
+        grown[symbolId] = new Pending(symbolId);
+        pending = grown;
+        return grown[symbolId];
+    }
+
+    private static final class Pending {
+        private final TradeRange range;
+        /** 구간이 열린 시각 (System.nanoTime) */
+        private long openedAt;
+        /** 엔진이 받았지만 아직 끝나지 않았을 수 있는 체결 판단 */
+        private CompletableFuture<Void> inFlight;
+
+        Pending(int symbolId) {
+            this.range = new TradeRange(symbolId);
+        }
+
+        void open() {
+            if (range.isEmpty()) {
+                openedAt = System.nanoTime();
+            }
+        }
+    }
+}
@@ -1,20 +1,38 @@
 package com.tradinghub.application.parser;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.tradinghub.application.dto.ParsedBinanceMessage;
+import com.tradinghub.application.dto.market.MarketDataEvent;
 
+/**
+ * Binance 결합 스트림 프레임 파서
+ *
+ * 기본적으로 토큰 스트리밍 방식으로 유형별 필드만 추출하여 JsonNode 트리 할당을 피합니다.
+ * {@code binance.parser.streaming=false}로 설정하면 기존 트리 파서를 사용합니다.
+ * 반환되는 이벤트는 호출 스레드의 다음 parse 호출 전까지만 유효합니다.
+ */
 @Component
 public class BinanceMessageParser {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ThreadLocal<MarketDataFrameReader> readers =
+        ThreadLocal.withInitial(() -> new MarketDataFrameReader(objectMapper));
+    private final boolean streaming;
 
-    public ParsedBinanceMessage parse(String payload) throws Exception {
-        JsonNode root = objectMapper.readTree(payload);
-        String stream = root.get("stream").asText();
-        JsonNode data = root.get("data");
-        return new ParsedBinanceMessage(stream, data);
+    public BinanceMessageParser(@Value("${binance.parser.streaming:true}") boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * 프레임을 파싱합니다.
+     *
+     * @param payload 원본 프레임
+     * @return 유형별 이벤트, 지원하지 않는 스트림이면 null
+     */
+    public MarketDataEvent parse(String payload) throws Exception {
+        MarketDataFrameReader reader = readers.get();
+        return streaming ? reader.readStreaming(payload) : reader.readTree(payload);
     }
 }
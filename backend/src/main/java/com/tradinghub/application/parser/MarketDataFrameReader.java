@@ -0,0 +1,334 @@
+package com.tradinghub.application.parser;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradinghub.application.dto.market.DepthSnapshot;
+import com.tradinghub.application.dto.market.MarketDataEvent;
+import com.tradinghub.application.dto.market.StreamType;
+import com.tradinghub.application.dto.market.TickerSnapshot;
+import com.tradinghub.application.dto.market.TradeTick;
+import com.tradinghub.common.ScaledDecimal;
+import com.tradinghub.common.SymbolRegistry;
+
+/**
+ * Binance 결합 스트림 프레임을 유형별 이벤트로 읽어들이는 리더
+ *
+ * 스레드 안전하지 않으며, {@link BinanceMessageParser}가 스레드마다 하나씩 생성합니다.
+ * 유형별 이벤트 인스턴스를 하나씩 보유하고 매 프레임 재사용합니다.
+ * 스트리밍 경로에서는 스트림 이름과 숫자 값을 파서의 문자 버퍼에서 바로 읽어
+ * 원본 data 슬라이스 외에는 프레임당 객체를 만들지 않습니다.
+ */
+class MarketDataFrameReader {
+
+    private final JsonFactory jsonFactory;
+    private final ObjectMapper objectMapper;
+
+    private final TradeTick trade = new TradeTick();
+    private final TickerSnapshot ticker = new TickerSnapshot();
+    private final DepthSnapshot depth = new DepthSnapshot();
+
+    /** 스트림 이름별 심볼 ID/유형 캐시 (구독 스트림 수만큼만 커짐) */
+    private final StreamKeyTable streamKeys = new StreamKeyTable();
+
+    MarketDataFrameReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 토큰 스트리밍 방식으로 프레임을 읽습니다.
+     * 트리를 만들지 않고 유형별로 필요한 필드만 추출하며, 나머지 값은 건너뜁니다.
+     * 지원하지 않는 스트림은 stream 이름만 보고 data를 읽지 않고 버리며,
+     * data가 stream보다 먼저 온 프레임은 stream을 읽은 뒤 data 구간만 다시 읽습니다.
+     *
+     * @param payload 원본 프레임
+     * @return 채워진 이벤트, 지원하지 않는 스트림이거나 stream/data가 없는 프레임이면 null
+     */
+    MarketDataEvent readStreaming(String payload) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            StreamKey key = null;
+            MarketDataEvent event = null;
+            int dataStart = -1;
+            int dataEnd = -1;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("stream".equals(field)) {
+                    key = streamKeys.resolve(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                    if (key.type() == null) {
+                        return null;
+                    }
+                } else if ("data".equals(field) && value == JsonToken.START_OBJECT && key != null) {
+                    event = readData(parser, key, payload);
+                } else if ("data".equals(field) && value == JsonToken.START_OBJECT) {
+                    dataStart = (int) parser.getTokenLocation().getCharOffset();
+                    parser.skipChildren();
+                    dataEnd = (int) parser.getTokenLocation().getCharOffset() + 1;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (event == null && key != null && dataStart >= 0) {
+                return readDataSpan(key, payload.substring(dataStart, dataEnd));
+            }
+            return event;
+        }
+    }
+
+    /**
+     * JsonNode 트리를 통해 프레임을 읽습니다.
+     * 스트리밍 방식이 비활성화된 경우({@code binance.parser.streaming=false})에만 사용합니다.
+     *
+     * @param payload 원본 프레임
+     * @return 채워진 이벤트, 지원하지 않는 스트림이면 null
+     */
+    MarketDataEvent readTree(String payload) throws IOException {
+        JsonNode root = objectMapper.readTree(payload);
+        JsonNode streamNode = root.get("stream");
+        JsonNode data = root.get("data");
+        if (streamNode == null || data == null) {
+            return null;
+        }
+
+        String stream = streamNode.asText();
+        StreamKey key = streamKeys.resolve(stream.toCharArray(), 0, stream.length());
+        if (key.type() == null) {
+            return null;
+        }
+
+        MarketDataEvent event = eventFor(key);
+        event.setEventTime(data.path("E").asLong());
+        switch (key.type()) {
+            case TRADE -> {
+                trade.setTradeId(data.path("t").asLong());
+                trade.setPrice(decimal(data, "p"));
+                trade.setQuantity(decimal(data, "q"));
+                trade.setTradeTime(data.path("T").asLong());
+                trade.setBuyerMaker(data.path("m").asBoolean());
+            }
+            case TICKER -> {
+                ticker.setLastPrice(decimal(data, "c"));
+                ticker.setPriceChange(decimal(data, "p"));
+                ticker.setPriceChangePercent(decimal(data, "P"));
+                ticker.setOpenPrice(decimal(data, "o"));
+                ticker.setHighPrice(decimal(data, "h"));
+                ticker.setLowPrice(decimal(data, "l"));
+                ticker.setVolume(decimal(data, "v"));
+                ticker.setQuoteVolume(decimal(data, "q"));
+                ticker.setBestBid(decimal(data, "b"));
+                ticker.setBestAsk(decimal(data, "a"));
+            }
+            case DEPTH20 -> {
+                depth.setLastUpdateId(data.path("lastUpdateId").asLong());
+                for (JsonNode level : data.path("bids")) {
+                    depth.addBid(ScaledDecimal.parse(level.path(0).asText()), ScaledDecimal.parse(level.path(1).asText()));
+                }
+                for (JsonNode level : data.path("asks")) {
+                    depth.addAsk(ScaledDecimal.parse(level.path(0).asText()), ScaledDecimal.parse(level.path(1).asText()));
+                }
+            }
+        }
+        event.setRawData(data.toString());
+        return event;
+    }
+
+    /**
+     * stream보다 먼저 와서 건너뛴 data 객체만 따로 읽습니다.
+     */
+    private MarketDataEvent readDataSpan(StreamKey key, String data) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(data)) {
+            parser.nextToken();
+            return readData(parser, key, data);
+        }
+    }
+
+    private MarketDataEvent readData(JsonParser parser, StreamKey key, String payload) throws IOException {
+        if (key.type() == null) {
+            parser.skipChildren();
+            return null;
+        }
+
+        int start = (int) parser.getTokenLocation().getCharOffset();
+        MarketDataEvent event = eventFor(key);
+        switch (key.type()) {
+            case TRADE -> readTrade(parser);
+            case TICKER -> readTicker(parser);
+            case DEPTH20 -> readDepth(parser);
+        }
+        // 현재 토큰은 data 객체의 END_OBJECT
+        int end = (int) parser.getTokenLocation().getCharOffset() + 1;
+        event.setRawData(payload.substring(start, end));
+        return event;
+    }
+
+    private void readTrade(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "E" -> trade.setEventTime(parser.getLongValue());
+                case "t" -> trade.setTradeId(parser.getLongValue());
+                case "p" -> trade.setPrice(decimal(parser));
+                case "q" -> trade.setQuantity(decimal(parser));
+                case "T" -> trade.setTradeTime(parser.getLongValue());
+                case "m" -> trade.setBuyerMaker(parser.getBooleanValue());
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readTicker(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "E" -> ticker.setEventTime(parser.getLongValue());
+                case "c" -> ticker.setLastPrice(decimal(parser));
+                case "p" -> ticker.setPriceChange(decimal(parser));
+                case "P" -> ticker.setPriceChangePercent(decimal(parser));
+                case "o" -> ticker.setOpenPrice(decimal(parser));
+                case "h" -> ticker.setHighPrice(decimal(parser));
+                case "l" -> ticker.setLowPrice(decimal(parser));
+                case "v" -> ticker.setVolume(decimal(parser));
+                case "q" -> ticker.setQuoteVolume(decimal(parser));
+                case "b" -> ticker.setBestBid(decimal(parser));
+                case "a" -> ticker.setBestAsk(decimal(parser));
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readDepth(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "lastUpdateId" -> depth.setLastUpdateId(parser.getLongValue());
+                case "bids" -> readLevels(parser, true);
+                case "asks" -> readLevels(parser, false);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * [["가격","수량"], ...] 형식의 호가 배열을 읽습니다.
+     */
+    private void readLevels(JsonParser parser, boolean bids) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            parser.nextToken();
+            long price = decimal(parser);
+            parser.nextToken();
+            long quantity = decimal(parser);
+            // 레벨 배열의 나머지 요소는 무시
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+            }
+            if (bids) {
+                depth.addBid(price, quantity);
+            } else {
+                depth.addAsk(price, quantity);
+            }
+        }
+    }
+
+    private MarketDataEvent eventFor(StreamKey key) {
+        MarketDataEvent event = switch (key.type()) {
+            case TRADE -> trade;
+            case TICKER -> ticker;
+            case DEPTH20 -> depth;
+        };
+        event.reset(key.symbolId());
+        return event;
+    }
+
+    /**
+     * 현재 문자열/숫자 토큰을 버퍼에서 바로 배율 값으로 변환합니다.
+     */
+    private static long decimal(JsonParser parser) throws IOException {
+        return ScaledDecimal.parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    private static long decimal(JsonNode data, String field) {
+        JsonNode node = data.get(field);
+        return node != null ? ScaledDecimal.parse(node.asText()) : 0L;
+    }
+
+    /**
+     * 스트림 이름을 분해한 결과
+     */
+    private record StreamKey(char[] name, int symbolId, StreamType type) {
+
+        static StreamKey of(String stream) {
+            int atIndex = stream.indexOf('@');
+            String symbol = atIndex != -1 ? stream.substring(0, atIndex) : stream;
+            String suffix = atIndex != -1 ? stream.substring(atIndex + 1) : "";
+            return new StreamKey(stream.toCharArray(), SymbolRegistry.intern(symbol), StreamType.fromSuffix(suffix));
+        }
+    }
+
+    /**
+     * 문자 구간으로 조회하는 개방 주소법 해시 테이블
+     * 조회 시 문자열을 만들지 않으며, 처음 보는 스트림 이름에서만 할당이 발생합니다.
+     */
+    private static final class StreamKeyTable {
+        private StreamKey[] slots = new StreamKey[64];
+        private int size;
+
+        StreamKey resolve(char[] chars, int offset, int length) {
+            int mask = slots.length - 1;
+            int index = hash(chars, offset, length) & mask;
+            StreamKey key;
+            while ((key = slots[index]) != null) {
+                if (Arrays.equals(key.name(), 0, key.name().length, chars, offset, offset + length)) {
+                    return key;
+                }
+                index = (index + 1) & mask;
+            }
+
+            key = StreamKey.of(new String(chars, offset, length));
+            slots[index] = key;
+            if (++size * 2 > slots.length) {
+                rehash();
+            }
+            return key;
+        }
+
+        private void rehash() {
+            StreamKey[] old = slots;
+            slots = new StreamKey[old.length * 2];
+            int mask = slots.length - 1;
+            for (StreamKey key : old) {
+                if (key != null) {
+                    int index = hash(key.name(), 0, key.name().length) & mask;
+                    while (slots[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    slots[index] = key;
+                }
+            }
+        }
+
+        private static int hash(char[] chars, int offset, int length) {
+            int h = 0;
+            for (int i = offset; i < offset + length; i++) {
+                h = 31 * h + chars[i];
+            }
+            return h ^ (h >>> 16);
+        }
+    }
+}
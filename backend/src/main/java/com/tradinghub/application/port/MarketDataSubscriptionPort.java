@@ -0,0 +1,12 @@
+package com.tradinghub.application.port;
+
+/**
+ * 주문 심볼의 시세 수신을 보장하는 포트
+ * 기동 후 처음 주문이 들어온 심볼도 체결 판단에 필요한 시세를 받도록 구독을 요청합니다.
+ */
+public interface MarketDataSubscriptionPort {
+    /**
+     * 심볼의 시세를 구독합니다 (트랜잭션 중이면 커밋 후). 이미 구독 중이면 아무 일도 하지 않습니다.
+     */
+    void subscribe(String symbol);
+}
@@ -1,7 +1,21 @@
 package com.tradinghub.application.port;
 
+import java.util.List;
+
 import com.tradinghub.domain.model.order.Order;
 
+/**
+ * 주문 체결을 정산으로 넘기는 포트
+ * 체결 트랜잭션 안에서 호출되어야 하며, 기록된 체결은 체결과 함께 커밋되거나 함께 롤백됩니다.
+ */
 public interface OrderEventPublisherPort {
+    /**
+     * 주문의 마지막 체결을 정산 대기열에 기록
+     */
     void publishOrderExecuted(Order order);
+
+    /**
+     * 여러 주문의 마지막 체결을 한 번에 정산 대기열에 기록
+     */
+    void publishOrdersExecuted(List<Order> orders);
 }
@@ -0,0 +1,76 @@
+package com.tradinghub.application.port;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.tradinghub.domain.model.order.OrderBook;
+
+/**
+ * 호가창 변경을 순서대로 남기는 추가 전용 저널 포트
+ *
+ * 기동 시 최신 스냅샷과 그 이후의 저널을 재생해 DB 전체 조회 없이 호가창을 복구합니다.
+ * 스냅샷에는 만들 때의 최대 주문 ID(DB 워터마크)가 함께 저장되어, 복구 후 그 이후의 주문을 DB에서 보정할 수 있습니다.
+ * 저널을 사용하지 않도록 설정된 경우 기록은 무시되고 재생할 내용도 없습니다.
+ */
+public interface OrderJournalPort {
+
+    /**
+     * 주문이 호가창 맨 뒤에 추가됨
+     */
+    void recordAdded(String symbol, OrderBook.Entry entry);
+
+    /**
+     * 주문이 호가창에서 제거됨 (취소/체결)
+     */
+    void recordRemoved(String symbol, long orderId);
+
+    /**
+     * 호가창 주문의 남은 수량이 바뀜 (일부 체결 또는 그 되돌림). 가격대 안의 순서는 유지됩니다.
+     */
+    void recordUpdated(String symbol, long orderId, long quantity);
+
+    /**
+     * 최신 스냅샷과 이후 저널을 기록 순서대로 재생합니다.
+     *
+     * @return 복구된 상태의 마지막 기록 시각과 스냅샷의 DB 워터마크. 복구할 스냅샷이 없으면 비어 있음
+     */
+    Optional<Recovery> replay(Listener listener);
+
+    /**
+     * 주기적인 스냅샷을 시작합니다. 첫 스냅샷은 호출 스레드에서 바로 생성됩니다.
+     *
+     * @param snapshots DB 워터마크를 먼저 읽은 뒤 심볼별 호가창 주문을 체결 우선순위 순서로 복사해 반환
+     */
+    void scheduleSnapshots(Supplier<Snapshot> snapshots);
+
+    /**
+     * 스냅샷으로 저장할 호가창
+     *
+     * @param orderIdWatermark 호가창을 복사하기 전에 읽은 최대 주문 ID
+     * @param books 심볼별 호가창 주문 (체결 우선순위 순서)
+     */
+    record Snapshot(long orderIdWatermark, Map<String, List<OrderBook.Entry>> books) {
+    }
+
+    /**
+     * 저널 재생 결과
+     *
+     * @param lastRecordAt 복구된 상태의 마지막 기록 시각 (epoch millis)
+     * @param orderIdWatermark 재생한 스냅샷의 DB 워터마크
+     */
+    record Recovery(long lastRecordAt, long orderIdWatermark) {
+    }
+
+    /**
+     * 재생되는 호가창 변경을 받는 리스너
+     */
+    interface Listener {
+        void added(String symbol, OrderBook.Entry entry);
+
+        void removed(String symbol, long orderId);
+
+        void updated(String symbol, long orderId, long quantity);
+    }
+}
@@ -1,5 +1,7 @@
 package com.tradinghub.application.port;
 
+import java.util.List;
+
 import com.tradinghub.domain.model.order.Order;
 import com.tradinghub.domain.model.portfolio.Portfolio;
 
@@ -17,6 +19,11 @@ public interface OrderNotificationPort {
      * 주문 상태 변경 알림
      */
     void notifyOrderUpdate(Order order);
+
+    /**
+     * 여러 주문의 상태 변경을 사용자별로 묶어 한 번씩 알림
+     */
+    void notifyOrderUpdates(List<Order> orders);
     
     /**
      * 포트폴리오 업데이트 알림
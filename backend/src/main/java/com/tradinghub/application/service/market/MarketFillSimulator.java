@@ -0,0 +1,93 @@
+package com.tradinghub.application.service.market;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.application.dto.market.DepthSnapshot;
+import com.tradinghub.common.ScaledDecimal;
+import com.tradinghub.common.SymbolRegistry;
+import com.tradinghub.domain.model.order.Order.OrderSide;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시장가 체결을 수신 중인 상위 20호가(@depth20)에 대해 모의 체결합니다.
+ *
+ * 매수는 매도호가를, 매도는 매수호가를 최우선 단계부터 수량만큼 소진하며 수량 가중 평균가를 구합니다.
+ * 20호가를 모두 소진해도 남는 수량은 체결하지 않으며, 호출자가 남은 수량을 취소합니다.
+ * 호가 정보가 없으면 최우선 호가(없으면 마지막 체결가)로 전량 체결합니다.
+ * 제한가를 주면(IOC/FOK 지정가 주문) 제한가보다 불리한 호가는 소진하지 않습니다.
+ *
+ * 호가 복사본은 스레드마다 하나를 재사용하므로 호가를 훑는 동안 객체를 할당하지 않습니다.
+ * 모의 체결은 호가 수량을 줄이지 않으므로, 다음 호가 프레임 전의 연속된 시장가 주문은 같은 호가에 체결됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MarketFillSimulator {
+    private static final ThreadLocal<DepthSnapshot> BOOK = ThreadLocal.withInitial(DepthSnapshot::new);
+
+    private final MarketStateCache marketStateCache;
+
+    /**
+     * 모의 체결 결과
+     *
+     * @param quantity     체결 수량 (배율 값, 요청 수량 이하)
+     * @param averagePrice 수량 가중 평균 체결가 (배율 값)
+     */
+    public record MarketFill(long quantity, long averagePrice) {}
+
+    /**
+     * @param symbol   거래 심볼 (예: BTCUSDT)
+     * @param side     주문 방향
+     * @param quantity 주문 수량 (배율 값)
+     * @return 체결 결과, 호가와 체결가가 모두 없으면 비어 있음
+     */
+    public Optional<MarketFill> simulate(String symbol, OrderSide side, long quantity) {
+        return simulate(symbol, side, quantity, 0L);
+    }
+
+    /**
+     * @param symbol     거래 심볼 (예: BTCUSDT)
+     * @param side       주문 방향
+     * @param quantity   주문 수량 (배율 값)
+     * @param limitPrice 제한가 (배율 값, 0이면 제한 없음). 매수는 이보다 비싼, 매도는 이보다 싼 호가를 소진하지 않음
+     * @return 체결 결과, 제한가 안에 호가와 체결가가 모두 없으면 비어 있음
+     */
+    public Optional<MarketFill> simulate(String symbol, OrderSide side, long quantity, long limitPrice) {
+        int symbolId = SymbolRegistry.find(symbol);
+        DepthSnapshot book = BOOK.get();
+        if (marketStateCache.copyBook(symbolId, book)) {
+            int levels = side == OrderSide.BUY ? book.getAskCount() : book.getBidCount();
+            long remaining = quantity;
+            long notional = 0L;
+            for (int level = 0; level < levels && remaining > 0; level++) {
+                long price = side == OrderSide.BUY ? book.getAskPrice(level) : book.getBidPrice(level);
+                if (!withinLimit(side, price, limitPrice)) {
+                    break;
+                }
+                long available = side == OrderSide.BUY ? book.getAskQuantity(level) : book.getBidQuantity(level);
+                long filled = Math.min(available, remaining);
+                notional = Math.addExact(notional, ScaledDecimal.multiply(price, filled));
+                remaining -= filled;
+            }
+            long filled = quantity - remaining;
+            if (filled > 0) {
+                return Optional.of(new MarketFill(filled, ScaledDecimal.divide(notional, filled)));
+            }
+        }
+
+        long quote = side == OrderSide.BUY ? marketStateCache.bestAsk(symbolId) : marketStateCache.bestBid(symbolId);
+        long price = quote > 0 ? quote : marketStateCache.lastPrice(symbolId);
+        return price > 0 && withinLimit(side, price, limitPrice)
+            ? Optional.of(new MarketFill(quantity, price))
+            : Optional.empty();
+    }
+
+    private static boolean withinLimit(OrderSide side, long price, long limitPrice) {
+        if (limitPrice <= 0) {
+            return true;
+        }
+        return side == OrderSide.BUY ? price <= limitPrice : price >= limitPrice;
+    }
+}
@@ -0,0 +1,177 @@
+package com.tradinghub.application.service.market;
+
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.application.dto.market.DepthSnapshot;
+import com.tradinghub.application.dto.market.MarketDataEvent;
+import com.tradinghub.application.dto.market.TickerSnapshot;
+import com.tradinghub.application.dto.market.TradeTick;
+import com.tradinghub.common.ScaledDecimal;
+import com.tradinghub.common.SymbolRegistry;
+import com.tradinghub.domain.model.order.Order.OrderSide;
+
+/**
+ * 심볼별 최신 시세 상태 캐시 (마지막 체결가, 최우선 호가, 상위 20호가)
+ *
+ * 심볼별 파이프라인 워커가 유일한 쓰기 스레드이며, 읽기는 어느 스레드에서든 잠금 없이 수행됩니다.
+ * 가격 조회는 volatile 읽기 한 번이고, 호가창은 시퀀스 잠금(seqlock)으로 호출자가 가진
+ * {@link DepthSnapshot}에 복사하므로 읽기 경로에서 할당이 없습니다.
+ * 가격은 {@link ScaledDecimal} 배율 값이며, 값이 없으면 0입니다.
+ */
+@Component
+public class MarketStateCache {
+
+    /** 심볼 ID로 색인되는 상태 */
+    private volatile SymbolState[] states = new SymbolState[0];
+
+    /**
+     * 시세 이벤트로 상태를 갱신합니다. 해당 심볼의 워커 스레드에서만 호출합니다.
+     */
+    public void update(MarketDataEvent event) {
+        SymbolState state = state(event.getSymbolId());
+        if (event instanceof TradeTick trade) {
+            state.lastTradeTime = trade.getTradeTime();
+            state.lastPrice = trade.getPrice();
+        } else if (event instanceof TickerSnapshot ticker) {
+            if (ticker.getBestBid() > 0) {
+                state.bestBid = ticker.getBestBid();
+            }
+            if (ticker.getBestAsk() > 0) {
+                state.bestAsk = ticker.getBestAsk();
+            }
+            if (state.lastPrice == 0) {
+                state.lastPrice = ticker.getLastPrice();
+            }
+        } else if (event instanceof DepthSnapshot depth) {
+            state.writeBook(depth);
+            if (depth.getBidCount() > 0) {
+                state.bestBid = depth.getBidPrice(0);
+            }
+            if (depth.getAskCount() > 0) {
+                state.bestAsk = depth.getAskPrice(0);
+            }
+        }
+    }
+
+    public long lastPrice(int symbolId) {
+        SymbolState state = find(symbolId);
+        return state == null ? 0L : state.lastPrice;
+    }
+
+    public long lastTradeTime(int symbolId) {
+        SymbolState state = find(symbolId);
+        return state == null ? 0L : state.lastTradeTime;
+    }
+
+    public long bestBid(int symbolId) {
+        SymbolState state = find(symbolId);
+        return state == null ? 0L : state.bestBid;
+    }
+
+    public long bestAsk(int symbolId) {
+        SymbolState state = find(symbolId);
+        return state == null ? 0L : state.bestAsk;
+    }
+
+    /**
+     * 최신 상위 호가를 target에 복사합니다.
+     *
+     * @return 호가 정보가 있으면 true
+     */
+    public boolean copyBook(int symbolId, DepthSnapshot target) {
+        SymbolState state = find(symbolId);
+        return state != null && state.readBook(target);
+    }
+
+    /**
+     * 심볼의 마지막 체결가
+     *
+     * @param symbol 거래 심볼 (예: BTCUSDT)
+     */
+    public Optional<BigDecimal> getLastPrice(String symbol) {
+        return toPrice(lastPrice(SymbolRegistry.find(symbol)));
+    }
+
+    /**
+     * 시장가 주문이 체결될 가격
+     * 매수는 최우선 매도호가, 매도는 최우선 매수호가이며 호가가 없으면 마지막 체결가입니다.
+     *
+     * @param symbol 거래 심볼 (예: BTCUSDT)
+     * @param side   주문 방향
+     */
+    public Optional<BigDecimal> getExecutablePrice(String symbol, OrderSide side) {
+        int symbolId = SymbolRegistry.find(symbol);
+        long quote = side == OrderSide.BUY ? bestAsk(symbolId) : bestBid(symbolId);
+        return toPrice(quote > 0 ? quote : lastPrice(symbolId));
+    }
+
+    private static Optional<BigDecimal> toPrice(long scaled) {
+        return scaled > 0 ? Optional.of(ScaledDecimal.toBigDecimal(scaled)) : Optional.empty();
+    }
+
+    private SymbolState find(int symbolId) {
+        SymbolState[] current = states;
+        return symbolId >= 0 && symbolId < current.length ? current[symbolId] : null;
+    }
+
+    private SymbolState state(int symbolId) {
+        SymbolState state = find(symbolId);
+        return state != null ? state : createState(symbolId);
+    }
+
+    private synchronized SymbolState createState(int symbolId) {
+        SymbolState[] current = states;
+        if (symbolId < current.length && current[symbolId] != null) {
+            return current[symbolId];
+        }
+        SymbolState[] grown = symbolId < current.length ? current.clone() : Arrays.copyOf(current, symbolId + 1);
+        grown[symbolId] = new SymbolState();
+        states = grown;
+        return grown[symbolId];
+    }
+
+    /**
+     * 한 심볼의 상태. 단일 쓰기 스레드를 전제로 합니다.
+     */
+    private static final class SymbolState {
+        private volatile long lastPrice;
+        private volatile long lastTradeTime;
+        private volatile long bestBid;
+        private volatile long bestAsk;
+
+        /** 호가창 쓰기 중이면 홀수 */
+        private volatile long bookVersion;
+        private final DepthSnapshot book = new DepthSnapshot();
+
+        void writeBook(DepthSnapshot depth) {
+            long version = bookVersion;
+            bookVersion = version + 1;
+            VarHandle.storeStoreFence();
+            book.copyFrom(depth);
+            bookVersion = version + 2;
+        }
+
+        boolean readBook(DepthSnapshot target) {
+            while (true) {
+                long before = bookVersion;
+                if (before == 0) {
+                    return false;
+                }
+                if ((before & 1) != 0) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                target.copyFrom(book);
+                VarHandle.loadLoadFence();
+                if (bookVersion == before) {
+                    return true;
+                }
+            }
+        }
+    }
+}
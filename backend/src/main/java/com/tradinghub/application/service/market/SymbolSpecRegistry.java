@@ -0,0 +1,57 @@
+package com.tradinghub.application.service.market;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.common.BinanceConstants;
+import com.tradinghub.common.ScaledDecimal;
+import com.tradinghub.domain.model.market.SymbolSpec;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 심볼별 가격/수량 단위 조회
+ *
+ * 기본값은 {@link BinanceConstants#DEFAULT_SYMBOL_SPECS}이며, order.symbol-specs에 같은 형식으로
+ * 지정한 심볼은 덮어씁니다. 등록되지 않은 심볼은 소수점 8자리까지 허용합니다.
+ */
+@Slf4j
+@Component
+public class SymbolSpecRegistry {
+
+    private final Map<String, SymbolSpec> specs = new ConcurrentHashMap<>();
+
+    public SymbolSpecRegistry(@Value("${order.symbol-specs:}") String overrides) {
+        register(BinanceConstants.DEFAULT_SYMBOL_SPECS);
+        register(overrides);
+        log.info("Symbol specs loaded: {}", specs.size());
+    }
+
+    /**
+     * @param symbol 거래 심볼 (대소문자 무관)
+     */
+    public SymbolSpec get(String symbol) {
+        String key = symbol.toUpperCase(Locale.ROOT);
+        SymbolSpec spec = specs.get(key);
+        return spec != null ? spec : SymbolSpec.unrestricted(key);
+    }
+
+    private void register(String definitions) {
+        for (String definition : definitions.split(",")) {
+            if (definition.isBlank()) {
+                continue;
+            }
+            String[] parts = definition.trim().split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid symbol spec (symbol:tickSize:lotSize): " + definition);
+            }
+            String symbol = parts[0].trim().toUpperCase(Locale.ROOT);
+            specs.put(symbol, new SymbolSpec(symbol,
+                ScaledDecimal.parse(parts[1].trim()), ScaledDecimal.parse(parts[2].trim())));
+        }
+    }
+}
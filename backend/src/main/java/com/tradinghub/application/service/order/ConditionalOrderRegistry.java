@@ -0,0 +1,165 @@
+package com.tradinghub.application.service.order;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tradinghub.common.ScaledDecimal;
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.OrderRepository;
+import com.tradinghub.domain.model.order.TriggerBook;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 심볼별 발동 대기 조건부 주문 색인 (메모리 상주)
+ *
+ * 기동 시 DB의 대기 조건부 주문으로 색인을 만들고, 이후 주문 등록/취소/발동과 함께 갱신합니다.
+ * 체결마다 DB를 조회하지 않고 체결 구간으로 발동한 주문만 꺼내므로, 발동이 없으면 DB 접근도 없습니다.
+ * 추적 손절의 기준가는 발동 전까지 메모리에서만 갱신하며 DB에 쓰지 않습니다.
+ * 따라서 재기동하면 기준가는 등록 시점의 값({@link Order#getStopPrice()} + 간격)부터 다시 시작하며,
+ * 이는 발동가가 불리한 쪽으로 물러나는 방향이므로 잘못 발동하지는 않습니다.
+ *
+ * 색인 변경은 트랜잭션 커밋 이후에 반영하며, 발동을 위해 꺼낸 주문은 트랜잭션이 롤백되면 되돌려 놓습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConditionalOrderRegistry {
+    private static final EnumSet<Order.OrderType> CONDITIONAL_TYPES = EnumSet.of(
+        Order.OrderType.STOP_MARKET, Order.OrderType.STOP_LIMIT, Order.OrderType.TAKE_PROFIT, Order.OrderType.TRAILING_STOP);
+
+    private final OrderRepository orderRepository;
+
+    /** 심볼(대문자)별 색인 */
+    private final ConcurrentHashMap<String, TriggerBook> books = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void rebuild() {
+        books.clear();
+        long started = System.nanoTime();
+        List<Order> pending = orderRepository.findByStatusAndTypeIn(Order.OrderStatus.PENDING, CONDITIONAL_TYPES);
+        pending.forEach(this::addNow);
+        log.info("Conditional order index rebuilt: orders={}, symbols={}, elapsedMs={}",
+            pending.size(), books.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * 대기 조건부 주문을 색인에 추가합니다 (트랜잭션 중이면 커밋 후).
+     */
+    public void track(Order order) {
+        afterCommit(() -> addNow(order));
+    }
+
+    /**
+     * 주문을 색인에서 제거합니다 (트랜잭션 중이면 커밋 후).
+     */
+    public void untrack(Order order) {
+        afterCommit(() -> {
+            TriggerBook book = books.get(order.getSymbol().toUpperCase());
+            if (book != null) {
+                synchronized (book) {
+                    book.remove(order.getId());
+                }
+            }
+        });
+    }
+
+    /**
+     * 체결 구간에서 발동한 주문을 색인에서 꺼냅니다.
+     * 현재 트랜잭션이 롤백되면 꺼낸 주문은 색인에 되돌아갑니다.
+     *
+     * @param symbol 거래 심볼
+     * @param low    구간 저가 (배율 값)
+     * @param high   구간 고가 (배율 값)
+     * @param last   구간 종가 (배율 값)
+     * @return 발동한 주문 목록
+     */
+    public List<TriggerBook.Entry> takeTriggered(String symbol, long low, long high, long last) {
+        String key = symbol.toUpperCase();
+        TriggerBook book = books.get(key);
+        if (book == null) {
+            return List.of();
+        }
+        List<TriggerBook.Entry> triggered = new ArrayList<>();
+        synchronized (book) {
+            book.pollTriggered(low, high, last, triggered);
+        }
+        if (!triggered.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        restore(key, triggered);
+                    }
+                }
+            });
+        }
+        return triggered;
+    }
+
+    /**
+     * 꺼냈지만 처리하지 못한 주문을 색인에 되돌립니다.
+     */
+    public void restore(String symbol, List<TriggerBook.Entry> entries) {
+        TriggerBook book = book(symbol);
+        synchronized (book) {
+            entries.forEach(book::add);
+        }
+        log.warn("Restored {} conditional orders to the {} trigger index", entries.size(), symbol.toUpperCase());
+    }
+
+    /**
+     * 심볼의 색인에 올라간 주문 수
+     */
+    public int size(String symbol) {
+        TriggerBook book = books.get(symbol.toUpperCase());
+        if (book == null) {
+            return 0;
+        }
+        synchronized (book) {
+            return book.size();
+        }
+    }
+
+    private void addNow(Order order) {
+        if (order.getStatus() != Order.OrderStatus.PENDING || !order.getType().isConditional()) {
+            return;
+        }
+        long delta = order.getTrailingDelta() != null ? ScaledDecimal.fromBigDecimal(order.getTrailingDelta()) : 0L;
+        TriggerBook.Entry entry = new TriggerBook.Entry(
+            order.getId(),
+            TriggerBook.Direction.of(order.getType(), order.getSide()),
+            ScaledDecimal.fromBigDecimal(order.getStopPrice()),
+            order.getType() == Order.OrderType.TRAILING_STOP ? delta : 0L);
+        TriggerBook book = book(order.getSymbol());
+        synchronized (book) {
+            book.add(entry);
+        }
+    }
+
+    private TriggerBook book(String symbol) {
+        return books.computeIfAbsent(symbol.toUpperCase(), s -> new TriggerBook());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
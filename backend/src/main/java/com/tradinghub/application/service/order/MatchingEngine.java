@@ -0,0 +1,238 @@
+package com.tradinghub.application.service.order;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.application.dto.PlaceOrderCommand;
+import com.tradinghub.application.dto.market.TradeRange;
+import com.tradinghub.application.exception.order.OrderExecutionException;
+import com.tradinghub.application.exception.order.OrderNotFoundException;
+import com.tradinghub.application.usecase.order.CancelOrderUseCase;
+import com.tradinghub.application.usecase.order.ExecuteReadyOrdersUseCase;
+import com.tradinghub.application.usecase.order.PlaceOrderUseCase;
+import com.tradinghub.application.usecase.order.TriggerConditionalOrdersUseCase;
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.OrderRepository;
+import com.tradinghub.infrastructure.async.MdcTaskDecorator;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 심볼별 단일 스레드 주문 처리 엔진
+ *
+ * 각 심볼은 정확히 하나의 엔진 스레드(샤드)에 고정되며, 주문 등록/취소와 체결 판단(tick)은
+ * 모두 그 스레드의 명령 큐를 통해 도착 순서대로 실행됩니다. 같은 심볼의 명령이 서로
+ * 겹치지 않으므로 등록·취소·체결 사이의 낙관적 락 충돌이 사라지고 처리 순서가 결정적이며,
+ * 심볼은 샤드 수만큼의 코어에 나뉘어 처리됩니다.
+ *
+ * 트랜잭션은 명령을 실행하는 엔진 스레드에서 열립니다. 호출자는 반환된
+ * {@link CompletableFuture}로 결과를 받으며, {@link #await}로 동기 대기할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class MatchingEngine {
+
+    private final PlaceOrderUseCase placeOrderUseCase;
+    private final CancelOrderUseCase cancelOrderUseCase;
+    private final ExecuteReadyOrdersUseCase executeReadyOrdersUseCase;
+    private final TriggerConditionalOrdersUseCase triggerConditionalOrdersUseCase;
+    private final OrderRepository orderRepository;
+    private final long commandTimeoutMs;
+    private final MdcTaskDecorator mdcTaskDecorator = new MdcTaskDecorator();
+
+    /** 샤드별 단일 스레드 실행기 */
+    private final ThreadPoolExecutor[] shards;
+
+    public MatchingEngine(
+            PlaceOrderUseCase placeOrderUseCase,
+            CancelOrderUseCase cancelOrderUseCase,
+            ExecuteReadyOrdersUseCase executeReadyOrdersUseCase,
+            TriggerConditionalOrdersUseCase triggerConditionalOrdersUseCase,
+            OrderRepository orderRepository,
+            @Value("${order.engine.threads:0}") int threads,
+            @Value("${order.engine.queue-capacity:10000}") int queueCapacity,
+            @Value("${order.engine.command-timeout-ms:5000}") long commandTimeoutMs) {
+        this.placeOrderUseCase = placeOrderUseCase;
+        this.cancelOrderUseCase = cancelOrderUseCase;
+        this.executeReadyOrdersUseCase = executeReadyOrdersUseCase;
+        this.triggerConditionalOrdersUseCase = triggerConditionalOrdersUseCase;
+        this.orderRepository = orderRepository;
+        this.commandTimeoutMs = commandTimeoutMs;
+
+        int shardCount = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.shards = new ThreadPoolExecutor[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            String name = "order-engine-" + i;
+            shards[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, name);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        }
+        log.info("Matching engine started: shards={}, queueCapacity={}", shardCount, queueCapacity);
+    }
+
+    /**
+     * 주문 등록 명령을 주문 심볼의 엔진 스레드에 제출합니다.
+     */
+    public CompletableFuture<Order> place(PlaceOrderCommand command) {
+        return submit(command.symbol(), () -> placeOrderUseCase.execute(command));
+    }
+
+    /**
+     * 주문 취소 명령을 주문 심볼의 엔진 스레드에 제출합니다.
+     *
+     * @return 주문이 없으면 {@link OrderNotFoundException}으로 실패한 결과
+     */
+    public CompletableFuture<Order> cancel(Long orderId, Long userId) {
+        String symbol = orderRepository.findById(orderId)
+            .map(Order::getSymbol)
+            .orElse(null);
+        if (symbol == null) {
+            return CompletableFuture.failedFuture(new OrderNotFoundException("Order not found with id: " + orderId));
+        }
+        return submit(symbol, () -> cancelOrderUseCase.execute(orderId, userId));
+    }
+
+    /**
+     * 만료된 GTD 주문의 취소 명령을 주문 심볼의 엔진 스레드에 제출합니다.
+     *
+     * @return 취소된 주문, 이미 체결/취소된 주문이면 null
+     */
+    public CompletableFuture<Order> expire(long orderId, String symbol) {
+        return submit(symbol, () -> cancelOrderUseCase.expire(orderId));
+    }
+
+    /**
+     * 합쳐진 체결 구간에 대한 체결 판단 명령을 엔진 스레드에 제출합니다.
+     * 지정가 주문을 먼저 체결한 뒤 조건부 주문의 발동을 처리하므로, 이 구간에서 발동해
+     * 지정가로 전환된 주문은 다음 구간부터 체결 대상이 됩니다.
+     * 구간은 명령이 실행될 때까지 변경되지 않아야 합니다.
+     */
+    public CompletableFuture<Void> match(TradeRange range) {
+        return submit(range.getSymbol(), () -> {
+            executeReadyOrdersUseCase.execute(range);
+            triggerConditionalOrdersUseCase.execute(range);
+            return null;
+        });
+    }
+
+    /**
+     * 심볼을 담당하는 엔진 스레드에서 명령을 실행합니다.
+     *
+     * @return 명령 결과. 큐가 가득 찼거나 엔진이 종료되었으면 {@link OrderExecutionException}으로 실패
+     */
+    public <T> CompletableFuture<T> submit(String symbol, Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = mdcTaskDecorator.decorate(() -> {
+            try {
+                future.complete(command.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        try {
+            shard(symbol).execute(new Command(task, future));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new OrderExecutionException("Matching engine rejected command for symbol: " + symbol, e));
+        }
+        return future;
+    }
+
+    /**
+     * 명령 결과를 설정된 시간까지 기다립니다.
+     * 시간이 초과되어도 이미 큐에 들어간 명령은 취소되지 않고 나중에 실행됩니다.
+     *
+     * @throws RuntimeException 명령이 던진 예외를 그대로 다시 던짐
+     * @throws OrderExecutionException 시간 초과, 인터럽트 또는 검사 예외로 실패한 경우
+     */
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(commandTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new OrderExecutionException("Matching engine command failed", cause);
+        } catch (TimeoutException e) {
+            throw new OrderExecutionException("Matching engine command timed out after " + commandTimeoutMs + "ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderExecutionException("Interrupted while waiting for matching engine", e);
+        }
+    }
+
+    /**
+     * 엔진 스레드별 대기 중인 명령 수
+     */
+    public int[] backlog() {
+        int[] backlog = new int[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            backlog[i] = shards[i].getQueue().size();
+        }
+        return backlog;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor shard : shards) {
+            shard.shutdown();
+        }
+        for (ThreadPoolExecutor shard : shards) {
+            try {
+                if (!shard.awaitTermination(commandTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    failAll(shard.shutdownNow());
+                }
+            } catch (InterruptedException e) {
+                failAll(shard.shutdownNow());
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 심볼의 담당 샤드. 요청 값으로 심볼을 등록하지 않도록 대문자 심볼의 해시로 고릅니다.
+     */
+    private ThreadPoolExecutor shard(String symbol) {
+        return shards[Math.floorMod(symbol.toUpperCase(Locale.ROOT).hashCode(), shards.length)];
+    }
+
+    private void failAll(List<Runnable> unexecuted) {
+        for (Runnable runnable : unexecuted) {
+            if (runnable instanceof Command command) {
+                command.future.completeExceptionally(new OrderExecutionException("Matching engine stopped"));
+            }
+        }
+        if (!unexecuted.isEmpty()) {
+            log.warn("Matching engine stopped with {} unexecuted commands", unexecuted.size());
+        }
+    }
+
+    /**
+     * 종료 시 실행되지 못한 명령의 결과를 실패로 완료하기 위해 결과를 함께 보관하는 작업
+     */
+    private record Command(Runnable task, CompletableFuture<?> future) implements Runnable {
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.tradinghub.application.service.order;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tradinghub.application.dto.market.TradeRange;
+import com.tradinghub.application.port.OrderJournalPort;
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.OrderBook;
+import com.tradinghub.domain.model.order.OrderRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 심볼별 대기 지정가 주문 호가창 (메모리 상주)
+ *
+ * 체결 구간의 개별 체결마다 그 체결량만큼만 주문을 채우므로 지정가 주문은 나눠서 체결될 수 있으며,
+ * 호가창에는 주문의 남은 수량이 올라갑니다. 수량을 모르는 체결 구간(버려진 체결)에 걸린 주문은 전량 체결합니다.
+ *
+ * 기동 시 저널의 최신 스냅샷과 이후 기록을 재생해 호가창을 복구하고, 저널이 없으면 DB의 대기 주문으로
+ * 다시 만듭니다. 이후 주문 등록/취소/체결과 함께 갱신하며, 모든 변경은 호가창 잠금 안에서 저널에 남깁니다.
+ * 호가창 변경은 트랜잭션 커밋 이후에 반영하며, 체결을 위해 꺼낸 주문은
+ * 트랜잭션이 롤백되면 호가창에 되돌려 놓습니다.
+ *
+ * 저널로 복구한 뒤에는 스냅샷이 얼마나 오래되었든 스냅샷의 DB 워터마크(최대 주문 ID) 이후에 생성된
+ * 대기 주문을 모두 DB에서 다시 읽어 보정합니다. 커밋 직후 저널 기록 전에 프로세스가 종료되어 빠진 주문은
+ * 워터마크보다 먼저 ID를 받았을 수 있으므로, 마지막 기록 시각 근처에 생성된 대기 주문도 함께 보정합니다.
+ * 반대로 제거 기록이 빠진 주문은
+ * 체결 시 DB 상태를 다시 확인하므로 호가창에 남아 있어도 체결되지 않으며, 남은 수량 기록이 빠진 주문은
+ * 체결 시 DB의 남은 수량으로 맞춥니다.
+ */
+@Slf4j
+@Component
+public class OrderBookRegistry {
+    private static final List<Order.OrderStatus> FILLABLE_STATUSES =
+        List.of(Order.OrderStatus.PENDING, Order.OrderStatus.PARTIALLY_FILLED);
+
+    private final OrderRepository orderRepository;
+    private final OrderJournalPort orderJournal;
+    private final long reconcileWindowMs;
+
+    /** 심볼(대문자)별 호가창 */
+    private final ConcurrentHashMap<String, OrderBook> books = new ConcurrentHashMap<>();
+
+    public OrderBookRegistry(
+            OrderRepository orderRepository,
+            OrderJournalPort orderJournal,
+            @Value("${order.journal.reconcile-window-sec:60}") long reconcileWindowSec) {
+        this.orderRepository = orderRepository;
+        this.orderJournal = orderJournal;
+        this.reconcileWindowMs = TimeUnit.SECONDS.toMillis(reconcileWindowSec);
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        books.clear();
+        long started = System.nanoTime();
+        Optional<OrderJournalPort.Recovery> recovery = orderJournal.replay(new OrderJournalPort.Listener() {
+            @Override
+            public void added(String symbol, OrderBook.Entry entry) {
+                book(symbol).add(entry.orderId(), entry.side(), entry.price(), entry.quantity());
+            }
+
+            @Override
+            public void removed(String symbol, long orderId) {
+                book(symbol).remove(orderId);
+            }
+
+            @Override
+            public void updated(String symbol, long orderId, long quantity) {
+                book(symbol).updateQuantity(orderId, quantity);
+            }
+        });
+
+        if (recovery.isPresent()) {
+            List<Order> afterSnapshot = orderRepository.findByStatusInAndTypeAndIdGreaterThan(
+                FILLABLE_STATUSES, Order.OrderType.LIMIT, recovery.get().orderIdWatermark());
+            afterSnapshot.forEach(this::addNow);
+            LocalDateTime since = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(recovery.get().lastRecordAt() - reconcileWindowMs), ZoneId.systemDefault());
+            List<Order> recent = orderRepository.findByStatusInAndTypeAndCreatedAtGreaterThanEqual(
+                FILLABLE_STATUSES, Order.OrderType.LIMIT, since);
+            recent.forEach(this::addNow);
+            log.info("Order books recovered from journal: orders={}, symbols={}, reconciled={}, elapsedMs={}",
+                totalSize(), books.size(), afterSnapshot.size() + recent.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } else {
+            // 저널 재생이 중간에 실패했을 수 있으므로 처음부터 다시 만듦
+            books.clear();
+            List<Order> pending = orderRepository.findByStatusInAndType(FILLABLE_STATUSES, Order.OrderType.LIMIT);
+            pending.forEach(this::addNow);
+            log.info("Order books rebuilt: orders={}, symbols={}, elapsedMs={}",
+                pending.size(), books.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+        orderJournal.scheduleSnapshots(this::snapshot);
+    }
+
+    /**
+     * 대기 주문을 호가창에 추가합니다 (트랜잭션 중이면 커밋 후).
+     */
+    public void track(Order order) {
+        afterCommit(() -> addNow(order));
+    }
+
+    /**
+     * 주문을 호가창에서 제거합니다 (트랜잭션 중이면 커밋 후).
+     */
+    public void untrack(Order order) {
+        afterCommit(() -> {
+            String symbol = order.getSymbol().toUpperCase();
+            OrderBook book = book(symbol);
+            synchronized (book) {
+                if (book.remove(order.getId())) {
+                    orderJournal.recordRemoved(symbol, order.getId());
+                }
+            }
+        });
+    }
+
+    /**
+     * 체결 구간에 걸리는 주문을 체결량만큼 채워 호가창에서 꺼냅니다.
+     * 개별 체결마다 매수/매도 주문을 각각 그 체결량까지 체결 우선순위 순서로 채우며, 일부만 채운 주문은
+     * 남은 수량으로 제자리에 남습니다. 수량을 모르는 구간에 걸린 주문은 남은 수량 전부를 채웁니다.
+     * 최우선 가격대가 구간에 걸리지 않으면 객체를 할당하지 않고 바로 끝납니다.
+     *
+     * 현재 트랜잭션이 롤백되면 채운 수량은 호가창에 되돌아가며,
+     * 커밋되면 주문의 제거 또는 남은 수량을 저널에 남깁니다.
+     *
+     * @param range 체결 구간
+     * @return 주문별 체결 (주문 가격으로 체결, 체결 우선순위 순서)
+     */
+    public List<OrderBook.Fill> takeFills(TradeRange range) {
+        String key = range.getSymbol().toUpperCase();
+        OrderBook book = books.get(key);
+        if (book == null) {
+            return List.of();
+        }
+        List<OrderBook.Fill> fills;
+        synchronized (book) {
+            long low = range.hasUnknownVolume() ? Math.min(range.getLow(), range.getUnknownLow()) : range.getLow();
+            long high = range.hasUnknownVolume() ? Math.max(range.getHigh(), range.getUnknownHigh()) : range.getHigh();
+            if (!book.isCrossedBy(low, high)) {
+                return List.of();
+            }
+            fills = new ArrayList<>();
+            if (range.hasUnknownVolume()) {
+                book.pollTriggered(range.getUnknownLow(), range.getUnknownHigh(), fills);
+            }
+            match(book, Order.OrderSide.BUY, range, fills);
+            match(book, Order.OrderSide.SELL, range, fills);
+        }
+        if (fills.isEmpty()) {
+            return fills;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            journalFills(key, book, fills);
+            return fills;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    journalFills(key, book, fills);
+                } else {
+                    restore(key, fills);
+                }
+            }
+        });
+        return fills;
+    }
+
+    /**
+     * 채웠지만 체결하지 못한 수량을 호가창에 되돌립니다.
+     * 호가창에 남아 있는 주문은 순서를 유지한 채 수량만 되돌리고, 빠진 주문은 가격대의 맨 뒤로 가므로
+     * 저널에도 제거 후 추가로 남깁니다.
+     */
+    public void restore(String symbol, List<OrderBook.Fill> fills) {
+        String key = symbol.toUpperCase();
+        OrderBook book = book(key);
+        synchronized (book) {
+            for (OrderBook.Fill fill : fills) {
+                OrderBook.Entry entry = fill.entry();
+                if (book.updateQuantity(entry.orderId(), entry.quantity())) {
+                    orderJournal.recordUpdated(key, entry.orderId(), entry.quantity());
+                    continue;
+                }
+                book.add(entry.orderId(), entry.side(), entry.price(), entry.quantity());
+                orderJournal.recordRemoved(key, entry.orderId());
+                orderJournal.recordAdded(key, entry);
+            }
+        }
+        log.warn("Restored {} unfilled orders to the {} order book", fills.size(), key);
+    }
+
+    /**
+     * 심볼의 호가창에 올라간 주문 수
+     */
+    public int size(String symbol) {
+        OrderBook book = books.get(symbol.toUpperCase());
+        if (book == null) {
+            return 0;
+        }
+        synchronized (book) {
+            return book.size();
+        }
+    }
+
+    /**
+     * DB 워터마크를 읽은 뒤 심볼별 호가창 주문을 체결 우선순위 순서로 복사합니다 (스냅샷용).
+     * 워터마크 이하의 커밋된 주문은 복사본이나 스냅샷 이후 저널 중 한쪽에 반드시 남습니다.
+     */
+    private OrderJournalPort.Snapshot snapshot() {
+        long orderIdWatermark = orderRepository.findMaxId();
+        Map<String, List<OrderBook.Entry>> copy = new HashMap<>();
+        books.forEach((symbol, book) -> {
+            List<OrderBook.Entry> entries = new ArrayList<>();
+            synchronized (book) {
+                book.copyTo(entries);
+            }
+            copy.put(symbol, entries);
+        });
+        return new OrderJournalPort.Snapshot(orderIdWatermark, copy);
+    }
+
+    private int totalSize() {
+        int total = 0;
+        for (String symbol : books.keySet()) {
+            total += size(symbol);
+        }
+        return total;
+    }
+
+    private static void match(OrderBook book, Order.OrderSide side, TradeRange range, List<OrderBook.Fill> fills) {
+        for (int i = 0; i < range.getTradeCount(); i++) {
+            book.match(side, range.getTradePrice(i), range.getTradeQuantity(i), fills);
+        }
+    }
+
+    private void journalFills(String symbol, OrderBook book, List<OrderBook.Fill> fills) {
+        synchronized (book) {
+            for (OrderBook.Fill fill : fills) {
+                long orderId = fill.entry().orderId();
+                if (book.contains(orderId)) {
+                    orderJournal.recordUpdated(symbol, orderId, book.quantityOf(orderId));
+                } else {
+                    orderJournal.recordRemoved(symbol, orderId);
+                }
+            }
+        }
+    }
+
+    private void addNow(Order order) {
+        if (!order.isFillable() || order.getType() != Order.OrderType.LIMIT || order.getRemainingAmount() <= 0) {
+            return;
+        }
+        String symbol = order.getSymbol().toUpperCase();
+        OrderBook book = book(symbol);
+        OrderBook.Entry entry = new OrderBook.Entry(
+            order.getId(), order.getSide(), order.getScaledPrice(), order.getRemainingAmount());
+        synchronized (book) {
+            if (!book.contains(entry.orderId())) {
+                book.add(entry.orderId(), entry.side(), entry.price(), entry.quantity());
+                orderJournal.recordAdded(symbol, entry);
+            }
+        }
+    }
+
+    private OrderBook book(String symbol) {
+        return books.computeIfAbsent(symbol.toUpperCase(), s -> new OrderBook());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
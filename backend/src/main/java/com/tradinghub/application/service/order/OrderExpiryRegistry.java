@@ -0,0 +1,158 @@
+package com.tradinghub.application.service.order;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tradinghub.common.SymbolRegistry;
+import com.tradinghub.common.TimingWheel;
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.OrderRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GTD 주문의 만료 시각 색인 (메모리 상주)
+ *
+ * 만료 시각을 {@link TimingWheel}에 등록해 두고, {@link OrderExpiryScheduler}가 tick마다 만료된 주문만 꺼냅니다.
+ * 만료 주문을 찾으려고 DB를 주기적으로 훑지 않으며, 주문마다 타이머나 스레드를 만들지 않으므로
+ * 등록/해제 비용은 대기 주문 수와 무관합니다.
+ *
+ * 기동 시 DB의 열린 GTD 주문으로 색인을 만들고, 이후 주문 등록/체결/취소와 함께 갱신합니다.
+ * 색인 변경은 트랜잭션 커밋 이후에 반영합니다. 이미 체결/취소된 주문이 만료로 꺼내져도
+ * 취소 경로에서 열린 주문인지 다시 확인하므로 안전합니다.
+ */
+@Slf4j
+@Component
+public class OrderExpiryRegistry {
+    private static final EnumSet<Order.OrderStatus> OPEN_STATUSES = EnumSet.of(
+        Order.OrderStatus.PENDING, Order.OrderStatus.PARTIALLY_FILLED, Order.OrderStatus.INACTIVE);
+
+    private final OrderRepository orderRepository;
+    private final long tickMillis;
+    private final int wheelBits;
+    private final int levels;
+    private final int initialCapacity;
+
+    private TimingWheel wheel;
+
+    public OrderExpiryRegistry(
+            OrderRepository orderRepository,
+            @Value("${order.expiry.tick-ms:100}") long tickMillis,
+            @Value("${order.expiry.wheel-bits:9}") int wheelBits,
+            @Value("${order.expiry.levels:4}") int levels,
+            @Value("${order.expiry.initial-capacity:1024}") int initialCapacity) {
+        this.orderRepository = orderRepository;
+        this.tickMillis = tickMillis;
+        this.wheelBits = wheelBits;
+        this.levels = levels;
+        this.initialCapacity = initialCapacity;
+        this.wheel = newWheel();
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        long started = System.nanoTime();
+        List<Order> open = orderRepository.findByStatusInAndTimeInForce(OPEN_STATUSES, Order.TimeInForce.GTD);
+        synchronized (this) {
+            wheel = newWheel();
+            open.forEach(this::addNow);
+        }
+        log.info("Order expiry index rebuilt: orders={}, elapsedMs={}",
+            open.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * 열린 GTD 주문의 만료 시각을 등록합니다 (트랜잭션 중이면 커밋 후). 다른 주문은 무시합니다.
+     */
+    public void schedule(Order order) {
+        if (order.getTimeInForce() != Order.TimeInForce.GTD || !order.isOpen()) {
+            return;
+        }
+        afterCommit(() -> {
+            synchronized (this) {
+                addNow(order);
+            }
+        });
+    }
+
+    /**
+     * 주문의 만료 등록을 해제합니다 (트랜잭션 중이면 커밋 후).
+     */
+    public void unschedule(Order order) {
+        if (order.getTimeInForce() != Order.TimeInForce.GTD) {
+            return;
+        }
+        long orderId = order.getId();
+        afterCommit(() -> {
+            synchronized (this) {
+                wheel.cancel(orderId);
+            }
+        });
+    }
+
+    /**
+     * 만료 처리에 실패한 주문을 잠시 뒤 다시 꺼내도록 등록합니다.
+     *
+     * @param orderId    주문 ID
+     * @param symbolId   {@link SymbolRegistry} 심볼 ID
+     * @param delayMillis 다시 꺼낼 때까지의 시간
+     */
+    public synchronized void retry(long orderId, int symbolId, long delayMillis) {
+        wheel.schedule(orderId, symbolId, System.currentTimeMillis() + delayMillis);
+    }
+
+    /**
+     * 현재 시각까지 만료된 주문을 꺼냅니다. 꺼낸 주문은 등록이 해제된 뒤 전달됩니다.
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @param listener  만료된 주문 ID와 심볼 ID를 받을 콜백
+     * @return 만료된 주문 수
+     */
+    public synchronized int advance(long nowMillis, TimingWheel.ExpiryListener listener) {
+        return wheel.advance(nowMillis, listener);
+    }
+
+    /**
+     * 만료를 기다리는 주문 수
+     */
+    public synchronized int size() {
+        return wheel.size();
+    }
+
+    private void addNow(Order order) {
+        if (order.getExpireAt() == null) {
+            return;
+        }
+        wheel.schedule(order.getId(), SymbolRegistry.intern(order.getSymbol()), toEpochMillis(order.getExpireAt()));
+    }
+
+    private TimingWheel newWheel() {
+        return new TimingWheel(tickMillis, wheelBits, levels, System.currentTimeMillis(), initialCapacity);
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,88 @@
+package com.tradinghub.application.service.order;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.common.SymbolRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GTD 주문 만료 처리기
+ *
+ * 스레드 하나가 tick마다 {@link OrderExpiryRegistry}를 진행시키고, 만료된 주문의 취소 명령을
+ * 주문 심볼의 엔진 스레드에 제출합니다({@link MatchingEngine#expire}). 취소는 사용자 취소와 같은
+ * 경로로 처리되므로 같은 심볼의 체결/취소와 순서가 섞이지 않습니다.
+ * 엔진이 명령을 거부하거나 취소가 실패한 주문은 잠시 뒤 다시 만료 처리합니다.
+ */
+@Slf4j
+@Component
+public class OrderExpiryScheduler {
+    private final OrderExpiryRegistry orderExpiryRegistry;
+    private final MatchingEngine matchingEngine;
+    private final long tickMillis;
+    private final long retryDelayMillis;
+
+    private ScheduledExecutorService ticker;
+
+    public OrderExpiryScheduler(
+            OrderExpiryRegistry orderExpiryRegistry,
+            MatchingEngine matchingEngine,
+            @Value("${order.expiry.tick-ms:100}") long tickMillis,
+            @Value("${order.expiry.retry-delay-ms:1000}") long retryDelayMillis) {
+        this.orderExpiryRegistry = orderExpiryRegistry;
+        this.matchingEngine = matchingEngine;
+        this.tickMillis = Math.max(1L, tickMillis);
+        this.retryDelayMillis = retryDelayMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "order-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 현재 시각까지 만료된 주문의 취소 명령을 제출합니다.
+     *
+     * @return 만료된 주문 수
+     */
+    public int tick() {
+        try {
+            int expired = orderExpiryRegistry.advance(System.currentTimeMillis(), this::expire);
+            if (expired > 0) {
+                log.debug("Submitted {} order expiries", expired);
+            }
+            return expired;
+        } catch (RuntimeException e) {
+            log.error("Failed to advance order expiry wheel", e);
+            return 0;
+        }
+    }
+
+    private void expire(long orderId, int symbolId) {
+        matchingEngine.expire(orderId, SymbolRegistry.symbol(symbolId)).whenComplete((order, error) -> {
+            if (error != null) {
+                log.warn("Failed to expire order {}, retrying in {}ms: {}", orderId, retryDelayMillis, error.getMessage());
+                orderExpiryRegistry.retry(orderId, symbolId, retryDelayMillis);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.tradinghub.application.service.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.application.service.portfolio.BalanceLedger;
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.OrderRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * OCO/브래킷 그룹의 형제 주문 처리
+ *
+ * 그룹의 한 주문이 체결(또는 손절 지정가 발동)되면 같은 트랜잭션 안에서 나머지 주문을 취소하고,
+ * 브래킷 진입 주문이 체결되면 익절/손절 주문을 대기 상태로 올립니다. 같은 심볼의 체결 판단은
+ * 엔진 스레드 하나에서 순서대로 실행되고, 한 번의 판단에서 그룹당 하나의 주문만
+ * {@link #claim}할 수 있으므로 두 주문이 함께 체결되는 구간이 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderGroupManager {
+    private final OrderRepository orderRepository;
+    private final OrderGroupRegistry orderGroupRegistry;
+    private final OrderBookRegistry orderBookRegistry;
+    private final ConditionalOrderRegistry conditionalOrderRegistry;
+    private final OrderExpiryRegistry orderExpiryRegistry;
+    private final BalanceLedger balanceLedger;
+
+    /**
+     * 이번 체결 판단에서 주문을 체결해도 되는지 확인합니다.
+     * 그룹 주문은 그룹마다 처음 요청한 주문만 허용하며, 나머지는 {@link #completeGroups}에서 취소됩니다.
+     *
+     * @param claimedGroups 이번 판단에서 이미 체결 대상이 정해진 그룹 ID
+     * @return 체결해도 되면 true
+     */
+    public boolean claim(Order order, Set<Long> claimedGroups) {
+        return order.getGroupId() == null || claimedGroups.add(order.getGroupId());
+    }
+
+    /**
+     * 체결/발동된 주문의 그룹을 정리합니다. 호출자의 트랜잭션 안에서 실행해야 합니다.
+     * OCO 주문은 일부만 체결되어도 형제 주문을 취소하고, 브래킷 진입 주문은 모두 체결되어야 익절/손절 주문을 활성화합니다.
+     *
+     * @param executed 체결(일부 체결 포함)되었거나 지정가로 전환된 주문
+     * @return 상태가 바뀐 형제 주문 (취소되었거나 대기 상태가 된 주문)
+     */
+    public List<Order> completeGroups(List<Order> executed) {
+        List<Order> changed = new ArrayList<>();
+        for (Order order : executed) {
+            if (order.getGroupId() == null) {
+                continue;
+            }
+            OrderGroupRegistry.Group group = orderGroupRegistry.find(order.getId());
+            if (group == null) {
+                continue;
+            }
+            if (group.isEntry(order.getId())) {
+                // 익절/손절 주문은 진입 수량 전체를 기준으로 하므로 진입 주문이 모두 체결된 뒤에 활성화
+                if (!order.hasStatus(Order.OrderStatus.FILLED)) {
+                    continue;
+                }
+                changed.addAll(releaseLegs(orderRepository.findAllById(group.legOrderIds())));
+                orderGroupRegistry.promote(group);
+            } else {
+                changed.addAll(cancelOpen(group.siblingsOf(order.getId())));
+                orderGroupRegistry.remove(group);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 취소된 주문의 그룹에서 아직 열린 나머지 주문을 모두 취소합니다.
+     *
+     * @return 함께 취소된 주문
+     */
+    public List<Order> cancelGroup(Order cancelled) {
+        if (cancelled.getGroupId() == null) {
+            return List.of();
+        }
+        OrderGroupRegistry.Group group = orderGroupRegistry.find(cancelled.getId());
+        if (group == null) {
+            return List.of();
+        }
+        List<Long> others = group.members().stream().filter(id -> !id.equals(cancelled.getId())).toList();
+        orderGroupRegistry.remove(group);
+        return cancelOpen(others);
+    }
+
+    /**
+     * 비활성 브래킷 주문을 대기 상태로 바꾸고 호가창/조건부 주문 색인에 올립니다.
+     *
+     * @return 대기 상태가 된 주문
+     */
+    public List<Order> releaseLegs(List<Order> legs) {
+        List<Order> released = new ArrayList<>();
+        for (Order leg : legs) {
+            if (!leg.hasStatus(Order.OrderStatus.INACTIVE)) {
+                continue;
+            }
+            leg.release();
+            released.add(leg);
+            track(leg);
+        }
+        orderRepository.saveAll(released);
+        return released;
+    }
+
+    /**
+     * 주문을 유형에 맞는 메모리 색인과 만료 색인에서 제거하고 남은 수량의 잔고 예약을 풉니다 (트랜잭션 중이면 커밋 후).
+     */
+    public void untrack(Order order) {
+        if (order.getType().isConditional()) {
+            conditionalOrderRegistry.untrack(order);
+        } else {
+            orderBookRegistry.untrack(order);
+        }
+        orderExpiryRegistry.unschedule(order);
+        balanceLedger.released(order);
+    }
+
+    private void track(Order order) {
+        if (order.getType().isConditional()) {
+            conditionalOrderRegistry.track(order);
+        } else {
+            orderBookRegistry.track(order);
+        }
+    }
+
+    private List<Order> cancelOpen(List<Long> orderIds) {
+        List<Order> cancelled = new ArrayList<>();
+        for (Order sibling : orderRepository.findAllById(orderIds)) {
+            if (!sibling.isOpen()) {
+                continue;
+            }
+            sibling.cancel();
+            cancelled.add(sibling);
+            untrack(sibling);
+        }
+        orderRepository.saveAll(cancelled);
+        return cancelled;
+    }
+}
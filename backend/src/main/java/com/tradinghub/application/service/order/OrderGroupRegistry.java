@@ -0,0 +1,149 @@
+package com.tradinghub.application.service.order;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.OrderRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 진행 중인 OCO/브래킷 주문 그룹 색인 (메모리 상주)
+ *
+ * 주문 ID로 그룹을 O(1)에 찾으므로, 체결마다 형제 주문을 DB에서 찾지 않습니다.
+ * 기동 시 DB의 미체결 그룹 주문으로 다시 만들며, 변경은 트랜잭션 커밋 이후에 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderGroupRegistry {
+    private final OrderRepository orderRepository;
+
+    /** 주문 ID별 소속 그룹 */
+    private final ConcurrentHashMap<Long, Group> groups = new ConcurrentHashMap<>();
+
+    /**
+     * 주문 그룹
+     *
+     * @param groupId      그룹 ID
+     * @param entryOrderId 체결 전인 브래킷 진입 주문 ID. 진입 주문이 체결되었거나 OCO이면 0
+     * @param legOrderIds  서로 취소 관계인 주문 ID (OCO 주문 또는 브래킷 익절/손절 주문)
+     */
+    public record Group(long groupId, long entryOrderId, List<Long> legOrderIds) {
+        public Group {
+            legOrderIds = List.copyOf(legOrderIds);
+        }
+
+        public boolean isEntry(long orderId) {
+            return entryOrderId != 0 && entryOrderId == orderId;
+        }
+
+        /** 주문이 체결/발동되면 취소할 나머지 주문 */
+        public List<Long> siblingsOf(long orderId) {
+            return legOrderIds.stream().filter(id -> id != orderId).toList();
+        }
+
+        /** 그룹의 모든 주문 (진입 주문 포함) */
+        public List<Long> members() {
+            List<Long> members = new ArrayList<>(legOrderIds.size() + 1);
+            if (entryOrderId != 0) {
+                members.add(entryOrderId);
+            }
+            members.addAll(legOrderIds);
+            return members;
+        }
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        groups.clear();
+        long started = System.nanoTime();
+        List<Order> open = orderRepository.findByStatusInAndGroupIdIsNotNull(
+            List.of(Order.OrderStatus.PENDING, Order.OrderStatus.PARTIALLY_FILLED, Order.OrderStatus.INACTIVE));
+
+        Map<Long, List<Order>> byGroup = new LinkedHashMap<>();
+        open.forEach(order -> byGroup.computeIfAbsent(order.getGroupId(), id -> new ArrayList<>()).add(order));
+        byGroup.forEach((groupId, members) -> {
+            long entryOrderId = 0L;
+            List<Long> legs = new ArrayList<>();
+            for (Order order : members) {
+                boolean isOpenEntry = order.getParentOrderId() == null
+                    && members.stream().anyMatch(other -> order.getId().equals(other.getParentOrderId()));
+                if (isOpenEntry) {
+                    entryOrderId = order.getId();
+                } else {
+                    legs.add(order.getId());
+                }
+            }
+            putNow(new Group(groupId, entryOrderId, legs));
+        });
+        log.info("Order groups rebuilt: groups={}, orders={}, elapsedMs={}",
+            byGroup.size(), open.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * @return 주문이 속한 진행 중인 그룹, 없으면 null
+     */
+    public Group find(long orderId) {
+        return groups.get(orderId);
+    }
+
+    /**
+     * 그룹을 등록합니다 (트랜잭션 중이면 커밋 후).
+     */
+    public void register(Group group) {
+        afterCommit(() -> putNow(group));
+    }
+
+    /**
+     * 진입 주문이 체결된 브래킷을 익절/손절 주문의 OCO로 바꿉니다 (트랜잭션 중이면 커밋 후).
+     */
+    public void promote(Group group) {
+        afterCommit(() -> {
+            groups.remove(group.entryOrderId());
+            putNow(new Group(group.groupId(), 0L, group.legOrderIds()));
+        });
+    }
+
+    /**
+     * 끝난 그룹을 제거합니다 (트랜잭션 중이면 커밋 후).
+     */
+    public void remove(Group group) {
+        afterCommit(() -> group.members().forEach(groups::remove));
+    }
+
+    /**
+     * 진행 중인 그룹에 속한 주문 수
+     */
+    public int size() {
+        return groups.size();
+    }
+
+    private void putNow(Group group) {
+        group.members().forEach(orderId -> groups.put(orderId, group));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
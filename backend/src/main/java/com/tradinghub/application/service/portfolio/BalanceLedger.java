@@ -0,0 +1,415 @@
+package com.tradinghub.application.service.portfolio;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tradinghub.application.exception.portfolio.InsufficientBalanceException;
+import com.tradinghub.application.exception.portfolio.PortfolioNotFoundException;
+import com.tradinghub.common.ScaledDecimal;
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.OrderRepository;
+import com.tradinghub.domain.model.portfolio.BalanceSheet;
+import com.tradinghub.domain.model.portfolio.Portfolio;
+import com.tradinghub.domain.model.portfolio.PortfolioAsset;
+import com.tradinghub.domain.model.portfolio.PortfolioBatchRepository;
+import com.tradinghub.domain.model.portfolio.PortfolioRepository;
+import com.tradinghub.domain.model.settlement.Settlement;
+import com.tradinghub.domain.model.settlement.SettlementRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 잔고 원장 (메모리 상주)
+ *
+ * 주문 등록 시의 잔고 검증과 예약은 DB 조회 없이 사용자별 {@link BalanceSheet}에서 처리합니다.
+ * 잔고는 사용자 단위로 잠그므로 다른 사용자의 주문끼리는 서로 기다리지 않습니다.
+ * <ul>
+ *   <li>등록: 남은 수량만큼 예약하며, 사용 가능액이 모자라면 거부합니다 (바로 체결된 시장가/IOC 주문은 체결분 포함).</li>
+ *   <li>체결: 체결분을 미정산 예약으로 옮기고, 커밋 후 남은 수량의 예약을 줄입니다.</li>
+ *   <li>취소/만료: 커밋 후 남은 수량의 예약을 풉니다.</li>
+ *   <li>정산: 정산이 반영된 포트폴리오로 총액을 바꾸고 정산된 체결의 예약을 풉니다.</li>
+ * </ul>
+ * 예약을 늘리는 변경은 바로 반영하고 트랜잭션이 롤백되면 되돌리며, 예약을 줄이는 변경은 커밋 후에 반영합니다.
+ *
+ * 총액의 원본은 정산이 반영하는 포트폴리오이고, 사용 가능 잔액(총액 - 예약)은 변경된 사용자만 모아
+ * {@code balance.ledger.flush-interval-ms}마다 포트폴리오에 write-behind로 기록합니다.
+ * 기동 시 포트폴리오, 대기 주문, 미정산 체결로 전체 원장을 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class BalanceLedger {
+    /** 아직 저장되지 않은 주문을 검증할 때 쓰는 주문 ID */
+    private static final long NO_ORDER = -1L;
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioBatchRepository portfolioBatchRepository;
+    private final OrderRepository orderRepository;
+    private final SettlementRepository settlementRepository;
+    private final long flushIntervalMillis;
+
+    private final Map<Long, BalanceSheet> sheets = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService flusher;
+
+    public BalanceLedger(
+            PortfolioRepository portfolioRepository,
+            PortfolioBatchRepository portfolioBatchRepository,
+            OrderRepository orderRepository,
+            SettlementRepository settlementRepository,
+            @Value("${balance.ledger.flush-interval-ms:1000}") long flushIntervalMillis) {
+        this.portfolioRepository = portfolioRepository;
+        this.portfolioBatchRepository = portfolioBatchRepository;
+        this.orderRepository = orderRepository;
+        this.settlementRepository = settlementRepository;
+        this.flushIntervalMillis = Math.max(1L, flushIntervalMillis);
+    }
+
+    /**
+     * 포트폴리오, 대기 주문, 미정산 체결로 원장을 다시 만들고 write-behind 기록을 시작합니다.
+     */
+    @PostConstruct
+    public void rebuild() {
+        long started = System.nanoTime();
+        sheets.clear();
+        for (Portfolio portfolio : portfolioRepository.findAllWithUserAndAssets()) {
+            BalanceSheet sheet = new BalanceSheet(portfolio.getUser().getId());
+            sheet.replaceTotals(totalsOf(portfolio));
+            sheets.put(sheet.getUserId(), sheet);
+        }
+
+        Map<Long, Order> openOrders = new HashMap<>();
+        for (Order order : orderRepository.findByStatusIn(List.of(Order.OrderStatus.PENDING, Order.OrderStatus.PARTIALLY_FILLED))) {
+            // 브래킷 익절/손절 주문은 진입 체결분을 파는 주문이라 예약하지 않음
+            if (order.getParentOrderId() != null) {
+                continue;
+            }
+            openOrders.put(order.getId(), order);
+            BalanceSheet sheet = sheets.get(order.getUser().getId());
+            if (sheet != null) {
+                sheet.update(holdKey(order), order.getId(), assetOf(order), openAmount(order), 0L);
+            }
+        }
+
+        for (Settlement settlement : settlementRepository.findByStatus(Settlement.SettlementStatus.PENDING)) {
+            BalanceSheet sheet = sheets.get(settlement.getUserId());
+            if (sheet == null) {
+                continue;
+            }
+            Order order = openOrders.get(settlement.getOrderId());
+            long holdKey = order != null ? holdKey(order) : settlement.getOrderId();
+            long open = Math.max(0L, sheet.open(settlement.getOrderId()));
+            sheet.update(holdKey, settlement.getOrderId(), assetOf(settlement.getSide(), settlement.getSymbol()),
+                open, fillAmount(settlement.getSide(), settlement.getAmount(), settlement.getPrice()));
+        }
+        log.info("Balance ledger rebuilt: users={}, openOrders={}, took={}ms",
+            sheets.size(), openOrders.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        if (flusher == null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "balance-ledger-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 사용 가능 잔액이 주문에 필요한 금액 이상인지 확인합니다 (예약하지 않음).
+     *
+     * @param userId   사용자 ID
+     * @param side     매수/매도 구분
+     * @param symbol   거래 심볼
+     * @param required 필요한 금액 (매수는 USD, 매도는 수량, 배율 값)
+     * @param groupId  들어갈 OCO 그룹 ID (그룹 예약보다 큰 만큼만 필요, 없으면 null)
+     * @throws InsufficientBalanceException 사용 가능 잔액이 모자란 경우
+     */
+    public void checkAvailable(Long userId, Order.OrderSide side, String symbol, long required, Long groupId) {
+        BalanceSheet sheet = sheet(userId);
+        String asset = assetOf(side, symbol);
+        long increase;
+        long available;
+        synchronized (sheet) {
+            increase = groupId != null ? sheet.reservationIncrease(groupId, NO_ORDER, asset, required, 0L) : required;
+            available = sheet.available(asset);
+        }
+        if (available < increase) {
+            throw insufficient(side, increase, available);
+        }
+    }
+
+    /**
+     * 등록한 주문의 남은 수량만큼 잔고를 예약합니다. 트랜잭션이 롤백되면 예약을 되돌립니다.
+     * 등록 중 바로 체결된 주문(시장가/IOC/FOK)은 체결분을 {@link #filled}로 먼저 반영한 뒤 호출하며,
+     * 체결분을 포함해 사용 가능 잔액이 음수가 되면 거부합니다.
+     *
+     * @throws InsufficientBalanceException 사용 가능 잔액이 모자란 경우
+     */
+    public void reserve(Order order) {
+        BalanceSheet sheet = sheet(order.getUser().getId());
+        long holdKey = holdKey(order);
+        String asset = assetOf(order);
+        long open = openAmount(order);
+        long previousOpen;
+        synchronized (sheet) {
+            long increase = sheet.reservationIncrease(holdKey, order.getId(), asset, open, 0L);
+            long available = sheet.available(asset);
+            if (increase > available) {
+                // 등록 중 체결된 주문은 이미 빠진 체결분을 포함해 알림
+                long filled = order.getLastFillAmount() != null
+                    ? fillAmount(order.getSide(), order.getLastFillAmount(), order.getLastFillPrice()) : 0L;
+                throw insufficient(order.getSide(), increase + filled, available + filled);
+            }
+            previousOpen = Math.max(0L, sheet.open(order.getId()));
+            sheet.update(holdKey, order.getId(), asset, open, 0L);
+        }
+        dirty.add(sheet.getUserId());
+        onRollback(() -> {
+            synchronized (sheet) {
+                sheet.updateOpen(order.getId(), previousOpen);
+            }
+            dirty.add(sheet.getUserId());
+        });
+    }
+
+    /**
+     * 체결된 주문의 마지막 체결분을 미정산 예약으로 옮깁니다.
+     * 미정산 예약은 바로 늘리고(롤백 시 되돌림), 남은 수량의 예약은 커밋 후 줄입니다.
+     */
+    public void filled(List<Order> orders) {
+        for (Order order : orders) {
+            if (order.getLastFillAmount() == null) {
+                continue;
+            }
+            BalanceSheet sheet = sheet(order.getUser().getId());
+            String asset = assetOf(order);
+            long fill = fillAmount(order.getSide(), order.getLastFillAmount(), order.getLastFillPrice());
+            synchronized (sheet) {
+                long open = Math.max(0L, sheet.open(order.getId()));
+                long holdKey = open > 0 ? holdKey(order) : order.getId();
+                sheet.update(holdKey, order.getId(), asset, open, fill);
+            }
+            dirty.add(sheet.getUserId());
+            onRollback(() -> {
+                synchronized (sheet) {
+                    sheet.settle(order.getId(), fill);
+                }
+            });
+            released(order);
+        }
+    }
+
+    /**
+     * 취소/만료/체결된 주문의 남은 수량 예약을 주문 상태에 맞게 줄입니다 (트랜잭션 중이면 커밋 후).
+     */
+    public void released(Order order) {
+        BalanceSheet sheet = sheets.get(order.getUser().getId());
+        if (sheet == null) {
+            return;
+        }
+        long open = openAmount(order);
+        afterCommit(() -> {
+            boolean changed;
+            synchronized (sheet) {
+                changed = sheet.updateOpen(order.getId(), open);
+            }
+            if (changed) {
+                dirty.add(sheet.getUserId());
+            }
+        });
+    }
+
+    /**
+     * 커밋된 정산을 반영합니다. 총액을 정산된 포트폴리오로 바꾸고, 정산된 체결의 미정산 예약을 풉니다.
+     *
+     * @param settled    정산된 체결
+     * @param portfolios 정산이 반영된 사용자별 포트폴리오
+     */
+    public void settled(List<Settlement> settled, List<Portfolio> portfolios) {
+        Map<Long, List<Settlement>> byUser = new HashMap<>();
+        settled.forEach(settlement -> byUser.computeIfAbsent(settlement.getUserId(), id -> new ArrayList<>()).add(settlement));
+        for (Portfolio portfolio : portfolios) {
+            Long userId = portfolio.getUser().getId();
+            BalanceSheet sheet = sheet(userId);
+            synchronized (sheet) {
+                sheet.replaceTotals(totalsOf(portfolio));
+                for (Settlement settlement : byUser.getOrDefault(userId, List.of())) {
+                    sheet.settle(settlement.getOrderId(),
+                        fillAmount(settlement.getSide(), settlement.getAmount(), settlement.getPrice()));
+                }
+            }
+            dirty.add(userId);
+        }
+    }
+
+    /**
+     * 반영하지 못하고 격리된 정산의 미정산 예약을 풉니다.
+     */
+    public void discarded(Settlement settlement) {
+        BalanceSheet sheet = sheets.get(settlement.getUserId());
+        if (sheet == null) {
+            return;
+        }
+        synchronized (sheet) {
+            sheet.settle(settlement.getOrderId(),
+                fillAmount(settlement.getSide(), settlement.getAmount(), settlement.getPrice()));
+        }
+        dirty.add(settlement.getUserId());
+    }
+
+    /**
+     * 자산의 사용 가능 잔액 (배율 값)
+     */
+    public long available(Long userId, String asset) {
+        BalanceSheet sheet = sheet(userId);
+        synchronized (sheet) {
+            return sheet.available(asset);
+        }
+    }
+
+    /**
+     * 변경된 사용자의 사용 가능 잔액(USD)을 포트폴리오에 기록합니다.
+     *
+     * @return 기록한 사용자 수
+     */
+    public int flush() {
+        try {
+            if (dirty.isEmpty()) {
+                return 0;
+            }
+            Map<Long, BigDecimal> balances = new HashMap<>();
+            for (Long userId : List.copyOf(dirty)) {
+                dirty.remove(userId);
+                BalanceSheet sheet = sheets.get(userId);
+                if (sheet == null) {
+                    continue;
+                }
+                synchronized (sheet) {
+                    balances.put(userId, ScaledDecimal.toBigDecimal(Math.max(0L, sheet.available(BalanceSheet.QUOTE))));
+                }
+            }
+            return portfolioBatchRepository.updateAvailableBalances(balances);
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush balance ledger: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        flush();
+    }
+
+    /**
+     * 사용자의 잔고. 기동 후 생성된 포트폴리오는 처음 사용할 때 DB에서 불러옵니다.
+     */
+    private BalanceSheet sheet(Long userId) {
+        BalanceSheet sheet = sheets.get(userId);
+        if (sheet != null) {
+            return sheet;
+        }
+        Portfolio portfolio = portfolioRepository.findByUserIdWithAssets(userId)
+            .orElseThrow(() -> new PortfolioNotFoundException("Portfolio not found for user: " + userId));
+        BalanceSheet loaded = new BalanceSheet(userId);
+        loaded.replaceTotals(totalsOf(portfolio));
+        BalanceSheet existing = sheets.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private static Map<String, Long> totalsOf(Portfolio portfolio) {
+        Map<String, Long> totals = new HashMap<>();
+        totals.put(BalanceSheet.QUOTE, ScaledDecimal.fromBigDecimal(portfolio.getUsdBalance()));
+        for (PortfolioAsset asset : portfolio.getAssets()) {
+            totals.merge(asset.getSymbol().toUpperCase(), ScaledDecimal.fromBigDecimal(asset.getAmount()), Long::sum);
+        }
+        return totals;
+    }
+
+    /**
+     * OCO 주문은 같은 수량을 나눠 쓰므로 그룹 단위로, 나머지는 주문 단위로 예약합니다.
+     * 브래킷 진입 주문은 등록 시점에 그룹 ID가 자기 ID이므로 주문 단위 예약과 같습니다.
+     */
+    private static long holdKey(Order order) {
+        return order.getGroupId() != null && order.getParentOrderId() == null ? order.getGroupId() : order.getId();
+    }
+
+    private static String assetOf(Order order) {
+        return assetOf(order.getSide(), order.getSymbol());
+    }
+
+    private static String assetOf(Order.OrderSide side, String symbol) {
+        return side == Order.OrderSide.BUY ? BalanceSheet.QUOTE : symbol.toUpperCase();
+    }
+
+    /**
+     * 체결되지 않은 수량에 묶을 금액 (매수는 남은 수량 × 주문 가격, 매도는 남은 수량)
+     */
+    private static long openAmount(Order order) {
+        if (!order.isFillable()) {
+            return 0L;
+        }
+        long remaining = order.getRemainingAmount();
+        return order.getSide() == Order.OrderSide.BUY ? ScaledDecimal.multiply(remaining, order.getScaledPrice()) : remaining;
+    }
+
+    /**
+     * 체결 한 건이 정산될 때 빠질 금액 (매수는 체결 대금, 매도는 체결 수량)
+     */
+    private static long fillAmount(Order.OrderSide side, BigDecimal amount, BigDecimal price) {
+        long quantity = ScaledDecimal.fromBigDecimal(amount);
+        return side == Order.OrderSide.BUY
+            ? ScaledDecimal.multiply(quantity, ScaledDecimal.fromBigDecimal(price))
+            : quantity;
+    }
+
+    private static InsufficientBalanceException insufficient(Order.OrderSide side, long required, long available) {
+        return new InsufficientBalanceException(String.format("Insufficient %s balance. Required: %s, Available: %s",
+            side == Order.OrderSide.BUY ? "USD" : "coin",
+            ScaledDecimal.toBigDecimal(required), ScaledDecimal.toBigDecimal(Math.max(0L, available))));
+    }
+
+    private static void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -7,7 +7,6 @@ import org.springframework.stereotype.Component;
 import com.tradinghub.application.dto.UpdatePortfolioCommand;
 import com.tradinghub.domain.model.order.Order.OrderSide;
 import com.tradinghub.domain.model.portfolio.Portfolio;
-import com.tradinghub.domain.model.portfolio.PortfolioRepository;
 import com.tradinghub.domain.service.PortfolioAssetManager;
 import com.tradinghub.domain.service.PortfolioValidator;
 
@@ -22,7 +21,6 @@ public class BuyOrderHandler implements PortfolioOrderHandler {
     
     private final PortfolioValidator portfolioValidator;
     private final PortfolioAssetManager assetManager;
-    private final PortfolioRepository portfolioRepository;
     
     @Override
     public boolean supports(UpdatePortfolioCommand command) {
@@ -39,8 +37,5 @@ public class BuyOrderHandler implements PortfolioOrderHandler {
         
         // 자산 업데이트
         assetManager.updateAssetOnBuy(portfolio, command.symbol(), command.amount(), command.price());
-        
-        // 포트폴리오 저장
-        portfolioRepository.save(portfolio);
     }
-}
\ No newline at end of file
+}
@@ -27,4 +27,4 @@ public interface PortfolioOrderHandler {
      * @param orderAmount 주문 금액
      */
     void processOrder(Portfolio portfolio, UpdatePortfolioCommand command, BigDecimal orderAmount);
-}
\ No newline at end of file
+}
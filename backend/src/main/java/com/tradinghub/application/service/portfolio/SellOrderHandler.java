@@ -7,9 +7,7 @@ import org.springframework.stereotype.Component;
 import com.tradinghub.application.dto.UpdatePortfolioCommand;
 import com.tradinghub.domain.model.order.Order.OrderSide;
 import com.tradinghub.domain.model.portfolio.Portfolio;
-import com.tradinghub.domain.model.portfolio.PortfolioAsset;
 import com.tradinghub.domain.service.PortfolioAssetManager;
-import com.tradinghub.domain.service.PortfolioValidator;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,7 +18,6 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SellOrderHandler implements PortfolioOrderHandler {
     
-    private final PortfolioValidator portfolioValidator;
     private final PortfolioAssetManager assetManager;
 
     @Override
@@ -30,13 +27,10 @@ public class SellOrderHandler implements PortfolioOrderHandler {
     
     @Override
     public void processOrder(Portfolio portfolio, UpdatePortfolioCommand command, BigDecimal orderAmount) {
-        // 매도 주문 검증
-        PortfolioAsset asset = portfolioValidator.validateSellOrder(portfolio, command.symbol(), command.amount());
+        // 자산 차감 (보유 수량이 부족하면 차감되지 않고 예외 발생)
+        assetManager.updateAssetOnSell(portfolio, command.symbol(), command.amount());
         
         // 포트폴리오 잔고 업데이트
         portfolio.processSellOrder(command.symbol(), command.amount(), command.price(), orderAmount);
-        
-        // 자산 업데이트
-        assetManager.updateAssetOnSell(portfolio, asset, command.amount());
     }
-}
\ No newline at end of file
+}
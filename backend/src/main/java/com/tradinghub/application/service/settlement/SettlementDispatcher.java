@@ -0,0 +1,348 @@
+package com.tradinghub.application.service.settlement;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tradinghub.application.port.OrderNotificationPort;
+import com.tradinghub.application.service.portfolio.BalanceLedger;
+import com.tradinghub.domain.model.portfolio.Portfolio;
+import com.tradinghub.domain.model.settlement.Settlement;
+import com.tradinghub.domain.model.settlement.SettlementRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 ID로 파티션을 나눈 정산 처리기
+ *
+ * 정산은 체결 트랜잭션 안에서 아웃박스(settlements)에 기록되며, 파티션마다 전용 스레드 하나가 이를 중계합니다.
+ * 각 스레드는 대기 정산을 ID(체결) 순서로 최대 {@code settlement.batch-size}건 선점(행 잠금)해
+ * 한 트랜잭션으로 반영합니다. 배치 안의 정산은 사용자별로 묶여 포트폴리오 잠금, 자산 조회, 포트폴리오 알림이
+ * 사용자마다 한 번씩만 일어납니다. 커밋된 정산과 격리된 정산은 {@link BalanceLedger}에 알려 미정산 예약을 풉니다.
+ * 한 사용자의 체결은 항상 같은 파티션에서 순서대로 처리되고, 사용자끼리는 파티션 수만큼 병렬로 처리됩니다.
+ * 파티션 수를 바꿔 재기동하면 스레드를 시작하기 전에 남은 정산의 파티션을 다시 계산합니다.
+ * 메모리 큐 없이 DB의 정산 행이 곧 대기열이므로, 처리량이 몰려도 작업이 거부되거나 유실되지 않고
+ * 재기동하면 남은 정산부터 이어서 처리합니다.
+ *
+ * 배치가 실패하면 같은 정산을 한 건씩 반영해 실패한 정산만 골라냅니다. 반영에 실패한 정산은 재시도 시각까지
+ * 파티션을 멈추고(뒤 정산이 앞지르지 않도록) 지수적으로 늦춰 다시 시도하며, 최대 시도 횟수를 넘으면 격리(DEAD)하고 다음 정산으로 넘어갑니다.
+ * 새 정산이 커밋되면 해당 파티션 스레드를 깨우고, 그 밖에는 주기적으로 확인합니다.
+ *
+ * 처리량과 지연(가장 오래된 대기 정산의 대기 시간)은 {@link #stats()}로 조회하며 주기적으로 로그에 남깁니다.
+ */
+@Slf4j
+@Component
+public class SettlementDispatcher {
+    private final SettlementRepository settlementRepository;
+    private final SettlementProcessor settlementProcessor;
+    private final OrderNotificationPort orderNotificationPort;
+    private final BalanceLedger balanceLedger;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long maxRetryBackoffMs;
+    private final long statsIntervalSec;
+
+    private final Partition[] partitions;
+    private final AtomicLong settled = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong lastSettleLagMs = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private volatile boolean running;
+    private ScheduledExecutorService statsReporter;
+    private long lastReportedSettled;
+    private long lastReportedAt = System.nanoTime();
+    private volatile double settledPerSecond;
+
+    public SettlementDispatcher(
+            SettlementRepository settlementRepository,
+            SettlementProcessor settlementProcessor,
+            OrderNotificationPort orderNotificationPort,
+            BalanceLedger balanceLedger,
+            @Value("${settlement.partitions:8}") int partitionCount,
+            @Value("${settlement.batch-size:100}") int batchSize,
+            @Value("${settlement.poll-interval-ms:500}") long pollIntervalMs,
+            @Value("${settlement.max-attempts:5}") int maxAttempts,
+            @Value("${settlement.retry-backoff-ms:1000}") long retryBackoffMs,
+            @Value("${settlement.max-retry-backoff-ms:60000}") long maxRetryBackoffMs,
+            @Value("${settlement.stats-interval-sec:60}") long statsIntervalSec) {
+        this.settlementRepository = settlementRepository;
+        this.settlementProcessor = settlementProcessor;
+        this.orderNotificationPort = orderNotificationPort;
+        this.balanceLedger = balanceLedger;
+        this.batchSize = Math.max(1, batchSize);
+        this.pollIntervalMs = Math.max(1L, pollIntervalMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        this.maxRetryBackoffMs = maxRetryBackoffMs;
+        this.statsIntervalSec = statsIntervalSec;
+        this.partitions = new Partition[Math.max(1, partitionCount)];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition(i);
+        }
+    }
+
+    /**
+     * 애플리케이션이 준비되면 파티션 스레드를 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (running) {
+            return;
+        }
+        int moved = settlementProcessor.repartition(partitions.length);
+        if (moved > 0) {
+            log.info("Pending settlements repartitioned: moved={}, partitions={}", moved, partitions.length);
+        }
+        running = true;
+        for (Partition partition : partitions) {
+            Thread thread = new Thread(partition, "settlement-" + partition.index);
+            thread.setDaemon(true);
+            partition.thread = thread;
+            thread.start();
+        }
+        if (statsIntervalSec > 0) {
+            statsReporter = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "settlement-stats");
+                thread.setDaemon(true);
+                return thread;
+            });
+            statsReporter.scheduleWithFixedDelay(this::reportStats, statsIntervalSec, statsIntervalSec, TimeUnit.SECONDS);
+        }
+        log.info("Settlement dispatcher started: partitions={}, batchSize={}", partitions.length, batchSize);
+    }
+
+    /**
+     * 사용자의 정산을 처리할 파티션
+     */
+    public int partitionOf(Long userId) {
+        return (int) Math.floorMod(userId, (long) partitions.length);
+    }
+
+    /**
+     * 파티션 스레드를 깨웁니다 (트랜잭션 중이면 커밋 후).
+     */
+    public void signal(int partitionNo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            partitions[partitionNo].wake();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                partitions[partitionNo].wake();
+            }
+        });
+    }
+
+    /**
+     * 정산 처리 현황을 반환합니다. 대기 건수와 지연은 DB에서 조회합니다.
+     */
+    public SettlementStats stats() {
+        long lagMs = settlementRepository.findFirstByStatusOrderByIdAsc(Settlement.SettlementStatus.PENDING)
+            .map(oldest -> Math.max(0L, Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toMillis()))
+            .orElse(0L);
+        return new SettlementStats(settled.get(), batches.get(), failed.get(), deadLettered.get(),
+            settlementRepository.countByStatus(Settlement.SettlementStatus.PENDING), lagMs,
+            lastSettleLagMs.get(), settledPerSecond);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (statsReporter != null) {
+            statsReporter.shutdownNow();
+        }
+        for (Partition partition : partitions) {
+            partition.wake();
+        }
+        for (Partition partition : partitions) {
+            Thread thread = partition.thread;
+            if (thread == null) {
+                continue;
+            }
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 선점한 정산을 한 트랜잭션으로 반영합니다.
+     *
+     * @return 반영한 정산, 배치가 실패했거나 반영할 정산이 없으면 빈 목록
+     */
+    private List<Settlement> processBatch(int partitionNo) {
+        try {
+            SettlementProcessor.SettledBatch batch = settlementProcessor.settleBatch(partitionNo, batchSize);
+            List<Settlement> done = batch.settled();
+            if (!done.isEmpty()) {
+                settled.addAndGet(done.size());
+                batches.incrementAndGet();
+                recordLag(done.get(done.size() - 1));
+                balanceLedger.settled(done, batch.portfolios());
+                batch.portfolios().forEach(this::notifyPortfolio);
+            }
+            return done;
+        } catch (Exception e) {
+            log.warn("Settlement batch failed on partition {}, settling one by one: {}", partitionNo, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 정산 한 건을 처리합니다.
+     *
+     * @return 다음 정산으로 넘어가도 되면 true, 재시도를 기다려야 하면 false
+     */
+    private boolean process(Settlement settlement) {
+        try {
+            Portfolio portfolio = settlementProcessor.settle(settlement.getId());
+            if (portfolio != null) {
+                settled.incrementAndGet();
+                batches.incrementAndGet();
+                recordLag(settlement);
+                balanceLedger.settled(List.of(settlement), List.of(portfolio));
+                notifyPortfolio(portfolio);
+            }
+            return true;
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            long backoff = Math.min(maxRetryBackoffMs, retryBackoffMs << Math.min(settlement.getAttempts(), 20));
+            Settlement updated = settlementProcessor.recordFailure(settlement.getId(), e.getMessage(), maxAttempts,
+                LocalDateTime.now().plus(Duration.ofMillis(backoff)));
+            if (updated != null && updated.getStatus() == Settlement.SettlementStatus.DEAD) {
+                deadLettered.incrementAndGet();
+                balanceLedger.discarded(settlement);
+                log.error("Settlement dead-lettered: id={}, orderId={}, attempts={}",
+                    settlement.getId(), settlement.getOrderId(), updated.getAttempts(), e);
+                return true;
+            }
+            log.warn("Settlement failed, retrying in {}ms: id={}, orderId={}, error={}",
+                backoff, settlement.getId(), settlement.getOrderId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void recordLag(Settlement settlement) {
+        lastSettleLagMs.set(Math.max(0L, Duration.between(settlement.getCreatedAt(), LocalDateTime.now()).toMillis()));
+    }
+
+    private void reportStats() {
+        try {
+            long now = System.nanoTime();
+            long total = settled.get();
+            double seconds = (now - lastReportedAt) / 1_000_000_000.0;
+            settledPerSecond = seconds > 0 ? (total - lastReportedSettled) / seconds : 0.0;
+            lastReportedSettled = total;
+            lastReportedAt = now;
+
+            SettlementStats stats = stats();
+            if (stats.backlog() > 0 || stats.deadLettered() > 0) {
+                log.info("Settlement stats: {}", stats);
+            } else {
+                log.debug("Settlement stats: {}", stats);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to report settlement stats: {}", e.getMessage());
+        }
+    }
+
+    private void notifyPortfolio(Portfolio portfolio) {
+        try {
+            orderNotificationPort.notifyPortfolioUpdate(portfolio);
+        } catch (Exception e) {
+            log.warn("Failed to notify portfolio update: portfolioId={}, error={}", portfolio.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 파티션 하나의 처리 루프
+     */
+    private final class Partition implements Runnable {
+        private final int index;
+        private volatile Thread thread;
+
+        Partition(int index) {
+            this.index = index;
+        }
+
+        void wake() {
+            Thread current = thread;
+            if (current != null) {
+                LockSupport.unpark(current);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                long waitMs = pollIntervalMs;
+                try {
+                    waitMs = drain();
+                } catch (Exception e) {
+                    log.error("Settlement partition {} failed to load settlements", index, e);
+                }
+                if (waitMs > 0 && running) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(waitMs));
+                }
+            }
+        }
+
+        /**
+         * 대기 정산을 순서대로 처리합니다. 배치로 반영하지 못하면 한 건씩 처리합니다.
+         *
+         * @return 다음 확인까지 기다릴 시간 (0이면 바로 다시 확인)
+         */
+        private long drain() {
+            List<Settlement> done = processBatch(index);
+            if (done.size() == batchSize) {
+                return 0L;
+            }
+            // 배치가 실패했거나 재시도 중인 정산 앞에서 멈췄을 수 있으므로 한 건씩 이어서 확인
+            return drainOneByOne();
+        }
+
+        private long drainOneByOne() {
+            List<Settlement> batch = settlementRepository.findByPartitionNoAndStatusOrderByIdAsc(
+                index, Settlement.SettlementStatus.PENDING, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return pollIntervalMs;
+            }
+            for (Settlement settlement : batch) {
+                if (!running) {
+                    return 0L;
+                }
+                LocalDateTime nextAttemptAt = settlement.getNextAttemptAt();
+                if (nextAttemptAt != null && nextAttemptAt.isAfter(LocalDateTime.now())) {
+                    // 앞선 정산의 재시도를 기다리는 동안 같은 파티션의 뒤 정산도 멈춤
+                    return Math.max(1L, Math.min(pollIntervalMs,
+                        Duration.between(LocalDateTime.now(), nextAttemptAt).toMillis()));
+                }
+                if (!process(settlement)) {
+                    return 0L;
+                }
+            }
+            return batch.size() < batchSize ? pollIntervalMs : 0L;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.tradinghub.application.service.settlement;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradinghub.application.dto.UpdatePortfolioCommand;
+import com.tradinghub.application.usecase.portfolio.UpdatePortfolioUseCase;
+import com.tradinghub.domain.model.portfolio.Portfolio;
+import com.tradinghub.domain.model.settlement.Settlement;
+import com.tradinghub.domain.model.settlement.SettlementBatchRepository;
+import com.tradinghub.domain.model.settlement.SettlementRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정산을 포트폴리오에 반영하는 트랜잭션 단위
+ *
+ * 포트폴리오 갱신과 정산 완료 표시가 같은 트랜잭션에서 커밋되므로, 같은 체결이 두 번 반영되지 않습니다.
+ * 평소에는 파티션의 대기 정산을 여러 건 선점해 한 트랜잭션으로 반영하고({@link #settleBatch}),
+ * 배치가 실패하거나 재시도 중인 정산은 한 건씩 반영합니다({@link #settle}).
+ * 실패 기록은 반영 트랜잭션이 롤백된 뒤 별도 트랜잭션에서 남깁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SettlementProcessor {
+    private final SettlementRepository settlementRepository;
+    private final SettlementBatchRepository settlementBatchRepository;
+    private final UpdatePortfolioUseCase updatePortfolioUseCase;
+
+    /**
+     * 파티션의 대기 정산을 ID 순서로 최대 limit건 선점해 한 트랜잭션으로 반영하고, 완료 표시는 UPDATE 한 번으로 합니다.
+     * 정산은 사용자별로 묶어 반영하므로 사용자마다 포트폴리오 잠금과 자산 조회가 한 번뿐이며, 사용자 안에서는 체결 순서를 지킵니다.
+     * 재시도를 기다리는 정산을 만나면 그 앞까지만 반영하며, 한 건이라도 실패하면 배치 전체가 롤백됩니다.
+     *
+     * @return 반영한 정산 (ID 순서, 완료 상태)과 갱신된 사용자별 포트폴리오
+     */
+    @Transactional
+    public SettledBatch settleBatch(int partitionNo, int limit) {
+        List<Settlement> claimed = settlementBatchRepository.claimPending(partitionNo, limit);
+        List<Settlement> settled = new ArrayList<>(claimed.size());
+        Map<Long, List<UpdatePortfolioCommand>> commandsByUser = new LinkedHashMap<>();
+        for (Settlement settlement : claimed) {
+            if (settlement.getAttempts() > 0) {
+                break;
+            }
+            commandsByUser.computeIfAbsent(settlement.getUserId(), userId -> new ArrayList<>()).add(toCommand(settlement));
+            settled.add(settlement);
+        }
+        if (settled.isEmpty()) {
+            return new SettledBatch(List.of(), List.of());
+        }
+
+        List<Portfolio> portfolios = new ArrayList<>(commandsByUser.size());
+        commandsByUser.forEach((userId, commands) -> portfolios.add(updatePortfolioUseCase.executeAll(userId, commands)));
+        settlementBatchRepository.markDone(settled.stream().map(Settlement::getId).toList(), LocalDateTime.now());
+        settled.forEach(Settlement::complete);
+        return new SettledBatch(settled, portfolios);
+    }
+
+    /**
+     * 대기 중인 정산을 포트폴리오에 반영하고 완료로 표시합니다.
+     *
+     * @return 갱신된 포트폴리오 (자산 포함), 이미 처리되었거나 없는 정산이면 null
+     */
+    @Transactional
+    public Portfolio settle(Long settlementId) {
+        Settlement settlement = settlementRepository.findById(settlementId).orElse(null);
+        if (settlement == null || settlement.getStatus() != Settlement.SettlementStatus.PENDING) {
+            return null;
+        }
+        Portfolio portfolio = updatePortfolioUseCase.executeAll(settlement.getUserId(), List.of(toCommand(settlement)));
+        settlement.complete();
+        return portfolio;
+    }
+
+    /**
+     * 대기 정산의 파티션을 현재 파티션 수로 다시 계산합니다.
+     *
+     * @return 파티션이 바뀐 정산 수
+     */
+    @Transactional
+    public int repartition(int partitions) {
+        return settlementBatchRepository.repartitionPending(partitions);
+    }
+
+    /**
+     * 실패한 시도를 기록합니다.
+     *
+     * @return 갱신된 정산, 이미 처리되었거나 없는 정산이면 null
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Settlement recordFailure(Long settlementId, String error, int maxAttempts, LocalDateTime nextAttemptAt) {
+        Settlement settlement = settlementRepository.findById(settlementId).orElse(null);
+        if (settlement == null || settlement.getStatus() != Settlement.SettlementStatus.PENDING) {
+            return null;
+        }
+        settlement.fail(error, maxAttempts, nextAttemptAt);
+        return settlement;
+    }
+
+    private UpdatePortfolioCommand toCommand(Settlement settlement) {
+        return new UpdatePortfolioCommand(
+            settlement.getSymbol(),
+            settlement.getAmount(),
+            settlement.getPrice(),
+            settlement.getSide()
+        );
+    }
+
+    /**
+     * 배치로 반영한 정산과, 알림에 그대로 쓸 수 있는 사용자별 포트폴리오
+     */
+    public record SettledBatch(List<Settlement> settled, List<Portfolio> portfolios) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.tradinghub.application.service.settlement;
+
+/**
+ * 정산 처리 현황 스냅샷
+ *
+ * @param settled          반영한 정산 수
+ * @param batches          반영한 배치 수 (한 건씩 반영한 경우 포함)
+ * @param failed           실패한 시도 수
+ * @param deadLettered     격리한 정산 수
+ * @param backlog          대기 중인 정산 수
+ * @param lagMs            가장 오래된 대기 정산이 기다린 시간 (대기 정산이 없으면 0)
+ * @param lastSettleLagMs  마지막으로 반영한 정산의 체결부터 반영까지 걸린 시간
+ * @param settledPerSecond 직전 보고 구간의 초당 반영 건수
+ */
+public record SettlementStats(
+    long settled,
+    long batches,
+    long failed,
+    long deadLettered,
+    long backlog,
+    long lagMs,
+    long lastSettleLagMs,
+    double settledPerSecond
+) {}
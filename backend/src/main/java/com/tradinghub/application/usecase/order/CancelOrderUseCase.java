@@ -4,4 +4,11 @@ import com.tradinghub.domain.model.order.Order;
 
 public interface CancelOrderUseCase {
     Order execute(Long orderId, Long userId);
+
+    /**
+     * 만료 시각이 지난 GTD 주문을 취소합니다. 이미 체결/취소된 주문은 무시합니다.
+     *
+     * @return 취소된 주문, 취소할 주문이 없으면 null
+     */
+    Order expire(Long orderId);
 }
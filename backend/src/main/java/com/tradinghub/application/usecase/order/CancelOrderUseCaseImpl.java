@@ -1,10 +1,13 @@
 package com.tradinghub.application.usecase.order;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tradinghub.application.exception.order.OrderNotFoundException;
 import com.tradinghub.application.port.OrderNotificationPort;
+import com.tradinghub.application.service.order.OrderGroupManager;
 import com.tradinghub.domain.model.order.Order;
 import com.tradinghub.domain.model.order.OrderRepository;
 import com.tradinghub.domain.service.OrderValidator;
@@ -17,6 +20,7 @@ public class CancelOrderUseCaseImpl implements CancelOrderUseCase {
     private final OrderRepository orderRepository;
     private final OrderValidator orderValidator;
     private final OrderNotificationPort orderNotificationPort;
+    private final OrderGroupManager orderGroupManager;
 
     @Override
     @Transactional
@@ -26,11 +30,32 @@ public class CancelOrderUseCaseImpl implements CancelOrderUseCase {
         
         orderValidator.validateOrderCancellation(order, userId);
         
+        return cancel(order);
+    }
+
+    @Override
+    @Transactional
+    public Order expire(Long orderId) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null || !order.isOpen()) {
+            return null;
+        }
+        return cancel(order);
+    }
+
+    private Order cancel(Order order) {
         order.cancel();
         
         Order savedOrder = orderRepository.save(order);
+        orderGroupManager.untrack(savedOrder);
         
         orderNotificationPort.notifyOrderUpdate(savedOrder);
+
+        // OCO/브래킷 주문은 그룹의 나머지 주문도 함께 취소
+        List<Order> siblings = orderGroupManager.cancelGroup(savedOrder);
+        if (!siblings.isEmpty()) {
+            orderNotificationPort.notifyOrderUpdates(siblings);
+        }
         return savedOrder;
     }
 }
@@ -0,0 +1,111 @@
+package com.tradinghub.application.usecase.order;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradinghub.application.dto.PlaceOrderCommand;
+import com.tradinghub.application.exception.order.InvalidOrderException;
+import com.tradinghub.application.port.OrderNotificationPort;
+import com.tradinghub.application.service.market.MarketStateCache;
+import com.tradinghub.application.service.order.ConditionalOrderRegistry;
+import com.tradinghub.application.service.order.OrderExpiryRegistry;
+import com.tradinghub.application.service.portfolio.BalanceLedger;
+import com.tradinghub.common.ScaledDecimal;
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.Order.OrderSide;
+import com.tradinghub.domain.model.order.Order.OrderType;
+import com.tradinghub.domain.model.order.OrderRepository;
+import com.tradinghub.domain.model.order.TriggerBook;
+import com.tradinghub.domain.model.user.User;
+import com.tradinghub.domain.service.OrderValidator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조건부 주문(STOP_MARKET, STOP_LIMIT, TAKE_PROFIT, TRAILING_STOP) 등록
+ *
+ * 주문은 대기 상태로 저장되고 {@link ConditionalOrderRegistry}의 메모리 색인에 올라가며,
+ * 발동은 체결 구간마다 {@link TriggerConditionalOrdersUseCase}가 처리합니다.
+ * 등록 시점 시세에서 이미 발동 조건을 만족하는 주문은 거부합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ConditionalOrderStrategy implements OrderStrategy {
+    private final OrderValidator orderValidator;
+    private final OrderRepository orderRepository;
+    private final OrderNotificationPort orderNotificationPort;
+    private final ConditionalOrderRegistry conditionalOrderRegistry;
+    private final OrderExpiryRegistry orderExpiryRegistry;
+    private final MarketStateCache marketStateCache;
+    private final BalanceLedger balanceLedger;
+
+    @Override
+    public boolean supports(PlaceOrderCommand command) {
+        return command.type() != null && command.type().isConditional();
+    }
+
+    @Override
+    @Transactional
+    public Order execute(PlaceOrderCommand command) {
+        User user = command.user();
+        Optional<BigDecimal> marketPrice = marketStateCache.getLastPrice(command.symbol());
+        TriggerBook.Direction direction = TriggerBook.Direction.of(command.type(), command.side());
+
+        BigDecimal stopPrice;
+        BigDecimal trailingDelta = null;
+        if (command.type() == OrderType.TRAILING_STOP) {
+            orderValidator.validateTrailingDelta(command.symbol(), command.trailingDelta());
+            trailingDelta = command.trailingDelta();
+            BigDecimal reference = marketPrice
+                .orElseThrow(() -> new InvalidOrderException("No market price available for symbol: " + command.symbol()));
+            stopPrice = command.side() == OrderSide.SELL ? reference.subtract(trailingDelta) : reference.add(trailingDelta);
+            if (stopPrice.signum() <= 0) {
+                throw new InvalidOrderException("Trailing delta must be less than the market price");
+            }
+        } else {
+            orderValidator.validateStopPrice(command.symbol(), command.stopPrice());
+            stopPrice = command.stopPrice();
+            if (marketPrice.isPresent() && direction.isTriggeredAt(
+                    ScaledDecimal.fromBigDecimal(marketPrice.get()), ScaledDecimal.fromBigDecimal(stopPrice))) {
+                throw new InvalidOrderException("Order would immediately trigger at market price " + marketPrice.get());
+            }
+        }
+
+        // 손절 지정가는 발동 후 지정가로 체결되므로 지정가를, 나머지는 발동가를 잔고 검증 기준으로 사용
+        BigDecimal price = stopPrice;
+        if (command.type() == OrderType.STOP_LIMIT) {
+            orderValidator.validateLimitPrice(command.symbol(), command.price());
+            price = command.price();
+        }
+        orderValidator.validateOrderCreation(user, command.symbol(), command.side(), price, command.amount(),
+            command.groupId());
+
+        Order order = Order.builder()
+                .user(user)
+                .symbol(command.symbol())
+                .side(command.side())
+                .type(command.type())
+                .price(price)
+                .amount(command.amount())
+                .stopPrice(stopPrice)
+                .trailingDelta(trailingDelta)
+                .timeInForce(command.timeInForce())
+                .expireAt(command.expireAt())
+                .status(Order.OrderStatus.PENDING)
+                .build();
+        if (command.groupId() != null) {
+            order.joinGroup(command.groupId(), null);
+        }
+
+        Order savedOrder = orderRepository.save(order);
+        balanceLedger.reserve(savedOrder);
+        conditionalOrderRegistry.track(savedOrder);
+        orderExpiryRegistry.schedule(savedOrder);
+        orderNotificationPort.notifyNewOrder(savedOrder);
+
+        return savedOrder;
+    }
+}
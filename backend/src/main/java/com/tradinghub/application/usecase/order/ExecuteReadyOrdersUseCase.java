@@ -1,7 +1,7 @@
 package com.tradinghub.application.usecase.order;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.tradinghub.application.dto.market.TradeRange;
 
 public interface ExecuteReadyOrdersUseCase {
-    void execute(String symbol, JsonNode orderData);
+    void execute(TradeRange range);
 }
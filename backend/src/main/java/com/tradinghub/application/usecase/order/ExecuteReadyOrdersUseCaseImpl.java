@@ -1,11 +1,29 @@
 package com.tradinghub.application.usecase.order;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.tradinghub.application.dto.market.TradeRange;
+import com.tradinghub.application.port.OrderEventPublisherPort;
+import com.tradinghub.application.port.OrderNotificationPort;
+import com.tradinghub.application.service.order.OrderBookRegistry;
+import com.tradinghub.application.service.order.OrderExpiryRegistry;
+import com.tradinghub.application.service.order.OrderGroupManager;
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.OrderBatchRepository;
+import com.tradinghub.domain.model.order.OrderBook;
 import com.tradinghub.domain.model.order.OrderRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -16,24 +34,130 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ExecuteReadyOrdersUseCaseImpl implements ExecuteReadyOrdersUseCase {
     private final OrderRepository orderRepository;
-    private final ExecuteOrderUseCase executeOrderUseCase;
+    private final OrderBatchRepository orderBatchRepository;
+    private final OrderBookRegistry orderBookRegistry;
+    private final OrderGroupManager orderGroupManager;
+    private final OrderExpiryRegistry orderExpiryRegistry;
+    private final OrderNotificationPort orderNotificationPort;
+    private final OrderEventPublisherPort orderEventPublisherPort;
 
     @Override
     @Transactional
-    public void execute(String symbol, JsonNode orderData) {
+    public void execute(TradeRange range) {
+        String symbol = range.getSymbol();
         try {
-            BigDecimal price = new BigDecimal(orderData.get("p").asText());
-            
-            var executableOrders = orderRepository.findExecutableOrders(symbol, price);
-        
-            if (!executableOrders.isEmpty()) {
-                executableOrders.forEach(order -> {
-                    executeOrderUseCase.execute(order);
-                });
+            // 메모리 호가창에서 개별 체결량만큼 채운 주문만 꺼내므로, 체결할 주문이 없으면 DB 조회도 없음
+            List<OrderBook.Fill> fills = orderBookRegistry.takeFills(range);
+            if (fills.isEmpty()) {
+                return;
             }
+
+            Map<Long, Order> loaded = orderRepository.findAllById(fills.stream().map(fill -> fill.entry().orderId()).toList())
+                .stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+            // 동시에 취소된 주문과, 같은 OCO 그룹에서 먼저 체결 대상이 된 주문이 있는 주문은 건너뜀
+            List<Order> pending = new ArrayList<>();
+            List<OrderBook.Fill> pendingFills = new ArrayList<>();
+            long[] quantities = new long[fills.size()];
+            Set<Long> claimedGroups = new HashSet<>();
+            for (OrderBook.Fill fill : fills) {
+                Order order = loaded.get(fill.entry().orderId());
+                if (order != null && order.isFillable()
+                        && orderGroupManager.claim(order, claimedGroups)) {
+                    // 호가창의 남은 수량 기록이 빠졌을 수 있으므로 DB의 남은 수량을 넘지 않게 체결
+                    quantities[pending.size()] = Math.min(fill.quantity(), order.getRemainingAmount());
+                    pending.add(order);
+                    pendingFills.add(fill);
+                }
+            }
+
+            // 체결 대상 전체를 배치 UPDATE 한 번으로 반영
+            boolean[] filled = orderBatchRepository.fillAll(pending, quantities, LocalDateTime.now());
+            List<Order> executed = new ArrayList<>();
+            List<OrderBook.Fill> conflicted = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                if (filled[i]) {
+                    Order order = pending.get(i);
+                    executed.add(order);
+                    reconcileBook(order, pendingFills.get(i));
+                    if (!order.isOpen()) {
+                        orderExpiryRegistry.unschedule(order);
+                    }
+                } else {
+                    conflicted.add(pendingFills.get(i));
+                }
+            }
+            if (!conflicted.isEmpty()) {
+                restoreStillPending(symbol, conflicted);
+            }
+
+            // 체결된 그룹 주문의 형제 주문을 같은 트랜잭션에서 취소 (브래킷 진입 주문이면 익절/손절 주문 활성화)
+            // 그룹/호가창/만료 색인은 각 레지스트리가 커밋 후에 반영함
+            List<Order> siblings = orderGroupManager.completeGroups(executed);
+
+            if (!executed.isEmpty()) {
+                orderEventPublisherPort.publishOrdersExecuted(executed);
+                log.info("Limit orders filled: symbol={}, filled={}, conflicts={}", symbol, executed.size(), conflicted.size());
+            }
+
+            // 롤백된 체결이 알려지지 않도록 알림은 커밋 후에 보냄
+            afterCommit(() -> {
+                if (!siblings.isEmpty()) {
+                    orderNotificationPort.notifyOrderUpdates(siblings);
+                }
+                if (!executed.isEmpty()) {
+                    orderNotificationPort.notifyOrderUpdates(executed);
+                }
+            });
         } catch (Exception e) {
-            log.error("Error processing trade event for symbol: {}", symbol, e);
+            // 체결과 형제 주문 취소가 함께 반영되도록 롤백하며, 꺼낸 주문은 호가창으로 되돌아감
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.error("Error processing trade range for symbol: {} (trades={})", symbol, range.getCount(), e);
         }
     }
 
+    /**
+     * 호가창과 DB의 남은 수량이 어긋난 주문을 맞춥니다.
+     * DB 기준으로 다 체결되었는데 호가창에 남았으면 빼고, 덜 체결되었는데 호가창에서 빠졌으면 다시 올립니다.
+     */
+    private void reconcileBook(Order order, OrderBook.Fill fill) {
+        if (order.hasStatus(Order.OrderStatus.FILLED) && !fill.isComplete()) {
+            orderBookRegistry.untrack(order);
+        } else if (order.isFillable() && fill.isComplete()) {
+            orderBookRegistry.track(order);
+        }
+    }
+
+    /**
+     * 버전 충돌로 체결하지 못한 주문 중 여전히 체결 대기 상태인 주문의 수량을 호가창에 되돌립니다.
+     */
+    private void restoreStillPending(String symbol, List<OrderBook.Fill> conflicted) {
+        Map<Long, Order> current = orderRepository.findAllById(conflicted.stream().map(fill -> fill.entry().orderId()).toList())
+            .stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+        List<OrderBook.Fill> stillPending = conflicted.stream()
+            .filter(fill -> {
+                Order order = current.get(fill.entry().orderId());
+                return order != null && order.isFillable();
+            })
+            .toList();
+        if (!stillPending.isEmpty()) {
+            orderBookRegistry.restore(symbol, stillPending);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
 }
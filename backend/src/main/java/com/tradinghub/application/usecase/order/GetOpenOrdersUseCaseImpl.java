@@ -19,6 +19,6 @@ public class GetOpenOrdersUseCaseImpl implements GetOpenOrdersUseCase {
     @Transactional(readOnly = true)
     public List<Order> execute(Long userId) {
         return orderRepository.findByUserIdAndStatusInOrderByCreatedAtDesc(
-            userId, List.of(Order.OrderStatus.PENDING));
+            userId, List.of(Order.OrderStatus.PENDING, Order.OrderStatus.PARTIALLY_FILLED, Order.OrderStatus.INACTIVE));
     }
 }
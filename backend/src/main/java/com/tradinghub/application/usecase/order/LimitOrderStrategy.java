@@ -4,22 +4,40 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tradinghub.application.dto.PlaceOrderCommand;
+import com.tradinghub.application.port.OrderEventPublisherPort;
 import com.tradinghub.application.port.OrderNotificationPort;
+import com.tradinghub.application.service.market.MarketFillSimulator;
+import com.tradinghub.application.service.order.OrderBookRegistry;
+import com.tradinghub.application.service.order.OrderExpiryRegistry;
+import com.tradinghub.application.service.portfolio.BalanceLedger;
 import com.tradinghub.domain.model.order.Order;
 import com.tradinghub.domain.model.order.Order.OrderType;
+import com.tradinghub.domain.model.order.Order.TimeInForce;
 import com.tradinghub.domain.model.order.OrderRepository;
 import com.tradinghub.domain.model.user.User;
 import com.tradinghub.domain.service.OrderValidator;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 지정가 주문 등록
+ *
+ * GTC/GTD 주문은 호가창에 올려 체결을 기다리며, GTD 주문은 만료 색인에도 등록합니다.
+ * IOC/FOK 주문은 호가창에 올리지 않고 수신 중인 상위 호가 중 지정가 이내의 호가에 바로 체결한 뒤,
+ * 남은 수량(FOK는 전량 체결되지 않으면 전부)을 취소합니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class LimitOrderStrategy implements OrderStrategy {
     private final OrderValidator orderValidator;
     private final OrderRepository orderRepository;
     private final OrderNotificationPort orderNotificationPort;
-    
+    private final OrderEventPublisherPort orderEventPublisherPort;
+    private final OrderBookRegistry orderBookRegistry;
+    private final OrderExpiryRegistry orderExpiryRegistry;
+    private final MarketFillSimulator marketFillSimulator;
+    private final BalanceLedger balanceLedger;
+
     @Override
     public boolean supports(PlaceOrderCommand command) {
         return command.type() == OrderType.LIMIT;
@@ -29,8 +47,10 @@ public class LimitOrderStrategy implements OrderStrategy {
     @Transactional
     public Order execute(PlaceOrderCommand command) {
         User user = command.user();
-        orderValidator.validateOrderCreation(user, command.side(), command.price(), command.amount());
-        
+        orderValidator.validateLimitPrice(command.symbol(), command.price());
+        orderValidator.validateOrderCreation(user, command.symbol(), command.side(), command.price(), command.amount(),
+            command.groupId());
+
         Order order = Order.builder()
                 .user(user)
                 .symbol(command.symbol())
@@ -38,12 +58,50 @@ public class LimitOrderStrategy implements OrderStrategy {
                 .type(Order.OrderType.LIMIT)
                 .price(command.price())
                 .amount(command.amount())
+                .timeInForce(command.timeInForce())
+                .expireAt(command.expireAt())
                 .status(Order.OrderStatus.PENDING)
                 .build();
-                
+        if (command.groupId() != null) {
+            order.joinGroup(command.groupId(), null);
+        }
+
+        if (order.getTimeInForce().isImmediate()) {
+            return executeImmediately(order);
+        }
+
         Order savedOrder = orderRepository.save(order);
+        balanceLedger.reserve(savedOrder);
+        orderBookRegistry.track(savedOrder);
+        orderExpiryRegistry.schedule(savedOrder);
         orderNotificationPort.notifyNewOrder(savedOrder);
 
         return savedOrder;
     }
+
+    /**
+     * IOC/FOK 주문을 지정가 이내의 상위 호가에 체결하고 남은 수량을 취소합니다.
+     */
+    private Order executeImmediately(Order order) {
+        long quantity = order.getRemainingAmount();
+        MarketFillSimulator.MarketFill fill = marketFillSimulator
+            .simulate(order.getSymbol(), order.getSide(), quantity, order.getScaledPrice())
+            .filter(f -> order.getTimeInForce() != TimeInForce.FOK || f.quantity() == quantity)
+            .orElse(null);
+        if (fill != null) {
+            order.applyFill(fill.quantity(), fill.averagePrice());
+        }
+        if (order.isFillable()) {
+            order.cancel();
+        }
+        Order savedOrder = orderRepository.save(order);
+
+        // 체결분을 미정산 예약으로 먼저 옮긴 뒤 잔고를 검증하므로, 잔고가 모자라면 체결까지 롤백
+        if (fill != null) {
+            orderEventPublisherPort.publishOrderExecuted(savedOrder);
+        }
+        balanceLedger.reserve(savedOrder);
+        orderNotificationPort.notifyNewOrder(savedOrder);
+        return savedOrder;
+    }
 }
@@ -1,11 +1,17 @@
 package com.tradinghub.application.usecase.order;
 
+import java.math.BigDecimal;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tradinghub.application.dto.PlaceOrderCommand;
+import com.tradinghub.application.exception.order.InvalidOrderException;
 import com.tradinghub.application.port.OrderEventPublisherPort;
 import com.tradinghub.application.port.OrderNotificationPort;
+import com.tradinghub.application.service.market.MarketFillSimulator;
+import com.tradinghub.application.service.portfolio.BalanceLedger;
+import com.tradinghub.common.ScaledDecimal;
 import com.tradinghub.domain.model.order.Order;
 import com.tradinghub.domain.model.order.Order.OrderType;
 import com.tradinghub.domain.model.order.OrderRepository;
@@ -21,6 +27,8 @@ public class MarketOrderStrategy implements OrderStrategy {
     private final OrderRepository orderRepository;
     private final OrderNotificationPort orderNotificationPort;
     private final OrderEventPublisherPort orderEventPublisherPort;
+    private final MarketFillSimulator marketFillSimulator;
+    private final BalanceLedger balanceLedger;
     
     @Override
     public boolean supports(PlaceOrderCommand command) {
@@ -31,24 +39,35 @@ public class MarketOrderStrategy implements OrderStrategy {
     @Transactional
     public Order execute(PlaceOrderCommand command) {
         User user = command.user();
-        orderValidator.validateOrderCreation(user, command.side(), command.price(), command.amount());
+        // 클라이언트가 보낸 가격 대신 수신 중인 상위 호가를 소진하며 체결
+        MarketFillSimulator.MarketFill fill = marketFillSimulator
+            .simulate(command.symbol(), command.side(), ScaledDecimal.fromBigDecimal(command.amount()))
+            .orElseThrow(() -> new InvalidOrderException("No market price available for symbol: " + command.symbol()));
+        BigDecimal executedPrice = ScaledDecimal.toBigDecimal(fill.averagePrice());
+        orderValidator.validateOrderCreation(user, command.symbol(), command.side(), executedPrice, command.amount());
 
         Order order = Order.builder()
         .user(user)
         .symbol(command.symbol())
         .side(command.side())
         .type(Order.OrderType.MARKET)
-        .price(command.price())
+        .price(executedPrice)
         .amount(command.amount())
-        .status(Order.OrderStatus.FILLED)
+        .status(Order.OrderStatus.PENDING)
         .build();
 
-        order.setExecutedPrice(command.price());
+        order.applyFill(fill.quantity(), fill.averagePrice());
+        if (order.isFillable()) {
+            // 상위 호가로 다 채우지 못한 수량은 취소 (체결된 수량은 유지)
+            order.cancel();
+        }
         Order savedOrder = orderRepository.save(order);
-        
-        orderNotificationPort.notifyNewOrder(savedOrder);
-        
+
+        // 체결분을 미정산 예약으로 먼저 옮긴 뒤 잔고를 검증하므로, 잔고가 모자라면 체결까지 롤백
         orderEventPublisherPort.publishOrderExecuted(savedOrder);
+        balanceLedger.reserve(savedOrder);
+
+        orderNotificationPort.notifyNewOrder(savedOrder);
         
         return order;
     }
@@ -0,0 +1,13 @@
+package com.tradinghub.application.usecase.order;
+
+import java.util.List;
+
+import com.tradinghub.application.dto.PlaceOrderGroupCommand;
+import com.tradinghub.domain.model.order.Order;
+
+public interface PlaceOrderGroupUseCase {
+    /**
+     * @return 그룹의 주문 (브래킷은 진입, 익절, 손절 순서)
+     */
+    List<Order> execute(PlaceOrderGroupCommand command);
+}
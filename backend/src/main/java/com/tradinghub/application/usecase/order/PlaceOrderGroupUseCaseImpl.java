@@ -0,0 +1,145 @@
+package com.tradinghub.application.usecase.order;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradinghub.application.dto.PlaceOrderCommand;
+import com.tradinghub.application.dto.PlaceOrderGroupCommand;
+import com.tradinghub.application.exception.order.InvalidOrderException;
+import com.tradinghub.application.port.OrderNotificationPort;
+import com.tradinghub.application.service.order.OrderExpiryRegistry;
+import com.tradinghub.application.service.order.OrderGroupManager;
+import com.tradinghub.application.service.order.OrderGroupRegistry;
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.Order.OrderSide;
+import com.tradinghub.domain.model.order.Order.OrderType;
+import com.tradinghub.domain.model.order.OrderRepository;
+import com.tradinghub.domain.service.OrderValidator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * OCO/브래킷 주문 그룹 등록
+ *
+ * OCO 주문과 브래킷 진입 주문은 {@link PlaceOrderUseCase}의 주문 유형별 전략으로 등록하며 그룹에 넣습니다.
+ * 브래킷 익절/손절 주문은 진입 주문이 체결될 때까지 비활성 상태로 저장하며, 진입 주문이
+ * 시장가로 바로 체결되면 함께 활성화합니다. 모든 주문은 하나의 트랜잭션으로 등록됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlaceOrderGroupUseCaseImpl implements PlaceOrderGroupUseCase {
+    private final PlaceOrderUseCase placeOrderUseCase;
+    private final OrderValidator orderValidator;
+    private final OrderRepository orderRepository;
+    private final OrderNotificationPort orderNotificationPort;
+    private final OrderGroupRegistry orderGroupRegistry;
+    private final OrderGroupManager orderGroupManager;
+    private final OrderExpiryRegistry orderExpiryRegistry;
+
+    @Override
+    @Transactional
+    public List<Order> execute(PlaceOrderGroupCommand command) {
+        return command.type() == PlaceOrderGroupCommand.GroupType.OCO
+            ? placeOco(command)
+            : placeBracket(command);
+    }
+
+    /**
+     * 첫 주문의 ID를 그룹 ID로 삼고, 나머지 주문은 그 그룹에 넣어 등록합니다.
+     * 같은 그룹의 주문은 잔고 예약을 나눠 쓰므로 가장 큰 주문만큼만 잔고가 있으면 됩니다.
+     */
+    private List<Order> placeOco(PlaceOrderGroupCommand command) {
+        Order first = placeOrderUseCase.execute(command.legs().get(0));
+        long groupId = first.getId();
+        first.joinGroup(groupId, null);
+        List<Order> legs = new ArrayList<>(command.legs().size());
+        legs.add(first);
+        command.legs().stream().skip(1).map(leg -> placeOrderUseCase.execute(leg.withGroup(groupId))).forEach(legs::add);
+        orderGroupRegistry.register(new OrderGroupRegistry.Group(groupId, 0L, ids(legs)));
+        return legs;
+    }
+
+    private List<Order> placeBracket(PlaceOrderGroupCommand command) {
+        Order entry = placeOrderUseCase.execute(command.entry());
+        long groupId = entry.getId();
+        entry.joinGroup(groupId, null);
+
+        PlaceOrderCommand takeProfit = command.legs().get(0);
+        PlaceOrderCommand stopLoss = command.legs().get(1);
+        validateExitPrices(entry, takeProfit, stopLoss);
+        List<Order> exits = List.of(createExit(takeProfit, groupId), createExit(stopLoss, groupId));
+        exits.forEach(orderNotificationPort::notifyNewOrder);
+
+        // 시장가 진입 주문은 바로 체결되며, 상위 호가로 다 채우지 못해 나머지가 취소되어도 익절/손절 주문을 활성화
+        if (!entry.isOpen()) {
+            orderGroupManager.releaseLegs(exits);
+            orderGroupRegistry.register(new OrderGroupRegistry.Group(groupId, 0L, ids(exits)));
+        } else {
+            orderGroupRegistry.register(new OrderGroupRegistry.Group(groupId, entry.getId(), ids(exits)));
+        }
+
+        List<Order> orders = new ArrayList<>(3);
+        orders.add(entry);
+        orders.addAll(exits);
+        return orders;
+    }
+
+    /**
+     * 진입 주문 가격을 기준으로 익절은 유리한 쪽, 손절은 불리한 쪽에 있는지 확인합니다.
+     */
+    private void validateExitPrices(Order entry, PlaceOrderCommand takeProfit, PlaceOrderCommand stopLoss) {
+        BigDecimal reference = entry.getExecutedPrice() != null ? entry.getExecutedPrice() : entry.getPrice();
+        BigDecimal takeProfitPrice = takeProfit.type() == OrderType.LIMIT ? takeProfit.price() : takeProfit.stopPrice();
+        int favorable = entry.getSide() == OrderSide.BUY ? 1 : -1;
+        if (takeProfitPrice.compareTo(reference) * favorable <= 0) {
+            throw new InvalidOrderException("Bracket take-profit must be on the profitable side of " + reference);
+        }
+        if (stopLoss.stopPrice().compareTo(reference) * favorable >= 0) {
+            throw new InvalidOrderException("Bracket stop-loss must be on the losing side of " + reference);
+        }
+    }
+
+    /**
+     * 브래킷 익절/손절 주문을 비활성 상태로 저장합니다.
+     * 진입 주문 체결로 받을 자산을 파는 주문이므로 잔고 대신 가격/수량 단위만 검증합니다.
+     */
+    private Order createExit(PlaceOrderCommand command, long groupId) {
+        orderValidator.validateAmount(command.symbol(), command.amount());
+        BigDecimal stopPrice = null;
+        BigDecimal price = command.price();
+        if (command.type() != OrderType.LIMIT) {
+            orderValidator.validateStopPrice(command.symbol(), command.stopPrice());
+            stopPrice = command.stopPrice();
+        }
+        if (command.type() == OrderType.LIMIT || command.type() == OrderType.STOP_LIMIT) {
+            orderValidator.validateLimitPrice(command.symbol(), command.price());
+        } else {
+            price = stopPrice;
+        }
+
+        Order order = Order.builder()
+                .user(command.user())
+                .symbol(command.symbol())
+                .side(command.side())
+                .type(command.type())
+                .price(price)
+                .amount(command.amount())
+                .stopPrice(stopPrice)
+                .timeInForce(command.timeInForce())
+                .expireAt(command.expireAt())
+                .status(Order.OrderStatus.INACTIVE)
+                .build();
+        order.joinGroup(groupId, groupId);
+        Order savedOrder = orderRepository.save(order);
+        orderExpiryRegistry.schedule(savedOrder);
+        return savedOrder;
+    }
+
+    private static List<Long> ids(List<Order> orders) {
+        return orders.stream().map(Order::getId).toList();
+    }
+}
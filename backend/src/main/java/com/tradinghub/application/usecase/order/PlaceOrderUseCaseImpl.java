@@ -6,14 +6,20 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tradinghub.application.dto.PlaceOrderCommand;
+import com.tradinghub.application.port.MarketDataSubscriptionPort;
 import com.tradinghub.domain.model.order.Order;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 주문 유형별 전략으로 주문을 등록합니다.
+ * 체결을 기다리는 주문이 남으면 그 심볼의 시세를 구독해, 기동 후 처음 주문된 심볼도 체결될 수 있게 합니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class PlaceOrderUseCaseImpl implements PlaceOrderUseCase {
     private final List<OrderStrategy> strategies;
+    private final MarketDataSubscriptionPort marketDataSubscriptionPort;
 
     @Override
     @Transactional
@@ -24,6 +30,10 @@ public class PlaceOrderUseCaseImpl implements PlaceOrderUseCase {
             .findFirst()
             .orElseThrow(() -> new IllegalArgumentException("No strategy found for order type: " + command.type()));
 
-        return strategy.execute(command);
-    } 
+        Order order = strategy.execute(command);
+        if (order.isOpen()) {
+            marketDataSubscriptionPort.subscribe(order.getSymbol());
+        }
+        return order;
+    }
 }
@@ -0,0 +1,7 @@
+package com.tradinghub.application.usecase.order;
+
+import com.tradinghub.application.dto.market.TradeRange;
+
+public interface TriggerConditionalOrdersUseCase {
+    void execute(TradeRange range);
+}
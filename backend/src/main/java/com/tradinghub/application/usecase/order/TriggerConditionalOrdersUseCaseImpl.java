@@ -0,0 +1,106 @@
+package com.tradinghub.application.usecase.order;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tradinghub.application.dto.market.TradeRange;
+import com.tradinghub.application.port.OrderEventPublisherPort;
+import com.tradinghub.application.port.OrderNotificationPort;
+import com.tradinghub.application.service.market.MarketFillSimulator;
+import com.tradinghub.application.service.order.ConditionalOrderRegistry;
+import com.tradinghub.application.service.order.OrderBookRegistry;
+import com.tradinghub.application.service.order.OrderExpiryRegistry;
+import com.tradinghub.application.service.order.OrderGroupManager;
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.OrderRepository;
+import com.tradinghub.domain.model.order.TriggerBook;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체결 구간에서 발동한 조건부 주문을 처리합니다.
+ * - STOP_LIMIT: 지정가 주문으로 전환해 호가창에 올림 (다음 구간부터 체결 판단)
+ * - STOP_MARKET, TAKE_PROFIT, TRAILING_STOP: 현재 상위 호가를 소진하며 즉시 체결 (호가가 없으면 구간 종가),
+ *   상위 호가로 다 채우지 못한 수량은 취소
+ * OCO/브래킷 그룹 주문은 발동 즉시 같은 트랜잭션에서 형제 주문을 취소합니다.
+ *
+ * 심볼의 엔진 스레드에서 실행되므로 같은 심볼의 등록/취소와 겹치지 않습니다.
+ * 처리 중 예외가 나면 트랜잭션이 롤백되고 꺼낸 주문은 색인으로 되돌아가며, 구간은 다음 flush에서 다시 시도됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TriggerConditionalOrdersUseCaseImpl implements TriggerConditionalOrdersUseCase {
+    private final OrderRepository orderRepository;
+    private final ConditionalOrderRegistry conditionalOrderRegistry;
+    private final OrderBookRegistry orderBookRegistry;
+    private final OrderGroupManager orderGroupManager;
+    private final OrderExpiryRegistry orderExpiryRegistry;
+    private final MarketFillSimulator marketFillSimulator;
+    private final OrderNotificationPort orderNotificationPort;
+    private final OrderEventPublisherPort orderEventPublisherPort;
+
+    @Override
+    @Transactional
+    public void execute(TradeRange range) {
+        String symbol = range.getSymbol();
+        List<TriggerBook.Entry> triggered = conditionalOrderRegistry.takeTriggered(
+            symbol, range.getLow(), range.getHigh(), range.getLast());
+        if (triggered.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Order> loaded = orderRepository.findAllById(triggered.stream().map(TriggerBook.Entry::orderId).toList())
+            .stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        List<Order> activated = new ArrayList<>();
+        List<Order> executed = new ArrayList<>();
+        Set<Long> claimedGroups = new HashSet<>();
+        for (TriggerBook.Entry entry : triggered) {
+            Order order = loaded.get(entry.orderId());
+            // 동시에 취소된 주문과, 같은 그룹에서 먼저 발동한 주문이 있는 주문은 건너뜀
+            if (order == null || !order.hasStatus(Order.OrderStatus.PENDING)
+                    || !orderGroupManager.claim(order, claimedGroups)) {
+                continue;
+            }
+            if (order.getType() == Order.OrderType.STOP_LIMIT) {
+                order.activate();
+                activated.add(order);
+            } else {
+                MarketFillSimulator.MarketFill fill = marketFillSimulator
+                    .simulate(order.getSymbol(), order.getSide(), order.getRemainingAmount())
+                    .orElseGet(() -> new MarketFillSimulator.MarketFill(order.getRemainingAmount(), range.getLast()));
+                order.applyFill(fill.quantity(), fill.averagePrice());
+                if (order.isFillable()) {
+                    order.cancel();
+                }
+                executed.add(order);
+            }
+        }
+
+        orderRepository.saveAll(activated);
+        orderRepository.saveAll(executed);
+        activated.forEach(orderBookRegistry::track);
+        executed.forEach(orderExpiryRegistry::unschedule);
+
+        List<Order> updated = new ArrayList<>(activated);
+        updated.addAll(executed);
+        updated.addAll(orderGroupManager.completeGroups(new ArrayList<>(updated)));
+        if (!updated.isEmpty()) {
+            orderNotificationPort.notifyOrderUpdates(updated);
+            orderEventPublisherPort.publishOrdersExecuted(executed);
+            log.info("Conditional orders triggered: symbol={}, activated={}, filled={}",
+                symbol, activated.size(), executed.size());
+        }
+    }
+}
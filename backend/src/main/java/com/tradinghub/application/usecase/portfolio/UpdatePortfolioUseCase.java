@@ -1,7 +1,18 @@
 package com.tradinghub.application.usecase.portfolio;
 
+import java.util.List;
+
 import com.tradinghub.application.dto.UpdatePortfolioCommand;
+import com.tradinghub.domain.model.portfolio.Portfolio;
 
 public interface UpdatePortfolioUseCase {
     void execute(Long userId, UpdatePortfolioCommand command);
+
+    /**
+     * 한 사용자의 여러 체결을 순서대로 반영합니다.
+     * 포트폴리오 잠금과 자산 조회는 한 번만 하며, 하나라도 실패하면 예외를 던집니다 (호출한 트랜잭션에서 실행).
+     *
+     * @return 반영된 포트폴리오 (자산 포함)
+     */
+    Portfolio executeAll(Long userId, List<UpdatePortfolioCommand> commands);
 }
@@ -3,12 +3,14 @@ package com.tradinghub.application.usecase.portfolio;
 import java.math.BigDecimal;
 import java.util.List;
 
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 
 import com.tradinghub.application.dto.UpdatePortfolioCommand;
 import com.tradinghub.application.exception.portfolio.PortfolioNotFoundException;
 import com.tradinghub.application.exception.portfolio.PortfolioUpdateException;
 import com.tradinghub.application.service.portfolio.PortfolioOrderHandler;
+import com.tradinghub.common.ScaledDecimal;
 import com.tradinghub.domain.model.portfolio.Portfolio;
 import com.tradinghub.domain.model.portfolio.PortfolioRepository;
 
@@ -22,17 +24,12 @@ public class UpdatePortfolioUseCaseImpl implements UpdatePortfolioUseCase {
 
     @Override
     public void execute(Long userId, UpdatePortfolioCommand command) {
-        Portfolio portfolio = portfolioRepository.findByUserIdForUpdate(userId)
-            .orElseThrow(() -> new PortfolioNotFoundException("Portfolio not found for user: " + userId));
-
-        BigDecimal orderAmount = command.amount().multiply(command.price());
+        Portfolio portfolio = lockPortfolio(userId);
+        BigDecimal orderAmount = orderAmount(command);
 
         try {
             // 적절한 주문 처리 전략 찾기
-            PortfolioOrderHandler handler = orderHandlers.stream()
-                .filter(p -> p.supports(command))
-                .findFirst()
-                .orElseThrow(() -> new PortfolioUpdateException("No suitable order handler found"));
+            PortfolioOrderHandler handler = handlerFor(command);
             
             // 주문 처리 실행
             handler.processOrder(portfolio, command, orderAmount);
@@ -41,4 +38,38 @@ public class UpdatePortfolioUseCaseImpl implements UpdatePortfolioUseCase {
             throw new PortfolioUpdateException("포트폴리오 업데이트 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
-}
+
+    @Override
+    public Portfolio executeAll(Long userId, List<UpdatePortfolioCommand> commands) {
+        Portfolio portfolio = lockPortfolio(userId);
+
+        // 자산은 체결마다 원자적 문장 한 번으로 바꾸므로 미리 불러오지 않음
+        try {
+            for (UpdatePortfolioCommand command : commands) {
+                handlerFor(command).processOrder(portfolio, command, orderAmount(command));
+            }
+        } catch (Exception e) {
+            throw new PortfolioUpdateException("포트폴리오 업데이트 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        // 반영된 자산을 트랜잭션 안에서 불러와 둠 (정산 후 알림과 잔고 원장에서 사용)
+        Hibernate.initialize(portfolio.getAssets());
+        return portfolio;
+    }
+
+    private Portfolio lockPortfolio(Long userId) {
+        return portfolioRepository.findByUserIdForUpdate(userId)
+            .orElseThrow(() -> new PortfolioNotFoundException("Portfolio not found for user: " + userId));
+    }
+
+    private BigDecimal orderAmount(UpdatePortfolioCommand command) {
+        return ScaledDecimal.toBigDecimal(ScaledDecimal.multiply(
+            ScaledDecimal.fromBigDecimal(command.amount()), ScaledDecimal.fromBigDecimal(command.price())));
+    }
+
+    private PortfolioOrderHandler handlerFor(UpdatePortfolioCommand command) {
+        return orderHandlers.stream()
+            .filter(p -> p.supports(command))
+            .findFirst()
+            .orElseThrow(() -> new PortfolioUpdateException("No suitable order handler found"));
+    }
+}
\ No newline at end of file
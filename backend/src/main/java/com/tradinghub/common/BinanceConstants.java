@@ -1,29 +1,26 @@
 package com.tradinghub.common;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 public class BinanceConstants {
-    
-    private static final List<String> SYMBOLS = List.of(
-    "btcusdt", "ethusdt", "xrpusdt", "bnbusdt", "solusdt",
-    "trxusdt", "dogeusdt", "adausdt", "xlmusdt", "linkusdt"
-    );
 
-    private static final List<String> STREAM_TYPES = List.of(
-    "trade", "ticker", "depth20"
-    );
+    /** 결합 스트림 기본 엔드포인트 */
+    public static final String STREAM_BASE_URL = "wss://stream.binance.com:9443/stream";
 
-    private static String buildBinanceStreamUrl(List<String> symbols, List<String> streamTypes) {
-        String streams = symbols.stream()
-            .flatMap(symbol -> streamTypes.stream().map(type -> symbol + "@" + type))
-            .collect(Collectors.joining("/"));
-        return "wss://stream.binance.com:9443/stream?streams=" + streams;
-    }
+    /** 연결 하나에 구독할 수 있는 최대 스트림 수 (Binance 제한) */
+    public static final int MAX_STREAMS_PER_CONNECTION = 1024;
+
+    /** 기본 구독 심볼 (binance.symbols 미설정 시) */
+    public static final String DEFAULT_SYMBOLS =
+        "btcusdt,ethusdt,xrpusdt,bnbusdt,solusdt,trxusdt,dogeusdt,adausdt,xlmusdt,linkusdt";
 
-    private static final String BINANCE_STREAM_URL = buildBinanceStreamUrl(SYMBOLS, STREAM_TYPES);
+    /**
+     * 기본 심볼별 가격/수량 단위 (Binance PRICE_FILTER tickSize, LOT_SIZE stepSize)
+     * 형식: 심볼:tickSize:lotSize (쉼표로 구분, order.symbol-specs로 덮어씀)
+     */
+    public static final String DEFAULT_SYMBOL_SPECS =
+        "BTCUSDT:0.01:0.00001,ETHUSDT:0.01:0.0001,XRPUSDT:0.0001:0.1,BNBUSDT:0.01:0.001,"
+        + "SOLUSDT:0.01:0.001,TRXUSDT:0.0001:0.1,DOGEUSDT:0.00001:1,ADAUSDT:0.0001:0.1,"
+        + "XLMUSDT:0.0001:1,LINKUSDT:0.01:0.01";
 
-    public static String getBinanceStreamUrl() {
-        return BINANCE_STREAM_URL;
+    private BinanceConstants() {
     }
 }
@@ -0,0 +1,166 @@
+package com.tradinghub.common;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 가격/수량을 소수점 8자리 고정소수점 long 값으로 다루는 유틸리티
+ *
+ * Binance 시세의 가격과 수량은 모두 소수점 8자리 이내이므로 10^8 배율의 long으로
+ * 손실 없이 표현됩니다. 시세 경로에서는 이 값만 비교하며, BigDecimal 변환은
+ * REST/JPA 경계에서만 수행합니다.
+ */
+public final class ScaledDecimal {
+
+    /** 소수점 자릿수 */
+    public static final int SCALE = 8;
+
+    /** 1.0에 해당하는 배율 값 */
+    public static final long ONE = 100_000_000L;
+
+    /** 배율 값을 저장하는 DB 컬럼의 전체 자릿수 (long 범위를 모두 담음) */
+    public static final int PRECISION = 20;
+
+    private ScaledDecimal() {
+    }
+
+    /**
+     * 10진 문자열 구간을 배율 값으로 변환합니다. 객체를 할당하지 않습니다.
+     * 소수점 8자리를 넘는 자릿수는 버립니다.
+     *
+     * @param chars  문자 버퍼
+     * @param offset 시작 위치
+     * @param length 길이
+     * @return 배율 값
+     * @throws NumberFormatException 숫자 형식이 아닌 경우
+     * @throws ArithmeticException   long 범위를 넘는 경우
+     */
+    public static long parse(char[] chars, int offset, int length) {
+        if (length <= 0) {
+            throw new NumberFormatException("Empty decimal");
+        }
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (chars[i] == '-' || chars[i] == '+') {
+            negative = chars[i] == '-';
+            i++;
+        }
+
+        long value = 0L;
+        int fractionDigits = -1;
+        boolean digits = false;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if (c >= '0' && c <= '9') {
+                digits = true;
+                if (fractionDigits >= SCALE) {
+                    continue;
+                }
+                value = Math.addExact(Math.multiplyExact(value, 10L), c - '0');
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else {
+                throw new NumberFormatException("Invalid decimal: " + new String(chars, offset, length));
+            }
+        }
+        if (!digits) {
+            throw new NumberFormatException("Invalid decimal: " + new String(chars, offset, length));
+        }
+
+        for (int scale = Math.max(fractionDigits, 0); scale < SCALE; scale++) {
+            value = Math.multiplyExact(value, 10L);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 10진 문자열을 배율 값으로 변환합니다.
+     *
+     * @see #parse(char[], int, int)
+     */
+    public static long parse(String text) {
+        return parse(text.toCharArray(), 0, text.length());
+    }
+
+    /**
+     * 배율 값을 BigDecimal로 변환합니다.
+     */
+    public static BigDecimal toBigDecimal(long scaled) {
+        return BigDecimal.valueOf(scaled, SCALE);
+    }
+
+    /**
+     * BigDecimal을 배율 값으로 손실 없이 변환합니다. REST 입력처럼 반올림하면 안 되는 값에 사용합니다.
+     *
+     * @throws ArithmeticException 소수점 8자리를 넘거나 long 범위를 넘는 경우
+     */
+    public static long fromBigDecimalExact(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 두 배율 값의 곱 (예: 가격 × 수량 = 금액). 소수점 8자리 아래는 반올림(HALF_UP)합니다.
+     * 중간 곱이 long 범위를 넘지 않도록 정수부와 소수부로 나눠 계산하므로 객체를 할당하지 않습니다.
+     *
+     * @throws ArithmeticException 결과가 long 범위를 넘는 경우
+     */
+    public static long multiply(long a, long b) {
+        boolean negative = (a < 0) != (b < 0);
+        long x = Math.absExact(a);
+        long y = Math.absExact(b);
+        long xi = x / ONE;
+        long xf = x % ONE;
+        long yi = y / ONE;
+        long yf = y % ONE;
+
+        // (xi + xf/ONE)(yi + yf/ONE) * ONE = xi*yi*ONE + xi*yf + xf*yi + xf*yf/ONE
+        long fractional = xf * yf; // < ONE^2 이므로 넘치지 않음
+        long result = Math.multiplyExact(Math.multiplyExact(xi, yi), ONE);
+        result = Math.addExact(result, Math.multiplyExact(xi, yf));
+        result = Math.addExact(result, Math.multiplyExact(xf, yi));
+        result = Math.addExact(result, fractional / ONE + (fractional % ONE >= ONE / 2 ? 1 : 0));
+        return negative ? -result : result;
+    }
+
+    /**
+     * 배율 값의 나눗셈 (예: 금액 ÷ 수량 = 평균가). 소수점 8자리 아래는 반올림(HALF_UP)합니다.
+     * 소수부를 한 자리씩 긴 나눗셈으로 구하므로 객체를 할당하지 않습니다.
+     *
+     * @throws ArithmeticException 0으로 나누거나 결과가 long 범위를 넘는 경우
+     */
+    public static long divide(long dividend, long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        boolean negative = (dividend < 0) != (divisor < 0);
+        long x = Math.absExact(dividend);
+        long y = Math.absExact(divisor);
+
+        long result = Math.multiplyExact(x / y, ONE);
+        long remainder = x % y;
+        long unit = ONE;
+        for (int i = 0; i < SCALE; i++) {
+            remainder = Math.multiplyExact(remainder, 10L);
+            unit /= 10;
+            result = Math.addExact(result, (remainder / y) * unit);
+            remainder %= y;
+        }
+        if (remainder >= y - remainder) {
+            result = Math.addExact(result, 1L);
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * BigDecimal을 배율 값으로 변환합니다. 소수점 8자리를 넘는 자릿수는 반올림합니다.
+     *
+     * @throws ArithmeticException long 범위를 넘는 경우
+     */
+    public static long fromBigDecimal(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,100 @@
+package com.tradinghub.common;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 거래 심볼을 정수 ID로 인터닝하는 레지스트리
+ *
+ * 스트림 이름(btcusdt), 주문 심볼(BTCUSDT) 등 대소문자가 다른 표기를 같은 ID로
+ * 정규화합니다. ID는 0부터 순서대로 부여되어 배열 인덱스로 바로 사용할 수 있으며,
+ * ID로의 조회는 잠금 없이 동작합니다.
+ */
+public final class SymbolRegistry {
+
+    private static final String QUOTE_ASSET = "USDT";
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile String[] symbols = new String[0];
+    private static volatile String[] streamSymbols = new String[0];
+    private static volatile String[] tickers = new String[0];
+
+    private SymbolRegistry() {
+    }
+
+    /**
+     * 심볼을 등록하고 ID를 반환합니다. 이미 등록된 심볼이면 기존 ID를 반환합니다.
+     *
+     * @param symbol 거래 심볼 (대소문자 무관, 예: btcusdt, BTCUSDT)
+     * @return 심볼 ID
+     */
+    public static int intern(String symbol) {
+        Integer id = IDS.get(symbol);
+        if (id != null) {
+            return id;
+        }
+        return register(symbol);
+    }
+
+    /**
+     * 등록된 심볼의 ID를 조회합니다.
+     *
+     * @return 심볼 ID, 등록되지 않았으면 -1
+     */
+    public static int find(String symbol) {
+        Integer id = IDS.get(symbol);
+        if (id == null) {
+            id = IDS.get(symbol.toUpperCase(Locale.ROOT));
+        }
+        return id != null ? id : -1;
+    }
+
+    /** 대문자 거래 심볼 (예: BTCUSDT) */
+    public static String symbol(int id) {
+        return symbols[id];
+    }
+
+    /** 소문자 스트림 심볼 (예: btcusdt) */
+    public static String streamSymbol(int id) {
+        return streamSymbols[id];
+    }
+
+    /** 소문자 티커 (예: btc) */
+    public static String ticker(int id) {
+        return tickers[id];
+    }
+
+    /** 등록된 심볼 수 (유효한 ID는 0 ~ size-1) */
+    public static int size() {
+        return symbols.length;
+    }
+
+    private static synchronized int register(String symbol) {
+        String canonical = symbol.toUpperCase(Locale.ROOT);
+        Integer existing = IDS.get(canonical);
+        if (existing == null) {
+            int id = symbols.length;
+            String lower = canonical.toLowerCase(Locale.ROOT);
+            String ticker = lower.endsWith("usdt")
+                ? lower.substring(0, lower.length() - QUOTE_ASSET.length())
+                : lower;
+
+            String[] nextSymbols = Arrays.copyOf(symbols, id + 1);
+            String[] nextStreamSymbols = Arrays.copyOf(streamSymbols, id + 1);
+            String[] nextTickers = Arrays.copyOf(tickers, id + 1);
+            nextSymbols[id] = canonical;
+            nextStreamSymbols[id] = lower;
+            nextTickers[id] = ticker;
+            tickers = nextTickers;
+            streamSymbols = nextStreamSymbols;
+            symbols = nextSymbols;
+
+            IDS.put(canonical, id);
+            existing = id;
+        }
+        IDS.put(symbol, existing);
+        return existing;
+    }
+}
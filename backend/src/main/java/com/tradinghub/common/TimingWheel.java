@@ -0,0 +1,323 @@
+package com.tradinghub.common;
+
+import java.util.Arrays;
+
+/**
+ * 계층형 타이밍 휠 (hierarchical timing wheel)
+ *
+ * ID마다 만료 시각을 등록하고, 시간이 흐르면 만료된 ID를 꺼냅니다. 휠은 단계(level)마다
+ * 2^wheelBits개의 칸을 가지며, 0단계 한 칸은 tick 하나, 다음 단계 한 칸은 아래 단계 한 바퀴입니다.
+ * 먼 만료는 위 단계 칸에 있다가 그 칸의 시간이 되면 아래 단계로 내려오므로(cascade),
+ * 등록/해제는 O(1)이고 tick마다 보는 칸은 하나입니다.
+ *
+ * 항목은 객체가 아니라 원시 배열의 슬롯이며, 칸마다 이중 연결 리스트로 잇습니다. ID → 슬롯 색인도
+ * 개방 주소 해시 배열이므로 등록/해제에 객체 할당이 없고, 배열은 가득 차면 두 배로 늘립니다.
+ * 만료는 tick 단위로 올림하므로 만료 시각보다 일찍 꺼내지지 않습니다.
+ *
+ * 스레드 안전하지 않으며, 호출자가 동기화를 책임집니다.
+ */
+public final class TimingWheel {
+    private static final int NIL = -1;
+    /** 해시 색인의 빈 칸 (ID는 0이 아니어야 함) */
+    private static final long EMPTY_KEY = 0L;
+
+    private final long tickMillis;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final int levels;
+    /** 맨 위 단계까지 담을 수 있는 최대 tick 간격 */
+    private final long maxSpan;
+
+    /** 단계 × 칸별 첫 항목 슬롯 */
+    private final int[] heads;
+
+    private long[] ids;
+    private int[] tags;
+    private long[] deadlines;
+    private int[] next;
+    private int[] prev;
+    /** 항목이 들어 있는 칸 (heads 인덱스) */
+    private int[] buckets;
+    private int freeHead = NIL;
+    private int used;
+    private int size;
+
+    private long[] indexKeys;
+    private int[] indexSlots;
+
+    /** 마지막으로 처리한 tick */
+    private long currentTick;
+
+    /**
+     * 만료된 항목을 받는 콜백
+     */
+    @FunctionalInterface
+    public interface ExpiryListener {
+        /**
+         * @param id  등록한 ID
+         * @param tag 등록할 때 함께 넘긴 값
+         */
+        void expired(long id, int tag);
+    }
+
+    /**
+     * @param tickMillis      0단계 한 칸의 길이 (밀리초)
+     * @param wheelBits       단계별 칸 수의 log2 (예: 9 → 512칸)
+     * @param levels          단계 수
+     * @param startMillis     시작 시각 (epoch millis)
+     * @param initialCapacity 처음 확보할 항목 수
+     */
+    public TimingWheel(long tickMillis, int wheelBits, int levels, long startMillis, int initialCapacity) {
+        if (tickMillis <= 0 || wheelBits <= 0 || levels <= 0 || (long) wheelBits * levels >= 62) {
+            throw new IllegalArgumentException("Invalid timing wheel shape");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelBits = wheelBits;
+        this.wheelMask = (1 << wheelBits) - 1;
+        this.levels = levels;
+        this.maxSpan = 1L << (wheelBits * levels);
+        this.heads = new int[levels << wheelBits];
+        Arrays.fill(heads, NIL);
+        this.currentTick = startMillis / tickMillis;
+
+        int capacity = Math.max(16, initialCapacity);
+        this.ids = new long[capacity];
+        this.tags = new int[capacity];
+        this.deadlines = new long[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.buckets = new int[capacity];
+        int indexCapacity = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        this.indexKeys = new long[indexCapacity];
+        this.indexSlots = new int[indexCapacity];
+    }
+
+    /**
+     * ID의 만료 시각을 등록합니다. 이미 등록된 ID면 새 시각으로 옮깁니다.
+     * 이미 지난 시각이면 다음 {@link #advance}에서 만료됩니다.
+     *
+     * @param id             0이 아닌 ID
+     * @param tag            만료 시 함께 돌려받을 값
+     * @param deadlineMillis 만료 시각 (epoch millis)
+     */
+    public void schedule(long id, int tag, long deadlineMillis) {
+        if (id == EMPTY_KEY) {
+            throw new IllegalArgumentException("Id must not be 0");
+        }
+        cancel(id);
+        int slot = allocate();
+        ids[slot] = id;
+        tags[slot] = tag;
+        deadlines[slot] = -Math.floorDiv(-deadlineMillis, tickMillis);
+        place(slot, currentTick + 1);
+        indexPut(id, slot);
+        size++;
+    }
+
+    /**
+     * 등록을 해제합니다.
+     *
+     * @return 등록되어 있었으면 true
+     */
+    public boolean cancel(long id) {
+        int slot = indexRemove(id);
+        if (slot == NIL) {
+            return false;
+        }
+        unlink(slot);
+        release(slot);
+        size--;
+        return true;
+    }
+
+    public boolean contains(long id) {
+        return indexGet(id) != NIL;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 주어진 시각까지 tick을 진행하며 만료된 항목을 꺼냅니다. 꺼낸 항목은 등록이 해제된 뒤 전달되므로
+     * 콜백 안에서 다시 {@link #schedule}해도 됩니다.
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @param listener  만료된 항목을 받을 콜백
+     * @return 만료된 항목 수
+     */
+    public int advance(long nowMillis, ExpiryListener listener) {
+        long target = nowMillis / tickMillis;
+        int expired = 0;
+        while (currentTick < target) {
+            currentTick++;
+            cascade();
+            // 콜백이 같은 칸의 다른 항목을 해제할 수 있으므로 맨 앞에서 하나씩 꺼냄
+            int bucket = (int) (currentTick & wheelMask);
+            int slot;
+            while ((slot = heads[bucket]) != NIL) {
+                unlink(slot);
+                long id = ids[slot];
+                int tag = tags[slot];
+                indexRemove(id);
+                release(slot);
+                size--;
+                expired++;
+                listener.expired(id, tag);
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * 위 단계 칸의 경계를 지났으면 그 칸의 항목을 아래 단계로 다시 배치합니다.
+     */
+    private void cascade() {
+        for (int level = levels - 1; level >= 1; level--) {
+            int shift = wheelBits * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            int bucket = (level << wheelBits) | (int) ((currentTick >>> shift) & wheelMask);
+            int slot = heads[bucket];
+            heads[bucket] = NIL;
+            while (slot != NIL) {
+                int following = next[slot];
+                place(slot, currentTick);
+                slot = following;
+            }
+        }
+    }
+
+    /**
+     * 만료 tick에 맞는 단계와 칸에 항목을 넣습니다.
+     *
+     * @param earliest 넣을 수 있는 가장 이른 tick (새 등록은 다음 tick, 내려오는 항목은 현재 tick)
+     */
+    private void place(int slot, long earliest) {
+        long deadline = Math.max(deadlines[slot], earliest);
+        long delta = deadline - currentTick;
+        if (delta >= maxSpan) {
+            // 맨 위 단계 범위를 넘으면 가장 먼 칸에 두고, 내려올 때 다시 배치
+            deadline = currentTick + maxSpan - 1;
+            delta = maxSpan - 1;
+        }
+        int level = 0;
+        while (level < levels - 1 && delta >= (1L << (wheelBits * (level + 1)))) {
+            level++;
+        }
+        int bucket = (level << wheelBits) | (int) ((deadline >>> (wheelBits * level)) & wheelMask);
+        int head = heads[bucket];
+        next[slot] = head;
+        prev[slot] = NIL;
+        if (head != NIL) {
+            prev[head] = slot;
+        }
+        heads[bucket] = slot;
+        buckets[slot] = bucket;
+    }
+
+    private void unlink(int slot) {
+        if (prev[slot] == NIL) {
+            heads[buckets[slot]] = next[slot];
+        } else {
+            next[prev[slot]] = next[slot];
+        }
+        if (next[slot] != NIL) {
+            prev[next[slot]] = prev[slot];
+        }
+    }
+
+    private int allocate() {
+        if (freeHead != NIL) {
+            int slot = freeHead;
+            freeHead = next[slot];
+            return slot;
+        }
+        if (used == ids.length) {
+            grow();
+        }
+        return used++;
+    }
+
+    private void release(int slot) {
+        next[slot] = freeHead;
+        freeHead = slot;
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        tags = Arrays.copyOf(tags, capacity);
+        deadlines = Arrays.copyOf(deadlines, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        buckets = Arrays.copyOf(buckets, capacity);
+
+        // 색인은 부하율 1/2 이하를 유지하도록 다시 만듦
+        long[] oldKeys = indexKeys;
+        int[] oldSlots = indexSlots;
+        indexKeys = new long[oldKeys.length * 2];
+        indexSlots = new int[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                indexPut(oldKeys[i], oldSlots[i]);
+            }
+        }
+    }
+
+    private int indexOf(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & (indexKeys.length - 1);
+    }
+
+    private int indexGet(long id) {
+        int mask = indexKeys.length - 1;
+        for (int i = indexOf(id); indexKeys[i] != EMPTY_KEY; i = (i + 1) & mask) {
+            if (indexKeys[i] == id) {
+                return indexSlots[i];
+            }
+        }
+        return NIL;
+    }
+
+    private void indexPut(long id, int slot) {
+        int mask = indexKeys.length - 1;
+        int i = indexOf(id);
+        while (indexKeys[i] != EMPTY_KEY && indexKeys[i] != id) {
+            i = (i + 1) & mask;
+        }
+        indexKeys[i] = id;
+        indexSlots[i] = slot;
+    }
+
+    /**
+     * 색인에서 ID를 지우고 뒤따르는 항목을 당겨 탐색 사슬을 유지합니다 (backward shift deletion).
+     *
+     * @return 지운 항목의 슬롯, 없으면 NIL
+     */
+    private int indexRemove(long id) {
+        int mask = indexKeys.length - 1;
+        int i = indexOf(id);
+        while (indexKeys[i] != id) {
+            if (indexKeys[i] == EMPTY_KEY) {
+                return NIL;
+            }
+            i = (i + 1) & mask;
+        }
+        int slot = indexSlots[i];
+        int gap = i;
+        for (int j = (gap + 1) & mask; indexKeys[j] != EMPTY_KEY; j = (j + 1) & mask) {
+            int home = indexOf(indexKeys[j]);
+            // home이 (gap, j] 순환 구간 밖이면 gap으로 옮겨도 탐색 사슬이 끊기지 않음
+            boolean between = gap <= j ? (gap < home && home <= j) : (gap < home || home <= j);
+            if (!between) {
+                indexKeys[gap] = indexKeys[j];
+                indexSlots[gap] = indexSlots[j];
+                gap = j;
+            }
+        }
+        indexKeys[gap] = EMPTY_KEY;
+        return slot;
+    }
+}
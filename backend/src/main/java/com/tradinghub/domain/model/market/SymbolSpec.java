@@ -0,0 +1,43 @@
+package com.tradinghub.domain.model.market;
+
+import com.tradinghub.common.ScaledDecimal;
+
+/**
+ * 심볼별 가격 단위(tick)와 수량 단위(lot)
+ *
+ * 가격과 수량은 {@link ScaledDecimal} 배율 long 값이며, 주문 가격은 tick의 배수,
+ * 주문 수량은 lot의 배수여야 합니다. 체결/잔고 계산은 모두 이 배율 값으로 수행하고
+ * BigDecimal 변환은 REST/JPA 경계에서만 합니다.
+ *
+ * @param symbol   거래 심볼 (대문자, 예: BTCUSDT)
+ * @param tickSize 가격 단위 (배율 값)
+ * @param lotSize  수량 단위 (배율 값)
+ */
+public record SymbolSpec(String symbol, long tickSize, long lotSize) {
+
+    /** 단위 제한 없이 소수점 8자리까지 허용하는 기본 규칙 */
+    public static SymbolSpec unrestricted(String symbol) {
+        return new SymbolSpec(symbol, 1L, 1L);
+    }
+
+    public SymbolSpec {
+        if (tickSize <= 0 || lotSize <= 0) {
+            throw new IllegalArgumentException("Tick and lot sizes must be positive: " + symbol);
+        }
+    }
+
+    /** 가격이 0보다 크고 tick의 배수인지 여부 */
+    public boolean isValidPrice(long price) {
+        return price > 0 && price % tickSize == 0;
+    }
+
+    /** 수량이 0보다 크고 lot의 배수인지 여부 */
+    public boolean isValidQuantity(long quantity) {
+        return quantity > 0 && quantity % lotSize == 0;
+    }
+
+    /** 주문 금액 (가격 × 수량, 배율 값) */
+    public long notional(long price, long quantity) {
+        return ScaledDecimal.multiply(price, quantity);
+    }
+}
@@ -3,6 +3,7 @@ package com.tradinghub.domain.model.order;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import com.tradinghub.common.ScaledDecimal;
 import com.tradinghub.domain.model.user.User;
 
 import jakarta.persistence.*;
@@ -15,18 +16,38 @@ import lombok.NoArgsConstructor;
 /**
  * 거래 주문을 나타내는 엔티티 클래스
  * 
- * 시장가 주문과 지정가 주문을 모두 지원하며, 주문의 생성부터 체결/취소까지의 
- * 전체 생명주기를 관리합니다.
+ * 시장가/지정가 주문과 조건부 주문(손절/익절/추적 손절)을 지원하며, 주문의 생성부터
+ * 체결/취소까지의 전체 생명주기를 관리합니다. 조건부 주문은 발동 전까지 대기 상태이며,
+ * 손절 지정가 주문은 발동하면 지정가 주문으로 전환됩니다.
+ *
+ * 주문은 여러 번에 나눠 체결될 수 있으며({@link #applyFill}), 누적 체결 수량과 수량 가중 평균 체결가(VWAP)를
+ * 함께 관리합니다. 일부만 체결된 주문은 {@link OrderStatus#PARTIALLY_FILLED} 상태로 나머지 체결을 기다립니다.
+ *
+ * OCO/브래킷 주문 그룹에 속한 주문은 {@code groupId}를 공유합니다. 브래킷의 익절/손절 주문은
+ * 진입 주문({@code parentOrderId})이 체결될 때까지 {@link OrderStatus#INACTIVE} 상태로 기다립니다.
  * 
+ * 주문 유효 기간({@link TimeInForce})은 기본이 GTC이며, GTD 주문은 {@code expireAt}이 지나면 취소됩니다.
+ * IOC/FOK 지정가 주문은 등록할 때 바로 체결을 시도하고 남은 수량을 취소하므로 호가창에 올라가지 않습니다.
+ *
  * 낙관적 락({@code @Version})을 사용하여 동시성을 제어하며,
  * 상태 변경은 항상 검증 로직을 통해 이루어집니다.
  *
- * @see OrderType 주문 유형 (시장가/지정가)
+ * 체결 가능 주문 조회는 {@code (status, symbol, type, side, price, created_at)} 복합 인덱스의
+ * 범위 스캔으로 처리되므로, 체결/취소된 주문 이력이 쌓여도 조회 비용은 대기 주문 수에만 비례합니다.
+ * {@code (status, type, created_at)} 인덱스는 기동 시 호가창 재구성/보정과 대기 심볼 조회에 사용됩니다.
+ *
+ * @see OrderType 주문 유형 (시장가/지정가/조건부)
  * @see OrderSide 주문 방향 (매수/매도)
  * @see OrderStatus 주문 상태 (대기/체결/취소/실패)
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    // status IN 목록을 첫 컬럼에 두어야 H2처럼 IN 목록을 첫 인덱스 컬럼에만 쓰는 DB에서도 상태마다 범위 스캔됨
+    @Index(name = "idx_orders_open_scan", columnList = "status, symbol, type, side, price, created_at"),
+    @Index(name = "idx_orders_status_type", columnList = "status, type, created_at"),
+    @Index(name = "idx_orders_status_group", columnList = "status, group_id"),
+    @Index(name = "idx_orders_tif_status", columnList = "time_in_force, status")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
@@ -55,18 +76,71 @@ public class Order {
     private String symbol;
     
     /** 주문 수량 */
-    @Column(nullable = false)
+    @Column(nullable = false, precision = ScaledDecimal.PRECISION, scale = ScaledDecimal.SCALE)
     private BigDecimal amount;
     
     /** 주문 희망가 */
-    @Column(nullable = false)
+    @Column(nullable = false, precision = ScaledDecimal.PRECISION, scale = ScaledDecimal.SCALE)
     private BigDecimal price;
 
-    /** 실제 체결 가격 (시장가 주문 또는 체결된 지정가 주문) */
-    @Column(name = "executed_price")
+    /** 실제 체결 가격 (여러 번에 나눠 체결되면 수량 가중 평균가) */
+    @Column(name = "executed_price", precision = ScaledDecimal.PRECISION, scale = ScaledDecimal.SCALE)
     private BigDecimal executedPrice;
+
+    /** 누적 체결 수량 (체결 전 주문은 0, 이 컬럼이 없던 시기의 주문은 null) */
+    @Column(name = "filled_amount", precision = ScaledDecimal.PRECISION, scale = ScaledDecimal.SCALE)
+    private BigDecimal filledAmount;
+
+    /**
+     * 조건부 주문의 발동가
+     * 추적 손절 주문은 등록 시점 시세에서 계산한 최초 발동가이며, 이후의 기준가 변화는
+     * 발동 전까지 메모리에서만 관리합니다.
+     */
+    @Column(name = "stop_price", precision = ScaledDecimal.PRECISION, scale = ScaledDecimal.SCALE)
+    private BigDecimal stopPrice;
+
+    /** 추적 손절 주문의 기준가와 발동가 사이 간격 */
+    @Column(name = "trailing_delta", precision = ScaledDecimal.PRECISION, scale = ScaledDecimal.SCALE)
+    private BigDecimal trailingDelta;
+
+    /** 주문 그룹(OCO/브래킷) ID. 그룹의 첫 주문 ID이며, 그룹에 속하지 않으면 null */
+    @Column(name = "group_id")
+    private Long groupId;
+
+    /** 브래킷 익절/손절 주문의 진입 주문 ID */
+    @Column(name = "parent_order_id")
+    private Long parentOrderId;
+
+    /** 주문 유효 기간 (이 컬럼이 없던 시기의 주문은 null이며 GTC로 봄) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "time_in_force")
+    private TimeInForce timeInForce;
+
+    /** GTD 주문의 만료 시각 */
+    @Column(name = "expire_at")
+    private LocalDateTime expireAt;
+
+    /** 주문 희망가의 배율 값 (체결 판단용, 생성/로드 시 계산) */
+    @Transient
+    private long scaledPrice;
+
+    /** 주문 수량의 배율 값 (생성/로드 시 계산) */
+    @Transient
+    private long scaledAmount;
+
+    /** 누적 체결 수량의 배율 값 (생성/로드 시 계산) */
+    @Transient
+    private long scaledFilledAmount;
+
+    /** 마지막 {@link #applyFill} 한 번의 체결 수량 (정산 이벤트용, 저장하지 않음) */
+    @Transient
+    private BigDecimal lastFillAmount;
+
+    /** 마지막 {@link #applyFill} 한 번의 체결 가격 (정산 이벤트용, 저장하지 않음) */
+    @Transient
+    private BigDecimal lastFillPrice;
     
-    /** 주문 유형 (MARKET/LIMIT) */
+    /** 주문 유형 (MARKET/LIMIT/STOP_MARKET/STOP_LIMIT/TAKE_PROFIT/TRAILING_STOP) */
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private OrderType type;
@@ -101,25 +175,52 @@ public class Order {
      * @param side 매수/매도 구분
      * @param price 주문 가격
      * @param amount 주문 수량
+     * @param stopPrice 조건부 주문의 발동가
+     * @param trailingDelta 추적 손절 간격
+     * @param timeInForce 주문 유효 기간 (기본값: GTC)
+     * @param expireAt GTD 주문의 만료 시각
      * @param status 초기 상태 (기본값: PENDING)
      */
     @Builder
     private Order(User user, String symbol, OrderType type, OrderSide side,
-                 BigDecimal price, BigDecimal amount, OrderStatus status) {
+                 BigDecimal price, BigDecimal amount, BigDecimal stopPrice, BigDecimal trailingDelta,
+                 TimeInForce timeInForce, LocalDateTime expireAt, OrderStatus status) {
         this.user = user;
         this.symbol = symbol;
         this.type = type;
         this.side = side;
         this.price = price;
         this.amount = amount;
+        this.stopPrice = stopPrice;
+        this.trailingDelta = trailingDelta;
+        this.timeInForce = timeInForce != null ? timeInForce : TimeInForce.GTC;
+        this.expireAt = expireAt;
         this.status = status != null ? status : OrderStatus.PENDING;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        computeScaledValues();
+    }
+
+    /**
+     * BigDecimal 컬럼 값을 배율 값으로 한 번만 변환해 둡니다.
+     */
+    @PostLoad
+    private void computeScaledValues() {
+        this.scaledPrice = price != null ? ScaledDecimal.fromBigDecimal(price) : 0L;
+        this.scaledAmount = amount != null ? ScaledDecimal.fromBigDecimal(amount) : 0L;
+        if (filledAmount == null) {
+            // 누적 체결 수량이 없던 시기의 체결 주문은 전량 체결로 봄
+            filledAmount = status == OrderStatus.FILLED ? amount : BigDecimal.ZERO;
+        }
+        this.scaledFilledAmount = ScaledDecimal.fromBigDecimal(filledAmount);
+        if (timeInForce == null) {
+            timeInForce = TimeInForce.GTC;
+        }
     }
 
     /**
      * 주문을 취소 상태로 변경
-     * 대기 상태의 주문만 취소 가능
+     * 열린 주문(대기/일부 체결/비활성)만 취소 가능하며, 일부 체결된 주문은 체결된 수량을 유지한 채 나머지가 취소됩니다.
      * 
      * @throws IllegalStateException 이미 체결되었거나 취소된 주문을 취소하려 할 때
      */
@@ -130,22 +231,115 @@ public class Order {
     }
 
     /**
-     * 주문을 체결 상태로 변경
+     * 남은 수량 전부를 주문 가격으로 체결
      * 취소되거나 이미 체결된 주문은 체결할 수 없음
      * 
      * @throws IllegalStateException 취소되었거나 이미 체결된 주문을 체결하려 할 때
      */
     public void fill() {
         validateCanFill();
-        this.status = OrderStatus.FILLED;
+        applyFill(getRemainingAmount(), scaledPrice);
+    }
+
+    /**
+     * 주문의 일부 또는 나머지 전부를 체결합니다.
+     * 누적 체결 수량과 수량 가중 평균 체결가를 갱신하고, 남은 수량이 없으면 체결, 있으면 일부 체결 상태가 됩니다.
+     * 이번 체결분은 {@link #getLastFillAmount()}/{@link #getLastFillPrice()}로 정산에 전달됩니다.
+     *
+     * @param quantity 체결 수량 (배율 값, 0 < quantity <= 남은 수량)
+     * @param price    체결 가격 (배율 값)
+     * @throws IllegalStateException 대기/일부 체결 상태가 아니거나 체결 수량이 남은 수량을 넘을 때
+     */
+    public void applyFill(long quantity, long price) {
+        validateCanFill();
+        if (!isFillable()) {
+            throw new IllegalStateException("Can only fill pending orders");
+        }
+        if (quantity <= 0 || quantity > getRemainingAmount()) {
+            throw new IllegalStateException("Fill quantity must be positive and within the remaining amount");
+        }
+        long filled = scaledFilledAmount + quantity;
+        long averagePrice = price;
+        if (scaledFilledAmount > 0 && executedPrice != null) {
+            long notional = Math.addExact(
+                ScaledDecimal.multiply(ScaledDecimal.fromBigDecimal(executedPrice), scaledFilledAmount),
+                ScaledDecimal.multiply(price, quantity));
+            averagePrice = ScaledDecimal.divide(notional, filled);
+        }
+        this.scaledFilledAmount = filled;
+        this.filledAmount = ScaledDecimal.toBigDecimal(filled);
+        this.executedPrice = ScaledDecimal.toBigDecimal(averagePrice);
+        this.lastFillAmount = ScaledDecimal.toBigDecimal(quantity);
+        this.lastFillPrice = ScaledDecimal.toBigDecimal(price);
+        this.status = filled == scaledAmount ? OrderStatus.FILLED : OrderStatus.PARTIALLY_FILLED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 남은 수량 (배율 값)
+     */
+    public long getRemainingAmount() {
+        return scaledAmount - scaledFilledAmount;
+    }
+
+    /**
+     * 발동한 손절 지정가 주문을 지정가 주문으로 전환
+     * 발동가는 이력으로 남기며, 이후 주문 희망가로 호가창에서 체결됩니다.
+     *
+     * @throws IllegalStateException 대기 중인 손절 지정가 주문이 아닐 때
+     */
+    public void activate() {
+        if (status != OrderStatus.PENDING || type != OrderType.STOP_LIMIT) {
+            throw new IllegalStateException("Can only activate pending stop-limit orders");
+        }
+        this.type = OrderType.LIMIT;
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 주문을 OCO/브래킷 그룹에 넣습니다.
+     *
+     * @param groupId 그룹 ID
+     * @param parentOrderId 브래킷 진입 주문 ID (진입 주문과 OCO 주문은 null)
+     */
+    public void joinGroup(long groupId, Long parentOrderId) {
+        this.groupId = groupId;
+        this.parentOrderId = parentOrderId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 진입 주문이 체결된 브래킷 주문을 대기 상태로 전환
+     *
+     * @throws IllegalStateException 비활성 상태가 아닐 때
+     */
+    public void release() {
+        if (status != OrderStatus.INACTIVE) {
+            throw new IllegalStateException("Can only release inactive orders");
+        }
+        this.status = OrderStatus.PENDING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 아직 체결/취소되지 않은 주문인지 여부 (대기, 일부 체결 또는 비활성)
+     */
+    public boolean isOpen() {
+        return isFillable() || status == OrderStatus.INACTIVE;
+    }
+
+    /**
+     * 체결을 기다리는 주문인지 여부 (대기 또는 일부 체결)
+     */
+    public boolean isFillable() {
+        return status == OrderStatus.PENDING || status == OrderStatus.PARTIALLY_FILLED;
+    }
+
     /**
      * 주문 취소 가능 여부 검증
      */
     private void validateCanCancel() {
-        if (status != OrderStatus.PENDING) {
+        if (!isOpen()) {
             throw new IllegalStateException("Can only cancel pending orders");
         }
     }
@@ -179,7 +373,39 @@ public class Order {
         /** 시장가 주문: 현재 시장 가격으로 즉시 체결 */
         MARKET,
         /** 지정가 주문: 지정된 가격에 도달하면 체결 */
-        LIMIT
+        LIMIT,
+        /** 손절 시장가 주문: 발동가에 도달하면 시장가로 체결 */
+        STOP_MARKET,
+        /** 손절 지정가 주문: 발동가에 도달하면 지정가 주문으로 전환 */
+        STOP_LIMIT,
+        /** 익절 주문: 유리한 방향으로 발동가에 도달하면 시장가로 체결 */
+        TAKE_PROFIT,
+        /** 추적 손절 주문: 최고가(매수는 최저가)에서 간격만큼 되돌리면 시장가로 체결 */
+        TRAILING_STOP;
+
+        /** 발동가 도달을 기다리는 조건부 주문 유형인지 여부 */
+        public boolean isConditional() {
+            return this == STOP_MARKET || this == STOP_LIMIT || this == TAKE_PROFIT || this == TRAILING_STOP;
+        }
+    }
+
+    /**
+     * 주문 유효 기간을 나타내는 열거형
+     */
+    public enum TimeInForce {
+        /** 취소 전까지 유효 (Good Till Cancelled) */
+        GTC,
+        /** 즉시 체결 가능한 수량만 체결하고 나머지는 취소 (Immediate Or Cancel) */
+        IOC,
+        /** 전량 즉시 체결되지 않으면 전부 취소 (Fill Or Kill) */
+        FOK,
+        /** 만료 시각까지 유효 (Good Till Date) */
+        GTD;
+
+        /** 등록 즉시 체결을 시도하고 호가창에 남지 않는 유형인지 여부 */
+        public boolean isImmediate() {
+            return this == IOC || this == FOK;
+        }
     }
 
     /**
@@ -198,6 +424,10 @@ public class Order {
     public enum OrderStatus {
         /** 대기: 초기 상태, 체결 대기 중 */
         PENDING,
+        /** 일부 체결: 체결된 수량이 있고 나머지 체결 대기 중 */
+        PARTIALLY_FILLED,
+        /** 비활성: 브래킷 진입 주문 체결 전까지 체결 판단에서 제외 */
+        INACTIVE,
         /** 체결: 주문이 성공적으로 체결됨 */
         FILLED,
         /** 취소: 사용자에 의해 취소됨 */
@@ -213,16 +443,26 @@ public class Order {
      * @return 실행 가능 여부
      */
     public boolean isExecutableAt(BigDecimal currentPrice) {
-        if (status != OrderStatus.PENDING || type != OrderType.LIMIT) {
+        return isExecutableAt(ScaledDecimal.fromBigDecimal(currentPrice));
+    }
+
+    /**
+     * 주문이 현재 가격에 실행 가능한지 검사 (객체 할당 없음)
+     *
+     * @param currentPrice 현재 시장 가격 (배율 값)
+     * @return 실행 가능 여부
+     */
+    public boolean isExecutableAt(long currentPrice) {
+        if (!isFillable() || type != OrderType.LIMIT) {
             return false;
         }
         
         if (side == OrderSide.BUY) {
             // 매수 주문: 현재가가 주문가 이하면 실행 가능
-            return currentPrice.compareTo(price) <= 0;
+            return currentPrice <= scaledPrice;
         } else {
             // 매도 주문: 현재가가 주문가 이상이면 실행 가능
-            return currentPrice.compareTo(price) >= 0;
+            return currentPrice >= scaledPrice;
         }
     }
 
@@ -237,11 +477,11 @@ public class Order {
     }
 
     /**
-     * 주문 총액 계산
+     * 주문 총액 계산 (소수점 8자리, HALF_UP)
      *
      * @return 주문 총액 (수량 * 가격)
      */
     public BigDecimal calculateTotalAmount() {
-        return this.amount.multiply(this.price);
+        return ScaledDecimal.toBigDecimal(ScaledDecimal.multiply(scaledPrice, scaledAmount));
     }
-} 
\ No newline at end of file
+}
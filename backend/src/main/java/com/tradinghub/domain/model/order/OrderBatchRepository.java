@@ -0,0 +1,24 @@
+package com.tradinghub.domain.model.order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여러 주문을 한 번에 갱신하는 배치 쿼리 (JDBC 구현은 인프라 계층의 빈)
+ */
+public interface OrderBatchRepository {
+
+    /**
+     * 대기/일부 체결 주문들을 주문 가격으로 주어진 수량만큼 체결하고, JDBC 배치 UPDATE 한 번으로 상태/누적 체결 수량/평균 체결가를 기록합니다.
+     * 각 행은 조회 시점의 버전이고 대기/일부 체결 상태일 때만 갱신되므로, 그 사이 취소/수정된 주문은 갱신되지 않습니다.
+     *
+     * 처리한 주문은 영속성 컨텍스트에서 분리(detach)되며, 체결된 주문은 메모리 상에서도
+     * 체결 결과({@link Order#applyFill})가 반영되어 알림/이벤트에 그대로 사용할 수 있습니다.
+     *
+     * @param orders     체결할 주문 (조회 시점의 버전 포함)
+     * @param quantities 주문별 체결 수량 (배율 값, orders와 같은 순서)
+     * @param filledAt   체결 시각
+     * @return 주문별 결과 (true: 체결, false: 버전 충돌 또는 이미 체결 대기 상태가 아님)
+     */
+    boolean[] fillAll(List<Order> orders, long[] quantities, LocalDateTime filledAt);
+}
@@ -0,0 +1,309 @@
+package com.tradinghub.domain.model.order;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.tradinghub.domain.model.order.Order.OrderSide;
+
+/**
+ * 한 심볼의 대기 중인 지정가 주문 호가창
+ *
+ * 매수는 가격 내림차순, 매도는 가격 오름차순으로 가격대를 정렬하고, 같은 가격대 안에서는
+ * 들어온 순서(FIFO)를 유지합니다. 가격과 수량은 배율 정수(scaled long)입니다.
+ * 체결 구간이 주어지면 실제로 조건을 만족하는 주문만 순회하므로 비용은 O(k + log n)입니다.
+ *
+ * 가격대마다 주문을 이중 연결 리스트로 잇고 최우선 가격대를 따로 들고 있으므로, 체결마다 호출되는
+ * {@link #match}는 최우선 가격과 한 번 비교하고 끝나며 걸리는 주문이 없으면 객체를 할당하지 않습니다.
+ * 일부만 체결된 주문은 남은 수량으로 가격대 안의 순서를 유지합니다.
+ *
+ * 스레드 안전하지 않으며, 호출자가 동기화를 책임집니다.
+ */
+public class OrderBook {
+    private final NavigableMap<Long, Level> bids = new TreeMap<>(Collections.reverseOrder());
+    private final NavigableMap<Long, Level> asks = new TreeMap<>();
+    private final Map<Long, Node> nodes = new HashMap<>();
+
+    /** 최우선 매수 가격대 (없으면 null) */
+    private Level bestBid;
+    /** 최우선 매도 가격대 (없으면 null) */
+    private Level bestAsk;
+
+    /**
+     * 호가창에 올라간 주문
+     *
+     * @param orderId  주문 ID
+     * @param side     매수/매도
+     * @param price    주문 가격 (배율 값)
+     * @param quantity 남은 수량 (배율 값)
+     */
+    public record Entry(long orderId, OrderSide side, long price, long quantity) {}
+
+    /**
+     * 호가창에서 체결된 수량
+     *
+     * @param entry    체결 전 주문 (되돌릴 때 사용)
+     * @param quantity 체결 수량 (배율 값, 주문 가격으로 체결)
+     */
+    public record Fill(Entry entry, long quantity) {
+        /** 남은 수량을 모두 체결해 호가창에서 빠졌는지 여부 */
+        public boolean isComplete() {
+            return quantity >= entry.quantity();
+        }
+    }
+
+    /**
+     * 주문을 해당 가격대의 맨 뒤에 추가합니다. 이미 있으면 무시합니다.
+     */
+    public void add(long orderId, OrderSide side, long price, long quantity) {
+        if (nodes.containsKey(orderId)) {
+            return;
+        }
+        NavigableMap<Long, Level> levels = levels(side);
+        Level level = levels.get(price);
+        if (level == null) {
+            level = new Level(price);
+            levels.put(price, level);
+            if (side == OrderSide.BUY) {
+                if (bestBid == null || price > bestBid.price) {
+                    bestBid = level;
+                }
+            } else if (bestAsk == null || price < bestAsk.price) {
+                bestAsk = level;
+            }
+        }
+        Node node = new Node(orderId, side, price, quantity);
+        level.append(node);
+        nodes.put(orderId, node);
+    }
+
+    /**
+     * 주문을 제거합니다.
+     *
+     * @return 호가창에 있었으면 true
+     */
+    public boolean remove(long orderId) {
+        Node node = nodes.get(orderId);
+        if (node == null) {
+            return false;
+        }
+        unlink(node);
+        return true;
+    }
+
+    public boolean contains(long orderId) {
+        return nodes.containsKey(orderId);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * @return 주문의 남은 수량, 호가창에 없으면 0
+     */
+    public long quantityOf(long orderId) {
+        Node node = nodes.get(orderId);
+        return node == null ? 0L : node.quantity;
+    }
+
+    /**
+     * 가격대 안의 순서를 유지한 채 주문의 남은 수량을 바꿉니다.
+     *
+     * @return 호가창에 있었으면 true
+     */
+    public boolean updateQuantity(long orderId, long quantity) {
+        Node node = nodes.get(orderId);
+        if (node == null) {
+            return false;
+        }
+        node.quantity = quantity;
+        return true;
+    }
+
+    /**
+     * 가격 구간 [low, high] 안의 체결에 걸리는 주문이 있는지 최우선 가격대만 보고 판단합니다.
+     */
+    public boolean isCrossedBy(long low, long high) {
+        return (bestBid != null && bestBid.price >= low) || (bestAsk != null && bestAsk.price <= high);
+    }
+
+    /**
+     * 체결 한 건에 걸리는 한쪽 방향의 주문을 체결량만큼만 체결 우선순위 순서로 채웁니다.
+     * - 매수(BUY): 주문 가격 >= 체결가
+     * - 매도(SELL): 주문 가격 <= 체결가
+     * 다 채운 주문은 호가창에서 빠지고, 일부만 채운 주문은 남은 수량으로 제자리에 남습니다.
+     * 목록의 마지막 체결과 같은 주문이면 하나로 합치므로, 한 방향의 체결을 순서대로 넣으면 주문당 체결이 하나입니다.
+     *
+     * @param side          채울 주문 방향
+     * @param tradePrice    체결가 (배율 값)
+     * @param tradeQuantity 체결량 (배율 값)
+     * @param out           체결을 추가할 목록
+     * @return 채운 수량
+     */
+    public long match(OrderSide side, long tradePrice, long tradeQuantity, List<Fill> out) {
+        long remaining = tradeQuantity;
+        Level level = best(side);
+        while (remaining > 0 && level != null && crosses(side, level.price, tradePrice)) {
+            Node node = level.head;
+            long quantity = Math.min(node.quantity, remaining);
+            addFill(out, node, quantity);
+            remaining -= quantity;
+            if (quantity == node.quantity) {
+                unlink(node);
+                level = best(side);
+            } else {
+                node.quantity -= quantity;
+            }
+        }
+        return tradeQuantity - remaining;
+    }
+
+    /**
+     * 가격 구간 [low, high]에서 체결 조건을 만족하는 주문을 남은 수량 전부 체결로 꺼냅니다.
+     * 체결량을 모르는 구간에 사용합니다.
+     * - 매수(BUY): 주문 가격 >= low, 높은 가격부터
+     * - 매도(SELL): 주문 가격 <= high, 낮은 가격부터
+     * 같은 가격대에서는 먼저 들어온 주문부터이며, 꺼낸 주문은 호가창에서 제거됩니다.
+     *
+     * @param out 체결을 추가할 목록
+     * @return 꺼낸 주문 수
+     */
+    public int pollTriggered(long low, long high, List<Fill> out) {
+        int before = out.size();
+        drain(OrderSide.BUY, low, out);
+        drain(OrderSide.SELL, high, out);
+        return out.size() - before;
+    }
+
+    /**
+     * 호가창의 모든 주문을 체결 우선순위 순서(매수 다음 매도)로 추가합니다.
+     * 같은 순서로 {@link #add}하면 같은 호가창이 만들어집니다.
+     *
+     * @param out 주문을 추가할 목록
+     */
+    public void copyTo(List<Entry> out) {
+        for (Level level : bids.values()) {
+            for (Node node = level.head; node != null; node = node.next) {
+                out.add(node.toEntry());
+            }
+        }
+        for (Level level : asks.values()) {
+            for (Node node = level.head; node != null; node = node.next) {
+                out.add(node.toEntry());
+            }
+        }
+    }
+
+    private void drain(OrderSide side, long tradePrice, List<Fill> out) {
+        Level level = best(side);
+        while (level != null && crosses(side, level.price, tradePrice)) {
+            Node node = level.head;
+            addFill(out, node, node.quantity);
+            unlink(node);
+            level = best(side);
+        }
+    }
+
+    private static void addFill(List<Fill> out, Node node, long quantity) {
+        int last = out.size() - 1;
+        if (last >= 0 && out.get(last).entry().orderId() == node.orderId) {
+            Fill previous = out.get(last);
+            out.set(last, new Fill(previous.entry(), previous.quantity() + quantity));
+        } else {
+            out.add(new Fill(node.toEntry(), quantity));
+        }
+    }
+
+    private void unlink(Node node) {
+        nodes.remove(node.orderId);
+        Level level = node.level;
+        level.unlink(node);
+        if (level.head != null) {
+            return;
+        }
+        NavigableMap<Long, Level> levels = levels(node.side);
+        levels.remove(level.price);
+        Level best = levels.isEmpty() ? null : levels.get(levels.firstKey());
+        if (node.side == OrderSide.BUY) {
+            bestBid = best;
+        } else {
+            bestAsk = best;
+        }
+    }
+
+    private Level best(OrderSide side) {
+        return side == OrderSide.BUY ? bestBid : bestAsk;
+    }
+
+    private static boolean crosses(OrderSide side, long orderPrice, long tradePrice) {
+        return side == OrderSide.BUY ? orderPrice >= tradePrice : orderPrice <= tradePrice;
+    }
+
+    private NavigableMap<Long, Level> levels(OrderSide side) {
+        return side == OrderSide.BUY ? bids : asks;
+    }
+
+    /**
+     * 한 가격대의 주문 (들어온 순서의 이중 연결 리스트)
+     */
+    private static final class Level {
+        private final long price;
+        private Node head;
+        private Node tail;
+
+        Level(long price) {
+            this.price = price;
+        }
+
+        void append(Node node) {
+            node.level = this;
+            node.prev = tail;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        void unlink(Node node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+    }
+
+    private static final class Node {
+        private final long orderId;
+        private final OrderSide side;
+        private final long price;
+        private long quantity;
+        private Level level;
+        private Node prev;
+        private Node next;
+
+        Node(long orderId, OrderSide side, long price, long quantity) {
+            this.orderId = orderId;
+            this.side = side;
+            this.price = price;
+            this.quantity = quantity;
+        }
+
+        Entry toEntry() {
+            return new Entry(orderId, side, price, quantity);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.tradinghub.domain.model.order;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -48,6 +51,78 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     List<Order> findByUserIdAndSymbolOrderByCreatedAtDesc(Long userId, String symbol);
     
+    /**
+     * 주어진 상태 중 하나인 주문 목록 조회 (잔고 원장 예약 재구성용)
+     * @param statuses 주문 상태 목록
+     * @return 주문 목록
+     */
+    List<Order> findByStatusIn(Collection<Order.OrderStatus> statuses);
+
+    /**
+     * 주어진 상태 중 하나이면서 특정 유형인 주문 목록 조회 (호가창 재구성용)
+     * @param statuses 주문 상태 목록
+     * @param type 주문 유형
+     * @return 주문 목록
+     */
+    List<Order> findByStatusInAndType(Collection<Order.OrderStatus> statuses, Order.OrderType type);
+
+    /**
+     * 특정 상태이면서 주어진 유형 중 하나인 주문 목록 조회 (조건부 주문 색인 재구성용)
+     * @param status 주문 상태
+     * @param types 주문 유형 목록
+     * @return 주문 목록
+     */
+    List<Order> findByStatusAndTypeIn(Order.OrderStatus status, Collection<Order.OrderType> types);
+
+    /**
+     * 특정 시각 이후 생성된, 주어진 상태 중 하나이면서 특정 유형인 주문 목록 조회 (저널 복구 후 보정용)
+     * @param statuses 주문 상태 목록
+     * @param type 주문 유형
+     * @param createdAt 조회 시작 시각 (포함)
+     * @return 주문 목록
+     */
+    List<Order> findByStatusInAndTypeAndCreatedAtGreaterThanEqual(
+            Collection<Order.OrderStatus> statuses, Order.OrderType type, LocalDateTime createdAt);
+
+    /**
+     * 특정 ID 이후의, 주어진 상태 중 하나이면서 특정 유형인 주문 목록 조회 (저널 스냅샷 이후 보정용)
+     * @param statuses 주문 상태 목록
+     * @param type 주문 유형
+     * @param id 스냅샷의 DB 워터마크 (제외)
+     * @return 주문 목록
+     */
+    List<Order> findByStatusInAndTypeAndIdGreaterThan(
+            Collection<Order.OrderStatus> statuses, Order.OrderType type, Long id);
+
+    /**
+     * 현재까지 발급된 최대 주문 ID 조회 (저널 스냅샷의 DB 워터마크)
+     * @return 최대 주문 ID. 주문이 없으면 0
+     */
+    @Query("SELECT COALESCE(MAX(o.id), 0) FROM Order o")
+    long findMaxId();
+
+    /**
+     * 주문 그룹(OCO/브래킷)에 속한 특정 상태의 주문 목록 조회 (그룹 색인 재구성용)
+     * @param statuses 주문 상태 목록
+     * @return 주문 목록
+     */
+    List<Order> findByStatusInAndGroupIdIsNotNull(Collection<Order.OrderStatus> statuses);
+
+    /**
+     * 주어진 상태 중 하나이면서 특정 유효 기간인 주문 목록 조회 (만료 색인 재구성용)
+     * @param statuses 주문 상태 목록
+     * @param timeInForce 주문 유효 기간
+     * @return 주문 목록
+     */
+    List<Order> findByStatusInAndTimeInForce(Collection<Order.OrderStatus> statuses, Order.TimeInForce timeInForce);
+
+    /**
+     * 대기 중이거나 일부 체결된 주문이 있는 심볼 목록 조회
+     * @return 심볼 목록
+     */
+    @Query("SELECT DISTINCT o.symbol FROM Order o WHERE o.status IN ('PENDING', 'PARTIALLY_FILLED')")
+    List<String> findPendingOrderSymbols();
+
     //-------------------------------------------------------------------------
     // 주문 체결 관련 쿼리
     //-------------------------------------------------------------------------
@@ -64,18 +139,66 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * 
      * @param symbol 암호화폐 심볼
      * @param currentPrice 현재 시장 가격
-     * @return 체결 가능한 주문 목록
-     */
-    @Query("SELECT o FROM Order o WHERE o.symbol = :symbol AND o.status = 'PENDING' AND " +
-           "o.type = 'LIMIT' AND " +
-           "((o.side = 'BUY' AND :currentPrice <= o.price) OR " +
-           "(o.side = 'SELL' AND :currentPrice >= o.price)) " +
-           "ORDER BY " +
-           "CASE WHEN o.side = 'BUY' THEN o.price END DESC, " +
-           "CASE WHEN o.side = 'SELL' THEN o.price END ASC, " +
-           "o.createdAt ASC")
-    List<Order> findExecutableOrders(
-            @Param("symbol") String symbol, 
-            @Param("currentPrice") BigDecimal currentPrice
+     * @return 체결 가능한 주문 목록 (매수 주문 다음 매도 주문)
+     */
+    default List<Order> findExecutableOrders(String symbol, BigDecimal currentPrice) {
+        return findExecutableOrdersInRange(symbol, currentPrice, currentPrice);
+    }
+
+    /**
+     * 구간 [low, high] 안의 어떤 가격에서든 체결 가능한 주문 조회
+     * - 매수(BUY): 구간 저가 <= 주문 가격
+     * - 매도(SELL): 구간 고가 >= 주문 가격
+     *
+     * 매수/매도를 각각 별도 쿼리로 조회합니다. 한 쿼리에서 OR로 묶으면 side 조건이
+     * 인덱스 범위로 쓰이지 못해 심볼의 전체 주문 이력을 훑게 되기 때문입니다.
+     * 정렬 방식은 {@link #findExecutableOrders}와 같습니다.
+     *
+     * @param symbol 암호화폐 심볼
+     * @param low 구간 저가
+     * @param high 구간 고가
+     * @return 체결 가능한 주문 목록 (매수 주문 다음 매도 주문)
+     */
+    default List<Order> findExecutableOrdersInRange(String symbol, BigDecimal low, BigDecimal high) {
+        List<Order> buys = findExecutableBuyOrders(symbol, low);
+        List<Order> sells = findExecutableSellOrders(symbol, high);
+        List<Order> orders = new ArrayList<>(buys.size() + sells.size());
+        orders.addAll(buys);
+        orders.addAll(sells);
+        return orders;
+    }
+
+    /**
+     * 주어진 가격 이하로 체결이 일어나면 체결되는 매수 지정가 주문 조회
+     * 대기 주문과 일부 체결된 주문이 대상이며, {@code idx_orders_open_scan} 인덱스에서
+     * 상태마다 (status, symbol, type, side) 동등 조건 뒤 price 범위 스캔으로 처리됩니다.
+     *
+     * @param symbol 암호화폐 심볼
+     * @param price 체결 가격 (구간 저가)
+     * @return 높은 가격순, 같은 가격이면 시간순으로 정렬된 매수 주문 목록
+     */
+    @Query("SELECT o FROM Order o WHERE o.symbol = :symbol AND o.status IN ('PENDING', 'PARTIALLY_FILLED') AND " +
+           "o.type = 'LIMIT' AND o.side = 'BUY' AND o.price >= :price " +
+           "ORDER BY o.price DESC, o.createdAt ASC")
+    List<Order> findExecutableBuyOrders(
+            @Param("symbol") String symbol,
+            @Param("price") BigDecimal price
+    );
+
+    /**
+     * 주어진 가격 이상으로 체결이 일어나면 체결되는 매도 지정가 주문 조회
+     * 대기 주문과 일부 체결된 주문이 대상이며, {@code idx_orders_open_scan} 인덱스에서
+     * 상태마다 (status, symbol, type, side) 동등 조건 뒤 price 범위 스캔으로 처리됩니다.
+     *
+     * @param symbol 암호화폐 심볼
+     * @param price 체결 가격 (구간 고가)
+     * @return 낮은 가격순, 같은 가격이면 시간순으로 정렬된 매도 주문 목록
+     */
+    @Query("SELECT o FROM Order o WHERE o.symbol = :symbol AND o.status IN ('PENDING', 'PARTIALLY_FILLED') AND " +
+           "o.type = 'LIMIT' AND o.side = 'SELL' AND o.price <= :price " +
+           "ORDER BY o.price ASC, o.createdAt ASC")
+    List<Order> findExecutableSellOrders(
+            @Param("symbol") String symbol,
+            @Param("price") BigDecimal price
     );
-} 
\ No newline at end of file
+}
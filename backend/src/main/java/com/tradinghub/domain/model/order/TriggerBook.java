@@ -0,0 +1,208 @@
+package com.tradinghub.domain.model.order;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.tradinghub.domain.model.order.Order.OrderSide;
+import com.tradinghub.domain.model.order.Order.OrderType;
+
+/**
+ * 한 심볼의 발동 대기 중인 조건부 주문(손절/익절/추적 손절) 색인
+ *
+ * 고정 발동가 주문은 하락 발동/상승 발동별로 발동가 순으로 정렬해, 체결 구간이 주어지면
+ * 실제로 발동한 주문만 O(k + log n)으로 꺼냅니다. 추적 손절 주문은 기준가(매도는 최고가,
+ * 매수는 최저가)가 체결마다 바뀌므로 별도로 보관하며, 구간마다 기준가를 메모리에서만 갱신합니다.
+ * 가격은 배율 정수(scaled long)입니다.
+ *
+ * 스레드 안전하지 않으며, 호출자가 동기화를 책임집니다.
+ */
+public class TriggerBook {
+    private final NavigableMap<Long, LinkedHashSet<Long>> fallTriggers = new TreeMap<>();
+    private final NavigableMap<Long, LinkedHashSet<Long>> riseTriggers = new TreeMap<>();
+    private final Map<Long, Entry> fixed = new HashMap<>();
+    private final Map<Long, TrailingStop> trailing = new LinkedHashMap<>();
+
+    /**
+     * 발동 방향
+     */
+    public enum Direction {
+        /** 가격이 발동가 이하로 내려가면 발동 (매도 손절, 매수 익절) */
+        FALL,
+        /** 가격이 발동가 이상으로 올라가면 발동 (매수 손절, 매도 익절) */
+        RISE;
+
+        /**
+         * 주문 유형과 방향으로 발동 방향을 정합니다.
+         *
+         * @throws IllegalArgumentException 조건부 주문 유형이 아닌 경우
+         */
+        public static Direction of(OrderType type, OrderSide side) {
+            return switch (type) {
+                case STOP_MARKET, STOP_LIMIT, TRAILING_STOP -> side == OrderSide.SELL ? FALL : RISE;
+                case TAKE_PROFIT -> side == OrderSide.SELL ? RISE : FALL;
+                default -> throw new IllegalArgumentException("Not a conditional order type: " + type);
+            };
+        }
+
+        /** 가격이 발동가에 도달했는지 여부 */
+        public boolean isTriggeredAt(long price, long triggerPrice) {
+            return this == FALL ? price <= triggerPrice : price >= triggerPrice;
+        }
+    }
+
+    /**
+     * 색인에 올라간 주문
+     *
+     * @param orderId       주문 ID
+     * @param direction     발동 방향
+     * @param triggerPrice  발동가 (배율 값). 추적 손절은 현재 기준가에서 계산한 값
+     * @param trailingDelta 추적 손절의 기준가와 발동가 사이 간격 (배율 값). 고정 발동가 주문은 0
+     */
+    public record Entry(long orderId, Direction direction, long triggerPrice, long trailingDelta) {
+        public boolean isTrailing() {
+            return trailingDelta > 0;
+        }
+    }
+
+    /**
+     * 주문을 추가합니다. 이미 있으면 무시합니다.
+     * 추적 손절은 entry의 발동가와 간격으로 기준가를 복원합니다.
+     */
+    public void add(Entry entry) {
+        if (contains(entry.orderId())) {
+            return;
+        }
+        if (entry.isTrailing()) {
+            long mark = entry.direction() == Direction.FALL
+                ? entry.triggerPrice() + entry.trailingDelta()
+                : entry.triggerPrice() - entry.trailingDelta();
+            trailing.put(entry.orderId(), new TrailingStop(entry.orderId(), entry.direction(), entry.trailingDelta(), mark));
+            return;
+        }
+        fixed.put(entry.orderId(), entry);
+        levels(entry.direction()).computeIfAbsent(entry.triggerPrice(), p -> new LinkedHashSet<>()).add(entry.orderId());
+    }
+
+    /**
+     * 주문을 제거합니다.
+     *
+     * @return 색인에 있었으면 true
+     */
+    public boolean remove(long orderId) {
+        if (trailing.remove(orderId) != null) {
+            return true;
+        }
+        Entry entry = fixed.remove(orderId);
+        if (entry == null) {
+            return false;
+        }
+        NavigableMap<Long, LinkedHashSet<Long>> levels = levels(entry.direction());
+        LinkedHashSet<Long> level = levels.get(entry.triggerPrice());
+        level.remove(orderId);
+        if (level.isEmpty()) {
+            levels.remove(entry.triggerPrice());
+        }
+        return true;
+    }
+
+    public boolean contains(long orderId) {
+        return fixed.containsKey(orderId) || trailing.containsKey(orderId);
+    }
+
+    public int size() {
+        return fixed.size() + trailing.size();
+    }
+
+    /**
+     * 체결 구간 [low, high]에서 발동한 주문을 꺼냅니다.
+     * - 하락 발동: 발동가 >= low
+     * - 상승 발동: 발동가 <= high
+     * - 추적 손절: 기존 기준가로 구간 안에서 발동했는지 먼저 확인하고, 아니면 구간의 고가(저가)로
+     *   기준가를 갱신한 뒤 종가로 다시 확인합니다. 구간 안의 체결 순서는 알 수 없으므로
+     *   고가 이후 종가까지 되돌림만 발동으로 인정합니다.
+     * 꺼낸 주문은 색인에서 제거됩니다.
+     *
+     * @param last 구간 종가
+     * @param out  발동한 주문을 추가할 목록 (추적 손절은 발동 시점의 발동가)
+     * @return 꺼낸 주문 수
+     */
+    public int pollTriggered(long low, long high, long last, List<Entry> out) {
+        int before = out.size();
+        drain(fallTriggers.tailMap(low, true), out);
+        drain(riseTriggers.headMap(high, true), out);
+
+        Iterator<TrailingStop> stops = trailing.values().iterator();
+        while (stops.hasNext()) {
+            TrailingStop stop = stops.next();
+            if (stop.direction.isTriggeredAt(stop.direction == Direction.FALL ? low : high, stop.triggerPrice())) {
+                out.add(stop.toEntry());
+                stops.remove();
+                continue;
+            }
+            stop.mark = stop.direction == Direction.FALL ? Math.max(stop.mark, high) : Math.min(stop.mark, low);
+            if (stop.direction.isTriggeredAt(last, stop.triggerPrice())) {
+                out.add(stop.toEntry());
+                stops.remove();
+            }
+        }
+        return out.size() - before;
+    }
+
+    /**
+     * 색인의 모든 주문을 추가합니다 (추적 손절은 현재 기준가로 계산한 발동가).
+     *
+     * @param out 주문을 추가할 목록
+     */
+    public void copyTo(List<Entry> out) {
+        out.addAll(fixed.values());
+        for (TrailingStop stop : trailing.values()) {
+            out.add(stop.toEntry());
+        }
+    }
+
+    private void drain(NavigableMap<Long, LinkedHashSet<Long>> crossed, List<Entry> out) {
+        Iterator<LinkedHashSet<Long>> levels = crossed.values().iterator();
+        while (levels.hasNext()) {
+            for (Long orderId : levels.next()) {
+                out.add(fixed.remove(orderId));
+            }
+            levels.remove();
+        }
+    }
+
+    private NavigableMap<Long, LinkedHashSet<Long>> levels(Direction direction) {
+        return direction == Direction.FALL ? fallTriggers : riseTriggers;
+    }
+
+    /**
+     * 추적 손절 주문의 기준가. 발동 전까지 메모리에서만 갱신합니다.
+     */
+    private static final class TrailingStop {
+        private final long orderId;
+        private final Direction direction;
+        private final long delta;
+        /** 매도는 등록 이후 최고가, 매수는 최저가 */
+        private long mark;
+
+        TrailingStop(long orderId, Direction direction, long delta, long mark) {
+            this.orderId = orderId;
+            this.direction = direction;
+            this.delta = delta;
+            this.mark = mark;
+        }
+
+        long triggerPrice() {
+            return direction == Direction.FALL ? mark - delta : mark + delta;
+        }
+
+        Entry toEntry() {
+            return new Entry(orderId, direction, triggerPrice(), delta);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.tradinghub.domain.model.portfolio;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자 한 명의 자산별 잔고와 주문 예약 (메모리 상주)
+ *
+ * 잔고는 자산별 총액(total), 예약액(reserved), 사용 가능액(available = total - reserved)으로 나뉘며 모두 배율 값(long)입니다.
+ * 예약은 주문마다 두 부분으로 기록됩니다.
+ * <ul>
+ *   <li>open: 아직 체결되지 않은 수량에 묶인 금액 (매수는 남은 수량 × 주문 가격, 매도는 남은 수량)</li>
+ *   <li>unsettled: 체결되었지만 아직 정산되지 않은 금액 (정산되면 총액에서 빠지면서 예약도 풀림)</li>
+ * </ul>
+ * 같은 예약 키를 쓰는 주문(OCO 주문)은 한 예약을 나눠 쓰므로 open 중 가장 큰 값만 예약되고, unsettled는 모두 더해집니다.
+ *
+ * 스레드 안전하지 않으므로 호출자가 잔고 단위로 동기화해야 합니다.
+ */
+public class BalanceSheet {
+    /** 매수 대금과 매도 대금이 오가는 기준 통화 자산 */
+    public static final String QUOTE = "USD";
+
+    private final Long userId;
+    private final Map<String, Long> totals = new HashMap<>();
+    private final Map<String, Long> reserved = new HashMap<>();
+    private final Map<Long, Hold> holds = new HashMap<>();
+    private final Map<Long, Hold> holdByOrder = new HashMap<>();
+
+    public BalanceSheet(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long total(String asset) {
+        return totals.getOrDefault(asset, 0L);
+    }
+
+    public long reserved(String asset) {
+        return reserved.getOrDefault(asset, 0L);
+    }
+
+    public long available(String asset) {
+        return total(asset) - reserved(asset);
+    }
+
+    /**
+     * 총액을 정산이 반영된 포트폴리오 기준으로 교체합니다. 예약은 그대로 둡니다.
+     *
+     * @param balances 자산별 총액 (배율 값)
+     */
+    public void replaceTotals(Map<String, Long> balances) {
+        totals.clear();
+        totals.putAll(balances);
+    }
+
+    /**
+     * 주문의 예약을 바꿨을 때 늘어나는 예약액을 계산합니다 (변경하지 않음).
+     *
+     * @param holdKey          예약 키 (OCO 주문은 그룹 ID, 나머지는 주문 ID)
+     * @param orderId          주문 ID
+     * @param asset            예약할 자산
+     * @param open             주문의 새 open 금액
+     * @param unsettledDelta   더할 unsettled 금액
+     * @return 늘어나는 예약액 (줄어들면 음수)
+     */
+    public long reservationIncrease(long holdKey, long orderId, String asset, long open, long unsettledDelta) {
+        Hold hold = holdByOrder.getOrDefault(orderId, holds.get(holdKey));
+        if (hold == null) {
+            return Math.max(0L, open) + Math.max(0L, unsettledDelta);
+        }
+        Member current = hold.members.get(orderId);
+        long unsettled = Math.max(0L, (current != null ? current.unsettled : 0L) + unsettledDelta);
+        return hold.amountWith(orderId, new Member(Math.max(0L, open), unsettled)) - hold.amountWith(orderId, current);
+    }
+
+    /**
+     * 주문의 open 금액을 바꾸고 unsettled 금액을 더합니다. 예약이 없으면 새로 만듭니다.
+     * open과 unsettled가 모두 0이 된 주문은 예약에서 빠집니다.
+     */
+    public void update(long holdKey, long orderId, String asset, long open, long unsettledDelta) {
+        Hold hold = holdByOrder.get(orderId);
+        if (hold == null) {
+            hold = holds.computeIfAbsent(holdKey, key -> new Hold(key, asset));
+        }
+        long before = hold.amount();
+        Member current = hold.members.get(orderId);
+        long unsettled = Math.max(0L, (current != null ? current.unsettled : 0L) + unsettledDelta);
+        if (open <= 0L && unsettled == 0L) {
+            hold.members.remove(orderId);
+            holdByOrder.remove(orderId);
+        } else {
+            hold.members.put(orderId, new Member(Math.max(0L, open), unsettled));
+            holdByOrder.put(orderId, hold);
+        }
+        adjustReserved(hold.asset, hold.amount() - before);
+        if (hold.members.isEmpty()) {
+            holds.remove(hold.key);
+        }
+    }
+
+    /**
+     * 예약이 있는 주문의 open 금액만 바꿉니다.
+     *
+     * @return 예약이 있던 주문이면 true
+     */
+    public boolean updateOpen(long orderId, long open) {
+        Hold hold = holdByOrder.get(orderId);
+        if (hold == null) {
+            return false;
+        }
+        update(hold.key, orderId, hold.asset, open, 0L);
+        return true;
+    }
+
+    /**
+     * 정산된 체결만큼 주문의 unsettled 금액을 줄입니다.
+     *
+     * @return 예약이 있던 주문이면 true
+     */
+    public boolean settle(long orderId, long amount) {
+        Hold hold = holdByOrder.get(orderId);
+        if (hold == null) {
+            return false;
+        }
+        update(hold.key, orderId, hold.asset, hold.members.get(orderId).open, -amount);
+        return true;
+    }
+
+    /**
+     * 주문의 현재 open 금액
+     *
+     * @return 예약이 없으면 -1
+     */
+    public long open(long orderId) {
+        Hold hold = holdByOrder.get(orderId);
+        return hold == null ? -1L : hold.members.get(orderId).open;
+    }
+
+    private void adjustReserved(String asset, long delta) {
+        if (delta == 0L) {
+            return;
+        }
+        long value = reserved(asset) + delta;
+        if (value == 0L) {
+            reserved.remove(asset);
+        } else {
+            reserved.put(asset, value);
+        }
+    }
+
+    private static final class Hold {
+        private final long key;
+        private final String asset;
+        private final Map<Long, Member> members = new HashMap<>(2);
+
+        private Hold(long key, String asset) {
+            this.key = key;
+            this.asset = asset;
+        }
+
+        private long amount() {
+            return amountWith(null, null);
+        }
+
+        /**
+         * 한 주문의 예약을 바꿨다고 가정한 예약액 (member가 null이면 그 주문을 뺀 예약액)
+         */
+        private long amountWith(Long orderId, Member member) {
+            long open = member != null ? member.open : 0L;
+            long unsettled = member != null ? member.unsettled : 0L;
+            for (Map.Entry<Long, Member> entry : members.entrySet()) {
+                if (entry.getKey().equals(orderId)) {
+                    continue;
+                }
+                open = Math.max(open, entry.getValue().open);
+                unsettled += entry.getValue().unsettled;
+            }
+            return open + unsettled;
+        }
+    }
+
+    private record Member(long open, long unsettled) {
+    }
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.tradinghub.common.ScaledDecimal;
 import com.tradinghub.domain.model.user.User;
 
 import java.math.BigDecimal;
@@ -25,13 +26,13 @@ import lombok.Builder;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Portfolio {
     /** 코인 수량의 전체 자릿수 */
-    private static final int COIN_PRECISION = 20;
+    private static final int COIN_PRECISION = ScaledDecimal.PRECISION;
     /** 코인 수량의 소수점 자릿수 */
-    private static final int COIN_SCALE = 8;
+    private static final int COIN_SCALE = ScaledDecimal.SCALE;
     /** USD 금액의 전체 자릿수 */
-    private static final int USD_PRECISION = 20;
-    /** USD 금액의 소수점 자릿수 */
-    private static final int USD_SCALE = 2;
+    private static final int USD_PRECISION = ScaledDecimal.PRECISION;
+    /** USD 금액의 소수점 자릿수 (주문 금액과 같은 배율) */
+    private static final int USD_SCALE = ScaledDecimal.SCALE;
 
     /** 포트폴리오 고유 식별자 */
     @Id
@@ -55,8 +56,8 @@ public class Portfolio {
     @Column(nullable = false, precision = USD_PRECISION, scale = USD_SCALE)
     private BigDecimal usdBalance = BigDecimal.ZERO;
 
-    /** 사용 가능한 잔액 (거래에 사용할 수 있는 금액) */
-    @Column(nullable = false)
+    /** 사용 가능한 잔액 (거래에 사용할 수 있는 금액, 생성 후에는 잔고 원장만 기록) */
+    @Column(nullable = false, updatable = false, precision = USD_PRECISION, scale = USD_SCALE)
     private BigDecimal availableBalance = BigDecimal.ZERO;
 
     /** 포트폴리오에 포함된 자산 목록 */
@@ -95,6 +96,7 @@ public class Portfolio {
     /**
      * 매수 주문을 처리합니다.
      * USD 잔액을 차감하고 코인 수량을 증가시킵니다.
+     * 잔액 비교와 증감은 배율 값(long)으로 계산합니다.
      * 
      * @param symbol 암호화폐 심볼
      * @param amount 매수할 코인 수량
@@ -103,11 +105,16 @@ public class Portfolio {
      * @throws IllegalStateException USD 잔액이 부족한 경우
      */
     public void processBuyOrder(String symbol, BigDecimal amount, BigDecimal price, BigDecimal total) {
-        validateOrderExecution(total, true);
-        
-        this.usdBalance = this.usdBalance.subtract(total);
-        this.coinBalance = this.coinBalance.add(amount);
-        updateAvailableBalance();
+        long usd = ScaledDecimal.fromBigDecimal(usdBalance);
+        long cost = ScaledDecimal.fromBigDecimal(total);
+        if (usd < cost) {
+            throw new IllegalStateException("Insufficient USD balance");
+        }
+
+        this.usdBalance = ScaledDecimal.toBigDecimal(usd - cost);
+        this.coinBalance = ScaledDecimal.toBigDecimal(
+            Math.addExact(ScaledDecimal.fromBigDecimal(coinBalance), ScaledDecimal.fromBigDecimal(amount)));
+        // 사용 가능 잔액은 잔고 원장이 예약과 함께 따로 기록함
         updateTimestamp();
     }
 
@@ -126,7 +133,6 @@ public class Portfolio {
         
         this.coinBalance = this.coinBalance.subtract(amount);
         this.usdBalance = this.usdBalance.add(total);
-        updateAvailableBalance();
         updateTimestamp();
     }
 
@@ -137,18 +143,9 @@ public class Portfolio {
      */
     public void updateUsdBalance(BigDecimal newBalance) {
         this.usdBalance = newBalance;
-        updateAvailableBalance();
         updateTimestamp();
     }
 
-    /**
-     * 사용 가능한 잔액을 업데이트합니다.
-     * 현재는 USD 잔액과 동일하게 설정됩니다.
-     */
-    private void updateAvailableBalance() {
-        this.availableBalance = this.usdBalance;
-    }
-
     /**
      * 최종 수정 시각을 현재 시각으로 업데이트합니다.
      */
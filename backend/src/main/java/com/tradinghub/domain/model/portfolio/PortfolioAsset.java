@@ -3,6 +3,8 @@ package com.tradinghub.domain.model.portfolio;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import com.tradinghub.common.ScaledDecimal;
+
 import jakarta.persistence.*;
 
 import lombok.Getter;
@@ -11,9 +13,14 @@ import lombok.Setter;
 /**
  * 포트폴리오 내의 개별 자산을 나타내는 엔티티 클래스
  * 특정 암호화폐의 보유 수량과 평균 매수가를 관리합니다.
+ *
+ * 포트폴리오와 심볼마다 한 행이며, 수량 변경은 엔티티를 저장하지 않고
+ * {@link PortfolioAssetBatchRepository}의 원자적 upsert/차감 문장으로 반영합니다 (조회 전용 엔티티).
  */
 @Entity
-@Table(name = "portfolio_assets")
+@Table(name = "portfolio_assets", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_portfolio_assets_portfolio_symbol", columnNames = {"portfolio_id", "symbol"})
+})
 @Getter
 @Setter
 public class PortfolioAsset {
@@ -32,11 +39,11 @@ public class PortfolioAsset {
     private String symbol;
 
     /** 보유 수량 */
-    @Column(nullable = false)
+    @Column(nullable = false, precision = ScaledDecimal.PRECISION, scale = ScaledDecimal.SCALE)
     private BigDecimal amount = BigDecimal.ZERO;
 
     /** 평균 매수가 (USD) */
-    @Column(nullable = false)
+    @Column(nullable = false, precision = ScaledDecimal.PRECISION, scale = ScaledDecimal.SCALE)
     private BigDecimal averagePrice = BigDecimal.ZERO;
 
     /** 자산 생성 시각 */
@@ -47,10 +54,6 @@ public class PortfolioAsset {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
-    /** 낙관적 락을 위한 버전 */
-    @Version
-    private Long version;
-
     /**
      * 엔티티 생성 시 자동으로 호출되어 생성 시각과 수정 시각을 설정합니다.
      */
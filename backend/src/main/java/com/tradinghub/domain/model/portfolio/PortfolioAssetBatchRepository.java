@@ -0,0 +1,31 @@
+package com.tradinghub.domain.model.portfolio;
+
+import java.math.BigDecimal;
+
+/**
+ * 포트폴리오 자산 수량을 조회 없이 한 문장으로 바꾸는 저장소 (JDBC 구현은 인프라 계층의 빈)
+ *
+ * 자산은 포트폴리오와 심볼마다 한 행이며, 읽고-고쳐-쓰는 대신 DB에서 원자적으로 더하거나 빼므로
+ * 낙관적 락 충돌과 재시도가 없습니다.
+ */
+public interface PortfolioAssetBatchRepository {
+    /**
+     * 매수 수량을 더하고 평균 매수가를 다시 계산합니다. 자산 행이 없으면 새로 만듭니다.
+     *
+     * @param portfolioId 포트폴리오 ID
+     * @param symbol      자산 심볼
+     * @param amount      매수 수량
+     * @param cost        매수 대금 (수량 × 가격)
+     */
+    void addOnBuy(Long portfolioId, String symbol, BigDecimal amount, BigDecimal cost);
+
+    /**
+     * 보유 수량이 충분할 때만 매도 수량을 뺍니다. 수량이 0이 된 자산 행은 삭제합니다.
+     *
+     * @param portfolioId 포트폴리오 ID
+     * @param symbol      자산 심볼
+     * @param amount      매도 수량
+     * @return 뺐으면 true, 보유하지 않았거나 수량이 모자라면 false
+     */
+    boolean deductOnSell(Long portfolioId, String symbol, BigDecimal amount);
+}
@@ -0,0 +1,19 @@
+package com.tradinghub.domain.model.portfolio;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 여러 포트폴리오를 한 번에 갱신하는 배치 쿼리 (JDBC 구현은 인프라 계층의 빈)
+ */
+public interface PortfolioBatchRepository {
+
+    /**
+     * 사용자별 사용 가능 잔액을 JDBC 배치 UPDATE 한 번으로 기록합니다.
+     * 잔고 원장의 write-behind 저장에 사용하며, 총액(USD 잔액)은 건드리지 않습니다.
+     *
+     * @param availableBalances 사용자 ID별 사용 가능 잔액
+     * @return 갱신된 행 수
+     */
+    int updateAvailableBalances(Map<Long, BigDecimal> availableBalances);
+}
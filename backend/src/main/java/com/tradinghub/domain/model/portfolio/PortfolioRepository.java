@@ -1,5 +1,6 @@
 package com.tradinghub.domain.model.portfolio;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -33,6 +34,14 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
     @Query("SELECT p FROM Portfolio p LEFT JOIN FETCH p.assets WHERE p.user.id = :userId")
     Optional<Portfolio> findByUserIdWithAssets(@Param("userId") Long userId);
     
+    /**
+     * 모든 포트폴리오를 소유자, 자산과 함께 조회 (잔고 원장 기동 시 적재용)
+     * 
+     * @return 소유자와 자산 컬렉션이 함께 로딩된 포트폴리오 목록
+     */
+    @Query("SELECT DISTINCT p FROM Portfolio p JOIN FETCH p.user LEFT JOIN FETCH p.assets")
+    List<Portfolio> findAllWithUserAndAssets();
+    
     /**
      * 사용자 ID로 포트폴리오 조회 (비관적 쓰기 락 적용)
      * 포트폴리오 업데이트 작업에 사용 (잔액 변경, 자산 추가/제거 등)
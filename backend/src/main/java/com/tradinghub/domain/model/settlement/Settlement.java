@@ -0,0 +1,191 @@
+package com.tradinghub.domain.model.settlement;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.tradinghub.common.ScaledDecimal;
+import com.tradinghub.domain.model.order.Order.OrderSide;
+
+import jakarta.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포트폴리오에 반영할 체결 한 건 (정산 아웃박스)
+ *
+ * 주문 체결과 같은 트랜잭션에서 저장되므로, 커밋된 체결은 프로세스가 중단되어도 정산 대기 상태로 남습니다.
+ * 사용자 ID로 파티션을 나누며, 한 파티션의 정산은 ID 순서(체결 순서)대로 하나씩 처리됩니다.
+ * 처리에 실패하면 재시도 시각을 뒤로 미루고, 최대 시도 횟수를 넘으면 {@link SettlementStatus#DEAD}로
+ * 격리하여 같은 파티션의 다음 정산이 막히지 않게 합니다.
+ *
+ * {@code (status, partition_no, id)} 인덱스로 파티션별 대기 정산을 순서대로 조회합니다.
+ * 파티션 수를 바꿔 재기동하면 처리 전에 대기 정산의 파티션을 다시 계산합니다.
+ */
+@Entity
+@Table(name = "settlements", indexes = {
+    @Index(name = "idx_settlements_partition", columnList = "status, partition_no, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Settlement {
+    /** 오류 메시지 최대 길이 */
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    /** 정산 ID (체결 순서) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 체결된 주문 ID */
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    /** 주문 사용자 ID */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** 처리 파티션 (사용자 ID로 결정) */
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    /** 거래 심볼 */
+    @Column(nullable = false)
+    private String symbol;
+
+    /** 매수/매도 구분 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderSide side;
+
+    /** 체결 수량 */
+    @Column(nullable = false, precision = ScaledDecimal.PRECISION, scale = ScaledDecimal.SCALE)
+    private BigDecimal amount;
+
+    /** 체결 가격 */
+    @Column(nullable = false, precision = ScaledDecimal.PRECISION, scale = ScaledDecimal.SCALE)
+    private BigDecimal price;
+
+    /** 체결 시각 */
+    @Column(name = "executed_at", nullable = false)
+    private LocalDateTime executedAt;
+
+    /** 정산 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SettlementStatus status = SettlementStatus.PENDING;
+
+    /** 실패한 처리 시도 횟수 */
+    @Column(nullable = false)
+    private int attempts;
+
+    /** 다음 처리 가능 시각 (실패 후 재시도 대기) */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    /** 마지막 실패 사유 */
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /** 정산 생성 시각 */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** 정산 완료(또는 격리) 시각 */
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    /**
+     * 정산 생성을 위한 빌더 메서드
+     *
+     * @param orderId 체결된 주문 ID
+     * @param userId 주문 사용자 ID
+     * @param partitionNo 처리 파티션
+     * @param symbol 거래 심볼
+     * @param side 매수/매도 구분
+     * @param amount 체결 수량
+     * @param price 체결 가격
+     * @param executedAt 체결 시각
+     */
+    @Builder
+    private Settlement(Long orderId, Long userId, int partitionNo, String symbol, OrderSide side,
+                       BigDecimal amount, BigDecimal price, LocalDateTime executedAt) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.partitionNo = partitionNo;
+        this.symbol = symbol;
+        this.side = side;
+        this.amount = amount;
+        this.price = price;
+        this.executedAt = executedAt;
+        this.status = SettlementStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 포트폴리오 반영을 마친 정산을 완료 상태로 변경
+     *
+     * @throws IllegalStateException 대기 상태가 아닐 때
+     */
+    public void complete() {
+        validatePending();
+        this.status = SettlementStatus.DONE;
+        this.processedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패한 시도를 기록합니다. 최대 시도 횟수에 도달하면 격리(DEAD)하고, 아니면 재시도 시각을 미룹니다.
+     *
+     * @param error 실패 사유
+     * @param maxAttempts 최대 시도 횟수
+     * @param nextAttemptAt 다음 재시도 시각
+     * @throws IllegalStateException 대기 상태가 아닐 때
+     */
+    public void fail(String error, int maxAttempts, LocalDateTime nextAttemptAt) {
+        validatePending();
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            this.status = SettlementStatus.DEAD;
+            this.nextAttemptAt = null;
+            this.processedAt = LocalDateTime.now();
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    /**
+     * 격리된 정산을 다시 대기 상태로 되돌립니다 (운영자 재처리용).
+     *
+     * @throws IllegalStateException 격리 상태가 아닐 때
+     */
+    public void requeue() {
+        if (status != SettlementStatus.DEAD) {
+            throw new IllegalStateException("Can only requeue dead settlements");
+        }
+        this.status = SettlementStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = null;
+        this.processedAt = null;
+    }
+
+    private void validatePending() {
+        if (status != SettlementStatus.PENDING) {
+            throw new IllegalStateException("Settlement is not pending: " + status);
+        }
+    }
+
+    /**
+     * 정산 상태를 나타내는 열거형
+     */
+    public enum SettlementStatus {
+        /** 대기: 포트폴리오 반영 전 */
+        PENDING,
+        /** 완료: 포트폴리오에 반영됨 */
+        DONE,
+        /** 격리: 최대 시도 횟수를 넘어 처리를 멈춤 (dead letter) */
+        DEAD
+    }
+}
@@ -0,0 +1,46 @@
+package com.tradinghub.domain.model.settlement;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 정산을 여러 건씩 기록/선점하는 배치 쿼리 (JDBC 구현은 인프라 계층의 빈)
+ */
+public interface SettlementBatchRepository {
+
+    /**
+     * 정산을 JDBC 배치 INSERT 한 번으로 저장합니다. 호출한 트랜잭션(체결 트랜잭션)과 함께 커밋됩니다.
+     *
+     * @param settlements 저장할 정산 (ID는 채워지지 않음)
+     */
+    void appendAll(List<Settlement> settlements);
+
+    /**
+     * 파티션의 대기 정산을 ID 순서로 최대 limit건 행 잠금으로 선점합니다.
+     * 잠긴 행을 건너뛰지 않고 기다리므로, 커밋 전인 앞선 정산보다 뒤 정산을 먼저 선점하지 않습니다.
+     * 트랜잭션 안에서 호출해야 하며, 반환된 정산은 영속성 컨텍스트에서 분리되어 있습니다.
+     *
+     * @param partitionNo 처리 파티션
+     * @param limit       최대 건수
+     * @return 선점한 정산 목록 (ID 순서)
+     */
+    List<Settlement> claimPending(int partitionNo, int limit);
+
+    /**
+     * 파티션 수가 바뀐 경우에 대비해 대기 정산의 파티션을 현재 파티션 수로 다시 계산합니다.
+     * 처리 스레드가 시작되기 전에 호출해야 합니다.
+     *
+     * @param partitions 전체 파티션 수
+     * @return 파티션이 바뀐 정산 수
+     */
+    int repartitionPending(int partitions);
+
+    /**
+     * 대기 정산을 UPDATE 한 번으로 완료 상태로 변경합니다.
+     *
+     * @param ids         정산 ID 목록
+     * @param processedAt 완료 시각
+     * @return 변경된 행 수
+     */
+    int markDone(List<Long> ids, LocalDateTime processedAt);
+}
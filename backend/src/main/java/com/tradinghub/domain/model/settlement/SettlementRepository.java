@@ -0,0 +1,43 @@
+package com.tradinghub.domain.model.settlement;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 정산(Settlement) 엔티티에 대한 데이터 액세스 인터페이스
+ */
+public interface SettlementRepository extends JpaRepository<Settlement, Long> {
+    /**
+     * 파티션의 특정 상태 정산을 ID(체결) 순서로 조회
+     * @param partitionNo 처리 파티션
+     * @param status 정산 상태
+     * @param pageable 조회 개수
+     * @return 정산 목록
+     */
+    List<Settlement> findByPartitionNoAndStatusOrderByIdAsc(int partitionNo, Settlement.SettlementStatus status,
+                                                            Pageable pageable);
+
+    /**
+     * 특정 상태의 정산 전체 조회 (잔고 원장 기동 시 미정산 체결 적재용)
+     * @param status 정산 상태
+     * @return 정산 목록
+     */
+    List<Settlement> findByStatus(Settlement.SettlementStatus status);
+
+    /**
+     * 특정 상태의 정산 수 조회 (대기/격리 건수 모니터링용)
+     * @param status 정산 상태
+     * @return 정산 수
+     */
+    long countByStatus(Settlement.SettlementStatus status);
+
+    /**
+     * 특정 상태의 가장 오래된 정산 조회 (정산 지연 모니터링용)
+     * @param status 정산 상태
+     * @return 가장 먼저 생성된 정산 (없으면 빈 Optional)
+     */
+    Optional<Settlement> findFirstByStatusOrderByIdAsc(Settlement.SettlementStatus status);
+}
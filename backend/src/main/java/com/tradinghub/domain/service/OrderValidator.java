@@ -6,9 +6,11 @@ import org.springframework.stereotype.Component;
 
 import com.tradinghub.application.exception.order.InvalidOrderException;
 import com.tradinghub.application.exception.portfolio.InsufficientBalanceException;
-import com.tradinghub.application.usecase.portfolio.GetPortfolioUseCase;
+import com.tradinghub.application.service.market.SymbolSpecRegistry;
+import com.tradinghub.application.service.portfolio.BalanceLedger;
+import com.tradinghub.common.ScaledDecimal;
+import com.tradinghub.domain.model.market.SymbolSpec;
 import com.tradinghub.domain.model.order.Order;
-import com.tradinghub.domain.model.portfolio.Portfolio;
 import com.tradinghub.domain.model.user.User;
 import com.tradinghub.interfaces.exception.auth.UnauthorizedOperationException;
 
@@ -16,67 +18,123 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * 주문 관련 유효성 검증을 담당하는 컴포넌트
+ * 가격과 수량은 REST 경계에서 한 번 배율 값으로 변환한 뒤 long 연산으로 검증하며,
+ * 금액은 {@link ScaledDecimal#multiply}로 소수점 8자리까지 반올림합니다.
  */
 @Component
 @RequiredArgsConstructor
 public class OrderValidator {
-    private final GetPortfolioUseCase getPortfolioUseCase;
+    private final BalanceLedger balanceLedger;
+    private final SymbolSpecRegistry symbolSpecRegistry;
     
     /**
      * 주문 생성 시 유효성 검증
      *
      * @param user   주문 생성 사용자
+     * @param symbol 거래 심볼
      * @param side   매수/매도 구분
-     * @param price  주문 가격
+     * @param price  주문 가격 (지정가 주문은 {@link #validateLimitPrice}로 단위를 따로 검증)
      * @param amount 주문 수량
      * @throws InvalidOrderException        주문이 유효하지 않은 경우
      * @throws InsufficientBalanceException 잔고가 부족한 경우
      */
-    public void validateOrderCreation(User user, Order.OrderSide side, BigDecimal price, BigDecimal amount) {
+    public void validateOrderCreation(User user, String symbol, Order.OrderSide side, BigDecimal price, BigDecimal amount) {
+        validateOrderCreation(user, symbol, side, price, amount, null);
+    }
+
+    /**
+     * 주문 생성 시 유효성 검증
+     *
+     * 잔고는 DB 대신 {@link BalanceLedger}의 사용 가능 잔액(예약을 뺀 잔액)으로 검증합니다.
+     * 실제 예약은 주문을 저장한 뒤 {@link BalanceLedger#reserve}에서 다시 검증하며 잡습니다.
+     *
+     * @param groupId 들어갈 OCO 그룹 ID (그룹 예약을 나눠 쓰며, 없으면 null)
+     * @throws InvalidOrderException        주문이 유효하지 않은 경우
+     * @throws InsufficientBalanceException 잔고가 부족한 경우
+     */
+    public void validateOrderCreation(User user, String symbol, Order.OrderSide side, BigDecimal price, BigDecimal amount,
+                                      Long groupId) {
+        SymbolSpec spec = symbolSpecRegistry.get(symbol);
+        long quantity = validateAmount(symbol, amount);
+        long required = side == Order.OrderSide.BUY
+            ? spec.notional(toScaledExact(price, "price"), quantity)
+            : quantity;
+        balanceLedger.checkAvailable(user.getId(), side, symbol, required, groupId);
+    }
+
+    /**
+     * 주문 수량이 심볼의 수량 단위(lot)에 맞는지 검증 (잔고 검증 없음)
+     *
+     * @param symbol 거래 심볼
+     * @param amount 주문 수량
+     * @return 주문 수량 (배율 값)
+     * @throws InvalidOrderException 수량이 0 이하이거나 단위에 맞지 않는 경우
+     */
+    public long validateAmount(String symbol, BigDecimal amount) {
         if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new InvalidOrderException("Order amount must be greater than zero");
         }
+        SymbolSpec spec = symbolSpecRegistry.get(symbol);
+        long quantity = toScaledExact(amount, "amount");
+        if (!spec.isValidQuantity(quantity)) {
+            throw new InvalidOrderException(String.format("Order amount must be a multiple of %s for %s",
+                    ScaledDecimal.toBigDecimal(spec.lotSize()).stripTrailingZeros().toPlainString(), spec.symbol()));
+        }
+        return quantity;
+    }
 
-        Portfolio portfolio = getPortfolioUseCase.execute(user.getId());
+    /**
+     * 지정가 주문 가격이 심볼의 가격 단위(tick)에 맞는지 검증
+     *
+     * @param symbol 거래 심볼
+     * @param price  주문 가격
+     * @throws InvalidOrderException 가격이 0 이하이거나 단위에 맞지 않는 경우
+     */
+    public void validateLimitPrice(String symbol, BigDecimal price) {
+        requireOnTick(symbol, price, "price");
+    }
 
-        if (side == Order.OrderSide.BUY) {
-            validateBuyOrder(portfolio, price, amount);
-        } else {
-            validateSellOrder(portfolio, amount);
-        }
+    /**
+     * 조건부 주문의 발동가가 심볼의 가격 단위(tick)에 맞는지 검증
+     *
+     * @param symbol    거래 심볼
+     * @param stopPrice 발동가
+     * @throws InvalidOrderException 발동가가 0 이하이거나 단위에 맞지 않는 경우
+     */
+    public void validateStopPrice(String symbol, BigDecimal stopPrice) {
+        requireOnTick(symbol, stopPrice, "stop price");
     }
-    
+
     /**
-     * 매수 주문 유효성 검증
+     * 추적 손절 간격이 심볼의 가격 단위(tick)에 맞는지 검증
      *
-     * @param portfolio 사용자 포트폴리오
-     * @param price     주문 가격
-     * @param amount    주문 수량
-     * @throws InsufficientBalanceException USD 잔고가 부족한 경우
+     * @param symbol        거래 심볼
+     * @param trailingDelta 추적 손절 간격
+     * @throws InvalidOrderException 간격이 0 이하이거나 단위에 맞지 않는 경우
      */
-    private void validateBuyOrder(Portfolio portfolio, BigDecimal price, BigDecimal amount) {
-        BigDecimal requiredUsd = price.multiply(amount);
-        if (portfolio.getUsdBalance().compareTo(requiredUsd) < 0) {
-            throw new InsufficientBalanceException(
-                    String.format("Insufficient USD balance. Required: %s, Available: %s",
-                            requiredUsd, portfolio.getUsdBalance())
-            );
+    public void validateTrailingDelta(String symbol, BigDecimal trailingDelta) {
+        requireOnTick(symbol, trailingDelta, "trailing delta");
+    }
+
+    private void requireOnTick(String symbol, BigDecimal value, String field) {
+        SymbolSpec spec = symbolSpecRegistry.get(symbol);
+        if (value == null || !spec.isValidPrice(toScaledExact(value, field))) {
+            throw new InvalidOrderException(String.format("Order %s must be a positive multiple of %s for %s",
+                    field, ScaledDecimal.toBigDecimal(spec.tickSize()).stripTrailingZeros().toPlainString(), spec.symbol()));
         }
     }
     
     /**
-     * 매도 주문 유효성 검증
+     * 요청 값을 반올림 없이 배율 값으로 변환
      *
-     * @param portfolio 사용자 포트폴리오
-     * @param amount    주문 수량
-     * @throws InsufficientBalanceException 코인 잔고가 부족한 경우
+     * @throws InvalidOrderException 소수점 8자리를 넘거나 범위를 벗어난 경우
      */
-    private void validateSellOrder(Portfolio portfolio, BigDecimal amount) {
-        if (portfolio.getCoinBalance().compareTo(amount) < 0) {
-            throw new InsufficientBalanceException(
-                    String.format("Insufficient coin balance. Required: %s, Available: %s",
-                            amount, portfolio.getCoinBalance())
-            );
+    private static long toScaledExact(BigDecimal value, String field) {
+        try {
+            return ScaledDecimal.fromBigDecimalExact(value);
+        } catch (ArithmeticException e) {
+            throw new InvalidOrderException(String.format("Order %s must have at most %d decimal places: %s",
+                    field, ScaledDecimal.SCALE, value.toPlainString()));
         }
     }
     
@@ -93,7 +151,7 @@ public class OrderValidator {
             throw new UnauthorizedOperationException("order cancellation");
         }
 
-        if (order.getStatus() != Order.OrderStatus.PENDING) {
+        if (!order.isOpen()) {
             throw new InvalidOrderException("Cannot cancel order with status: " + order.getStatus());
         }
     }
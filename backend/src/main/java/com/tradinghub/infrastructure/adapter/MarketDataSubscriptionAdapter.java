@@ -0,0 +1,54 @@
+package com.tradinghub.infrastructure.adapter;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tradinghub.application.port.MarketDataSubscriptionPort;
+import com.tradinghub.infrastructure.external.BinanceConnector;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시세 구독 포트의 Binance 연결 관리자 어댑터 구현체
+ *
+ * 구독은 주문 트랜잭션이 커밋된 뒤 {@link BinanceConnector#subscribe}로 요청합니다.
+ * 구독에 실패해도 주문은 유지되며, 다음 기동 때 대기 주문의 심볼로 다시 구독됩니다.
+ * binance.source=replay이면 연결 관리자가 없으므로 아무 일도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketDataSubscriptionAdapter implements MarketDataSubscriptionPort {
+    private final ObjectProvider<BinanceConnector> binanceConnector;
+
+    @Override
+    public void subscribe(String symbol) {
+        BinanceConnector connector = binanceConnector.getIfAvailable();
+        if (connector == null) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                connector.subscribe(symbol);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                log.warn("Failed to subscribe market data for symbol {}: {}", symbol, e.getMessage());
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
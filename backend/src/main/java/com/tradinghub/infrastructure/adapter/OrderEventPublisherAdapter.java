@@ -1,21 +1,64 @@
 package com.tradinghub.infrastructure.adapter;
 
-import org.springframework.context.ApplicationEventPublisher;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
+import com.tradinghub.application.event.OrderExecutedEvent;
 import com.tradinghub.application.port.OrderEventPublisherPort;
+import com.tradinghub.application.service.portfolio.BalanceLedger;
+import com.tradinghub.application.service.settlement.SettlementDispatcher;
 import com.tradinghub.domain.model.order.Order;
-import com.tradinghub.application.event.OrderExecutedEvent;
+import com.tradinghub.domain.model.settlement.Settlement;
+import com.tradinghub.domain.model.settlement.SettlementBatchRepository;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 체결 정산 포트의 트랜잭셔널 아웃박스 구현체
+ *
+ * 체결을 메모리 이벤트로 넘기지 않고, 체결 트랜잭션 안에서 settlements 테이블에 배치 INSERT 합니다.
+ * 체결이 커밋되어야 정산도 보이고 프로세스가 중단되어도 남으며, 커밋 후 해당 파티션의 중계 스레드를 깨웁니다.
+ * 정산 전까지 체결분이 다른 주문에 쓰이지 않도록 잔고 원장에 미정산 예약으로 옮깁니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class OrderEventPublisherAdapter implements OrderEventPublisherPort {
-    private final ApplicationEventPublisher eventPublisher;
+    private final SettlementBatchRepository settlementBatchRepository;
+    private final SettlementDispatcher settlementDispatcher;
+    private final BalanceLedger balanceLedger;
 
     @Override
     public void publishOrderExecuted(Order order) {
-        eventPublisher.publishEvent(new OrderExecutedEvent(order));
+        publishOrdersExecuted(List.of(order));
+    }
+
+    @Override
+    public void publishOrdersExecuted(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        List<Settlement> settlements = new ArrayList<>(orders.size());
+        BitSet partitions = new BitSet();
+        for (Order order : orders) {
+            OrderExecutedEvent event = new OrderExecutedEvent(order);
+            int partitionNo = settlementDispatcher.partitionOf(event.getUserId());
+            partitions.set(partitionNo);
+            settlements.add(Settlement.builder()
+                .orderId(event.getOrderId())
+                .userId(event.getUserId())
+                .partitionNo(partitionNo)
+                .symbol(event.getSymbol())
+                .side(event.getSide())
+                .amount(event.getAmount())
+                .price(event.getPrice())
+                .executedAt(event.getExecutedAt())
+                .build());
+        }
+        settlementBatchRepository.appendAll(settlements);
+        balanceLedger.filled(orders);
+        partitions.stream().forEach(settlementDispatcher::signal);
     }
 }
@@ -1,5 +1,7 @@
 package com.tradinghub.infrastructure.adapter;
 
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
 import com.tradinghub.application.port.OrderNotificationPort;
@@ -27,6 +29,11 @@ public class OrderNotificationAdapter implements OrderNotificationPort {
         webSocketHandler.notifyOrderUpdate(order);
     }
 
+    @Override
+    public void notifyOrderUpdates(List<Order> orders) {
+        webSocketHandler.notifyOrderUpdates(orders);
+    }
+
     @Override
     public void notifyPortfolioUpdate(Portfolio portfolio) {
         webSocketHandler.notifyPortfolioUpdate(portfolio);
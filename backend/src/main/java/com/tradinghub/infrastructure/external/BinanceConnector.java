@@ -1,131 +1,180 @@
 package com.tradinghub.infrastructure.external;
 
-import java.io.IOException;
-import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.web.socket.CloseStatus;
-import org.springframework.web.socket.PingMessage;
-import org.springframework.web.socket.PongMessage;
-import org.springframework.web.socket.TextMessage;
-import org.springframework.web.socket.WebSocketHttpHeaders;
-import org.springframework.web.socket.WebSocketMessage;
-import org.springframework.web.socket.WebSocketSession;
-import org.springframework.web.socket.client.WebSocketClient;
-import org.springframework.web.socket.client.standard.StandardWebSocketClient;
-import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
+import com.tradinghub.application.dto.market.StreamType;
 import com.tradinghub.common.BinanceConstants;
+import com.tradinghub.common.SymbolRegistry;
+import com.tradinghub.domain.model.order.OrderRepository;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Binance 시세 스트림 연결 관리자
+ *
+ * 구독 심볼을 여러 샤드에 나누어 배치합니다. 샤드마다 주 연결과 대기 연결이 같은 스트림을
+ * 구독하며(binance.hot-standby), 끊긴 연결은 지수 증가 + jitter 간격으로 재연결합니다.
+ * 구독 심볼은 설정(binance.symbols)과 대기 중인 주문의 심볼로 구성되며, 실행 중에는 처음 주문이 들어온
+ * 심볼이 주문 커밋 후 {@link #subscribe}로 추가됩니다 (시세 구독 포트). {@link #unsubscribe}로 해제할 수도 있습니다.
+ * binance.source=replay이면 생성되지 않고 기록 파일이 대신 재생됩니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "binance.source", havingValue = "live", matchIfMissing = true)
 public class BinanceConnector {
 
-    private static final String BINANCE_STREAM_URL = BinanceConstants.getBinanceStreamUrl();
-    private static final long RECONNECT_DELAY_SEC = 5;
     private static final long PING_INTERVAL_SEC = 30;
+    private static final Pattern SYMBOL_PATTERN = Pattern.compile("[a-z0-9]+");
+    private static final int STREAMS_PER_SYMBOL = StreamType.values().length;
 
-    private final BinanceWebSocketHandler handler;
+    private final OrderRepository orderRepository;
+    private final List<String> configuredSymbols;
+    private final int maxStreamsPerConnection;
 
     private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-    private WebSocketSession session;
+    private final List<BinanceStreamShard> shards = new ArrayList<>();
+
+    /** 심볼(소문자)별 배치된 샤드 */
+    private final Map<String, BinanceStreamShard> assignments = new LinkedHashMap<>();
+
+    public BinanceConnector(
+            BinanceWebSocketHandler handler,
+            OrderRepository orderRepository,
+            @Value("${binance.stream-url:" + BinanceConstants.STREAM_BASE_URL + "}") String streamUrl,
+            @Value("${binance.symbols:" + BinanceConstants.DEFAULT_SYMBOLS + "}") List<String> configuredSymbols,
+            @Value("${binance.connections:2}") int shardCount,
+            @Value("${binance.max-streams-per-connection:" + BinanceConstants.MAX_STREAMS_PER_CONNECTION + "}")
+            int maxStreamsPerConnection,
+            @Value("${binance.hot-standby:true}") boolean hotStandby,
+            @Value("${binance.reconnect.initial-backoff-ms:500}") long backoffInitialMillis,
+            @Value("${binance.reconnect.max-backoff-ms:30000}") long backoffMaxMillis) {
+        this.orderRepository = orderRepository;
+        this.configuredSymbols = configuredSymbols;
+        this.maxStreamsPerConnection = Math.min(maxStreamsPerConnection, BinanceConstants.MAX_STREAMS_PER_CONNECTION);
+        for (int i = 0; i < Math.max(1, shardCount); i++) {
+            shards.add(new BinanceStreamShard(i, hotStandby, streamUrl, handler, scheduler,
+                backoffInitialMillis, backoffMaxMillis));
+        }
+    }
 
     /**
      * 현재 웹소켓 연결 상태를 확인합니다.
-     * @return 연결이 활성화되어 있으면 true, 그렇지 않으면 false
+     * @return 모든 샤드가 하나 이상의 연결로 수신 중이면 true, 그렇지 않으면 false
      */
     public boolean isConnected() {
-        return session != null && session.isOpen();
+        return shards.stream().allMatch(BinanceStreamShard::isConnected);
     }
 
     @PostConstruct
     public void init() {
-        connectWithRetry();
+        Set<String> symbols = new LinkedHashSet<>(configuredSymbols);
+        try {
+            symbols.addAll(orderRepository.findPendingOrderSymbols());
+        } catch (Exception e) {
+            log.warn("Failed to load symbols of pending orders, using configured symbols only", e);
+        }
+        // 연결 전에 배치해 두면 초기 URL에 스트림이 포함되어 제어 프레임이 필요 없음
+        for (String symbol : symbols) {
+            try {
+                subscribe(symbol);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                log.error("Skipping symbol {}: {}", symbol, e.getMessage());
+            }
+        }
+        shards.forEach(BinanceStreamShard::connect);
         startPingTask();
     }
 
-    private void connectWithRetry() {
-        try {
-            WebSocketClient client = new StandardWebSocketClient();
-            client.execute(new AbstractWebSocketHandler() {
-                @Override
-                public void afterConnectionEstablished(WebSocketSession session) {
-                    BinanceConnector.this.session = session;
-                    log.info("Connected to Binance WebSocket.");
-                }
-
-                @Override
-                public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
-                    if (message instanceof PingMessage ping) {
-                        session.sendMessage(new PongMessage(ping.getPayload()));
-                    } else if (message instanceof TextMessage text) {
-                        handler.handleMessage(text.getPayload());
-                    } else {
-                        log.warn("Unhandled WebSocket message: {}", message);
-                    }
-                }
-
-                @Override
-                public void handleTransportError(WebSocketSession session, Throwable exception) {
-                    log.error("WebSocket transport error", exception);
-                    reconnectWithDelay();
-                }
-
-                @Override
-                public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
-                    log.warn("WebSocket connection closed: {}", status);
-                    reconnectWithDelay();
-                }
-            }, new WebSocketHttpHeaders(), URI.create(BINANCE_STREAM_URL));
+    /**
+     * 심볼의 trade/ticker/depth20 스트림을 구독합니다. 가장 적은 스트림을 가진 연결에 배치됩니다.
+     *
+     * @param symbol 거래 심볼 (대소문자 무관, 예: BTCUSDT)
+     * @return 새로 구독했으면 true, 이미 구독 중이면 false
+     * @throws IllegalArgumentException 심볼 형식이 올바르지 않은 경우
+     * @throws IllegalStateException 모든 연결의 스트림 수가 한도에 도달한 경우
+     */
+    public synchronized boolean subscribe(String symbol) {
+        String streamSymbol = normalize(symbol);
+        if (assignments.containsKey(streamSymbol)) {
+            return false;
+        }
 
-        } catch (Exception e) {
-            log.error("WebSocket connection failed, retrying...", e);
-            reconnectWithDelay();
+        BinanceStreamShard shard = shards.stream()
+            .filter(c -> c.streamCount() + STREAMS_PER_SYMBOL <= maxStreamsPerConnection)
+            .min(Comparator.comparingInt(BinanceStreamShard::streamCount))
+            .orElseThrow(() -> new IllegalStateException("All Binance shards are at the stream limit"));
+
+        SymbolRegistry.intern(streamSymbol);
+        assignments.put(streamSymbol, shard);
+        shard.subscribe(streamNames(streamSymbol));
+        log.info("Subscribed symbol {} on shard {}", streamSymbol, shard.index());
+        return true;
+    }
+
+    /**
+     * 심볼의 스트림 구독을 해제합니다.
+     *
+     * @return 구독 중이었으면 true
+     */
+    public synchronized boolean unsubscribe(String symbol) {
+        String streamSymbol = normalize(symbol);
+        BinanceStreamShard shard = assignments.remove(streamSymbol);
+        if (shard == null) {
+            return false;
         }
+        shard.unsubscribe(streamNames(streamSymbol));
+        log.info("Unsubscribed symbol {} from shard {}", streamSymbol, shard.index());
+        return true;
     }
 
-    private void reconnectWithDelay() {
-        if (session != null && session.isOpen()) {
-            try {
-                session.close(CloseStatus.GOING_AWAY);
-            } catch (IOException e) {
-                log.error("Failed to close existing WebSocket session before reconnecting", e);
-            }
+    /**
+     * 구독 중인 심볼 목록 (소문자)
+     */
+    public synchronized List<String> subscribedSymbols() {
+        return List.copyOf(assignments.keySet());
+    }
+
+    private static String normalize(String symbol) {
+        String normalized = symbol == null ? "" : symbol.trim().toLowerCase(Locale.ROOT);
+        if (!SYMBOL_PATTERN.matcher(normalized).matches()) {
+            throw new IllegalArgumentException("Invalid symbol: " + symbol);
+        }
+        return normalized;
+    }
+
+    private static List<String> streamNames(String streamSymbol) {
+        List<String> names = new ArrayList<>(STREAMS_PER_SYMBOL);
+        for (StreamType type : StreamType.values()) {
+            names.add(streamSymbol + "@" + type.suffix());
         }
-        scheduler.schedule(this::connectWithRetry, RECONNECT_DELAY_SEC, TimeUnit.SECONDS);
+        return names;
     }
 
     private void startPingTask() {
-        scheduler.scheduleAtFixedRate(() -> {
-            try {
-                if (session != null && session.isOpen()) {
-                    session.sendMessage(new PingMessage());
-                    log.debug("Ping message sent.");
-                }
-            } catch (Exception e) {
-                log.error("Failed to send ping", e);
-            }
-        }, PING_INTERVAL_SEC, PING_INTERVAL_SEC, TimeUnit.SECONDS);
+        scheduler.scheduleAtFixedRate(() -> shards.forEach(BinanceStreamShard::ping),
+            PING_INTERVAL_SEC, PING_INTERVAL_SEC, TimeUnit.SECONDS);
     }
 
     @PreDestroy
     public void cleanup() {
-        try {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
-        } catch (Exception e) {
-            log.error("Error closing WebSocket session", e);
-        }
+        shards.forEach(BinanceStreamShard::close);
         scheduler.shutdown();
     }
 }
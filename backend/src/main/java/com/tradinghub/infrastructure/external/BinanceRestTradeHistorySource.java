@@ -0,0 +1,62 @@
+package com.tradinghub.infrastructure.external;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.tradinghub.application.dto.market.TradeTick;
+import com.tradinghub.common.ScaledDecimal;
+import com.tradinghub.common.SymbolRegistry;
+
+/**
+ * Binance REST historicalTrades API로 체결 이력을 조회합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "binance.replay.source", havingValue = "rest", matchIfMissing = true)
+public class BinanceRestTradeHistorySource implements TradeHistorySource {
+    /** historicalTrades 최대 limit */
+    private static final int MAX_LIMIT = 1000;
+
+    private final RestTemplate restTemplate;
+    private final String restUrl;
+
+    public BinanceRestTradeHistorySource(
+            RestTemplate restTemplate,
+            @Value("${binance.rest-url:https://api.binance.com}") String restUrl) {
+        this.restTemplate = restTemplate;
+        this.restUrl = restUrl;
+    }
+
+    @Override
+    public List<TradeTick> fetchTrades(int symbolId, long fromId, int limit) {
+        String url = UriComponentsBuilder.fromHttpUrl(restUrl)
+            .path("/api/v3/historicalTrades")
+            .queryParam("symbol", SymbolRegistry.symbol(symbolId))
+            .queryParam("fromId", fromId)
+            .queryParam("limit", Math.min(limit, MAX_LIMIT))
+            .toUriString();
+
+        JsonNode response = restTemplate.getForObject(url, JsonNode.class);
+        List<TradeTick> trades = new ArrayList<>();
+        if (response == null || !response.isArray()) {
+            return trades;
+        }
+        for (JsonNode node : response) {
+            TradeTick trade = new TradeTick();
+            trade.reset(symbolId);
+            trade.setTradeId(node.path("id").asLong());
+            trade.setPrice(ScaledDecimal.parse(node.path("price").asText()));
+            trade.setQuantity(ScaledDecimal.parse(node.path("qty").asText()));
+            trade.setTradeTime(node.path("time").asLong());
+            trade.setBuyerMaker(node.path("isBuyerMaker").asBoolean());
+            trades.add(trade);
+        }
+        return trades;
+    }
+}
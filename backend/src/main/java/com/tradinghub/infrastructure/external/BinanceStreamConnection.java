@@ -0,0 +1,223 @@
+package com.tradinghub.infrastructure.external;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.PongMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.WebSocketClient;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Binance 결합 스트림 WebSocket 연결 하나
+ *
+ * 연결마다 자신이 담당하는 스트림 목록을 관리하며, 연결 중에는 SUBSCRIBE/UNSUBSCRIBE
+ * 제어 프레임으로 스트림을 추가/제거하고 재연결 시에는 현재 목록으로 URL을 다시 만듭니다.
+ * 수신 메시지는 연결의 수신 스레드에서 바로 파싱되므로 연결 수만큼 디코딩이 병렬화됩니다.
+ */
+@Slf4j
+class BinanceStreamConnection {
+    private final int index;
+    private final String role;
+    private final String baseUrl;
+    private final BinanceWebSocketHandler handler;
+    private final ScheduledExecutorService scheduler;
+    private final ReconnectBackoff backoff;
+
+    /** 담당 스트림 (예: btcusdt@trade) */
+    private final Set<String> streams = new LinkedHashSet<>();
+    private final AtomicLong requestId = new AtomicLong();
+
+    private volatile WebSocketSession session;
+    private volatile boolean closed;
+
+    private volatile boolean reconnectScheduled;
+
+    BinanceStreamConnection(int index, String role, String baseUrl, BinanceWebSocketHandler handler,
+            ScheduledExecutorService scheduler, ReconnectBackoff backoff) {
+        this.index = index;
+        this.role = role;
+        this.baseUrl = baseUrl;
+        this.handler = handler;
+        this.scheduler = scheduler;
+        this.backoff = backoff;
+    }
+
+    String name() {
+        return index + "-" + role;
+    }
+
+    boolean isConnected() {
+        WebSocketSession current = session;
+        return current != null && current.isOpen();
+    }
+
+    synchronized int streamCount() {
+        return streams.size();
+    }
+
+    /**
+     * 스트림을 추가합니다. 연결되어 있으면 SUBSCRIBE 프레임을 보냅니다.
+     */
+    synchronized void subscribe(Collection<String> names) {
+        List<String> added = new ArrayList<>();
+        for (String name : names) {
+            if (streams.add(name)) {
+                added.add(name);
+            }
+        }
+        if (!added.isEmpty() && isConnected()) {
+            sendControl("SUBSCRIBE", added);
+        }
+    }
+
+    /**
+     * 스트림을 제거합니다. 연결되어 있으면 UNSUBSCRIBE 프레임을 보냅니다.
+     */
+    synchronized void unsubscribe(Collection<String> names) {
+        List<String> removed = new ArrayList<>();
+        for (String name : names) {
+            if (streams.remove(name)) {
+                removed.add(name);
+            }
+        }
+        if (!removed.isEmpty() && isConnected()) {
+            sendControl("UNSUBSCRIBE", removed);
+        }
+    }
+
+    void connect() {
+        reconnectScheduled = false;
+        if (closed) {
+            return;
+        }
+        try {
+            WebSocketClient client = new StandardWebSocketClient();
+            client.execute(new AbstractWebSocketHandler() {
+                @Override
+                public void afterConnectionEstablished(WebSocketSession session) {
+                    BinanceStreamConnection.this.session = session;
+                    backoff.reset();
+                    log.info("Connected to Binance WebSocket: connection={}, streams={}", name(), streamCount());
+                }
+
+                @Override
+                public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                    if (message instanceof PingMessage ping) {
+                        send(new PongMessage(ping.getPayload()));
+                    } else if (message instanceof TextMessage text) {
+                        handler.handleMessage(text.getPayload());
+                    } else {
+                        log.warn("Unhandled WebSocket message: connection={}, message={}", name(), message);
+                    }
+                }
+
+                @Override
+                public void handleTransportError(WebSocketSession session, Throwable exception) {
+                    log.error("WebSocket transport error: connection={}", name(), exception);
+                    reconnectWithDelay();
+                }
+
+                @Override
+                public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+                    log.warn("WebSocket connection closed: connection={}, status={}", name(), status);
+                    reconnectWithDelay();
+                }
+            }, new WebSocketHttpHeaders(), URI.create(streamUrl())).whenComplete((established, error) -> {
+                // 핸드셰이크가 비동기로 실패하면(DNS, 연결 거부, TLS) 핸들러 콜백이 오지 않으므로 여기서 재연결
+                if (error != null) {
+                    log.error("WebSocket handshake failed, retrying: connection={}", name(), error);
+                    reconnectWithDelay();
+                }
+            });
+        } catch (Exception e) {
+            log.error("WebSocket connection failed, retrying: connection={}", name(), e);
+            reconnectWithDelay();
+        }
+    }
+
+    void ping() {
+        try {
+            if (isConnected()) {
+                send(new PingMessage());
+                log.debug("Ping message sent: connection={}", name());
+            }
+        } catch (Exception e) {
+            log.error("Failed to send ping: connection={}", name(), e);
+        }
+    }
+
+    void close() {
+        closed = true;
+        try {
+            if (isConnected()) {
+                session.close();
+            }
+        } catch (Exception e) {
+            log.error("Error closing WebSocket session: connection={}", name(), e);
+        }
+    }
+
+    private void reconnectWithDelay() {
+        WebSocketSession current = session;
+        if (current != null && current.isOpen()) {
+            try {
+                current.close(CloseStatus.GOING_AWAY);
+            } catch (IOException e) {
+                log.error("Failed to close existing WebSocket session before reconnecting", e);
+            }
+        }
+        // 전송 오류 후 종료 콜백이 이어서 오는 경우 재연결을 한 번만 예약
+        if (!closed && !reconnectScheduled) {
+            reconnectScheduled = true;
+            long delay = backoff.nextDelayMillis();
+            log.info("Reconnecting in {}ms: connection={}", delay, name());
+            scheduler.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized String streamUrl() {
+        if (streams.isEmpty()) {
+            return baseUrl;
+        }
+        return baseUrl + "?streams=" + String.join("/", streams);
+    }
+
+    private void sendControl(String method, List<String> names) {
+        String frame = "{\"method\":\"" + method + "\",\"params\":[\"" + String.join("\",\"", names)
+            + "\"],\"id\":" + requestId.incrementAndGet() + "}";
+        try {
+            send(new TextMessage(frame));
+            log.info("Sent {}: connection={}, streams={}", method, name(), names);
+        } catch (Exception e) {
+            // 전송 실패 시 재연결 과정에서 현재 스트림 목록으로 다시 구독됨
+            log.error("Failed to send {}: connection={}", method, name(), e);
+        }
+    }
+
+    /**
+     * 세션 전송은 스레드 안전하지 않으므로 핑/제어 프레임 전송을 직렬화합니다.
+     */
+    private synchronized void send(WebSocketMessage<?> message) throws IOException {
+        WebSocketSession current = session;
+        if (current != null && current.isOpen()) {
+            current.sendMessage(message);
+        }
+    }
+}
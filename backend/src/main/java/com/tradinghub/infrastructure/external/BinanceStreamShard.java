@@ -0,0 +1,63 @@
+package com.tradinghub.infrastructure.external;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * 같은 스트림 목록을 구독하는 연결 묶음 (주 연결 + 대기 연결)
+ *
+ * 대기 연결은 주 연결과 동일한 메시지를 항상 받고 있으므로, 한 연결이 끊겨 재연결하는 동안에도
+ * 다른 연결로 공백 없이 수신이 이어집니다. 중복 메시지는 {@link MarketDataSequencer}가 제거합니다.
+ */
+class BinanceStreamShard {
+    private final int index;
+    private final List<BinanceStreamConnection> replicas = new ArrayList<>();
+
+    BinanceStreamShard(int index, boolean hotStandby, String baseUrl, BinanceWebSocketHandler handler,
+            ScheduledExecutorService scheduler, long backoffInitialMillis, long backoffMaxMillis) {
+        this.index = index;
+        replicas.add(new BinanceStreamConnection(index, "primary", baseUrl, handler, scheduler,
+            new ReconnectBackoff(backoffInitialMillis, backoffMaxMillis)));
+        if (hotStandby) {
+            replicas.add(new BinanceStreamConnection(index, "standby", baseUrl, handler, scheduler,
+                new ReconnectBackoff(backoffInitialMillis, backoffMaxMillis)));
+        }
+    }
+
+    int index() {
+        return index;
+    }
+
+    /**
+     * 하나 이상의 연결이 수신 중이면 true
+     */
+    boolean isConnected() {
+        return replicas.stream().anyMatch(BinanceStreamConnection::isConnected);
+    }
+
+    int streamCount() {
+        return replicas.get(0).streamCount();
+    }
+
+    void subscribe(Collection<String> names) {
+        replicas.forEach(replica -> replica.subscribe(names));
+    }
+
+    void unsubscribe(Collection<String> names) {
+        replicas.forEach(replica -> replica.unsubscribe(names));
+    }
+
+    void connect() {
+        replicas.forEach(BinanceStreamConnection::connect);
+    }
+
+    void ping() {
+        replicas.forEach(BinanceStreamConnection::ping);
+    }
+
+    void close() {
+        replicas.forEach(BinanceStreamConnection::close);
+    }
+}
@@ -2,10 +2,9 @@ package com.tradinghub.infrastructure.external;
 
 import org.springframework.stereotype.Component;
 
-import com.tradinghub.application.dto.ParsedBinanceMessage;
-import com.tradinghub.application.handler.BinanceMessagePublisher;
+import com.tradinghub.application.dto.market.MarketDataEvent;
 import com.tradinghub.application.parser.BinanceMessageParser;
-import com.tradinghub.application.usecase.order.ExecuteReadyOrdersUseCase;
+import com.tradinghub.infrastructure.recording.MarketDataRecorder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,21 +15,25 @@ import lombok.extern.slf4j.Slf4j;
 public class BinanceWebSocketHandler {
 
     private final BinanceMessageParser parser;
-    private final BinanceMessagePublisher publisher;
-    private final ExecuteReadyOrdersUseCase executeReadyOrdersUseCase;
+    private final MarketDataSequencer sequencer;
+    private final MarketDataRecorder recorder;
 
     public void handleMessage(String payload) {
+        recorder.record(payload);
         try {
-            ParsedBinanceMessage message = parser.parse(payload);
-            
-            // trade 스트림인 경우 지정가 주문 처리
-            if ("trade".equals(message.streamType())) {
-                executeReadyOrdersUseCase.execute(message.symbol(), message.data());
+            MarketDataEvent event = parser.parse(payload);
+            if (event == null) {
+                log.debug("Skipping unsupported Binance message");
+                return;
+            }
+
+            // 중복 제거 후 심볼별 워커로 넘기고 수신 스레드는 바로 반환
+            if (!sequencer.handle(event)) {
+                log.debug("Skipped market data event: symbol={}, stream={}",
+                    event.getSymbol(), event.streamType().suffix());
             }
-            
-            publisher.handle(message);
         } catch (Exception e) {
             log.error("Error parsing Binance message", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,231 @@
+package com.tradinghub.infrastructure.external;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.application.dto.market.DepthSnapshot;
+import com.tradinghub.application.dto.market.MarketDataEvent;
+import com.tradinghub.application.dto.market.TickerSnapshot;
+import com.tradinghub.application.dto.market.TradeTick;
+import com.tradinghub.common.SymbolRegistry;
+import com.tradinghub.infrastructure.pipeline.MarketDataPipeline;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 연결에서 들어오는 시세 이벤트의 순서를 확인하고 중복을 제거한 뒤 파이프라인에 발행합니다.
+ *
+ * <ul>
+ *   <li>trade: 체결 ID 연속성을 확인합니다. 건너뛴 ID는 유예 시간 동안 다른 연결에서 늦게 도착하기를
+ *       기다리고, 끝내 도착하지 않으면 {@link TradeGapReplayer}로 재전송을 요청합니다.</li>
+ *   <li>depth20: 매번 전체 상위 호가를 담은 스냅샷이므로 lastUpdateId가 증가한 것만 받으며,
+ *       공백이 생겨도 다음 스냅샷으로 호가가 다시 맞춰집니다.</li>
+ *   <li>ticker: 이벤트 시각이 증가한 것만 받습니다.</li>
+ * </ul>
+ *
+ * 심볼별로 잠금을 잡고 발행하므로 주 연결과 대기 연결이 같은 심볼을 받더라도
+ * 심볼별 링 버퍼의 생산자는 한 번에 하나입니다.
+ */
+@Slf4j
+@Component
+public class MarketDataSequencer {
+    /** 유예 중에 추적할 수 있는 최대 누락 ID 범위 (넘으면 즉시 재전송) */
+    private static final int MAX_TRACKED_GAP = 4096;
+
+    private final MarketDataPipeline pipeline;
+    private final TradeGapReplayer replayer;
+    private final long graceNanos;
+
+    /** 심볼 ID로 색인되는 순서 상태 */
+    private volatile SymbolSequence[] sequences = new SymbolSequence[0];
+
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong lateArrivals = new AtomicLong();
+
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "md-sequencer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MarketDataSequencer(
+            MarketDataPipeline pipeline,
+            TradeGapReplayer replayer,
+            @Value("${binance.replay.grace-ms:1000}") long graceMillis) {
+        this.pipeline = pipeline;
+        this.replayer = replayer;
+        this.graceNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, graceMillis));
+    }
+
+    @PostConstruct
+    public void startSweeper() {
+        long intervalMillis = Math.max(100L, TimeUnit.NANOSECONDS.toMillis(graceNanos));
+        // 이후 체결이 없는 심볼의 유예 만료 처리
+        sweeper.scheduleWithFixedDelay(this::sweep, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * 이벤트를 검사하여 새 이벤트이면 파이프라인에 발행합니다.
+     *
+     * @return 발행했으면 true, 중복이거나 버퍼가 가득 찼으면 false
+     */
+    public boolean handle(MarketDataEvent event) {
+        SymbolSequence sequence = sequence(event.getSymbolId());
+        synchronized (sequence) {
+            boolean accepted;
+            if (event instanceof TradeTick trade) {
+                accepted = sequence.acceptTrade(trade.getTradeId());
+            } else if (event instanceof DepthSnapshot depth) {
+                accepted = sequence.acceptDepth(depth.getLastUpdateId());
+            } else if (event instanceof TickerSnapshot) {
+                accepted = sequence.acceptTicker(event.getEventTime());
+            } else {
+                accepted = true;
+            }
+
+            if (!accepted) {
+                duplicates.incrementAndGet();
+                return false;
+            }
+            return pipeline.publish(event);
+        }
+    }
+
+    public long duplicateCount() {
+        return duplicates.get();
+    }
+
+    public long lateArrivalCount() {
+        return lateArrivals.get();
+    }
+
+    private void sweep() {
+        for (SymbolSequence sequence : sequences) {
+            if (sequence != null) {
+                synchronized (sequence) {
+                    sequence.replayIfExpired(System.nanoTime());
+                }
+            }
+        }
+    }
+
+    private SymbolSequence sequence(int symbolId) {
+        SymbolSequence[] current = sequences;
+        if (symbolId < current.length && current[symbolId] != null) {
+            return current[symbolId];
+        }
+        return createSequence(symbolId);
+    }
+
+    private synchronized SymbolSequence createSequence(int symbolId) {
+        SymbolSequence[] current = sequences;
+        if (symbolId < current.length && current[symbolId] != null) {
+            return current[symbolId];
+        }
+        SymbolSequence[] grown = symbolId < current.length ? current.clone() : Arrays.copyOf(current, symbolId + 1);
+        grown[symbolId] = new SymbolSequence(symbolId);
+        sequences = grown;
+        return grown[symbolId];
+    }
+
+    /**
+     * 심볼별 순서 상태 (해당 인스턴스의 잠금 안에서만 접근)
+     */
+    private final class SymbolSequence {
+        private final int symbolId;
+        private long lastTradeId;
+        private long lastDepthUpdateId;
+        private long lastTickerTime;
+
+        /** 아직 도착하지 않은 체결 ID (missingBase 기준 오프셋) */
+        private final BitSet missing = new BitSet();
+        private long missingBase;
+        private long missingDeadline;
+
+        SymbolSequence(int symbolId) {
+            this.symbolId = symbolId;
+        }
+
+        boolean acceptTrade(long tradeId) {
+            long now = System.nanoTime();
+            replayIfExpired(now);
+
+            if (tradeId > lastTradeId) {
+                if (lastTradeId > 0 && tradeId > lastTradeId + 1) {
+                    trackGap(lastTradeId + 1, tradeId - 1, now);
+                }
+                lastTradeId = tradeId;
+                return true;
+            }
+
+            // 다른 연결에서 먼저 도착한 ID 이후에 늦게 도착한 체결
+            long offset = tradeId - missingBase;
+            if (!missing.isEmpty() && offset >= 0 && offset < MAX_TRACKED_GAP && missing.get((int) offset)) {
+                missing.clear((int) offset);
+                lateArrivals.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        boolean acceptDepth(long lastUpdateId) {
+            if (lastUpdateId <= lastDepthUpdateId) {
+                return false;
+            }
+            lastDepthUpdateId = lastUpdateId;
+            return true;
+        }
+
+        boolean acceptTicker(long eventTime) {
+            if (eventTime <= lastTickerTime) {
+                return false;
+            }
+            lastTickerTime = eventTime;
+            return true;
+        }
+
+        void replayIfExpired(long now) {
+            if (!missing.isEmpty() && now - missingDeadline >= 0) {
+                replayMissing();
+            }
+        }
+
+        private void trackGap(long fromId, long toId, long now) {
+            if (!missing.isEmpty() && toId - missingBase >= MAX_TRACKED_GAP) {
+                replayMissing();
+            }
+            if (toId - fromId + 1 > MAX_TRACKED_GAP) {
+                log.warn("Trade gap detected: symbol={}, from={}, to={}", SymbolRegistry.symbol(symbolId), fromId, toId);
+                replayer.replay(symbolId, fromId, toId);
+                return;
+            }
+            if (missing.isEmpty()) {
+                missingBase = fromId;
+                missingDeadline = now + graceNanos;
+            }
+            missing.set((int) (fromId - missingBase), (int) (toId - missingBase) + 1);
+        }
+
+        private void replayMissing() {
+            long fromId = missingBase + missing.nextSetBit(0);
+            long toId = missingBase + missing.length() - 1;
+            missing.clear();
+            log.warn("Trade gap detected: symbol={}, from={}, to={}", SymbolRegistry.symbol(symbolId), fromId, toId);
+            replayer.replay(symbolId, fromId, toId);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.tradinghub.infrastructure.external;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재연결 대기 시간 계산 (지수 증가 + full jitter)
+ *
+ * 실패할 때마다 상한을 두 배로 늘리고 [0, 상한] 범위에서 무작위로 대기하여,
+ * 여러 연결이 동시에 끊겼을 때 재연결 시도가 한 시점에 몰리지 않게 합니다.
+ * 연결에 성공하면 {@link #reset()}으로 초기화합니다.
+ */
+class ReconnectBackoff {
+    private final long initialMillis;
+    private final long maxMillis;
+    private int attempts;
+
+    ReconnectBackoff(long initialMillis, long maxMillis) {
+        this.initialMillis = Math.max(1L, initialMillis);
+        this.maxMillis = Math.max(this.initialMillis, maxMillis);
+    }
+
+    synchronized long nextDelayMillis() {
+        long ceiling = initialMillis << Math.min(attempts, 30);
+        if (ceiling <= 0 || ceiling > maxMillis) {
+            ceiling = maxMillis;
+        }
+        attempts++;
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    synchronized void reset() {
+        attempts = 0;
+    }
+}
@@ -0,0 +1,128 @@
+package com.tradinghub.infrastructure.external;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.application.dto.market.TradeTick;
+import com.tradinghub.common.SymbolRegistry;
+import com.tradinghub.infrastructure.pipeline.MarketDataPipeline;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체결 ID 공백 구간의 체결을 이력 소스에서 다시 가져와 체결 판단에 반영합니다.
+ *
+ * 재전송된 체결은 구독자에게 다시 전파하지 않고 가격 구간만 파이프라인에 넘기므로,
+ * 공백 동안 가격이 지나간 지정가 주문도 다음 체결 판단에서 체결됩니다.
+ * 조회는 전용 스레드에서 수행되어 수신 스레드를 막지 않습니다.
+ */
+@Slf4j
+@Component
+public class TradeGapReplayer {
+    private static final int PAGE_SIZE = 1000;
+
+    private final TradeHistorySource historySource;
+    private final MarketDataPipeline pipeline;
+    private final long maxTrades;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "md-replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong gaps = new AtomicLong();
+    private final AtomicLong replayedTrades = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public TradeGapReplayer(
+            TradeHistorySource historySource,
+            MarketDataPipeline pipeline,
+            @Value("${binance.replay.max-trades:10000}") long maxTrades) {
+        this.historySource = historySource;
+        this.pipeline = pipeline;
+        this.maxTrades = maxTrades;
+    }
+
+    /**
+     * 체결 ID [fromId, toId] 구간의 재전송을 예약합니다.
+     */
+    public void replay(int symbolId, long fromId, long toId) {
+        gaps.incrementAndGet();
+        try {
+            executor.execute(() -> replayNow(symbolId, fromId, toId));
+        } catch (RejectedExecutionException e) {
+            log.warn("Trade replay rejected during shutdown: symbol={}, from={}, to={}",
+                SymbolRegistry.symbol(symbolId), fromId, toId);
+        }
+    }
+
+    private void replayNow(int symbolId, long fromId, long toId) {
+        String symbol = SymbolRegistry.symbol(symbolId);
+        // 공백이 너무 크면 가장 최근 구간만 가져옴
+        long from = Math.max(fromId, toId - maxTrades + 1);
+        if (from > fromId) {
+            log.warn("Trade gap exceeds replay limit, replaying latest {} trades only: symbol={}, from={}, to={}",
+                maxTrades, symbol, fromId, toId);
+        }
+
+        long low = Long.MAX_VALUE;
+        long high = Long.MIN_VALUE;
+        long count = 0;
+        long next = from;
+        try {
+            while (next <= toId) {
+                int limit = (int) Math.min(PAGE_SIZE, toId - next + 1);
+                List<TradeTick> trades = historySource.fetchTrades(symbolId, next, limit);
+                if (trades.isEmpty()) {
+                    break;
+                }
+                for (TradeTick trade : trades) {
+                    if (trade.getTradeId() > toId) {
+                        break;
+                    }
+                    low = Math.min(low, trade.getPrice());
+                    high = Math.max(high, trade.getPrice());
+                    count++;
+                }
+                next = trades.get(trades.size() - 1).getTradeId() + 1;
+            }
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            log.error("Failed to replay missed trades: symbol={}, from={}, to={}", symbol, from, toId, e);
+        }
+
+        if (count == 0) {
+            log.warn("No missed trades could be replayed: symbol={}, from={}, to={}", symbol, from, toId);
+            return;
+        }
+        pipeline.recoverMissedTrades(symbolId, low, high);
+        replayedTrades.addAndGet(count);
+        log.info("Replayed missed trades: symbol={}, from={}, to={}, replayed={}, low={}, high={}",
+            symbol, from, toId, count, low, high);
+    }
+
+    public long gapCount() {
+        return gaps.get();
+    }
+
+    public long replayedTradeCount() {
+        return replayedTrades.get();
+    }
+
+    public long failureCount() {
+        return failures.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
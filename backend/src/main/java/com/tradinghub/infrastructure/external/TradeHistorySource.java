@@ -0,0 +1,21 @@
+package com.tradinghub.infrastructure.external;
+
+import java.util.List;
+
+import com.tradinghub.application.dto.market.TradeTick;
+
+/**
+ * 놓친 체결을 다시 가져오기 위한 체결 이력 조회
+ */
+public interface TradeHistorySource {
+
+    /**
+     * fromId부터 체결 ID 순서로 최대 limit개의 체결을 조회합니다.
+     *
+     * @param symbolId 심볼 ID
+     * @param fromId   첫 체결 ID (포함)
+     * @param limit    최대 개수
+     * @return 체결 목록 (없으면 빈 목록)
+     */
+    List<TradeTick> fetchTrades(int symbolId, long fromId, int limit);
+}
@@ -0,0 +1,318 @@
+package com.tradinghub.infrastructure.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.application.port.OrderJournalPort;
+import com.tradinghub.domain.model.order.OrderBook;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세그먼트 파일 기반 호가창 저널 (order.journal.enabled=true일 때 기록)
+ *
+ * 디렉터리 구성:
+ * <pre>
+ * journal-{generation}.log  : 호가창 변경 기록 (세대마다 새 파일)
+ * snapshot-{generation}.snap: 해당 세대 세그먼트가 시작될 때의 호가창
+ * </pre>
+ * 기록과 세그먼트 전환은 같은 잠금 아래에서 일어나므로 전환 중의 기록은 어느 한 세그먼트에만 남습니다.
+ * 스냅샷은 새 세대 세그먼트로 전환한 뒤 DB 워터마크를 읽고 호가창을 복사해 만듭니다. 복사 도중의 변경은 새 세그먼트에도
+ * 기록되며, 추가/제거/수량 변경은 같은 결과를 여러 번 적용해도 같으므로 스냅샷에 새 세그먼트를 재생하면
+ * 정확한 호가창이 됩니다. 스냅샷이 완성되면 그 이전 세대의 파일은 삭제합니다.
+ *
+ * 기록은 메모리 맵 쓰기로 끝나므로 프로세스 종료에는 안전하며, OS 장애까지 대비하려면
+ * order.journal.fsync=true로 레코드마다 디스크에 강제 기록합니다.
+ */
+@Slf4j
+@Component
+public class FileOrderJournal implements OrderJournalPort {
+    private static final Pattern SEGMENT = Pattern.compile("journal-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d+)\\.snap");
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long regionSize;
+    private final boolean fsync;
+    private final long snapshotIntervalSec;
+
+    private final Object snapshotLock = new Object();
+    private OrderJournalWriter writer;
+    private long generation;
+    private ScheduledExecutorService snapshotter;
+    private volatile Supplier<Snapshot> snapshots;
+
+    public FileOrderJournal(
+            @Value("${order.journal.enabled:false}") boolean enabled,
+            @Value("${order.journal.path:order-journal}") String path,
+            @Value("${order.journal.region-size-mb:64}") long regionSizeMb,
+            @Value("${order.journal.fsync:false}") boolean fsync,
+            @Value("${order.journal.snapshot-interval-sec:300}") long snapshotIntervalSec) {
+        this.enabled = enabled;
+        this.directory = Path.of(path);
+        this.regionSize = regionSizeMb * 1024 * 1024;
+        this.fsync = fsync;
+        this.snapshotIntervalSec = snapshotIntervalSec;
+    }
+
+    @PostConstruct
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            generation = Math.max(maxGeneration(SEGMENT), maxGeneration(SNAPSHOT)) + 1;
+            writer = new OrderJournalWriter(segmentPath(generation), generation, regionSize, fsync);
+            log.info("Order journal opened: path={}, generation={}", directory.toAbsolutePath(), generation);
+        } catch (IOException e) {
+            log.error("Failed to open order journal: {}", directory, e);
+        }
+    }
+
+    @Override
+    public synchronized void recordAdded(String symbol, OrderBook.Entry entry) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.appendAdded(symbol, entry.orderId(), entry.side(), entry.price(), entry.quantity());
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public synchronized void recordRemoved(String symbol, long orderId) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.appendRemoved(symbol, orderId);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public synchronized void recordUpdated(String symbol, long orderId, long quantity) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.appendUpdated(symbol, orderId, quantity);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public Optional<Recovery> replay(Listener listener) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            long snapshotGeneration = maxGeneration(SNAPSHOT);
+            if (snapshotGeneration < 0) {
+                return Optional.empty();
+            }
+            long started = System.nanoTime();
+            Recovery snapshot = OrderBookSnapshot.read(snapshotPath(snapshotGeneration), listener);
+            long lastMillis = snapshot.lastRecordAt();
+            long records = 0;
+            for (long segment : generations(SEGMENT)) {
+                if (segment < snapshotGeneration || segment >= generation) {
+                    continue;
+                }
+                try (OrderJournalReader reader = new OrderJournalReader(segmentPath(segment))) {
+                    while (reader.next()) {
+                        if (reader.isAdded()) {
+                            listener.added(reader.symbol(),
+                                new OrderBook.Entry(reader.orderId(), reader.side(), reader.price(), reader.quantity()));
+                        } else if (reader.isUpdated()) {
+                            listener.updated(reader.symbol(), reader.orderId(), reader.quantity());
+                        } else {
+                            listener.removed(reader.symbol(), reader.orderId());
+                        }
+                        lastMillis = Math.max(lastMillis, reader.epochMillis());
+                        records++;
+                    }
+                }
+            }
+            log.info("Order journal replayed: snapshot={}, records={}, elapsedMs={}",
+                snapshotGeneration, records, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return Optional.of(new Recovery(lastMillis, snapshot.orderIdWatermark()));
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to replay order journal: {}", directory, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void scheduleSnapshots(Supplier<Snapshot> snapshots) {
+        if (!isOpen()) {
+            return;
+        }
+        this.snapshots = snapshots;
+        // 첫 스냅샷은 호출 스레드에서 만들어, 이후 기동은 항상 이 스냅샷부터 재생할 수 있게 함
+        snapshot();
+        snapshotter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "order-journal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1L, snapshotIntervalSec);
+        snapshotter.scheduleWithFixedDelay(this::snapshot, interval, interval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 새 세그먼트로 전환하고 호가창 스냅샷을 만든 뒤 이전 세대 파일을 정리합니다.
+     */
+    public void snapshot() {
+        synchronized (snapshotLock) {
+            Supplier<Snapshot> source = snapshots;
+            if (source == null) {
+                return;
+            }
+            try {
+                long takenAt = System.currentTimeMillis();
+                long snapshotGeneration = rotate();
+                if (snapshotGeneration < 0) {
+                    return;
+                }
+                long started = System.nanoTime();
+                int orders = OrderBookSnapshot.write(snapshotPath(snapshotGeneration), snapshotGeneration,
+                    takenAt, source.get());
+                deleteBefore(snapshotGeneration);
+                log.info("Order book snapshot written: generation={}, orders={}, elapsedMs={}",
+                    snapshotGeneration, orders, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to write order book snapshot", e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (snapshotter != null) {
+            snapshotter.shutdownNow();
+        }
+        // 종료 시 스냅샷을 남겨 다음 기동 때 재생할 저널을 최소화
+        snapshot();
+        synchronized (this) {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.error("Failed to close order journal", e);
+            }
+            writer = null;
+        }
+    }
+
+    private synchronized boolean isOpen() {
+        return writer != null;
+    }
+
+    /**
+     * @return 새 세그먼트의 세대 번호. 저널이 닫혔으면 -1
+     */
+    private synchronized long rotate() throws IOException {
+        if (writer == null) {
+            return -1L;
+        }
+        writer.close();
+        generation++;
+        writer = new OrderJournalWriter(segmentPath(generation), generation, regionSize, fsync);
+        return generation;
+    }
+
+    /**
+     * 기록에 실패하면 저널에 빈틈이 생기므로, 다음 기동 때 저널 대신 DB로 호가창을 다시 만들도록
+     * 스냅샷을 모두 지우고 기록을 멈춥니다.
+     */
+    private synchronized void fail(IOException e) {
+        if (writer == null) {
+            return;
+        }
+        log.error("Failed to append to order journal, journaling stopped", e);
+        try {
+            writer.close();
+        } catch (IOException ignored) {
+            // 이미 실패한 세그먼트
+        }
+        writer = null;
+        snapshots = null;
+        try {
+            for (long snapshot : generations(SNAPSHOT)) {
+                Files.deleteIfExists(snapshotPath(snapshot));
+            }
+        } catch (IOException deleteFailure) {
+            log.error("Failed to invalidate order book snapshots: {}", directory, deleteFailure);
+        }
+    }
+
+    private void deleteBefore(long snapshotGeneration) throws IOException {
+        for (long segment : generations(SEGMENT)) {
+            if (segment < snapshotGeneration) {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        }
+        for (long snapshot : generations(SNAPSHOT)) {
+            if (snapshot < snapshotGeneration) {
+                Files.deleteIfExists(snapshotPath(snapshot));
+            }
+        }
+    }
+
+    private long maxGeneration(Pattern pattern) throws IOException {
+        List<Long> generations = generations(pattern);
+        return generations.isEmpty() ? -1L : generations.get(generations.size() - 1);
+    }
+
+    /**
+     * @return 디렉터리에 있는 파일의 세대 번호 (오름차순)
+     */
+    private List<Long> generations(Pattern pattern) throws IOException {
+        List<Long> generations = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return generations;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = pattern.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    generations.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+        generations.sort(null);
+        return generations;
+    }
+
+    private Path segmentPath(long generation) {
+        return directory.resolve(String.format("journal-%016d.log", generation));
+    }
+
+    private Path snapshotPath(long generation) {
+        return directory.resolve(String.format("snapshot-%016d.snap", generation));
+    }
+}
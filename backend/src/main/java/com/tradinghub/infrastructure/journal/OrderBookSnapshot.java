@@ -0,0 +1,112 @@
+package com.tradinghub.infrastructure.journal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+
+import com.tradinghub.application.port.OrderJournalPort;
+import com.tradinghub.domain.model.order.Order.OrderSide;
+import com.tradinghub.domain.model.order.OrderBook;
+
+/**
+ * 심볼별 호가창 스냅샷 파일 읽기/쓰기
+ *
+ * 파일 형식 (빅 엔디언):
+ * <pre>
+ * header : magic(int) version(int) generation(long) takenAtEpochMillis(long) orderIdWatermark(long) symbolCount(int)
+ * symbol : symbol(UTF) entryCount(int) entry*
+ * entry  : orderId(long) side(byte) price(long) quantity(long)
+ * footer : magic(int)
+ * </pre>
+ * 임시 파일에 쓴 뒤 이름을 바꾸므로, 완성된 스냅샷만 보입니다.
+ * 주문은 체결 우선순위 순서로 저장되어 읽은 순서대로 추가하면 같은 호가창이 됩니다.
+ */
+final class OrderBookSnapshot {
+    static final int MAGIC = 0x4F425331; // "OBS1"
+    static final int VERSION = 3;
+    private static final OrderSide[] SIDES = OrderSide.values();
+
+    private OrderBookSnapshot() {
+    }
+
+    /**
+     * @return 저장한 주문 수
+     */
+    static int write(Path path, long generation, long takenAtEpochMillis,
+                     OrderJournalPort.Snapshot snapshot) throws IOException {
+        Map<String, List<OrderBook.Entry>> books = snapshot.books();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        int count = 0;
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(generation);
+            out.writeLong(takenAtEpochMillis);
+            out.writeLong(snapshot.orderIdWatermark());
+            out.writeInt(books.size());
+            for (Map.Entry<String, List<OrderBook.Entry>> book : books.entrySet()) {
+                out.writeUTF(book.getKey());
+                out.writeInt(book.getValue().size());
+                for (OrderBook.Entry entry : book.getValue()) {
+                    out.writeLong(entry.orderId());
+                    out.writeByte(entry.side().ordinal());
+                    out.writeLong(entry.price());
+                    out.writeLong(entry.quantity());
+                }
+                count += book.getValue().size();
+            }
+            out.writeInt(MAGIC);
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+
+    /**
+     * 스냅샷의 주문을 저장된 순서대로 리스너에 전달합니다.
+     *
+     * @return 스냅샷 생성 시각(epoch millis)과 DB 워터마크
+     */
+    static OrderJournalPort.Recovery read(Path path, OrderJournalPort.Listener listener) throws IOException {
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file, 1 << 16))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an order book snapshot: " + path);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported order book snapshot version " + version + ": " + path);
+            }
+            in.readLong();
+            long takenAt = in.readLong();
+            long orderIdWatermark = in.readLong();
+            int symbols = in.readInt();
+            for (int i = 0; i < symbols; i++) {
+                String symbol = in.readUTF();
+                int entries = in.readInt();
+                for (int j = 0; j < entries; j++) {
+                    long orderId = in.readLong();
+                    OrderSide side = SIDES[in.readByte()];
+                    long price = in.readLong();
+                    long quantity = in.readLong();
+                    listener.added(symbol, new OrderBook.Entry(orderId, side, price, quantity));
+                }
+            }
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Truncated order book snapshot: " + path);
+            }
+            return new OrderJournalPort.Recovery(takenAt, orderIdWatermark);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.tradinghub.infrastructure.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.tradinghub.domain.model.order.Order.OrderSide;
+
+/**
+ * {@link OrderJournalWriter}가 기록한 세그먼트를 메모리 맵으로 순차 읽기합니다.
+ *
+ * <pre>
+ * while (reader.next()) {
+ *     if (reader.isAdded()) { ... } else if (reader.isUpdated()) { ... } else { ... }
+ * }
+ * </pre>
+ */
+public class OrderJournalReader implements Closeable {
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+    private static final OrderSide[] SIDES = OrderSide.values();
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long generation;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    private byte type;
+    private long epochMillis;
+    private long orderId;
+    private OrderSide side;
+    private long price;
+    private long quantity;
+    private String symbol;
+
+    public OrderJournalReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        if (fileSize < OrderJournalWriter.HEADER_SIZE) {
+            channel.close();
+            throw new IOException("Not an order journal segment: " + path);
+        }
+        map(0L, OrderJournalWriter.HEADER_SIZE);
+        if (window.getInt() != OrderJournalWriter.MAGIC) {
+            channel.close();
+            throw new IOException("Not an order journal segment: " + path);
+        }
+        int version = window.getInt();
+        if (version != OrderJournalWriter.VERSION) {
+            channel.close();
+            throw new IOException("Unsupported order journal version " + version + ": " + path);
+        }
+        this.generation = window.getLong();
+        this.position = OrderJournalWriter.HEADER_SIZE;
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * 다음 레코드로 이동합니다.
+     *
+     * @return 레코드가 있으면 true, 기록의 끝이면 false
+     */
+    public boolean next() throws IOException {
+        if (position + OrderJournalWriter.LENGTH_SIZE > fileSize) {
+            return false;
+        }
+        ensureMapped(OrderJournalWriter.LENGTH_SIZE);
+        int length = window.getInt((int) (position - windowStart));
+        if (length < OrderJournalWriter.FIXED_BODY_SIZE
+                || position + OrderJournalWriter.LENGTH_SIZE + length > fileSize) {
+            return false;
+        }
+        ensureMapped(OrderJournalWriter.LENGTH_SIZE + length);
+
+        int offset = (int) (position - windowStart) + OrderJournalWriter.LENGTH_SIZE;
+        type = window.get(offset);
+        epochMillis = window.getLong(offset + 1);
+        orderId = window.getLong(offset + 9);
+        byte sideCode = window.get(offset + 17);
+        side = sideCode == 0 ? null : SIDES[sideCode - 1];
+        price = window.getLong(offset + 18);
+        quantity = window.getLong(offset + 26);
+        byte[] symbolBytes = new byte[window.get(offset + 34)];
+        window.get(offset + 35, symbolBytes);
+        symbol = new String(symbolBytes, StandardCharsets.US_ASCII);
+        position += OrderJournalWriter.LENGTH_SIZE + length;
+        return true;
+    }
+
+    /** 현재 레코드가 호가창 추가인지 여부 */
+    public boolean isAdded() {
+        return type == OrderJournalWriter.ADDED;
+    }
+
+    /** 현재 레코드가 남은 수량 변경인지 여부 (추가도 변경도 아니면 제거) */
+    public boolean isUpdated() {
+        return type == OrderJournalWriter.UPDATED;
+    }
+
+    public long epochMillis() {
+        return epochMillis;
+    }
+
+    public long orderId() {
+        return orderId;
+    }
+
+    /** 추가 레코드의 매수/매도 (제거 레코드는 null) */
+    public OrderSide side() {
+        return side;
+    }
+
+    /** 추가 레코드의 주문 가격 (배율 값) */
+    public long price() {
+        return price;
+    }
+
+    /** 추가/수량 변경 레코드의 남은 수량 (배율 값) */
+    public long quantity() {
+        return quantity;
+    }
+
+    public String symbol() {
+        return symbol;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private void ensureMapped(int length) throws IOException {
+        if (position < windowStart || position + length > windowStart + window.limit()) {
+            map(position, length);
+        }
+    }
+
+    private void map(long start, int required) throws IOException {
+        long size = Math.min(Math.max(WINDOW_SIZE, required), fileSize - start);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        windowStart = start;
+    }
+}
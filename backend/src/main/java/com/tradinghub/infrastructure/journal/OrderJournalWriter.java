@@ -0,0 +1,130 @@
+package com.tradinghub.infrastructure.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.tradinghub.domain.model.order.Order.OrderSide;
+
+/**
+ * 호가창 변경을 메모리 맵 세그먼트 파일에 순서대로 기록합니다.
+ *
+ * 파일 형식 (빅 엔디언):
+ * <pre>
+ * header : magic(int) version(int) generation(long)
+ * record : length(int, > 0) type(byte) epochMillis(long) orderId(long) side(byte) price(long)
+ *          quantity(long) symbolLength(byte) symbol(ASCII)
+ * </pre>
+ * 수량 변경(UPDATED) 레코드는 side/price 없이 남은 수량만 담으며, 제거(REMOVED) 레코드는 orderId만 담습니다.
+ * 레코드 본문을 먼저 쓰고 길이를 마지막에 쓰므로, 기록 도중 프로세스가 종료되어도
+ * 길이가 0인 레코드(기록의 끝)로 읽혀 반쯤 쓰인 레코드는 재생되지 않습니다.
+ */
+public class OrderJournalWriter implements Closeable {
+    static final int MAGIC = 0x4F4A4E31; // "OJN1"
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 16;
+    static final int LENGTH_SIZE = 4;
+    /** symbol을 제외한 레코드 본문 크기 */
+    static final int FIXED_BODY_SIZE = 1 + 8 + 8 + 1 + 8 + 8 + 1;
+
+    static final byte ADDED = 1;
+    static final byte REMOVED = 2;
+    static final byte UPDATED = 3;
+
+    private final FileChannel channel;
+    private final long regionSize;
+    private final boolean fsync;
+
+    private MappedByteBuffer region;
+    private long regionStart;
+
+    /**
+     * @param path       세그먼트 파일 (있으면 덮어씀)
+     * @param generation 세그먼트 세대 번호
+     * @param regionSize 한 번에 매핑할 크기 (바이트)
+     * @param fsync      레코드마다 디스크에 강제 기록할지 여부
+     */
+    public OrderJournalWriter(Path path, long generation, long regionSize, boolean fsync) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.regionSize = Math.max(regionSize, HEADER_SIZE);
+        this.fsync = fsync;
+        map(0L, this.regionSize);
+        region.putInt(MAGIC);
+        region.putInt(VERSION);
+        region.putLong(generation);
+        region.force();
+    }
+
+    public synchronized void appendAdded(String symbol, long orderId, OrderSide side, long price, long quantity)
+            throws IOException {
+        append(ADDED, symbol, orderId, side, price, quantity);
+    }
+
+    public synchronized void appendRemoved(String symbol, long orderId) throws IOException {
+        append(REMOVED, symbol, orderId, null, 0L, 0L);
+    }
+
+    public synchronized void appendUpdated(String symbol, long orderId, long quantity) throws IOException {
+        append(UPDATED, symbol, orderId, null, 0L, quantity);
+    }
+
+    /**
+     * 기록된 바이트 수 (헤더 포함)
+     */
+    public synchronized long size() {
+        return region == null ? 0L : regionStart + region.position();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (region == null) {
+            return;
+        }
+        long end = regionStart + region.position();
+        region.force();
+        region = null;
+        channel.truncate(end);
+        channel.force(true);
+        channel.close();
+    }
+
+    private void append(byte type, String symbol, long orderId, OrderSide side, long price, long quantity)
+            throws IOException {
+        if (region == null) {
+            throw new IOException("Journal segment is closed");
+        }
+        byte[] symbolBytes = symbol.getBytes(StandardCharsets.US_ASCII);
+        int length = FIXED_BODY_SIZE + symbolBytes.length;
+        int required = LENGTH_SIZE + length;
+        if (region.remaining() < required) {
+            map(regionStart + region.position(), Math.max(regionSize, required));
+        }
+        int start = region.position();
+        region.position(start + LENGTH_SIZE);
+        region.put(type);
+        region.putLong(System.currentTimeMillis());
+        region.putLong(orderId);
+        region.put(side == null ? 0 : (byte) (side.ordinal() + 1));
+        region.putLong(price);
+        region.putLong(quantity);
+        region.put((byte) symbolBytes.length);
+        region.put(symbolBytes);
+        region.putInt(start, length);
+        if (fsync) {
+            region.force();
+        }
+    }
+
+    private void map(long position, long size) throws IOException {
+        if (region != null) {
+            region.force();
+        }
+        region = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+        regionStart = position;
+    }
+}
@@ -0,0 +1,90 @@
+package com.tradinghub.infrastructure.persistence;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.OrderBatchRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link OrderBatchRepository}의 JDBC 배치 구현
+ *
+ * JPA 트랜잭션과 같은 커넥션에서 실행되며, 버전 조건을 행마다 검사하여 충돌을 개별적으로 판별합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderBatchRepositoryImpl implements OrderBatchRepository {
+    private static final String FILL_SQL =
+        "UPDATE orders SET status = ?, filled_amount = ?, executed_price = ?, updated_at = ?, version = version + 1 " +
+        "WHERE id = ? AND version = ? AND status IN ('PENDING', 'PARTIALLY_FILLED')";
+
+    private static final String FILLED_VERSIONS_SQL =
+        "SELECT id, version FROM orders WHERE id IN (:ids) AND status IN ('PARTIALLY_FILLED', 'FILLED')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public boolean[] fillAll(List<Order> orders, long[] quantities, LocalDateTime filledAt) {
+        boolean[] filled = new boolean[orders.size()];
+        if (orders.isEmpty()) {
+            return filled;
+        }
+        // 보류 중인 변경을 먼저 반영하고, 이후 관리 엔티티가 배치 결과를 덮어쓰지 않도록 분리
+        entityManager.flush();
+        orders.forEach(entityManager::detach);
+
+        // 분리한 주문에 체결을 먼저 반영하고 그 결과를 기록 (버전 조건은 조회 시점의 버전)
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            order.applyFill(quantities[i], order.getScaledPrice());
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(filledAt);
+        int[] counts = jdbcTemplate.batchUpdate(FILL_SQL, orders, orders.size(), (ps, order) -> {
+            ps.setString(1, order.getStatus().name());
+            ps.setBigDecimal(2, order.getFilledAmount());
+            ps.setBigDecimal(3, order.getExecutedPrice());
+            ps.setTimestamp(4, timestamp);
+            ps.setLong(5, order.getId());
+            ps.setLong(6, order.getVersion());
+        })[0];
+
+        boolean unknown = false;
+        for (int i = 0; i < counts.length; i++) {
+            filled[i] = counts[i] > 0;
+            unknown |= counts[i] == Statement.SUCCESS_NO_INFO;
+        }
+        // 드라이버가 배치를 재작성하면 행별 결과를 주지 않으므로 갱신된 행을 다시 확인
+        if (unknown) {
+            Map<Long, Long> versions = new HashMap<>();
+            namedParameterJdbcTemplate.query(FILLED_VERSIONS_SQL,
+                new MapSqlParameterSource("ids", orders.stream().map(Order::getId).collect(Collectors.toList())),
+                rs -> {
+                    versions.put(rs.getLong("id"), rs.getLong("version"));
+                });
+            for (int i = 0; i < orders.size(); i++) {
+                Order order = orders.get(i);
+                filled[i] = Long.valueOf(order.getVersion() + 1).equals(versions.get(order.getId()));
+            }
+        }
+        return filled;
+    }
+}
@@ -0,0 +1,90 @@
+package com.tradinghub.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.common.ScaledDecimal;
+import com.tradinghub.domain.model.portfolio.PortfolioAssetBatchRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link PortfolioAssetBatchRepository}의 JDBC 구현
+ *
+ * 매수는 (portfolio_id, symbol) 고유 키에 대한 upsert 한 문장으로, MySQL은 {@code INSERT ... ON DUPLICATE KEY UPDATE},
+ * H2는 같은 의미의 {@code MERGE INTO ... USING}을 씁니다. 매도는 보유 수량 조건을 건 차감 한 문장이며,
+ * 수량이 0이 된 경우에만 행을 지웁니다. JPA 트랜잭션과 같은 커넥션에서 실행되므로 정산과 함께 커밋됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioAssetBatchRepositoryImpl implements PortfolioAssetBatchRepository {
+    // MySQL은 SET 절을 왼쪽부터 적용하므로 평균가를 수량보다 먼저 (기존 수량으로) 계산.
+    // 삽입할 행은 VALUES() 함수(8.0.20부터 폐기 예정) 대신 행 별칭(new)으로 참조 (MySQL 8.0.19 이상)
+    private static final String MYSQL_UPSERT_SQL =
+        "INSERT INTO portfolio_assets (portfolio_id, symbol, amount, average_price, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?) AS new ON DUPLICATE KEY UPDATE " +
+        "average_price = ROUND((amount * average_price + ?) / (amount + new.amount), " + ScaledDecimal.SCALE + "), " +
+        "amount = amount + new.amount, updated_at = new.updated_at";
+
+    private static final String H2_UPSERT_SQL =
+        "MERGE INTO portfolio_assets t USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(255)), " +
+        "CAST(? AS DECIMAL(" + ScaledDecimal.PRECISION + ", " + ScaledDecimal.SCALE + ")), " +
+        "CAST(? AS DECIMAL(" + ScaledDecimal.PRECISION + ", " + ScaledDecimal.SCALE + ")), CAST(? AS TIMESTAMP), " +
+        "CAST(? AS TIMESTAMP), CAST(? AS DECIMAL(" + ScaledDecimal.PRECISION + ", " + ScaledDecimal.SCALE + ")))) " +
+        "AS s(portfolio_id, symbol, amount, average_price, created_at, updated_at, cost) " +
+        "ON t.portfolio_id = s.portfolio_id AND t.symbol = s.symbol " +
+        "WHEN MATCHED THEN UPDATE SET " +
+        "average_price = ROUND((t.amount * t.average_price + s.cost) / (t.amount + s.amount), " + ScaledDecimal.SCALE + "), " +
+        "amount = t.amount + s.amount, updated_at = s.updated_at " +
+        "WHEN NOT MATCHED THEN INSERT (portfolio_id, symbol, amount, average_price, created_at, updated_at) " +
+        "VALUES (s.portfolio_id, s.symbol, s.amount, s.average_price, s.created_at, s.updated_at)";
+
+    private static final String DEDUCT_SQL =
+        "UPDATE portfolio_assets SET amount = amount - ?, updated_at = ? " +
+        "WHERE portfolio_id = ? AND symbol = ? AND amount >= ?";
+
+    private static final String DELETE_EMPTY_SQL =
+        "DELETE FROM portfolio_assets WHERE portfolio_id = ? AND symbol = ? AND amount = 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String upsertSql;
+
+    @Override
+    public void addOnBuy(Long portfolioId, String symbol, BigDecimal amount, BigDecimal cost) {
+        long quantity = ScaledDecimal.fromBigDecimal(amount);
+        BigDecimal averagePrice = ScaledDecimal.toBigDecimal(ScaledDecimal.divide(ScaledDecimal.fromBigDecimal(cost), quantity));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // 두 문장 모두 삽입할 행 값 다음에 매수 대금을 받음
+        jdbcTemplate.update(upsertSql(), portfolioId, symbol, amount, averagePrice, now, now, cost);
+    }
+
+    @Override
+    public boolean deductOnSell(Long portfolioId, String symbol, BigDecimal amount) {
+        int updated = jdbcTemplate.update(DEDUCT_SQL, amount, Timestamp.valueOf(LocalDateTime.now()), portfolioId, symbol, amount);
+        if (updated == 0) {
+            return false;
+        }
+        jdbcTemplate.update(DELETE_EMPTY_SQL, portfolioId, symbol);
+        return true;
+    }
+
+    /**
+     * 연결된 DB에 맞는 upsert 문장 (처음 사용할 때 한 번 확인)
+     */
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+            sql = "H2".equalsIgnoreCase(product) ? H2_UPSERT_SQL : MYSQL_UPSERT_SQL;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+}
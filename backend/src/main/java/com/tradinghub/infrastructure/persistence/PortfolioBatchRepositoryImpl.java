@@ -0,0 +1,48 @@
+package com.tradinghub.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.domain.model.portfolio.PortfolioBatchRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link PortfolioBatchRepository}의 JDBC 배치 구현
+ *
+ * 사용 가능 잔액 열은 이 UPDATE만 기록합니다 (엔티티에서는 updatable = false).
+ * 버전을 함께 올리므로, 기록 전에 포트폴리오를 읽은 JPA 갱신은 낙관적 락 충돌로 실패합니다.
+ * 정산 트랜잭션(비관적 잠금)이 행을 잡고 있으면 잠금이 풀린 뒤 실행됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioBatchRepositoryImpl implements PortfolioBatchRepository {
+    private static final String UPDATE_AVAILABLE_SQL =
+        "UPDATE portfolios SET available_balance = ?, version = version + 1 WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int updateAvailableBalances(Map<Long, BigDecimal> availableBalances) {
+        if (availableBalances.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<Long, BigDecimal>> rows = new ArrayList<>(availableBalances.entrySet());
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_AVAILABLE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setBigDecimal(1, row.getValue());
+            ps.setLong(2, row.getKey());
+        });
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                updated += Math.max(0, count);
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,94 @@
+package com.tradinghub.infrastructure.persistence;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.domain.model.settlement.Settlement;
+import com.tradinghub.domain.model.settlement.SettlementBatchRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link SettlementBatchRepository}의 JDBC 배치 구현
+ *
+ * JPA 트랜잭션과 같은 커넥션에서 실행되므로, 체결 트랜잭션 안에서 저장한 정산은 체결과 함께 커밋됩니다.
+ * 선점 쿼리는 {@code (status, partition_no, id)} 인덱스 범위만 읽고 잠그므로 다른 파티션의 행을 잠그지 않습니다.
+ * 파티션마다 처리 스레드가 하나뿐이라 건너뛸 잠금이 없으므로 {@code SKIP LOCKED}를 쓰지 않으며,
+ * 아직 커밋되지 않은 앞선 정산이 있으면 건너뛰지 않고 기다려 사용자별 체결 순서를 지킵니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SettlementBatchRepositoryImpl implements SettlementBatchRepository {
+    private static final String INSERT_SQL =
+        "INSERT INTO settlements (order_id, user_id, partition_no, symbol, side, amount, price, executed_at, " +
+        "status, attempts, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'PENDING', 0, ?)";
+
+    private static final String CLAIM_SQL =
+        "SELECT * FROM settlements WHERE status = 'PENDING' AND partition_no = :partitionNo " +
+        "ORDER BY id LIMIT :limit FOR UPDATE";
+
+    private static final String REPARTITION_SQL =
+        "UPDATE settlements SET partition_no = MOD(user_id, ?) WHERE status = 'PENDING' AND partition_no <> MOD(user_id, ?)";
+
+    private static final String MARK_DONE_SQL =
+        "UPDATE settlements SET status = 'DONE', processed_at = :processedAt WHERE id IN (:ids) AND status = 'PENDING'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void appendAll(List<Settlement> settlements) {
+        if (settlements.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, settlements, settlements.size(), (ps, settlement) -> {
+            ps.setLong(1, settlement.getOrderId());
+            ps.setLong(2, settlement.getUserId());
+            ps.setInt(3, settlement.getPartitionNo());
+            ps.setString(4, settlement.getSymbol());
+            ps.setString(5, settlement.getSide().name());
+            ps.setBigDecimal(6, settlement.getAmount());
+            ps.setBigDecimal(7, settlement.getPrice());
+            ps.setTimestamp(8, Timestamp.valueOf(settlement.getExecutedAt()));
+            ps.setTimestamp(9, Timestamp.valueOf(settlement.getCreatedAt()));
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Settlement> claimPending(int partitionNo, int limit) {
+        List<Settlement> claimed = entityManager.createNativeQuery(CLAIM_SQL, Settlement.class)
+            .setParameter("partitionNo", partitionNo)
+            .setParameter("limit", limit)
+            .getResultList();
+        // 완료 표시는 markDone 한 번으로 하므로 엔티티 변경이 따로 기록되지 않도록 분리
+        claimed.forEach(entityManager::detach);
+        return claimed;
+    }
+
+    @Override
+    public int repartitionPending(int partitions) {
+        return jdbcTemplate.update(REPARTITION_SQL, partitions, partitions);
+    }
+
+    @Override
+    public int markDone(List<Long> ids, LocalDateTime processedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(MARK_DONE_SQL, new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("processedAt", Timestamp.valueOf(processedAt)));
+    }
+}
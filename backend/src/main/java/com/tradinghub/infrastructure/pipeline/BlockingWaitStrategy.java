@@ -0,0 +1,50 @@
+package com.tradinghub.infrastructure.pipeline;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 락과 컨디션으로 대기하는 전략
+ * 소비자가 실제로 잠들어 있을 때만 생산자가 락을 잡아 신호를 보냅니다.
+ */
+class BlockingWaitStrategy implements WaitStrategy {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private final AtomicBoolean signalNeeded = new AtomicBoolean(false);
+
+    @Override
+    public long waitFor(long consumed, AtomicLong cursor, long timeoutNanos) throws InterruptedException {
+        long available = cursor.get();
+        if (available > consumed) {
+            return available;
+        }
+
+        long remaining = timeoutNanos;
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                signalNeeded.set(true);
+                if ((available = cursor.get()) > consumed || remaining <= 0) {
+                    return available;
+                }
+                remaining = published.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        if (signalNeeded.getAndSet(false)) {
+            lock.lock();
+            try {
+                published.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.tradinghub.infrastructure.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 코어를 점유하며 커서를 계속 확인하는 대기 전략
+ * 워커 수만큼 여유 코어가 있을 때만 사용합니다.
+ */
+class BusySpinWaitStrategy implements WaitStrategy {
+
+    @Override
+    public long waitFor(long consumed, AtomicLong cursor, long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        long available;
+        while ((available = cursor.get()) <= consumed) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                break;
+            }
+            Thread.onSpinWait();
+        }
+        return available;
+    }
+
+    @Override
+    public void signalAll() {
+    }
+}
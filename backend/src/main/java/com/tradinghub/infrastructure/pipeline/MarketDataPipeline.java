@@ -0,0 +1,151 @@
+package com.tradinghub.infrastructure.pipeline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.application.dto.market.MarketDataEvent;
+import com.tradinghub.application.handler.MarketDataProcessor;
+import com.tradinghub.common.SymbolRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수신(파싱)과 처리(체결/전파)를 분리하는 시세 파이프라인
+ *
+ * WebSocket 수신 스레드는 파싱한 이벤트를 심볼별 링 버퍼에 넣기만 하고 바로 반환합니다.
+ * 처리 단계는 심볼마다 전용 워커 스레드에서 실행되므로, 주문 체결 시 DB 지연이
+ * 소켓 읽기나 다른 심볼의 처리를 막지 않습니다.
+ * 버퍼가 가득 차면 이벤트를 버리고 유형별로 집계합니다.
+ */
+@Slf4j
+@Component
+public class MarketDataPipeline {
+
+    private final MarketDataProcessor processor;
+    private final int ringSize;
+    private final String waitStrategyName;
+    private final long statsIntervalSec;
+
+    /** 심볼 ID로 색인되는 파이프라인 (생성 시 배열 교체) */
+    private volatile SymbolPipeline[] pipelines = new SymbolPipeline[0];
+    private volatile boolean running = true;
+    private ScheduledExecutorService statsReporter;
+
+    public MarketDataPipeline(
+            MarketDataProcessor processor,
+            @Value("${binance.pipeline.ring-size:1024}") int ringSize,
+            @Value("${binance.pipeline.wait-strategy:sleeping}") String waitStrategyName,
+            @Value("${binance.pipeline.stats-interval-sec:60}") long statsIntervalSec) {
+        this.processor = processor;
+        this.ringSize = ringSize;
+        this.waitStrategyName = waitStrategyName;
+        this.statsIntervalSec = statsIntervalSec;
+        // 잘못된 전략 이름은 기동 시점에 드러나도록 미리 검증
+        WaitStrategy.create(waitStrategyName);
+    }
+
+    @PostConstruct
+    public void startStatsReporter() {
+        if (statsIntervalSec <= 0) {
+            return;
+        }
+        statsReporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "md-pipeline-stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        statsReporter.scheduleAtFixedRate(this::reportStats, statsIntervalSec, statsIntervalSec, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 이벤트를 해당 심볼의 파이프라인에 발행합니다. 호출 스레드를 막지 않습니다.
+     *
+     * @return 버퍼가 가득 차서 이벤트를 버렸으면 false
+     */
+    public boolean publish(MarketDataEvent event) {
+        if (!running) {
+            return false;
+        }
+        return pipeline(event.getSymbolId()).offer(event);
+    }
+
+    /**
+     * 이벤트로 전달되지 못한 체결(재연결 공백 등)의 가격 구간을 해당 심볼의 체결 판단에 반영합니다.
+     * 어느 스레드에서든 호출할 수 있습니다.
+     */
+    public void recoverMissedTrades(int symbolId, long low, long high) {
+        if (running) {
+            pipeline(symbolId).recordMissedTrades(low, high);
+        }
+    }
+
+    /**
+     * 심볼별 처리 현황을 반환합니다.
+     */
+    public List<PipelineStats> stats() {
+        List<PipelineStats> stats = new ArrayList<>();
+        for (SymbolPipeline pipeline : pipelines) {
+            if (pipeline != null) {
+                stats.add(pipeline.stats());
+            }
+        }
+        return stats;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        running = false;
+        if (statsReporter != null) {
+            statsReporter.shutdownNow();
+        }
+        for (SymbolPipeline pipeline : pipelines) {
+            if (pipeline != null) {
+                pipeline.stop();
+            }
+        }
+        reportStats();
+    }
+
+    private SymbolPipeline pipeline(int symbolId) {
+        SymbolPipeline[] current = pipelines;
+        SymbolPipeline pipeline = symbolId < current.length ? current[symbolId] : null;
+        return pipeline != null ? pipeline : createPipeline(symbolId);
+    }
+
+    private synchronized SymbolPipeline createPipeline(int symbolId) {
+        SymbolPipeline[] current = pipelines;
+        if (symbolId < current.length && current[symbolId] != null) {
+            return current[symbolId];
+        }
+        SymbolPipeline pipeline = new SymbolPipeline(symbolId, SymbolRegistry.symbol(symbolId), ringSize,
+            WaitStrategy.create(waitStrategyName), processor);
+        SymbolPipeline[] grown = symbolId < current.length
+            ? current.clone()
+            : Arrays.copyOf(current, symbolId + 1);
+        grown[symbolId] = pipeline;
+        pipeline.start();
+        pipelines = grown;
+        log.info("Market data pipeline started: symbol={}, capacity={}, waitStrategy={}",
+            SymbolRegistry.symbol(symbolId), ringSize, waitStrategyName);
+        return pipeline;
+    }
+
+    private void reportStats() {
+        for (PipelineStats s : stats()) {
+            if (s.droppedTrades() > 0 || s.droppedSnapshots() > 0 || s.failed() > 0) {
+                log.info("Market data pipeline stats: {}", s);
+            } else {
+                log.debug("Market data pipeline stats: {}", s);
+            }
+        }
+    }
+}
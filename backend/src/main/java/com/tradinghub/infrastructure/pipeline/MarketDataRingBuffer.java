@@ -0,0 +1,102 @@
+package com.tradinghub.infrastructure.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.tradinghub.application.dto.market.DepthSnapshot;
+import com.tradinghub.application.dto.market.MarketDataEvent;
+import com.tradinghub.application.dto.market.TickerSnapshot;
+import com.tradinghub.application.dto.market.TradeTick;
+
+/**
+ * 단일 생산자/단일 소비자 시세 이벤트 링 버퍼
+ *
+ * 슬롯마다 이벤트 인스턴스를 미리 두고 값을 복사해 넣으므로 정상 상태에서는 할당이 없습니다.
+ * 가득 찬 경우 생산자를 막지 않고 offer가 false를 반환하며, 처리 방침은 호출자가 정합니다.
+ * offer는 한 번에 한 스레드에서만 호출되어야 합니다.
+ */
+class MarketDataRingBuffer {
+    private final Slot[] slots;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+
+    /** 발행된 이벤트 수 */
+    private final AtomicLong cursor = new AtomicLong();
+    /** 소비된 이벤트 수 */
+    private final AtomicLong consumed = new AtomicLong();
+
+    MarketDataRingBuffer(int requestedCapacity, WaitStrategy waitStrategy) {
+        int capacity = Integer.highestOneBit(Math.max(1, requestedCapacity - 1)) << 1;
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * 아직 소비되지 않은 이벤트 수
+     */
+    long backlog() {
+        return cursor.get() - consumed.get();
+    }
+
+    /**
+     * 이벤트를 복사하여 발행합니다.
+     *
+     * @return 버퍼가 가득 차서 발행하지 못했으면 false
+     */
+    boolean offer(MarketDataEvent event) {
+        long sequence = cursor.get();
+        if (sequence - consumed.get() >= slots.length) {
+            return false;
+        }
+        slots[(int) (sequence & mask)].set(event);
+        cursor.set(sequence + 1);
+        waitStrategy.signalAll();
+        return true;
+    }
+
+    /**
+     * 이벤트가 들어오거나 제한 시간이 지날 때까지 대기한 뒤, 사용 가능한 이벤트를 순서대로 처리합니다.
+     * 소비자 스레드에서만 호출합니다.
+     *
+     * @param handler      이벤트 처리기 (이벤트는 처리기 반환 후 재사용됨)
+     * @param timeoutNanos 최대 대기 시간 (나노초)
+     * @return 처리한 이벤트 수 (시간 초과 시 0)
+     */
+    int drain(Consumer<MarketDataEvent> handler, long timeoutNanos) throws InterruptedException {
+        long next = consumed.get();
+        long available = waitStrategy.waitFor(next, cursor, timeoutNanos);
+        for (long sequence = next; sequence < available; sequence++) {
+            handler.accept(slots[(int) (sequence & mask)].event);
+            consumed.lazySet(sequence + 1);
+        }
+        return (int) (available - next);
+    }
+
+    /**
+     * 유형별 이벤트 인스턴스를 처음 사용할 때 한 번만 만들어 재사용하는 슬롯
+     */
+    private static final class Slot {
+        private TradeTick trade;
+        private TickerSnapshot ticker;
+        private DepthSnapshot depth;
+        private MarketDataEvent event;
+
+        void set(MarketDataEvent source) {
+            MarketDataEvent target = switch (source.streamType()) {
+                case TRADE -> trade != null ? trade : (trade = new TradeTick());
+                case TICKER -> ticker != null ? ticker : (ticker = new TickerSnapshot());
+                case DEPTH20 -> depth != null ? depth : (depth = new DepthSnapshot());
+            };
+            target.copyFrom(source);
+            this.event = target;
+        }
+    }
+}
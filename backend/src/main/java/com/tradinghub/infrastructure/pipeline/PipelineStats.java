@@ -0,0 +1,26 @@
+package com.tradinghub.infrastructure.pipeline;
+
+/**
+ * 심볼별 파이프라인 처리 현황 스냅샷
+ *
+ * @param symbol           거래 심볼
+ * @param published        링 버퍼에 발행된 이벤트 수
+ * @param processed        워커가 처리한 이벤트 수
+ * @param failed           처리 중 예외가 발생한 이벤트 수
+ * @param droppedTrades    버퍼가 가득 차 버려진 체결 이벤트 수
+ * @param droppedSnapshots 버퍼가 가득 차 버려진 티커/호가 이벤트 수
+ * @param backpressure     발행 시점에 적재량이 경고 수준을 넘은 횟수
+ * @param backlog          현재 적재량
+ * @param capacity         버퍼 용량
+ */
+public record PipelineStats(
+    String symbol,
+    long published,
+    long processed,
+    long failed,
+    long droppedTrades,
+    long droppedSnapshots,
+    long backpressure,
+    long backlog,
+    int capacity
+) {}
@@ -0,0 +1,136 @@
+package com.tradinghub.infrastructure.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.tradinghub.application.dto.market.MarketDataEvent;
+import com.tradinghub.application.dto.market.TradeTick;
+import com.tradinghub.application.handler.MarketDataProcessor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 심볼의 링 버퍼와 전용 워커 스레드
+ *
+ * 심볼마다 워커가 따로 있으므로 한 심볼의 처리 지연(DB 조회 등)이
+ * 다른 심볼의 체결 판단을 지연시키지 않습니다.
+ * 버퍼가 가득 차 버려진 체결이나 재연결 공백 동안 놓친 체결도 가격 구간은 기록해 두었다가
+ * 워커가 체결 판단에 반영하므로, 지정가 주문의 체결 조건을 놓치지 않습니다.
+ */
+@Slf4j
+class SymbolPipeline {
+    private final int symbolId;
+    private final String symbol;
+    private final MarketDataRingBuffer ringBuffer;
+    private final MarketDataProcessor processor;
+    private final long highWatermark;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong droppedTrades = new AtomicLong();
+    private final AtomicLong droppedSnapshots = new AtomicLong();
+    private final AtomicLong backpressure = new AtomicLong();
+
+    /** 버려지거나 놓친 체결의 가격 구간 (생산자/재전송 스레드 기록, 워커가 회수) */
+    private final AtomicLong missedLow = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong missedHigh = new AtomicLong(Long.MIN_VALUE);
+
+    SymbolPipeline(int symbolId, String symbol, int ringSize, WaitStrategy waitStrategy, MarketDataProcessor processor) {
+        this.symbolId = symbolId;
+        this.symbol = symbol;
+        this.ringBuffer = new MarketDataRingBuffer(ringSize, waitStrategy);
+        this.processor = processor;
+        this.highWatermark = ringBuffer.capacity() * 3L / 4;
+        this.worker = new Thread(this::runWorker, "md-worker-" + symbol.toLowerCase());
+        this.worker.setDaemon(true);
+    }
+
+    void start() {
+        worker.start();
+    }
+
+    void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /**
+     * 이벤트를 링 버퍼에 넣습니다. 버퍼가 가득 차면 생산자를 막지 않고 버립니다.
+     *
+     * @return 발행에 성공하면 true
+     */
+    boolean offer(MarketDataEvent event) {
+        if (ringBuffer.backlog() >= highWatermark) {
+            backpressure.incrementAndGet();
+        }
+        if (ringBuffer.offer(event)) {
+            published.incrementAndGet();
+            return true;
+        }
+
+        if (event instanceof TradeTick trade) {
+            droppedTrades.incrementAndGet();
+            recordMissedTrades(trade.getPrice(), trade.getPrice());
+        } else {
+            droppedSnapshots.incrementAndGet();
+        }
+        return false;
+    }
+
+    /**
+     * 워커를 거치지 않은 체결의 가격 구간을 기록합니다. 다음 배치 종료 시 체결 판단에 반영됩니다.
+     */
+    void recordMissedTrades(long low, long high) {
+        missedLow.accumulateAndGet(low, Math::min);
+        missedHigh.accumulateAndGet(high, Math::max);
+    }
+
+    PipelineStats stats() {
+        return new PipelineStats(symbol, published.get(), processed.get(), failed.get(),
+            droppedTrades.get(), droppedSnapshots.get(), backpressure.get(),
+            ringBuffer.backlog(), ringBuffer.capacity());
+    }
+
+    private void runWorker() {
+        long flushIntervalNanos = processor.flushIntervalNanos();
+        while (running) {
+            try {
+                ringBuffer.drain(this::process, flushIntervalNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            endOfBatch();
+        }
+        log.info("Market data worker stopped: symbol={}", symbol);
+    }
+
+    private void endOfBatch() {
+        try {
+            if (missedHigh.get() != Long.MIN_VALUE) {
+                // high를 먼저 회수해야 생산자가 그 사이 기록한 값이 다음 회수로 넘어감
+                long high = missedHigh.getAndSet(Long.MIN_VALUE);
+                long low = missedLow.getAndSet(Long.MAX_VALUE);
+                processor.recoverMissedTrades(symbolId, Math.min(low, high), high);
+            }
+            processor.endOfBatch(symbolId);
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.error("Error flushing market data batch: symbol={}", symbol, e);
+        }
+    }
+
+    private void process(MarketDataEvent event) {
+        try {
+            processor.process(event);
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.error("Error processing market data event: symbol={}, stream={}",
+                symbol, event.streamType().suffix(), e);
+        } finally {
+            processed.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.tradinghub.infrastructure.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 링 버퍼 소비자가 새 이벤트를 기다리는 방식
+ *
+ * 지연 시간과 CPU 사용량 사이의 절충을 설정으로 선택할 수 있도록 분리했습니다.
+ * <ul>
+ *   <li>busy-spin: 코어를 점유하며 대기, 가장 낮은 지연</li>
+ *   <li>yielding: 잠시 스핀 후 양보</li>
+ *   <li>sleeping: 스핀/양보 후 짧게 park (기본값)</li>
+ *   <li>blocking: 락/컨디션으로 대기, CPU 사용 최소</li>
+ * </ul>
+ */
+public interface WaitStrategy {
+
+    /**
+     * 커서가 consumed보다 커지거나 제한 시간이 지날 때까지 대기합니다.
+     *
+     * @param consumed     소비자가 처리한 이벤트 수
+     * @param cursor       생산자가 발행한 이벤트 수
+     * @param timeoutNanos 최대 대기 시간 (나노초)
+     * @return 대기 종료 시점의 커서 값 (시간 초과 시 consumed와 같을 수 있음)
+     * @throws InterruptedException 소비자 스레드가 중단된 경우
+     */
+    long waitFor(long consumed, AtomicLong cursor, long timeoutNanos) throws InterruptedException;
+
+    /**
+     * 생산자가 이벤트를 발행한 뒤 대기 중인 소비자를 깨웁니다.
+     */
+    void signalAll();
+
+    /**
+     * 설정 이름으로 대기 전략을 생성합니다.
+     *
+     * @param name busy-spin, yielding, sleeping, blocking 중 하나
+     * @throws IllegalArgumentException 알 수 없는 이름인 경우
+     */
+    static WaitStrategy create(String name) {
+        return switch (name) {
+            case "busy-spin" -> new BusySpinWaitStrategy();
+            case "yielding" -> new YieldingWaitStrategy();
+            case "sleeping" -> new SleepingWaitStrategy();
+            case "blocking" -> new BlockingWaitStrategy();
+            default -> throw new IllegalArgumentException("Unknown wait strategy: " + name);
+        };
+    }
+}
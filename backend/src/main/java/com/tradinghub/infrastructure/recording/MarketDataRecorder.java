@@ -0,0 +1,76 @@
+package com.tradinghub.infrastructure.recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수신한 원본 프레임을 파일로 기록합니다 (binance.recording.enabled=true일 때).
+ * 기록한 파일은 binance.source=replay로 네트워크 없이 다시 재생할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class MarketDataRecorder {
+    private final boolean enabled;
+    private final Path path;
+    private final long regionSize;
+
+    private volatile MarketDataRecordingWriter writer;
+
+    public MarketDataRecorder(
+            @Value("${binance.recording.enabled:false}") boolean enabled,
+            @Value("${binance.recording.path:market-data.mdr}") String path,
+            @Value("${binance.recording.region-size-mb:64}") long regionSizeMb) {
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.regionSize = regionSizeMb * 1024 * 1024;
+    }
+
+    @PostConstruct
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            writer = new MarketDataRecordingWriter(path, regionSize);
+            log.info("Recording market data to {}", path.toAbsolutePath());
+        } catch (IOException e) {
+            log.error("Failed to open market data recording: {}", path, e);
+        }
+    }
+
+    public void record(String frame) {
+        MarketDataRecordingWriter current = writer;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.append(frame);
+        } catch (IOException e) {
+            log.error("Failed to record market data frame, recording stopped", e);
+            writer = null;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        MarketDataRecordingWriter current = writer;
+        writer = null;
+        if (current == null) {
+            return;
+        }
+        try {
+            long size = current.size();
+            current.close();
+            log.info("Market data recording closed: path={}, bytes={}", path, size);
+        } catch (IOException e) {
+            log.error("Failed to close market data recording: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.tradinghub.infrastructure.recording;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link MarketDataRecordingWriter}가 기록한 파일을 메모리 맵으로 순차 읽기합니다.
+ *
+ * <pre>
+ * while (reader.next()) {
+ *     handle(reader.frame(), reader.offsetNanos());
+ * }
+ * </pre>
+ */
+public class MarketDataRecordingReader implements Closeable {
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long startEpochMillis;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    private String frame;
+    private long offsetNanos;
+
+    public MarketDataRecordingReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        if (fileSize < MarketDataRecordingWriter.HEADER_SIZE) {
+            channel.close();
+            throw new IOException("Not a market data recording: " + path);
+        }
+        map(0L, MarketDataRecordingWriter.HEADER_SIZE);
+        if (window.getInt() != MarketDataRecordingWriter.MAGIC) {
+            channel.close();
+            throw new IOException("Not a market data recording: " + path);
+        }
+        int version = window.getInt();
+        if (version != MarketDataRecordingWriter.VERSION) {
+            channel.close();
+            throw new IOException("Unsupported recording version " + version + ": " + path);
+        }
+        this.startEpochMillis = window.getLong();
+        this.position = MarketDataRecordingWriter.HEADER_SIZE;
+    }
+
+    public long startEpochMillis() {
+        return startEpochMillis;
+    }
+
+    /**
+     * 다음 레코드로 이동합니다.
+     *
+     * @return 레코드가 있으면 true, 기록의 끝이면 false
+     */
+    public boolean next() throws IOException {
+        if (position + MarketDataRecordingWriter.RECORD_HEADER_SIZE > fileSize) {
+            return false;
+        }
+        ensureMapped(MarketDataRecordingWriter.RECORD_HEADER_SIZE);
+        int length = window.getInt((int) (position - windowStart));
+        if (length <= 0 || position + MarketDataRecordingWriter.RECORD_HEADER_SIZE + length > fileSize) {
+            return false;
+        }
+        ensureMapped(MarketDataRecordingWriter.RECORD_HEADER_SIZE + length);
+
+        int offset = (int) (position - windowStart);
+        offsetNanos = window.getLong(offset + 4);
+        byte[] bytes = new byte[length];
+        window.get(offset + MarketDataRecordingWriter.RECORD_HEADER_SIZE, bytes);
+        frame = new String(bytes, StandardCharsets.UTF_8);
+        position += MarketDataRecordingWriter.RECORD_HEADER_SIZE + length;
+        return true;
+    }
+
+    /** 현재 레코드의 프레임 */
+    public String frame() {
+        return frame;
+    }
+
+    /** 현재 레코드의 기록 시작 기준 경과 시간 (나노초) */
+    public long offsetNanos() {
+        return offsetNanos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private void ensureMapped(int length) throws IOException {
+        if (position < windowStart || position + length > windowStart + window.limit()) {
+            map(position, length);
+        }
+    }
+
+    private void map(long start, int required) throws IOException {
+        long size = Math.min(Math.max(WINDOW_SIZE, required), fileSize - start);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        windowStart = start;
+    }
+}
@@ -0,0 +1,94 @@
+package com.tradinghub.infrastructure.recording;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 수신한 결합 스트림 프레임을 메모리 맵 파일에 순서대로 기록합니다.
+ *
+ * 파일 형식 (빅 엔디언):
+ * <pre>
+ * header : magic(int) version(int) startEpochMillis(long)
+ * record : length(int, > 0) offsetNanos(long) frame(UTF-8 bytes)
+ * </pre>
+ * offsetNanos는 기록 시작 시점부터의 경과 시간이며, 재생 시 원래 간격을 재현하는 데 사용합니다.
+ * 길이가 0인 레코드(매핑 영역의 빈 공간)는 기록의 끝을 뜻합니다.
+ */
+public class MarketDataRecordingWriter implements Closeable {
+    static final int MAGIC = 0x4D445231; // "MDR1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_HEADER_SIZE = 12;
+
+    private final FileChannel channel;
+    private final long regionSize;
+    private final long startNanos;
+
+    private MappedByteBuffer region;
+    private long regionStart;
+
+    /**
+     * @param path       기록 파일 (있으면 덮어씀)
+     * @param regionSize 한 번에 매핑할 크기 (바이트)
+     */
+    public MarketDataRecordingWriter(Path path, long regionSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.regionSize = Math.max(regionSize, HEADER_SIZE);
+        this.startNanos = System.nanoTime();
+        map(0L, this.regionSize);
+        region.putInt(MAGIC);
+        region.putInt(VERSION);
+        region.putLong(System.currentTimeMillis());
+    }
+
+    /**
+     * 프레임 하나를 기록합니다.
+     */
+    public synchronized void append(String frame) throws IOException {
+        if (region == null) {
+            throw new IOException("Recording is closed");
+        }
+        byte[] bytes = frame.getBytes(StandardCharsets.UTF_8);
+        int required = RECORD_HEADER_SIZE + bytes.length;
+        if (region.remaining() < required) {
+            map(regionStart + region.position(), Math.max(regionSize, required));
+        }
+        region.putInt(bytes.length);
+        region.putLong(System.nanoTime() - startNanos);
+        region.put(bytes);
+    }
+
+    /**
+     * 기록된 바이트 수 (헤더 포함)
+     */
+    public synchronized long size() {
+        return region == null ? 0L : regionStart + region.position();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (region == null) {
+            return;
+        }
+        long end = regionStart + region.position();
+        region.force();
+        region = null;
+        // 마지막 매핑 영역의 남은 공간을 잘라냄
+        channel.truncate(end);
+        channel.close();
+    }
+
+    private void map(long position, long size) throws IOException {
+        if (region != null) {
+            region.force();
+        }
+        region = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+        regionStart = position;
+    }
+}
@@ -0,0 +1,67 @@
+package com.tradinghub.infrastructure.recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 기록된 프레임을 원래 간격(또는 배속)으로 다시 보냅니다.
+ */
+public class MarketDataReplayer {
+    /** 이 시간보다 짧은 대기는 park 대신 스핀으로 맞춤 */
+    private static final long SPIN_THRESHOLD_NANOS = 50_000L;
+
+    private final double speed;
+
+    /**
+     * @param speed 재생 배속 (1이면 기록된 속도, 0 이하이면 대기 없이 최대 속도)
+     */
+    public MarketDataReplayer(double speed) {
+        this.speed = speed;
+    }
+
+    /**
+     * 기록 파일의 모든 프레임을 consumer에 전달합니다. 호출 스레드에서 실행됩니다.
+     *
+     * @return 재생 결과
+     */
+    public ReplayResult replay(Path path, Consumer<String> consumer) throws IOException {
+        long frames = 0;
+        long startNanos = System.nanoTime();
+        try (MarketDataRecordingReader reader = new MarketDataRecordingReader(path)) {
+            while (reader.next()) {
+                if (speed > 0) {
+                    pace(startNanos + (long) (reader.offsetNanos() / speed));
+                }
+                consumer.accept(reader.frame());
+                frames++;
+            }
+        }
+        return new ReplayResult(frames, System.nanoTime() - startNanos);
+    }
+
+    private static void pace(long targetNanos) {
+        long remaining;
+        while ((remaining = targetNanos - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * 재생 결과
+     *
+     * @param frames       전달한 프레임 수
+     * @param elapsedNanos 소요 시간 (나노초)
+     */
+    public record ReplayResult(long frames, long elapsedNanos) {
+
+        public double framesPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : frames * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.tradinghub.infrastructure.recording;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.application.handler.TradeCoalescer;
+import com.tradinghub.infrastructure.external.BinanceWebSocketHandler;
+import com.tradinghub.infrastructure.pipeline.MarketDataPipeline;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실시간 연결 대신 기록 파일을 재생하는 시세 소스 (binance.source=replay)
+ *
+ * 애플리케이션 기동 후 기록된 프레임을 {@link BinanceWebSocketHandler}에 그대로 넣으므로
+ * 파싱부터 체결 판단, 전파까지 실제와 같은 경로로 처리됩니다.
+ * 재생이 끝나면 초당 프레임 수와 파이프라인/체결 판단 통계를 남겨 처리량 회귀를 비교할 수 있습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "binance.source", havingValue = "replay")
+public class RecordedMarketDataSource {
+    private final BinanceWebSocketHandler handler;
+    private final MarketDataPipeline pipeline;
+    private final TradeCoalescer tradeCoalescer;
+    private final Path path;
+    private final double speed;
+
+    public RecordedMarketDataSource(
+            BinanceWebSocketHandler handler,
+            MarketDataPipeline pipeline,
+            TradeCoalescer tradeCoalescer,
+            @Value("${binance.replay-file.path:market-data.mdr}") String path,
+            @Value("${binance.replay-file.speed:1}") double speed) {
+        this.handler = handler;
+        this.pipeline = pipeline;
+        this.tradeCoalescer = tradeCoalescer;
+        this.path = Path.of(path);
+        this.speed = speed;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::replay, "md-replay-source");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void replay() {
+        log.info("Replaying market data from {} (speed={})", path.toAbsolutePath(), speed > 0 ? speed + "x" : "max");
+        try {
+            MarketDataReplayer.ReplayResult result = new MarketDataReplayer(speed).replay(path, handler::handleMessage);
+            log.info("Market data replay finished: frames={}, elapsedMs={}, framesPerSec={}",
+                result.frames(), result.elapsedNanos() / 1_000_000, String.format("%.0f", result.framesPerSecond()));
+            log.info("Market data pipeline stats: {}", pipeline.stats());
+            log.info("Limit order match stats: {}", tradeCoalescer.stats());
+        } catch (Exception e) {
+            log.error("Market data replay failed: {}", path, e);
+        }
+    }
+}
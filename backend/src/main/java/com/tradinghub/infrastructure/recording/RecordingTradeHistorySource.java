@@ -0,0 +1,56 @@
+package com.tradinghub.infrastructure.recording;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.tradinghub.application.dto.market.MarketDataEvent;
+import com.tradinghub.application.dto.market.TradeTick;
+import com.tradinghub.application.parser.BinanceMessageParser;
+import com.tradinghub.infrastructure.external.TradeHistorySource;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로컬 기록 파일에서 체결 이력을 찾는 {@link TradeHistorySource} (binance.replay.source=recording)
+ *
+ * 다른 프로세스가 같은 스트림을 기록하고 있을 때, 공백 구간의 체결을 네트워크 없이 복구하는 데 사용합니다.
+ * 파일을 처음부터 순차 탐색하므로 공백 복구처럼 드문 호출에만 적합합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "binance.replay.source", havingValue = "recording")
+public class RecordingTradeHistorySource implements TradeHistorySource {
+    private final BinanceMessageParser parser;
+
+    @Value("${binance.replay.recording-path:market-data.mdr}")
+    private String path;
+
+    @Override
+    public List<TradeTick> fetchTrades(int symbolId, long fromId, int limit) {
+        List<TradeTick> trades = new ArrayList<>();
+        try (MarketDataRecordingReader reader = new MarketDataRecordingReader(Path.of(path))) {
+            while (trades.size() < limit && reader.next()) {
+                MarketDataEvent event = parser.parse(reader.frame());
+                if (event instanceof TradeTick trade && trade.getSymbolId() == symbolId
+                        && trade.getTradeId() >= fromId
+                        && (trades.isEmpty() || trade.getTradeId() > trades.get(trades.size() - 1).getTradeId())) {
+                    TradeTick copy = new TradeTick();
+                    copy.copyFrom(trade);
+                    trades.add(copy);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to read trades from recording: " + path, e);
+        }
+        return trades;
+    }
+}
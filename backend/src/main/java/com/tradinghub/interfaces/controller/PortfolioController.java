@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.tradinghub.application.service.market.MarketStateCache;
 import com.tradinghub.application.usecase.portfolio.GetPortfolioUseCase;
 import com.tradinghub.domain.model.portfolio.Portfolio;
 import com.tradinghub.domain.model.user.User;
@@ -21,9 +22,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PortfolioController {
     private final GetPortfolioUseCase getPortfolioUseCase;
+    private final MarketStateCache marketStateCache;
 
     /**
      * 사용자의 포트폴리오를 조회합니다.
+     * 보유 자산은 수신 중인 시세의 마지막 체결가로 평가합니다.
      * 로깅은 PortfolioLoggingAspect에서 처리합니다.
      * 
      * @param authentication 인증 정보
@@ -32,6 +35,6 @@ public class PortfolioController {
     @GetMapping
     public ResponseEntity<PortfolioResponse> getPortfolio(@AuthenticationPrincipal User user) {
         Portfolio portfolio = getPortfolioUseCase.execute(user.getId());
-        return ResponseEntity.ok(PortfolioResponse.from(portfolio));
+        return ResponseEntity.ok(PortfolioResponse.from(portfolio, marketStateCache::getLastPrice));
     }
 } 
\ No newline at end of file
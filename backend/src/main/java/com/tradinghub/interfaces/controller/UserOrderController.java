@@ -1,5 +1,7 @@
 package com.tradinghub.interfaces.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -10,13 +12,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.tradinghub.application.dto.PlaceOrderGroupCommand;
 import com.tradinghub.application.exception.order.InvalidOrderException;
 import com.tradinghub.application.exception.order.OrderNotFoundException;
 import com.tradinghub.application.exception.portfolio.InsufficientBalanceException;
-import com.tradinghub.application.usecase.order.CancelOrderUseCase;
-import com.tradinghub.application.usecase.order.PlaceOrderUseCase;
+import com.tradinghub.application.service.order.MatchingEngine;
+import com.tradinghub.application.usecase.order.PlaceOrderGroupUseCase;
 import com.tradinghub.domain.model.order.Order;
 import com.tradinghub.domain.model.user.User;
+import com.tradinghub.interfaces.dto.order.OrderGroupRequest;
 import com.tradinghub.interfaces.dto.order.OrderRequest;
 import com.tradinghub.interfaces.dto.order.OrderResponse;
 import com.tradinghub.interfaces.exception.auth.UnauthorizedOperationException;
@@ -29,12 +33,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Validated
 public class UserOrderController {
-    private final PlaceOrderUseCase placeOrderUseCase;
-    private final CancelOrderUseCase cancelOrderUseCase;
+    private final MatchingEngine matchingEngine;
+    private final PlaceOrderGroupUseCase placeOrderGroupUseCase;
 
     /**
      * 새로운 주문을 생성합니다.
      * 시장가 주문은 즉시 체결되며, 지정가 주문은 가격 조건이 맞을 때 체결됩니다.
+     * 주문은 심볼을 담당하는 매칭 엔진 스레드에서 처리되며, 처리 결과를 기다려 응답합니다.
      * 
      * @param request 주문 생성 요청 정보
      * @param authentication 인증 정보
@@ -51,10 +56,35 @@ public class UserOrderController {
             @Valid @RequestBody OrderRequest request,
             @AuthenticationPrincipal User user) {
         
-        Order order = placeOrderUseCase.execute(request.toCommand(user));        
+        Order order = matchingEngine.await(matchingEngine.place(request.toCommand(user)));
         return ResponseEntity.ok(OrderResponse.from(order));
     }
         
+    /**
+     * OCO 또는 브래킷 주문 그룹을 생성합니다.
+     * 그룹의 한 주문이 체결/발동되면 나머지 주문은 같은 엔진 처리 단계에서 취소되며,
+     * 브래킷의 익절/손절 주문은 진입 주문이 체결된 뒤에 활성화됩니다.
+     * 
+     * @param request 주문 그룹 생성 요청 정보
+     * @param user 인증된 사용자
+     * @return 생성된 주문 목록 (브래킷은 진입, 익절, 손절 순서)
+     * @throws InvalidOrderException 그룹 구성이나 주문 정보가 유효하지 않은 경우
+     * @throws InsufficientBalanceException 잔고가 부족한 경우
+     * @response 200 주문 그룹 생성 성공
+     * @response 400 잘못된 요청 (유효하지 않은 그룹 구성)
+     * @response 401 인증되지 않은 사용자
+     */
+    @PostMapping("/groups")
+    public ResponseEntity<List<OrderResponse>> createOrderGroup(
+            @Valid @RequestBody OrderGroupRequest request,
+            @AuthenticationPrincipal User user) {
+
+        PlaceOrderGroupCommand command = request.toCommand(user);
+        List<Order> orders = matchingEngine.await(
+            matchingEngine.submit(command.symbol(), () -> placeOrderGroupUseCase.execute(command)));
+        return ResponseEntity.ok(OrderResponse.fromList(orders));
+    }
+        
     /**
      * 대기 중인 주문을 취소합니다.
      * 이미 체결된 주문은 취소할 수 없습니다.
@@ -75,7 +105,7 @@ public class UserOrderController {
             @PathVariable Long orderId,
             @AuthenticationPrincipal User user) {
         
-        cancelOrderUseCase.execute(orderId, user.getId());
+        matchingEngine.await(matchingEngine.cancel(orderId, user.getId()));
         return ResponseEntity.ok().build();
     }
 }
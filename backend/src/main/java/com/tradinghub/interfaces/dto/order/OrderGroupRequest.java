@@ -0,0 +1,47 @@
+package com.tradinghub.interfaces.dto.order;
+
+import java.util.List;
+
+import com.tradinghub.application.dto.PlaceOrderGroupCommand;
+import com.tradinghub.domain.model.user.User;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * OCO/브래킷 주문 그룹 요청 DTO 레코드입니다.
+ */
+public record OrderGroupRequest(
+    /**
+     * 그룹 유형
+     * OCO: 한 주문이 체결/발동되면 다른 주문 취소
+     * BRACKET: 진입 주문 체결 후 익절/손절 OCO 활성화
+     */
+    @NotNull(message = "Order group type is required")
+    PlaceOrderGroupCommand.GroupType type,
+
+    /**
+     * 브래킷 진입 주문 (MARKET 또는 LIMIT)
+     * OCO 그룹에서는 생략
+     */
+    @Valid
+    OrderRequest entry,
+
+    /**
+     * 서로 취소 관계인 두 주문
+     * OCO: 같은 심볼/방향의 두 주문
+     * BRACKET: 익절(LIMIT 또는 TAKE_PROFIT), 손절(STOP_MARKET 또는 STOP_LIMIT) 순서
+     */
+    @NotNull(message = "Order legs are required")
+    @Size(min = 2, max = 2, message = "Order group requires exactly two legs")
+    List<@Valid OrderRequest> legs
+) {
+    public PlaceOrderGroupCommand toCommand(User user) {
+        return new PlaceOrderGroupCommand(
+            user,
+            type,
+            entry != null ? entry.toCommand(user) : null,
+            legs.stream().map(leg -> leg.toCommand(user)).toList());
+    }
+}
@@ -1,7 +1,9 @@
 package com.tradinghub.interfaces.dto.order;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.tradinghub.application.dto.PlaceOrderCommand;
 import com.tradinghub.domain.model.order.Order;
 import com.tradinghub.domain.model.user.User;
@@ -27,6 +29,9 @@ public record OrderRequest(
      * 주문 유형
      * MARKET: 시장가 주문
      * LIMIT: 지정가 주문
+     * STOP_MARKET / STOP_LIMIT: 손절 주문 (stopPrice 필수, STOP_LIMIT은 price도 필수)
+     * TAKE_PROFIT: 익절 주문 (stopPrice 필수)
+     * TRAILING_STOP: 추적 손절 주문 (trailingDelta 필수)
      */
     @NotNull(message = "Order type is required")
     Order.OrderType type,
@@ -41,7 +46,7 @@ public record OrderRequest(
 
     /**
      * 주문 가격 (USD)
-     * LIMIT 주문의 경우에만 필수
+     * LIMIT, STOP_LIMIT 주문의 경우에만 필수
      * 최소값: 0.00000001 USD
      * 최대값: 1,000,000,000 USD
      */
@@ -58,9 +63,42 @@ public record OrderRequest(
     @NotNull(message = "Amount is required")
     @DecimalMin(value = "0.00000001", message = "Amount must be greater than 0")
     @DecimalMax(value = "1000000000", message = "Amount is too high")
-    BigDecimal amount
+    BigDecimal amount,
+
+    /**
+     * 조건부 주문의 발동가 (USD)
+     * STOP_MARKET, STOP_LIMIT, TAKE_PROFIT 주문의 경우에만 필수
+     */
+    @DecimalMin(value = "0.00000001", message = "Stop price must be greater than 0")
+    @DecimalMax(value = "1000000000", message = "Stop price is too high")
+    BigDecimal stopPrice,
+
+    /**
+     * 추적 손절 간격 (USD)
+     * 매도는 최고가에서, 매수는 최저가에서 이 간격만큼 되돌리면 발동
+     * TRAILING_STOP 주문의 경우에만 필수
+     */
+    @DecimalMin(value = "0.00000001", message = "Trailing delta must be greater than 0")
+    @DecimalMax(value = "1000000000", message = "Trailing delta is too high")
+    BigDecimal trailingDelta,
+
+    /**
+     * 주문 유효 기간 (생략하면 GTC)
+     * GTC: 취소 전까지 유효
+     * IOC / FOK: 지정가 주문만, 즉시 체결 가능한 만큼만(FOK는 전량일 때만) 체결하고 나머지 취소
+     * GTD: expireAt까지 유효 (시장가 주문 제외)
+     */
+    Order.TimeInForce timeInForce,
+
+    /**
+     * GTD 주문의 만료 시각
+     * GTD 주문의 경우에만 필수
+     */
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime expireAt
 ) {
     public PlaceOrderCommand toCommand(User user) {
-        return new PlaceOrderCommand(user, symbol, type, side, price, amount);
+        return new PlaceOrderCommand(user, symbol, type, side, price, amount, stopPrice, trailingDelta,
+            timeInForce, expireAt);
     }
 } 
\ No newline at end of file
@@ -21,7 +21,7 @@ public record OrderResponse(
     /** 거래 대상 암호화폐 심볼 (예: BTCUSDT) */
     String symbol,
     
-    /** 주문 유형 (MARKET/LIMIT) */
+    /** 주문 유형 (MARKET/LIMIT/STOP_MARKET/STOP_LIMIT/TAKE_PROFIT/TRAILING_STOP) */
     String type,
     
     /** 주문 방향 (BUY/SELL) */
@@ -33,15 +33,31 @@ public record OrderResponse(
     /** 주문 수량 */
     BigDecimal amount,
     
-    /** 주문 상태 (PENDING/COMPLETED/CANCELLED/FAILED) */
+    /** 주문 상태 (PENDING/PARTIALLY_FILLED/FILLED/CANCELLED/FAILED) */
     String status,
     
     /** 주문 생성 시각 */
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     LocalDateTime createdAt,
     
-    /** 실제 체결된 가격 */
-    BigDecimal executedPrice
+    /** 실제 체결된 가격 (나눠 체결되면 수량 가중 평균가) */
+    BigDecimal executedPrice,
+
+    /** 누적 체결 수량 */
+    BigDecimal filledAmount,
+
+    /** 조건부 주문의 발동가 (추적 손절은 최초 발동가) */
+    BigDecimal stopPrice,
+
+    /** 추적 손절 간격 */
+    BigDecimal trailingDelta,
+
+    /** 주문 유효 기간 (GTC/IOC/FOK/GTD) */
+    String timeInForce,
+
+    /** GTD 주문의 만료 시각 */
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime expireAt
 ) {
     /**
      * Order 엔티티로부터 OrderResponse 인스턴스를 생성합니다.
@@ -59,7 +75,12 @@ public record OrderResponse(
             order.getAmount(),
             order.getStatus().toString(),
             order.getCreatedAt(),
-            order.getExecutedPrice()
+            order.getExecutedPrice(),
+            order.getFilledAmount(),
+            order.getStopPrice(),
+            order.getTrailingDelta(),
+            order.getTimeInForce().toString(),
+            order.getExpireAt()
         );
     }
     
@@ -79,6 +100,11 @@ public record OrderResponse(
             null, 
             "EXECUTED", 
             LocalDateTime.now(), 
+            null,
+            null,
+            null,
+            null,
+            null,
             null
         );
     }
@@ -3,6 +3,8 @@ package com.tradinghub.interfaces.dto.portfolio;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -45,10 +47,21 @@ public class PortfolioResponse {
      * @return 변환된 PortfolioResponse 객체
      */
     public static PortfolioResponse from(Portfolio portfolio) {
+        return from(portfolio, symbol -> Optional.empty());
+    }
+
+    /**
+     * Portfolio 엔티티를 현재 시세로 평가한 PortfolioResponse DTO로 변환합니다.
+     * 
+     * @param portfolio 변환할 Portfolio 엔티티
+     * @param currentPrices 심볼별 현재 시세 조회 함수
+     * @return 변환된 PortfolioResponse 객체
+     */
+    public static PortfolioResponse from(Portfolio portfolio, Function<String, Optional<BigDecimal>> currentPrices) {
         return PortfolioResponse.builder()
                 .usdBalance(portfolio.getUsdBalance())
                 .assets(portfolio.getAssets().stream()
-                        .map(AssetResponse::from)
+                        .map(asset -> AssetResponse.from(asset, currentPrices.apply(asset.getSymbol()).orElse(null)))
                         .collect(Collectors.toList()))
                 .timestamp(LocalDateTime.now())
                 .message("Portfolio retrieved successfully")
@@ -57,10 +70,11 @@ public class PortfolioResponse {
 
     /**
      * 포트폴리오 내 개별 자산 정보를 담는 내부 DTO 클래스입니다.
-     * 암호화폐 심볼, 보유 수량, 평균 매수가 정보를 포함합니다.
+     * 암호화폐 심볼, 보유 수량, 평균 매수가 정보를 포함하며, 시세가 있으면 현재가와 평가 금액을 포함합니다.
      */
     @Getter
     @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class AssetResponse {
         /** 암호화폐 심볼 (예: BTC, ETH) */
         private String symbol;
@@ -71,6 +85,12 @@ public class PortfolioResponse {
         /** 평균 매수가 (USD) */
         private BigDecimal averagePrice;
 
+        /** 현재가 (USD) */
+        private BigDecimal currentPrice;
+
+        /** 평가 금액 (USD) */
+        private BigDecimal valuation;
+
         /**
          * PortfolioAsset 엔티티를 AssetResponse DTO로 변환합니다.
          * 
@@ -78,10 +98,23 @@ public class PortfolioResponse {
          * @return 변환된 AssetResponse 객체
          */
         public static AssetResponse from(PortfolioAsset asset) {
+            return from(asset, null);
+        }
+
+        /**
+         * PortfolioAsset 엔티티를 현재가로 평가한 AssetResponse DTO로 변환합니다.
+         * 
+         * @param asset 변환할 PortfolioAsset 엔티티
+         * @param currentPrice 현재가 (없으면 null)
+         * @return 변환된 AssetResponse 객체
+         */
+        public static AssetResponse from(PortfolioAsset asset, BigDecimal currentPrice) {
             return AssetResponse.builder()
                     .symbol(asset.getSymbol())
                     .amount(asset.getAmount())
                     .averagePrice(asset.getAveragePrice())
+                    .currentPrice(currentPrice)
+                    .valuation(currentPrice == null ? null : currentPrice.multiply(asset.getAmount()))
                     .build();
         }
     }
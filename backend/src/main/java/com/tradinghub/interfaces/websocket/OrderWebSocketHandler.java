@@ -1,5 +1,10 @@
 package com.tradinghub.interfaces.websocket;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
@@ -33,6 +38,27 @@ public class OrderWebSocketHandler {
         sendOrderNotification(order, "updated");
     }
     
+    /**
+     * 여러 주문의 상태가 변경되었을 때 호출
+     * 사용자별로 주문 목록을 묶어 한 번만 전송
+     */
+    public void notifyOrderUpdates(List<Order> orders) {
+        Map<String, List<OrderResponse>> byUser = orders.stream()
+            .collect(Collectors.groupingBy(order -> order.getUser().getUsername(), LinkedHashMap::new,
+                Collectors.mapping(OrderResponse::from, Collectors.toList())));
+
+        byUser.forEach((username, responses) -> {
+            String destination = "/queue/user/" + username + "/orders";
+            try {
+                messagingTemplate.convertAndSend(destination, responses);
+                log.info("Order batch notification sent: orders={}, destination={}", responses.size(), destination);
+            } catch (Exception e) {
+                log.error("Failed to send order batch notification: destination={}, error={}",
+                    destination, e.getMessage(), e);
+            }
+        });
+    }
+    
     /**
      * 주문 알림 전송 공통 로직
      */
@@ -0,0 +1,190 @@
+package com.tradinghub.application.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.tradinghub.application.dto.market.TradeTick;
+import com.tradinghub.application.service.order.MatchingEngine;
+import com.tradinghub.application.usecase.order.ExecuteReadyOrdersUseCase;
+import com.tradinghub.common.ScaledDecimal;
+import com.tradinghub.common.SymbolRegistry;
+
+class TradeCoalescerTest {
+
+    private static final int BTC = SymbolRegistry.intern("BTCUSDT");
+
+    private static TradeTick trade(String price) {
+        return trade(BTC, price);
+    }
+
+    private static TradeTick trade(int symbolId, String price) {
+        TradeTick trade = new TradeTick();
+        trade.reset(symbolId);
+        trade.setPrice(ScaledDecimal.parse(price));
+        return trade;
+    }
+
+    private static MatchingEngine engine(ExecuteReadyOrdersUseCase executeReadyOrdersUseCase) {
+        return new MatchingEngine(null, null, executeReadyOrdersUseCase, range -> { }, null, 1, 16, 1_000);
+    }
+
+    /**
+     * 단일 스레드 엔진의 큐에 앞서 제출된 명령이 모두 끝날 때까지 기다립니다.
+     */
+    private static void drain(MatchingEngine engine) {
+        engine.await(engine.submit("BTCUSDT", () -> null));
+    }
+
+    @Test
+    void flush_collapsesTradesIntoSingleRange() {
+        // given
+        List<long[]> passes = Collections.synchronizedList(new ArrayList<>());
+        MatchingEngine engine = engine(
+            range -> passes.add(new long[] {range.getLow(), range.getHigh(), range.getLast(), range.getCount()}));
+        TradeCoalescer coalescer = new TradeCoalescer(engine, 0);
+
+        // when
+        coalescer.add(trade("100.5"));
+        coalescer.add(trade("99.0"));
+        coalescer.add(trade("101.25"));
+        coalescer.add(trade("100.0"));
+        coalescer.flush(BTC);
+        coalescer.flush(BTC);
+        drain(engine);
+
+        // then
+        assertEquals(1, passes.size());
+        assertEquals(1, coalescer.stats().passes());
+        assertArrayEquals(new long[] {
+            ScaledDecimal.parse("99.0"), ScaledDecimal.parse("101.25"), ScaledDecimal.parse("100.0"), 4
+        }, passes.get(0));
+    }
+
+    @Test
+    void flush_waitsForWindow() {
+        // given
+        List<Integer> counts = Collections.synchronizedList(new ArrayList<>());
+        MatchingEngine engine = engine(range -> counts.add(range.getCount()));
+        TradeCoalescer coalescer = new TradeCoalescer(engine, 60_000);
+
+        // when
+        coalescer.add(trade("100"));
+        coalescer.flush(BTC);
+        drain(engine);
+
+        // then
+        assertTrue(counts.isEmpty());
+    }
+
+    @Test
+    void widen_includesDroppedTradeBounds() {
+        // given
+        List<long[]> passes = Collections.synchronizedList(new ArrayList<>());
+        MatchingEngine engine = engine(range -> passes.add(new long[] {range.getLow(), range.getHigh()}));
+        TradeCoalescer coalescer = new TradeCoalescer(engine, 0);
+
+        // when
+        coalescer.add(trade("100"));
+        coalescer.widen(BTC, ScaledDecimal.parse("95"), ScaledDecimal.parse("97"));
+        coalescer.flush(BTC);
+        drain(engine);
+
+        // then
+        assertArrayEquals(new long[] {ScaledDecimal.parse("95"), ScaledDecimal.parse("100")}, passes.get(0));
+    }
+
+    @Test
+    void flush_returnsWithoutWaitingAndDoesNotResubmitWhileCommandIsRunning() throws Exception {
+        // given: 체결 판단이 release 전까지 끝나지 않음
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> counts = Collections.synchronizedList(new ArrayList<>());
+        MatchingEngine engine = new MatchingEngine(null, null, range -> {
+            counts.add(range.getCount());
+            awaitQuietly(release);
+        }, range -> { }, null, 1, 16, 10_000);
+        TradeCoalescer coalescer = new TradeCoalescer(engine, 0);
+
+        // when
+        coalescer.add(trade("100"));
+        coalescer.add(trade("101"));
+        long started = System.nanoTime();
+        coalescer.flush(BTC);
+        long flushNanos = System.nanoTime() - started;
+        coalescer.add(trade("102"));
+        coalescer.flush(BTC);
+        long passesWhileRunning = coalescer.stats().passes();
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counts.size() < 2 && System.nanoTime() < deadline) {
+            coalescer.flush(BTC);
+            Thread.sleep(5);
+        }
+        drain(engine);
+
+        // then: 워커는 실행 중인 명령을 기다리지 않고, 실행 중에 들어온 체결은 다음 구간으로 제출됨
+        assertTrue(flushNanos < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(0, passesWhileRunning);
+        assertEquals(List.of(2, 1), counts);
+        assertEquals(2, coalescer.stats().passes());
+    }
+
+    @Test
+    void flush_keepsRangeWhenEngineRejectsCommand() throws Exception {
+        // given: 엔진 스레드와 큐(용량 1)가 모두 차 있음
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> counts = Collections.synchronizedList(new ArrayList<>());
+        MatchingEngine engine = new MatchingEngine(null, null, range -> counts.add(range.getCount()),
+            range -> { }, null, 1, 1, 1_000);
+        engine.submit("BTCUSDT", () -> {
+            awaitQuietly(release);
+            return null;
+        });
+        engine.submit("BTCUSDT", () -> null);
+        TradeCoalescer coalescer = new TradeCoalescer(engine, 0);
+
+        // when
+        coalescer.add(trade("100"));
+        coalescer.flush(BTC);
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counts.isEmpty() && System.nanoTime() < deadline) {
+            coalescer.flush(BTC);
+            Thread.sleep(5);
+        }
+
+        // then
+        assertEquals(List.of(1), counts);
+    }
+
+    @Test
+    void flush_matchesSubscribedSymbolWithoutSpec() {
+        // given: binance.symbols로 구독했지만 order.symbol-specs에는 없는 심볼
+        int symbolId = SymbolRegistry.intern("NOSPECUSDT");
+        List<String> symbols = Collections.synchronizedList(new ArrayList<>());
+        MatchingEngine engine = engine(range -> symbols.add(range.getSymbol()));
+        TradeCoalescer coalescer = new TradeCoalescer(engine, 0);
+
+        // when
+        coalescer.add(trade(symbolId, "0.5"));
+        coalescer.flush(symbolId);
+        drain(engine);
+
+        // then
+        assertEquals(List.of("NOSPECUSDT"), symbols);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
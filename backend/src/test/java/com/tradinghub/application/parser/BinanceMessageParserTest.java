@@ -0,0 +1,104 @@
+package com.tradinghub.application.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.tradinghub.application.dto.market.DepthSnapshot;
+import com.tradinghub.application.dto.market.MarketDataEvent;
+import com.tradinghub.application.dto.market.TickerSnapshot;
+import com.tradinghub.application.dto.market.TradeTick;
+import com.tradinghub.common.ScaledDecimal;
+import com.tradinghub.common.SymbolRegistry;
+
+class BinanceMessageParserTest {
+
+    private static final String TRADE_DATA =
+        "{\"e\":\"trade\",\"E\":1700000000001,\"s\":\"BTCUSDT\",\"t\":12345,\"p\":\"43000.12000000\","
+        + "\"q\":\"0.00150000\",\"b\":88,\"a\":50,\"T\":1700000000000,\"m\":true,\"M\":true}";
+    private static final String TRADE_FRAME = "{\"stream\":\"btcusdt@trade\",\"data\":" + TRADE_DATA + "}";
+
+    private static final String DEPTH_FRAME = "{\"stream\":\"ethusdt@depth20\",\"data\":{\"lastUpdateId\":160,"
+        + "\"bids\":[[\"2300.10\",\"1.5\"],[\"2300.00\",\"2\"]],\"asks\":[[\"2300.20\",\"0.3\"]]}}";
+
+    private static final String TICKER_FRAME = "{\"stream\":\"xrpusdt@ticker\",\"data\":{\"e\":\"24hrTicker\","
+        + "\"E\":1700000000002,\"s\":\"XRPUSDT\",\"p\":\"-0.01\",\"P\":\"-1.5\",\"c\":\"0.61\",\"o\":\"0.62\","
+        + "\"h\":\"0.63\",\"l\":\"0.60\",\"v\":\"1000\",\"q\":\"610\",\"b\":\"0.609\",\"a\":\"0.611\"}}";
+
+    @Test
+    void parse_trade_streaming() throws Exception {
+        // given
+        BinanceMessageParser parser = new BinanceMessageParser(true);
+
+        // when
+        MarketDataEvent event = parser.parse(TRADE_FRAME);
+
+        // then
+        TradeTick trade = assertInstanceOf(TradeTick.class, event);
+        assertEquals("BTCUSDT", trade.getSymbol());
+        assertEquals("btc", trade.getTicker());
+        assertEquals(SymbolRegistry.find("BTCUSDT"), trade.getSymbolId());
+        assertEquals(12345L, trade.getTradeId());
+        assertEquals(4_300_012_000_000L, trade.getPrice());
+        assertEquals(150_000L, trade.getQuantity());
+        assertEquals(1700000000000L, trade.getTradeTime());
+        assertTrue(trade.isBuyerMaker());
+        assertEquals(TRADE_DATA, trade.getRawData());
+    }
+
+    @Test
+    void parse_depth_streamingAndTreeAgree() throws Exception {
+        for (boolean streaming : new boolean[] {true, false}) {
+            // when
+            MarketDataEvent event = new BinanceMessageParser(streaming).parse(DEPTH_FRAME);
+
+            // then
+            DepthSnapshot depth = assertInstanceOf(DepthSnapshot.class, event);
+            assertEquals(160L, depth.getLastUpdateId());
+            assertEquals(2, depth.getBidCount());
+            assertEquals(1, depth.getAskCount());
+            assertEquals(ScaledDecimal.parse("2300.00"), depth.getBidPrice(1));
+            assertEquals(30_000_000L, depth.getAskQuantity(0));
+        }
+    }
+
+    @Test
+    void parse_ticker_fieldsAreNotConfusedWithTrade() throws Exception {
+        // when
+        MarketDataEvent event = new BinanceMessageParser(true).parse(TICKER_FRAME);
+
+        // then
+        TickerSnapshot ticker = assertInstanceOf(TickerSnapshot.class, event);
+        assertEquals(61_000_000L, ticker.getLastPrice());
+        assertEquals(-1_000_000L, ticker.getPriceChange());
+        assertEquals(61_100_000L, ticker.getBestAsk());
+    }
+
+    @Test
+    void parse_dataBeforeStream_rereadsDataSpan() throws Exception {
+        // given
+        String frame = "{\"data\":" + TRADE_DATA + ",\"stream\":\"btcusdt@trade\"}";
+
+        // when
+        MarketDataEvent event = new BinanceMessageParser(true).parse(frame);
+
+        // then
+        TradeTick trade = assertInstanceOf(TradeTick.class, event);
+        assertEquals(ScaledDecimal.parse("43000.12"), trade.getPrice());
+        assertEquals(TRADE_DATA, trade.getRawData());
+    }
+
+    @Test
+    void parse_unknownStream_returnsNull() throws Exception {
+        assertNull(new BinanceMessageParser(true).parse("{\"stream\":\"btcusdt@kline_1m\",\"data\":{\"k\":{}}}"));
+    }
+
+    @Test
+    void parse_unknownStream_isDroppedWithoutReadingData() throws Exception {
+        // given: 지원하지 않는 스트림의 data는 읽지 않으므로 깨진 data여도 예외가 없어야 함
+        String frame = "{\"stream\":\"btcusdt@kline_1m\",\"data\":{\"k\":[";
+
+        // when & then
+        assertNull(new BinanceMessageParser(true).parse(frame));
+    }
+}
@@ -0,0 +1,82 @@
+package com.tradinghub.application.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.tradinghub.application.exception.order.InvalidOrderException;
+import com.tradinghub.application.exception.order.OrderExecutionException;
+import com.tradinghub.common.SymbolRegistry;
+
+class MatchingEngineTest {
+
+    private final MatchingEngine engine = new MatchingEngine(null, null, null, null, null, 2, 1_000, 1_000);
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void submit_sameSymbol_runsInArrivalOrderOnOneThread() {
+        // given
+        List<Integer> order = new ArrayList<>();
+        List<String> threads = new ArrayList<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            int n = i;
+            futures.add(engine.submit("BTCUSDT", () -> {
+                order.add(n);
+                threads.add(Thread.currentThread().getName());
+                return n;
+            }));
+        }
+        futures.forEach(engine::await);
+
+        // then
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, order.get(i));
+        }
+        assertEquals(1, threads.stream().distinct().count());
+    }
+
+    @Test
+    void await_rethrowsCommandException() {
+        // when
+        CompletableFuture<Object> future = engine.submit("ETHUSDT", () -> {
+            throw new InvalidOrderException("rejected");
+        });
+
+        // then
+        assertThrows(InvalidOrderException.class, () -> engine.await(future));
+    }
+
+    @Test
+    void submit_afterShutdown_failsWithoutBlocking() {
+        // given
+        engine.shutdown();
+
+        // when
+        CompletableFuture<Integer> future = engine.submit("BTCUSDT", () -> 1);
+
+        // then
+        assertThrows(OrderExecutionException.class, () -> engine.await(future));
+    }
+
+    @Test
+    void submit_symbolWithoutSpec_runsWithoutRegisteringSymbol() {
+        // when: 심볼 단위 설정(order.symbol-specs)이 없는 심볼
+        CompletableFuture<Integer> future = engine.submit("NOSPECUSDT", () -> 1);
+
+        // then
+        assertEquals(1, engine.await(future));
+        assertEquals(-1, SymbolRegistry.find("NOSPECUSDT"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.tradinghub.application.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tradinghub.application.port.OrderJournalPort;
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.Order.OrderSide;
+import com.tradinghub.domain.model.order.Order.OrderStatus;
+import com.tradinghub.domain.model.order.Order.OrderType;
+import com.tradinghub.domain.model.order.OrderBook;
+import com.tradinghub.domain.model.order.OrderRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OrderBookRegistryTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderJournalPort orderJournal;
+
+    private static Order order(long id) {
+        Order order = Order.builder()
+            .symbol("BTCUSDT")
+            .type(OrderType.LIMIT)
+            .side(OrderSide.BUY)
+            .price(new BigDecimal("100"))
+            .amount(BigDecimal.ONE)
+            .status(OrderStatus.PENDING)
+            .build();
+        ReflectionTestUtils.setField(order, "id", id);
+        return order;
+    }
+
+    @Test
+    void rebuild_oldSnapshot_reconcilesOrdersAfterWatermark() {
+        // given: 스냅샷(워터마크 1)은 보정 시간 범위보다 오래되었고, 이후 저널에서 빠진 주문 2가 DB에 대기 중
+        doAnswer(invocation -> {
+            OrderJournalPort.Listener listener = invocation.getArgument(0);
+            listener.added("BTCUSDT", new OrderBook.Entry(1L, OrderSide.BUY, 100L, 1L));
+            return Optional.of(new OrderJournalPort.Recovery(System.currentTimeMillis(), 1L));
+        }).when(orderJournal).replay(any());
+        when(orderRepository.findByStatusInAndTypeAndIdGreaterThan(anyCollection(), eq(OrderType.LIMIT), eq(1L)))
+            .thenReturn(List.of(order(2L)));
+        when(orderRepository.findByStatusInAndTypeAndCreatedAtGreaterThanEqual(anyCollection(), eq(OrderType.LIMIT), any()))
+            .thenReturn(List.of());
+        OrderBookRegistry registry = new OrderBookRegistry(orderRepository, orderJournal, 60);
+
+        // when
+        registry.rebuild();
+
+        // then
+        assertEquals(2, registry.size("BTCUSDT"));
+        verify(orderRepository, never()).findByStatusInAndType(anyCollection(), any());
+    }
+}
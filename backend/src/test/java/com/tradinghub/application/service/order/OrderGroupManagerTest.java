@@ -0,0 +1,120 @@
+package com.tradinghub.application.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tradinghub.application.service.portfolio.BalanceLedger;
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.Order.OrderSide;
+import com.tradinghub.domain.model.order.Order.OrderStatus;
+import com.tradinghub.domain.model.order.Order.OrderType;
+import com.tradinghub.domain.model.order.OrderRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OrderGroupManagerTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderBookRegistry orderBookRegistry;
+
+    @Mock
+    private ConditionalOrderRegistry conditionalOrderRegistry;
+
+    @Mock
+    private OrderExpiryRegistry orderExpiryRegistry;
+
+    @Mock
+    private BalanceLedger balanceLedger;
+
+    private OrderGroupRegistry orderGroupRegistry;
+    private OrderGroupManager orderGroupManager;
+
+    @BeforeEach
+    void setUp() {
+        orderGroupRegistry = new OrderGroupRegistry(orderRepository);
+        orderGroupManager = new OrderGroupManager(orderRepository, orderGroupRegistry, orderBookRegistry, conditionalOrderRegistry,
+            orderExpiryRegistry, balanceLedger);
+    }
+
+    private static Order order(long id, OrderType type, OrderStatus status, long groupId) {
+        Order order = Order.builder()
+            .symbol("BTCUSDT")
+            .type(type)
+            .side(OrderSide.SELL)
+            .price(new BigDecimal("100"))
+            .stopPrice(type.isConditional() ? new BigDecimal("90") : null)
+            .amount(BigDecimal.ONE)
+            .status(status)
+            .build();
+        ReflectionTestUtils.setField(order, "id", id);
+        order.joinGroup(groupId, null);
+        return order;
+    }
+
+    @Test
+    void claim_allowsOneOrderPerGroupInAPass() {
+        // given
+        Order takeProfit = order(1L, OrderType.LIMIT, OrderStatus.PENDING, 1L);
+        Order stopLoss = order(2L, OrderType.STOP_MARKET, OrderStatus.PENDING, 1L);
+        Set<Long> claimed = new HashSet<>();
+
+        // when & then
+        assertTrue(orderGroupManager.claim(takeProfit, claimed));
+        assertFalse(orderGroupManager.claim(stopLoss, claimed));
+    }
+
+    @Test
+    void completeGroups_ocoFillCancelsSibling() {
+        // given
+        Order takeProfit = order(1L, OrderType.LIMIT, OrderStatus.FILLED, 1L);
+        Order stopLoss = order(2L, OrderType.STOP_MARKET, OrderStatus.PENDING, 1L);
+        orderGroupRegistry.register(new OrderGroupRegistry.Group(1L, 0L, List.of(1L, 2L)));
+        when(orderRepository.findAllById(List.of(2L))).thenReturn(List.of(stopLoss));
+
+        // when
+        List<Order> changed = orderGroupManager.completeGroups(List.of(takeProfit));
+
+        // then
+        assertEquals(List.of(stopLoss), changed);
+        assertEquals(OrderStatus.CANCELLED, stopLoss.getStatus());
+        verify(conditionalOrderRegistry).untrack(stopLoss);
+        assertNull(orderGroupRegistry.find(1L));
+        assertNull(orderGroupRegistry.find(2L));
+    }
+
+    @Test
+    void completeGroups_bracketEntryFillReleasesExits() {
+        // given
+        Order entry = order(10L, OrderType.LIMIT, OrderStatus.FILLED, 10L);
+        Order takeProfit = order(11L, OrderType.LIMIT, OrderStatus.INACTIVE, 10L);
+        Order stopLoss = order(12L, OrderType.STOP_MARKET, OrderStatus.INACTIVE, 10L);
+        orderGroupRegistry.register(new OrderGroupRegistry.Group(10L, 10L, List.of(11L, 12L)));
+        when(orderRepository.findAllById(List.of(11L, 12L))).thenReturn(List.of(takeProfit, stopLoss));
+
+        // when
+        List<Order> changed = orderGroupManager.completeGroups(List.of(entry));
+
+        // then
+        assertEquals(List.of(takeProfit, stopLoss), changed);
+        assertEquals(OrderStatus.PENDING, takeProfit.getStatus());
+        assertEquals(OrderStatus.PENDING, stopLoss.getStatus());
+        verify(orderBookRegistry).track(takeProfit);
+        verify(conditionalOrderRegistry).track(stopLoss);
+        assertNull(orderGroupRegistry.find(10L));
+        assertEquals(List.of(11L, 12L), orderGroupRegistry.find(11L).legOrderIds());
+    }
+}
@@ -0,0 +1,121 @@
+package com.tradinghub.application.service.settlement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.tradinghub.application.port.OrderNotificationPort;
+import com.tradinghub.application.service.portfolio.BalanceLedger;
+import com.tradinghub.domain.model.order.Order.OrderSide;
+import com.tradinghub.domain.model.settlement.Settlement;
+import com.tradinghub.domain.model.settlement.SettlementRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementDispatcherTest {
+
+    @Mock
+    private SettlementRepository settlementRepository;
+
+    @Mock
+    private SettlementProcessor settlementProcessor;
+
+    @Mock
+    private OrderNotificationPort orderNotificationPort;
+
+    @Mock
+    private BalanceLedger balanceLedger;
+
+    private SettlementDispatcher dispatcher(int partitions) {
+        return new SettlementDispatcher(settlementRepository, settlementProcessor, orderNotificationPort, balanceLedger,
+            partitions, 4, 10, 5, 1_000, 60_000, 0);
+    }
+
+    @Test
+    void fewerPartitions_repartitionPendingSettlementsBeforeClaiming() throws Exception {
+        // given: 파티션 8개일 때 저장된 대기 정산
+        SettlementDispatcher before = dispatcher(8);
+        List<Settlement> pending = new ArrayList<>();
+        for (long userId = 1; userId <= 16; userId++) {
+            pending.add(Settlement.builder()
+                .orderId(userId)
+                .userId(userId)
+                .partitionNo(before.partitionOf(userId))
+                .symbol("BTCUSDT")
+                .side(OrderSide.BUY)
+                .amount(BigDecimal.ONE)
+                .price(new BigDecimal("100"))
+                .executedAt(LocalDateTime.now())
+                .build());
+        }
+        // partition_no 열: 재계산 전에는 저장 당시(8개 기준)의 파티션
+        Map<Long, Integer> partitionColumn = new ConcurrentHashMap<>();
+        pending.forEach(settlement -> partitionColumn.put(settlement.getOrderId(), settlement.getPartitionNo()));
+        when(settlementProcessor.repartition(anyInt())).thenAnswer(invocation -> {
+            int partitions = invocation.getArgument(0);
+            int moved = 0;
+            for (Settlement settlement : pending) {
+                int partitionNo = (int) Math.floorMod(settlement.getUserId(), (long) partitions);
+                if (partitionColumn.put(settlement.getOrderId(), partitionNo) != partitionNo) {
+                    moved++;
+                }
+            }
+            return moved;
+        });
+        // 선점 쿼리처럼 partition_no 열로 고름
+        Map<Long, Integer> claimedBy = new ConcurrentHashMap<>();
+        when(settlementProcessor.settleBatch(anyInt(), anyInt())).thenAnswer(invocation -> {
+            int partitionNo = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            List<Settlement> claimed = new ArrayList<>();
+            synchronized (pending) {
+                Iterator<Settlement> it = pending.iterator();
+                while (it.hasNext() && claimed.size() < limit) {
+                    Settlement settlement = it.next();
+                    if (partitionColumn.get(settlement.getOrderId()) == partitionNo) {
+                        it.remove();
+                        settlement.complete();
+                        claimed.add(settlement);
+                        claimedBy.put(settlement.getUserId(), partitionNo);
+                    }
+                }
+            }
+            return new SettlementProcessor.SettledBatch(claimed, List.of());
+        });
+        lenient().when(settlementRepository.findByPartitionNoAndStatusOrderByIdAsc(anyInt(), any(), any())).thenReturn(List.of());
+
+        // when: 파티션 2개로 재기동
+        SettlementDispatcher after = dispatcher(2);
+        after.start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (claimedBy.size() < 16 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+        } finally {
+            after.stop();
+        }
+
+        // then
+        assertEquals(16, claimedBy.size());
+        claimedBy.forEach((userId, partitionNo) -> assertEquals(after.partitionOf(userId), partitionNo));
+        InOrder inOrder = inOrder(settlementProcessor);
+        inOrder.verify(settlementProcessor).repartition(2);
+        inOrder.verify(settlementProcessor, atLeastOnce()).settleBatch(anyInt(), anyInt());
+        verify(settlementProcessor, never()).settleBatch(intThat(partitionNo -> partitionNo >= 2), anyInt());
+    }
+}
@@ -0,0 +1,78 @@
+package com.tradinghub.application.usecase.order;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.tradinghub.application.dto.PlaceOrderCommand;
+import com.tradinghub.application.port.MarketDataSubscriptionPort;
+import com.tradinghub.domain.model.order.Order;
+import com.tradinghub.domain.model.order.Order.OrderSide;
+import com.tradinghub.domain.model.order.Order.OrderStatus;
+import com.tradinghub.domain.model.order.Order.OrderType;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceOrderUseCaseImplTest {
+
+    @Mock
+    private OrderStrategy strategy;
+
+    @Mock
+    private MarketDataSubscriptionPort marketDataSubscriptionPort;
+
+    private PlaceOrderUseCaseImpl placeOrderUseCase;
+
+    @BeforeEach
+    void setUp() {
+        placeOrderUseCase = new PlaceOrderUseCaseImpl(List.of(strategy), marketDataSubscriptionPort);
+        when(strategy.supports(any())).thenReturn(true);
+    }
+
+    private static PlaceOrderCommand command(OrderType type) {
+        return new PlaceOrderCommand(null, "NEWUSDT", type, OrderSide.BUY, new BigDecimal("100"), BigDecimal.ONE,
+            null, null, null, null, null);
+    }
+
+    private static Order order(OrderType type, OrderStatus status) {
+        return Order.builder()
+            .symbol("NEWUSDT")
+            .type(type)
+            .side(OrderSide.BUY)
+            .price(new BigDecimal("100"))
+            .amount(BigDecimal.ONE)
+            .status(status)
+            .build();
+    }
+
+    @Test
+    void execute_restingOrder_subscribesSymbol() {
+        // given
+        when(strategy.execute(any())).thenReturn(order(OrderType.LIMIT, OrderStatus.PENDING));
+
+        // when
+        placeOrderUseCase.execute(command(OrderType.LIMIT));
+
+        // then
+        verify(marketDataSubscriptionPort).subscribe("NEWUSDT");
+    }
+
+    @Test
+    void execute_filledOrder_doesNotSubscribe() {
+        // given
+        when(strategy.execute(any())).thenReturn(order(OrderType.MARKET, OrderStatus.FILLED));
+
+        // when
+        placeOrderUseCase.execute(command(OrderType.MARKET));
+
+        // then
+        verify(marketDataSubscriptionPort, never()).subscribe(anyString());
+    }
+}
@@ -0,0 +1,88 @@
+package com.tradinghub.application.usecase.portfolio;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.tradinghub.application.dto.UpdatePortfolioCommand;
+import com.tradinghub.application.exception.portfolio.PortfolioUpdateException;
+import com.tradinghub.application.service.portfolio.BuyOrderHandler;
+import com.tradinghub.application.service.portfolio.SellOrderHandler;
+import com.tradinghub.domain.model.order.Order.OrderSide;
+import com.tradinghub.domain.model.portfolio.Portfolio;
+import com.tradinghub.domain.model.portfolio.PortfolioAssetBatchRepository;
+import com.tradinghub.domain.model.portfolio.PortfolioRepository;
+import com.tradinghub.domain.service.PortfolioAssetManager;
+import com.tradinghub.domain.service.PortfolioValidator;
+
+@ExtendWith(MockitoExtension.class)
+class UpdatePortfolioUseCaseImplTest {
+
+    @Mock
+    private PortfolioRepository portfolioRepository;
+
+    @Mock
+    private PortfolioAssetBatchRepository assetBatchRepository;
+
+    private UpdatePortfolioUseCaseImpl updatePortfolioUseCase;
+    private Portfolio portfolio;
+
+    @BeforeEach
+    void setUp() {
+        PortfolioAssetManager assetManager = new PortfolioAssetManager(assetBatchRepository);
+        updatePortfolioUseCase = new UpdatePortfolioUseCaseImpl(portfolioRepository, List.of(
+            new BuyOrderHandler(new PortfolioValidator(), assetManager),
+            new SellOrderHandler(assetManager)));
+        portfolio = Portfolio.createWithBalance(null, "USDT", new BigDecimal("10000"));
+        when(portfolioRepository.findByUserIdForUpdate(1L)).thenReturn(Optional.of(portfolio));
+    }
+
+    private static UpdatePortfolioCommand fill(OrderSide side, String symbol, String amount, String price) {
+        return new UpdatePortfolioCommand(symbol, new BigDecimal(amount), new BigDecimal(price), side);
+    }
+
+    @Test
+    void executeAll_appliesEachFillAsOneAtomicAssetStatementUnderOneLock() {
+        // given
+        List<UpdatePortfolioCommand> fills = List.of(
+            fill(OrderSide.BUY, "BTCUSDT", "1", "100"),
+            fill(OrderSide.BUY, "BTCUSDT", "1", "200"),
+            fill(OrderSide.BUY, "ETHUSDT", "2", "10"),
+            fill(OrderSide.SELL, "ETHUSDT", "2", "15"));
+        when(assetBatchRepository.deductOnSell(any(), eq("ETHUSDT"), any())).thenReturn(true);
+
+        // when
+        Portfolio result = updatePortfolioUseCase.executeAll(1L, fills);
+
+        // then
+        assertSame(portfolio, result);
+        assertEquals(0, new BigDecimal("9710").compareTo(result.getUsdBalance()));
+        verify(portfolioRepository, times(1)).findByUserIdForUpdate(1L);
+        verify(assetBatchRepository).addOnBuy(any(), eq("BTCUSDT"),
+            argThat(amount -> amount.compareTo(BigDecimal.ONE) == 0), argThat(cost -> cost.compareTo(new BigDecimal("200")) == 0));
+        verify(assetBatchRepository, times(3)).addOnBuy(any(), any(), any(), any());
+        verify(assetBatchRepository).deductOnSell(any(), eq("ETHUSDT"), argThat(amount -> amount.compareTo(new BigDecimal("2")) == 0));
+    }
+
+    @Test
+    void executeAll_failsWholeBatchWhenAnyFillCannotBeApplied() {
+        // given
+        List<UpdatePortfolioCommand> fills = List.of(
+            fill(OrderSide.BUY, "BTCUSDT", "1", "100"),
+            fill(OrderSide.SELL, "BTCUSDT", "2", "100"));
+        when(assetBatchRepository.deductOnSell(any(), eq("BTCUSDT"), any())).thenReturn(false);
+
+        // when & then
+        assertThrows(PortfolioUpdateException.class, () -> updatePortfolioUseCase.executeAll(1L, fills));
+    }
+}
@@ -0,0 +1,61 @@
+package com.tradinghub.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.junit.jupiter.api.Test;
+
+import com.tradinghub.domain.model.market.SymbolSpec;
+
+class ScaledDecimalTest {
+
+    @Test
+    void multiply_matchesBigDecimalRoundedToScale() {
+        // given
+        long price = ScaledDecimal.parse("67123.45678901");
+        long quantity = ScaledDecimal.parse("0.00012345");
+
+        // when
+        long notional = ScaledDecimal.multiply(price, quantity);
+
+        // then
+        BigDecimal expected = new BigDecimal("67123.45678901").multiply(new BigDecimal("0.00012345"))
+            .setScale(ScaledDecimal.SCALE, RoundingMode.HALF_UP);
+        assertEquals(expected, ScaledDecimal.toBigDecimal(notional));
+    }
+
+    @Test
+    void divide_matchesBigDecimalRoundedToScale() {
+        // given
+        long cost = ScaledDecimal.parse("1000.00000000");
+        long quantity = ScaledDecimal.parse("3");
+
+        // when
+        long average = ScaledDecimal.divide(cost, quantity);
+
+        // then
+        assertEquals(new BigDecimal("333.33333333"), ScaledDecimal.toBigDecimal(average));
+        assertEquals(ScaledDecimal.parse("666.66666667"), ScaledDecimal.divide(cost * 2, quantity));
+    }
+
+    @Test
+    void fromBigDecimalExact_rejectsExtraDecimals() {
+        assertThrows(ArithmeticException.class,
+            () -> ScaledDecimal.fromBigDecimalExact(new BigDecimal("0.000000001")));
+    }
+
+    @Test
+    void symbolSpec_checksTickAndLotSize() {
+        // given
+        SymbolSpec spec = new SymbolSpec("BTCUSDT", ScaledDecimal.parse("0.01"), ScaledDecimal.parse("0.00001"));
+
+        // then
+        assertTrue(spec.isValidPrice(ScaledDecimal.parse("67000.01")));
+        assertFalse(spec.isValidPrice(ScaledDecimal.parse("67000.005")));
+        assertTrue(spec.isValidQuantity(ScaledDecimal.parse("0.00002")));
+        assertFalse(spec.isValidQuantity(ScaledDecimal.parse("0.000015")));
+        assertFalse(spec.isValidQuantity(0L));
+    }
+}
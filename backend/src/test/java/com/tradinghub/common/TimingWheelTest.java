@@ -0,0 +1,98 @@
+package com.tradinghub.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void advance_firesInDeadlineOrderAndNeverEarly() {
+        // given
+        TimingWheel wheel = new TimingWheel(10, 4, 3, START, 16);
+        wheel.schedule(1L, 7, START + 55);
+        wheel.schedule(2L, 8, START + 25);
+        List<Long> fired = new ArrayList<>();
+
+        // when & then
+        assertEquals(0, wheel.advance(START + 20, (id, tag) -> fired.add(id)));
+        assertEquals(1, wheel.advance(START + 30, (id, tag) -> fired.add(id)));
+        assertEquals(0, wheel.advance(START + 50, (id, tag) -> fired.add(id)));
+        assertEquals(1, wheel.advance(START + 60, (id, tag) -> fired.add(id)));
+        assertEquals(List.of(2L, 1L), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancel_andReschedule_moveEntries() {
+        // given
+        TimingWheel wheel = new TimingWheel(10, 4, 3, START, 16);
+        wheel.schedule(1L, 0, START + 100);
+        wheel.schedule(2L, 0, START + 100);
+        List<Long> fired = new ArrayList<>();
+
+        // when
+        assertTrue(wheel.cancel(1L));
+        assertFalse(wheel.cancel(1L));
+        wheel.schedule(2L, 0, START + 300);
+        wheel.advance(START + 200, (id, tag) -> fired.add(id));
+
+        // then
+        assertTrue(fired.isEmpty());
+        assertTrue(wheel.contains(2L));
+        wheel.advance(START + 300, (id, tag) -> fired.add(id));
+        assertEquals(List.of(2L), fired);
+    }
+
+    @Test
+    void advance_cascadesFarDeadlinesThroughLevels() {
+        // given: 16칸 × 3단계, 0단계는 160ms, 1단계는 2560ms까지
+        TimingWheel wheel = new TimingWheel(10, 4, 3, START, 16);
+        long[] deadlines = {START + 170, START + 2_570, START + 40_000, START + 1_000_000};
+        for (int i = 0; i < deadlines.length; i++) {
+            wheel.schedule(i + 1, i, deadlines[i]);
+        }
+
+        for (int i = 0; i < deadlines.length; i++) {
+            // when
+            List<Integer> early = new ArrayList<>();
+            wheel.advance(deadlines[i] - 10, (id, tag) -> early.add(tag));
+            List<Integer> due = new ArrayList<>();
+            wheel.advance(deadlines[i], (id, tag) -> due.add(tag));
+
+            // then
+            assertEquals(List.of(), early);
+            assertEquals(List.of(i), due);
+        }
+    }
+
+    @Test
+    void schedule_millionEntriesWithHalfCancelled() {
+        // given
+        int count = 1_000_000;
+        TimingWheel wheel = new TimingWheel(100, 9, 4, START, 1024);
+        for (int i = 1; i <= count; i++) {
+            wheel.schedule(i, 0, START + (i % 3_600) * 1_000L);
+        }
+
+        // when
+        for (int i = 2; i <= count; i += 2) {
+            assertTrue(wheel.cancel(i));
+        }
+        long[] fired = new long[1];
+        int expired = wheel.advance(START + 3_600_000L, (id, tag) -> {
+            assertEquals(1, id % 2);
+            fired[0]++;
+        });
+
+        // then
+        assertEquals(count / 2, expired);
+        assertEquals(count / 2, fired[0]);
+        assertEquals(0, wheel.size());
+    }
+}
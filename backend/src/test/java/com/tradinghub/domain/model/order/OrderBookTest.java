@@ -0,0 +1,121 @@
+package com.tradinghub.domain.model.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tradinghub.domain.model.order.Order.OrderSide;
+
+class OrderBookTest {
+
+    private static List<Long> ids(List<OrderBook.Fill> fills) {
+        return fills.stream().map(fill -> fill.entry().orderId()).toList();
+    }
+
+    @Test
+    void pollTriggered_returnsOnlyCrossedOrdersInPriority() {
+        // given
+        OrderBook book = new OrderBook();
+        book.add(1, OrderSide.BUY, 100, 10);
+        book.add(2, OrderSide.BUY, 105, 10);
+        book.add(3, OrderSide.BUY, 105, 10);
+        book.add(4, OrderSide.BUY, 95, 10);
+        book.add(5, OrderSide.SELL, 110, 10);
+        book.add(6, OrderSide.SELL, 108, 10);
+        book.add(7, OrderSide.SELL, 120, 10);
+
+        // when
+        List<OrderBook.Fill> triggered = new ArrayList<>();
+        int count = book.pollTriggered(100, 110, triggered);
+
+        // then - 매수는 높은 가격부터, 같은 가격은 먼저 들어온 순서, 이어서 매도는 낮은 가격부터
+        assertEquals(5, count);
+        assertEquals(List.of(2L, 3L, 1L, 6L, 5L), ids(triggered));
+        assertEquals(2, book.size());
+        assertTrue(book.contains(4));
+        assertTrue(book.contains(7));
+    }
+
+    @Test
+    void remove_dropsOrderFromLevel() {
+        // given
+        OrderBook book = new OrderBook();
+        book.add(1, OrderSide.BUY, 100, 10);
+        book.add(2, OrderSide.BUY, 100, 10);
+
+        // when
+        boolean removed = book.remove(1);
+
+        // then
+        List<OrderBook.Fill> triggered = new ArrayList<>();
+        book.pollTriggered(90, 90, triggered);
+        assertTrue(removed);
+        assertFalse(book.remove(1));
+        assertEquals(List.of(2L), ids(triggered));
+    }
+
+    @Test
+    void pollTriggered_noCrossing_leavesBookUntouched() {
+        // given
+        OrderBook book = new OrderBook();
+        book.add(1, OrderSide.BUY, 100, 10);
+        book.add(2, OrderSide.SELL, 120, 10);
+
+        // when
+        List<OrderBook.Fill> triggered = new ArrayList<>();
+        int count = book.pollTriggered(101, 119, triggered);
+
+        // then
+        assertEquals(0, count);
+        assertEquals(2, book.size());
+    }
+
+    @Test
+    void match_fillsOnlyTradedQuantityInPriority() {
+        // given
+        OrderBook book = new OrderBook();
+        book.add(1, OrderSide.BUY, 100, 10);
+        book.add(2, OrderSide.BUY, 105, 10);
+        book.add(3, OrderSide.BUY, 105, 10);
+        book.add(4, OrderSide.BUY, 95, 10);
+
+        // when - 체결가 100에 15, 이어서 100에 3
+        List<OrderBook.Fill> fills = new ArrayList<>();
+        long first = book.match(OrderSide.BUY, 100, 15, fills);
+        long second = book.match(OrderSide.BUY, 100, 3, fills);
+
+        // then - 2는 전량, 3은 5 + 3으로 합쳐지고 남은 2로 가격대 맨 앞에 남음
+        assertEquals(15, first);
+        assertEquals(3, second);
+        assertEquals(List.of(2L, 3L), ids(fills));
+        assertTrue(fills.get(0).isComplete());
+        assertEquals(8, fills.get(1).quantity());
+        assertEquals(10, fills.get(1).entry().quantity());
+        assertFalse(fills.get(1).isComplete());
+        assertEquals(2, book.quantityOf(3));
+        assertEquals(3, book.size());
+    }
+
+    @Test
+    void match_tradeAboveBestBid_fillsNothing() {
+        // given
+        OrderBook book = new OrderBook();
+        book.add(1, OrderSide.BUY, 100, 10);
+        book.add(2, OrderSide.SELL, 120, 10);
+
+        // when
+        List<OrderBook.Fill> fills = new ArrayList<>();
+        long bought = book.match(OrderSide.BUY, 101, 50, fills);
+        long sold = book.match(OrderSide.SELL, 119, 50, fills);
+
+        // then
+        assertEquals(0, bought);
+        assertEquals(0, sold);
+        assertTrue(fills.isEmpty());
+        assertFalse(book.isCrossedBy(101, 119));
+        assertTrue(book.isCrossedBy(100, 100));
+    }
+}
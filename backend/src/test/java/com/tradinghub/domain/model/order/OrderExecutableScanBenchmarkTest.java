@@ -0,0 +1,247 @@
+package com.tradinghub.domain.model.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 체결 가능 주문 조회의 스캔 범위가 체결/취소 이력 크기와 무관한지 확인하는 벤치마크
+ *
+ * 스키마와 인덱스는 Hibernate가 {@link Order} 엔티티로 생성하며, 측정과 실행 계획 확인에는
+ * {@link OrderRepository#findExecutableBuyOrders}/{@link OrderRepository#findExecutableSellOrders}가
+ * 실제로 생성한 SQL을 그대로 사용합니다. 대기 주문 수는 고정한 채 이력 행을 단계적으로 늘려 가며
+ * 쿼리가 읽은 행 수(EXPLAIN ANALYZE의 scanCount)가 변하지 않는지, 평균 조회 시간이 첫 단계의
+ * benchmark.max-slowdown배(기본 3배)를 넘지 않는지 확인합니다.
+ * 이력 규모가 커 기본 빌드에서는 실행하지 않습니다.
+ *
+ * <pre>
+ * mvn test -Dtest=OrderExecutableScanBenchmarkTest -Dbenchmark=true \
+ *     -Dbenchmark.history-rows=100000,1000000,10000000
+ * </pre>
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderExecutableScanBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderExecutableScanBenchmarkTest.class);
+
+    private static final List<String> SYMBOLS = List.of("BTCUSDT", "ETHUSDT", "XRPUSDT", "ADAUSDT", "DOGEUSDT");
+    private static final int PENDING_PER_SYMBOL = 1_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    /** Hibernate가 마지막으로 실행한 SQL */
+    private static volatile String lastSql;
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+        @Bean
+        HibernatePropertiesCustomizer sqlCapture() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                lastSql = sql;
+                return sql;
+            });
+        }
+    }
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void executableScan_staysFlatAsHistoryGrows() {
+        long[] steps = Arrays.stream(System.getProperty("benchmark.history-rows", "100000,1000000,10000000").split(","))
+            .map(String::trim)
+            .mapToLong(Long::parseLong)
+            .sorted()
+            .toArray();
+        double maxSlowdown = Double.parseDouble(System.getProperty("benchmark.max-slowdown", "3"));
+
+        // given
+        insertPending();
+        String buyScan = generatedSql(() -> orderRepository.findExecutableBuyOrders(SYMBOLS.get(0), BigDecimal.ONE));
+        String sellScan = generatedSql(() -> orderRepository.findExecutableSellOrders(SYMBOLS.get(0), BigDecimal.ONE));
+        assertUsesOpenScanIndex(buyScan);
+        assertUsesOpenScanIndex(sellScan);
+
+        long history = 0;
+        long baselineRows = -1;
+        double baseline = 0;
+        for (long target : steps) {
+            insertHistory(target - history);
+            history = target;
+
+            // when
+            long rowsExamined = rowsExamined(buyScan, sellScan);
+            double micros = measure(buyScan, sellScan);
+
+            // then
+            if (baselineRows < 0) {
+                baselineRows = rowsExamined;
+                baseline = micros;
+            }
+            log.info("history={} rows, examined={} rows, scan={} us/query ({}x baseline)",
+                history, rowsExamined, String.format("%.1f", micros), String.format("%.2f", micros / baseline));
+            assertEquals(baselineRows, rowsExamined, "history rows were examined at history=" + history);
+            assertTrue(micros <= baseline * maxSlowdown, String.format(
+                "scan slowed down %.2fx at history=%d (limit %.1fx)", micros / baseline, history, maxSlowdown));
+        }
+    }
+
+    /**
+     * 저장소 메서드를 실행해 Hibernate가 생성한 SQL을 돌려받습니다. 바인딩 순서는 (symbol, price)입니다.
+     */
+    private static String generatedSql(Runnable query) {
+        lastSql = null;
+        query.run();
+        String sql = lastSql;
+        assertNotNull(sql);
+        assertEquals(2, sql.chars().filter(c -> c == '?').count(), sql);
+        return sql;
+    }
+
+    private void insertPending() {
+        List<Object[]> rows = new ArrayList<>();
+        for (String symbol : SYMBOLS) {
+            for (int i = 0; i < PENDING_PER_SYMBOL; i++) {
+                Order.OrderStatus status = i % 4 == 0 ? Order.OrderStatus.PARTIALLY_FILLED : Order.OrderStatus.PENDING;
+                rows.add(row(symbol, status, i % 2 == 0 ? "BUY" : "SELL"));
+            }
+        }
+        jdbcTemplate.batchUpdate(insertSql(), rows);
+    }
+
+    private void insertHistory(long rows) {
+        Order.OrderStatus[] closed = {Order.OrderStatus.FILLED, Order.OrderStatus.CANCELLED};
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long i = 0; i < rows; i++) {
+            batch.add(row(SYMBOLS.get((int) (i % SYMBOLS.size())), closed[(int) (i & 1)], (i & 2) == 0 ? "BUY" : "SELL"));
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(insertSql(), batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertSql(), batch);
+        }
+    }
+
+    private static String insertSql() {
+        return "INSERT INTO orders (symbol, amount, price, type, side, status, created_at, version) "
+            + "VALUES (?, 1, ?, 'LIMIT', ?, ?, ?, 0)";
+    }
+
+    private Object[] row(String symbol, Order.OrderStatus status, String side) {
+        return new Object[] {
+            symbol, BigDecimal.valueOf(90_000 + random.nextInt(20_000)), side, status.name(),
+            Timestamp.valueOf(LocalDateTime.now())
+        };
+    }
+
+    /** 모든 심볼에 대해 매수/매도 쿼리를 한 번씩 실행하며 읽은 행 수의 합 */
+    private long rowsExamined(String buyScan, String sellScan) {
+        long rows = 0;
+        for (int i = 0; i < SYMBOLS.size(); i++) {
+            rows += scanCount(buyScan, SYMBOLS.get(i), buyPrice(i));
+            rows += scanCount(sellScan, SYMBOLS.get(i), sellPrice(i));
+        }
+        return rows;
+    }
+
+    private long scanCount(String sql, String symbol, BigDecimal price) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN ANALYZE " + sql, String.class, symbol, price);
+        Matcher matcher = SCAN_COUNT.matcher(plan);
+        long rows = 0;
+        boolean found = false;
+        while (matcher.find()) {
+            rows += Long.parseLong(matcher.group(1));
+            found = true;
+        }
+        assertTrue(found, plan);
+        return rows;
+    }
+
+    /** 심볼별로 시세 근처 가격을 넣어 매수/매도 쿼리를 번갈아 실행한 평균 시간(마이크로초) */
+    private double measure(String buyScan, String sellScan) {
+        return jdbcTemplate.execute((ConnectionCallback<Double>) conn -> {
+            try (PreparedStatement buy = conn.prepareStatement(buyScan);
+                 PreparedStatement sell = conn.prepareStatement(sellScan)) {
+                for (int i = 0; i < WARMUP; i++) {
+                    scan(buy, sell, i);
+                }
+                long rows = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    rows += scan(buy, sell, i);
+                }
+                long elapsed = System.nanoTime() - start;
+                assertTrue(rows > 0);
+                return elapsed / 1_000.0 / (ITERATIONS * 2);
+            }
+        });
+    }
+
+    private long scan(PreparedStatement buy, PreparedStatement sell, int i) throws SQLException {
+        String symbol = SYMBOLS.get(i % SYMBOLS.size());
+        return count(buy, symbol, buyPrice(i)) + count(sell, symbol, sellPrice(i));
+    }
+
+    private static BigDecimal buyPrice(int i) {
+        return BigDecimal.valueOf(109_500 + (i % 10) * 10);
+    }
+
+    private static BigDecimal sellPrice(int i) {
+        return BigDecimal.valueOf(90_500 - (i % 10) * 10);
+    }
+
+    private long count(PreparedStatement ps, String symbol, BigDecimal price) throws SQLException {
+        ps.setString(1, symbol);
+        ps.setBigDecimal(2, price);
+        long rows = 0;
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private void assertUsesOpenScanIndex(String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, SYMBOLS.get(0), BigDecimal.valueOf(100_000));
+        assertTrue(plan.toUpperCase().contains("IDX_ORDERS_OPEN_SCAN"), plan);
+    }
+}
@@ -0,0 +1,109 @@
+package com.tradinghub.domain.model.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tradinghub.domain.model.order.Order.OrderSide;
+import com.tradinghub.domain.model.order.Order.OrderType;
+import com.tradinghub.domain.model.order.TriggerBook.Direction;
+
+class TriggerBookTest {
+
+    private static List<Long> ids(List<TriggerBook.Entry> entries) {
+        return entries.stream().map(TriggerBook.Entry::orderId).toList();
+    }
+
+    @Test
+    void direction_followsOrderTypeAndSide() {
+        assertEquals(Direction.FALL, Direction.of(OrderType.STOP_MARKET, OrderSide.SELL));
+        assertEquals(Direction.RISE, Direction.of(OrderType.STOP_LIMIT, OrderSide.BUY));
+        assertEquals(Direction.RISE, Direction.of(OrderType.TAKE_PROFIT, OrderSide.SELL));
+        assertEquals(Direction.FALL, Direction.of(OrderType.TAKE_PROFIT, OrderSide.BUY));
+        assertThrows(IllegalArgumentException.class, () -> Direction.of(OrderType.LIMIT, OrderSide.BUY));
+    }
+
+    @Test
+    void pollTriggered_returnsOnlyCrossedFixedTriggers() {
+        // given
+        TriggerBook book = new TriggerBook();
+        book.add(new TriggerBook.Entry(1, Direction.FALL, 95, 0));
+        book.add(new TriggerBook.Entry(2, Direction.FALL, 90, 0));
+        book.add(new TriggerBook.Entry(3, Direction.RISE, 105, 0));
+        book.add(new TriggerBook.Entry(4, Direction.RISE, 110, 0));
+
+        // when
+        List<TriggerBook.Entry> triggered = new ArrayList<>();
+        int count = book.pollTriggered(94, 105, 100, triggered);
+
+        // then
+        assertEquals(2, count);
+        assertEquals(List.of(1L, 3L), ids(triggered));
+        assertTrue(book.contains(2));
+        assertTrue(book.contains(4));
+    }
+
+    @Test
+    void pollTriggered_trailingStopFollowsHighWithoutTriggeringOnNewHighs() {
+        // given - 매도 추적 손절: 기준가 100, 간격 5 → 발동가 95
+        TriggerBook book = new TriggerBook();
+        book.add(new TriggerBook.Entry(1, Direction.FALL, 95, 5));
+        List<TriggerBook.Entry> triggered = new ArrayList<>();
+
+        // when - 신고가 구간에서는 기준가만 올라감
+        book.pollTriggered(99, 110, 110, triggered);
+        book.pollTriggered(107, 112, 108, triggered);
+
+        // then
+        assertTrue(triggered.isEmpty());
+        List<TriggerBook.Entry> copy = new ArrayList<>();
+        book.copyTo(copy);
+        assertEquals(107, copy.get(0).triggerPrice());
+
+        // when - 기준가 112에서 5 이상 하락
+        book.pollTriggered(106, 109, 106, triggered);
+
+        // then
+        assertEquals(List.of(1L), ids(triggered));
+        assertEquals(107, triggered.get(0).triggerPrice());
+        assertEquals(0, book.size());
+    }
+
+    @Test
+    void pollTriggered_trailingStopTriggersOnPullbackWithinWindow() {
+        // given - 매수 추적 손절: 기준가 100, 간격 5 → 발동가 105
+        TriggerBook book = new TriggerBook();
+        book.add(new TriggerBook.Entry(1, Direction.RISE, 105, 5));
+
+        // when - 구간 안에서 90까지 내려갔다가 종가 96으로 반등
+        List<TriggerBook.Entry> triggered = new ArrayList<>();
+        book.pollTriggered(90, 101, 96, triggered);
+
+        // then
+        assertEquals(List.of(1L), ids(triggered));
+        assertEquals(95, triggered.get(0).triggerPrice());
+    }
+
+    @Test
+    void add_restoresTrailingMarkFromEntry() {
+        // given
+        TriggerBook book = new TriggerBook();
+        book.add(new TriggerBook.Entry(1, Direction.FALL, 95, 5));
+        List<TriggerBook.Entry> triggered = new ArrayList<>();
+        book.pollTriggered(120, 130, 126, triggered);
+        assertTrue(triggered.isEmpty());
+
+        // when - 꺼냈다 되돌려도 기준가 130이 유지됨
+        List<TriggerBook.Entry> copy = new ArrayList<>();
+        book.copyTo(copy);
+        book.remove(1);
+        book.add(copy.get(0));
+        book.pollTriggered(124, 126, 124, triggered);
+
+        // then
+        assertEquals(List.of(1L), ids(triggered));
+    }
+}
@@ -0,0 +1,75 @@
+package com.tradinghub.domain.model.portfolio;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class BalanceSheetTest {
+
+    private static BalanceSheet sheet(long usd) {
+        BalanceSheet sheet = new BalanceSheet(7L);
+        sheet.replaceTotals(Map.of(BalanceSheet.QUOTE, usd));
+        return sheet;
+    }
+
+    @Test
+    void update_reservesOpenAmountAndReleasesWhenClosed() {
+        // given
+        BalanceSheet sheet = sheet(1_000L);
+
+        // when
+        sheet.update(1L, 1L, BalanceSheet.QUOTE, 600L, 0L);
+
+        // then
+        assertEquals(600L, sheet.reserved(BalanceSheet.QUOTE));
+        assertEquals(400L, sheet.available(BalanceSheet.QUOTE));
+
+        // when
+        sheet.updateOpen(1L, 0L);
+
+        // then
+        assertEquals(0L, sheet.reserved(BalanceSheet.QUOTE));
+        assertEquals(-1L, sheet.open(1L));
+    }
+
+    @Test
+    void ocoOrders_shareOneHoldOfTheLargestOpenAmount() {
+        // given
+        BalanceSheet sheet = sheet(1_000L);
+        sheet.update(1L, 1L, BalanceSheet.QUOTE, 800L, 0L);
+
+        // when
+        long increase = sheet.reservationIncrease(1L, 2L, BalanceSheet.QUOTE, 900L, 0L);
+        sheet.update(1L, 2L, BalanceSheet.QUOTE, 900L, 0L);
+
+        // then
+        assertEquals(100L, increase);
+        assertEquals(900L, sheet.reserved(BalanceSheet.QUOTE));
+
+        // when: 한 주문이 체결되고 형제 주문이 취소됨
+        sheet.update(1L, 2L, BalanceSheet.QUOTE, 0L, 900L);
+        sheet.updateOpen(1L, 0L);
+
+        // then
+        assertEquals(900L, sheet.reserved(BalanceSheet.QUOTE));
+    }
+
+    @Test
+    void settle_releasesUnsettledAmountAfterTotalsAreReplaced() {
+        // given
+        BalanceSheet sheet = sheet(1_000L);
+        sheet.update(1L, 1L, BalanceSheet.QUOTE, 0L, 300L);
+
+        // when
+        sheet.replaceTotals(Map.of(BalanceSheet.QUOTE, 700L));
+        boolean settled = sheet.settle(1L, 300L);
+
+        // then
+        assertTrue(settled);
+        assertEquals(0L, sheet.reserved(BalanceSheet.QUOTE));
+        assertEquals(700L, sheet.available(BalanceSheet.QUOTE));
+        assertFalse(sheet.settle(1L, 300L));
+    }
+}
@@ -0,0 +1,65 @@
+package com.tradinghub.domain.model.settlement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.tradinghub.domain.model.order.Order.OrderSide;
+
+class SettlementTest {
+
+    private static Settlement settlement() {
+        return Settlement.builder()
+            .orderId(1L)
+            .userId(7L)
+            .partitionNo(3)
+            .symbol("BTCUSDT")
+            .side(OrderSide.BUY)
+            .amount(BigDecimal.ONE)
+            .price(new BigDecimal("100"))
+            .executedAt(LocalDateTime.now())
+            .build();
+    }
+
+    @Test
+    void fail_delaysRetryUntilMaxAttemptsThenDeadLetters() {
+        // given
+        Settlement settlement = settlement();
+        LocalDateTime retryAt = LocalDateTime.now().plusSeconds(1);
+
+        // when
+        settlement.fail("lock timeout", 2, retryAt);
+
+        // then
+        assertEquals(Settlement.SettlementStatus.PENDING, settlement.getStatus());
+        assertEquals(1, settlement.getAttempts());
+        assertEquals(retryAt, settlement.getNextAttemptAt());
+
+        // when
+        settlement.fail("lock timeout", 2, retryAt);
+
+        // then
+        assertEquals(Settlement.SettlementStatus.DEAD, settlement.getStatus());
+        assertNull(settlement.getNextAttemptAt());
+        assertThrows(IllegalStateException.class, settlement::complete);
+    }
+
+    @Test
+    void requeue_returnsDeadSettlementToPending() {
+        // given
+        Settlement settlement = settlement();
+        settlement.fail("boom", 1, null);
+
+        // when
+        settlement.requeue();
+
+        // then
+        assertEquals(Settlement.SettlementStatus.PENDING, settlement.getStatus());
+        assertEquals(0, settlement.getAttempts());
+        settlement.complete();
+        assertEquals(Settlement.SettlementStatus.DONE, settlement.getStatus());
+    }
+}
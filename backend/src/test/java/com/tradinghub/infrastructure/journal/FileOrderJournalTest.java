@@ -0,0 +1,120 @@
+package com.tradinghub.infrastructure.journal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tradinghub.application.port.OrderJournalPort;
+import com.tradinghub.domain.model.order.Order.OrderSide;
+import com.tradinghub.domain.model.order.OrderBook;
+
+class FileOrderJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private FileOrderJournal journal() {
+        FileOrderJournal journal = new FileOrderJournal(true, dir.toString(), 1, false, 3600);
+        journal.open();
+        return journal;
+    }
+
+    /** 재생 결과를 호가창으로 모읍니다. */
+    private static Optional<OrderJournalPort.Recovery> replay(FileOrderJournal journal, Map<String, OrderBook> books) {
+        return journal.replay(new OrderJournalPort.Listener() {
+            @Override
+            public void added(String symbol, OrderBook.Entry entry) {
+                books.computeIfAbsent(symbol, s -> new OrderBook()).add(entry.orderId(), entry.side(), entry.price(), entry.quantity());
+            }
+
+            @Override
+            public void removed(String symbol, long orderId) {
+                books.computeIfAbsent(symbol, s -> new OrderBook()).remove(orderId);
+            }
+
+            @Override
+            public void updated(String symbol, long orderId, long quantity) {
+                books.computeIfAbsent(symbol, s -> new OrderBook()).updateQuantity(orderId, quantity);
+            }
+        });
+    }
+
+    private static List<Long> orderIds(OrderBook book) {
+        List<OrderBook.Entry> entries = new ArrayList<>();
+        book.copyTo(entries);
+        return entries.stream().map(OrderBook.Entry::orderId).toList();
+    }
+
+    @Test
+    void replay_withoutSnapshot_returnsEmpty() {
+        // given
+        FileOrderJournal journal = journal();
+        journal.recordAdded("BTCUSDT", new OrderBook.Entry(1L, OrderSide.BUY, 100L, 10L));
+
+        // when
+        Optional<OrderJournalPort.Recovery> recovered = replay(journal(), new HashMap<>());
+
+        // then
+        assertTrue(recovered.isEmpty());
+    }
+
+    @Test
+    void replay_snapshotPlusTail_restoresBookAfterCrash() {
+        // given
+        Map<String, OrderBook> live = new HashMap<>();
+        live.put("BTCUSDT", new OrderBook());
+        live.get("BTCUSDT").add(1L, OrderSide.BUY, 100L, 10L);
+        live.get("BTCUSDT").add(2L, OrderSide.BUY, 100L, 10L);
+        live.get("BTCUSDT").add(3L, OrderSide.SELL, 120L, 10L);
+
+        FileOrderJournal journal = journal();
+        journal.scheduleSnapshots(() -> {
+            Map<String, List<OrderBook.Entry>> copy = new HashMap<>();
+            synchronized (live) {
+                live.forEach((symbol, book) -> {
+                    List<OrderBook.Entry> entries = new ArrayList<>();
+                    book.copyTo(entries);
+                    copy.put(symbol, entries);
+                });
+            }
+            return new OrderJournalPort.Snapshot(5L, copy);
+        });
+
+        // 스냅샷 이후의 변경: 1 제거, 4 추가, 2를 가격대 맨 뒤로 되돌림, 3 일부 체결 (호가창과 저널에 함께 반영)
+        synchronized (live) {
+            OrderBook btc = live.get("BTCUSDT");
+            btc.remove(1L);
+            journal.recordRemoved("BTCUSDT", 1L);
+            btc.add(4L, OrderSide.BUY, 100L, 10L);
+            journal.recordAdded("BTCUSDT", new OrderBook.Entry(4L, OrderSide.BUY, 100L, 10L));
+            btc.remove(2L);
+            journal.recordRemoved("BTCUSDT", 2L);
+            btc.add(2L, OrderSide.BUY, 100L, 10L);
+            journal.recordAdded("BTCUSDT", new OrderBook.Entry(2L, OrderSide.BUY, 100L, 10L));
+            btc.updateQuantity(3L, 4L);
+            journal.recordUpdated("BTCUSDT", 3L, 4L);
+            live.put("ETHUSDT", new OrderBook());
+            live.get("ETHUSDT").add(5L, OrderSide.SELL, 50L, 10L);
+            journal.recordAdded("ETHUSDT", new OrderBook.Entry(5L, OrderSide.SELL, 50L, 10L));
+        }
+
+        // when (close 없이 새 인스턴스로 복구)
+        Map<String, OrderBook> recovered = new HashMap<>();
+        Optional<OrderJournalPort.Recovery> recovery = replay(journal(), recovered);
+
+        // then
+        assertTrue(recovery.isPresent());
+        assertEquals(5L, recovery.get().orderIdWatermark());
+        assertEquals(List.of(4L, 2L, 3L), orderIds(recovered.get("BTCUSDT")));
+        assertEquals(4L, recovered.get("BTCUSDT").quantityOf(3L));
+        assertEquals(List.of(5L), orderIds(recovered.get("ETHUSDT")));
+    }
+}
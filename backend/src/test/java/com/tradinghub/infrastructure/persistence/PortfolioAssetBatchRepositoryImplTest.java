@@ -0,0 +1,86 @@
+package com.tradinghub.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.tradinghub.common.ScaledDecimal;
+
+@JdbcTest
+@Import(PortfolioAssetBatchRepositoryImpl.class)
+class PortfolioAssetBatchRepositoryImplTest {
+
+    private static final long PORTFOLIO_ID = 1L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PortfolioAssetBatchRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS portfolio_assets (" +
+            "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, portfolio_id BIGINT, " +
+            "symbol VARCHAR(255) NOT NULL, " +
+            "amount DECIMAL(" + ScaledDecimal.PRECISION + ", " + ScaledDecimal.SCALE + ") NOT NULL, " +
+            "average_price DECIMAL(" + ScaledDecimal.PRECISION + ", " + ScaledDecimal.SCALE + ") NOT NULL, " +
+            "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6) NOT NULL, version BIGINT, " +
+            "CONSTRAINT uk_portfolio_assets_symbol UNIQUE (portfolio_id, symbol))");
+    }
+
+    private Map<String, Object> asset(String symbol) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            "SELECT amount, average_price FROM portfolio_assets WHERE portfolio_id = ? AND symbol = ?", PORTFOLIO_ID, symbol);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    @Test
+    void addOnBuy_insertsThenMergesAveragePrice() {
+        // when
+        repository.addOnBuy(PORTFOLIO_ID, "BTC", new BigDecimal("1"), new BigDecimal("100"));
+        repository.addOnBuy(PORTFOLIO_ID, "BTC", new BigDecimal("1"), new BigDecimal("200"));
+
+        // then
+        Map<String, Object> asset = asset("BTC");
+        assertEquals(0, new BigDecimal("2").compareTo((BigDecimal) asset.get("amount")));
+        assertEquals(0, new BigDecimal("150").compareTo((BigDecimal) asset.get("average_price")));
+    }
+
+    @Test
+    void deductOnSell_moreThanHeld_returnsFalseAndKeepsAmount() {
+        // given
+        repository.addOnBuy(PORTFOLIO_ID, "ETH", new BigDecimal("1"), new BigDecimal("100"));
+
+        // when
+        boolean deducted = repository.deductOnSell(PORTFOLIO_ID, "ETH", new BigDecimal("1.5"));
+
+        // then
+        assertFalse(deducted);
+        assertEquals(0, BigDecimal.ONE.compareTo((BigDecimal) asset("ETH").get("amount")));
+    }
+
+    @Test
+    void deductOnSell_toExactlyZero_deletesRow() {
+        // given
+        repository.addOnBuy(PORTFOLIO_ID, "XRP", new BigDecimal("2"), new BigDecimal("100"));
+
+        // when
+        boolean partial = repository.deductOnSell(PORTFOLIO_ID, "XRP", new BigDecimal("0.5"));
+        boolean rest = repository.deductOnSell(PORTFOLIO_ID, "XRP", new BigDecimal("1.5"));
+
+        // then
+        assertTrue(partial);
+        assertTrue(rest);
+        assertNull(asset("XRP"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.tradinghub.infrastructure.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tradinghub.application.dto.market.MarketDataEvent;
+import com.tradinghub.application.dto.market.TradeTick;
+import com.tradinghub.common.SymbolRegistry;
+
+class MarketDataRingBufferTest {
+
+    private static TradeTick trade(long tradeId) {
+        TradeTick trade = new TradeTick();
+        trade.reset(SymbolRegistry.intern("BTCUSDT"));
+        trade.setTradeId(tradeId);
+        return trade;
+    }
+
+    @Test
+    void offer_rejectsWhenFull() {
+        // given
+        MarketDataRingBuffer ringBuffer = new MarketDataRingBuffer(4, WaitStrategy.create("busy-spin"));
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ringBuffer.offer(trade(i)));
+        }
+
+        // then
+        assertFalse(ringBuffer.offer(trade(4)));
+        assertEquals(4, ringBuffer.backlog());
+    }
+
+    @Test
+    void drain_deliversCopiesInOrder() throws Exception {
+        // given
+        MarketDataRingBuffer ringBuffer = new MarketDataRingBuffer(4, WaitStrategy.create("sleeping"));
+        TradeTick source = trade(1);
+        ringBuffer.offer(source);
+        source.setTradeId(2);
+        ringBuffer.offer(source);
+
+        // when
+        List<Long> tradeIds = new ArrayList<>();
+        int drained = ringBuffer.drain(event -> tradeIds.add(((TradeTick) event).getTradeId()), Long.MAX_VALUE);
+
+        // then
+        assertEquals(2, drained);
+        assertEquals(List.of(1L, 2L), tradeIds);
+        assertEquals(0, ringBuffer.backlog());
+        assertTrue(ringBuffer.offer(trade(3)));
+    }
+
+    @Test
+    void drain_returnsZeroOnTimeout() throws Exception {
+        // given
+        MarketDataRingBuffer ringBuffer = new MarketDataRingBuffer(4, WaitStrategy.create("blocking"));
+
+        // when
+        int drained = ringBuffer.drain(event -> fail("no event expected"), 1_000_000L);
+
+        // then
+        assertEquals(0, drained);
+    }
+
+    @Test
+    void capacity_roundsUpToPowerOfTwo() {
+        assertEquals(1024, new MarketDataRingBuffer(1000, WaitStrategy.create("yielding")).capacity());
+        assertEquals(2, new MarketDataRingBuffer(2, WaitStrategy.create("yielding")).capacity());
+    }
+
+    @Test
+    void drain_wakesBlockedConsumer() throws Exception {
+        // given
+        MarketDataRingBuffer ringBuffer = new MarketDataRingBuffer(8, WaitStrategy.create("blocking"));
+        List<MarketDataEvent> received = new ArrayList<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                ringBuffer.drain(received::add, Long.MAX_VALUE);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+
+        // when
+        Thread.sleep(50);
+        ringBuffer.offer(trade(7));
+        consumer.join(2000);
+
+        // then
+        assertFalse(consumer.isAlive());
+        assertEquals(1, received.size());
+    }
+}
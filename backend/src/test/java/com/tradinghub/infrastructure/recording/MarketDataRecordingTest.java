@@ -0,0 +1,67 @@
+package com.tradinghub.infrastructure.recording;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MarketDataRecordingTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static String frame(int i) {
+        return "{\"stream\":\"btcusdt@trade\",\"data\":{\"t\":" + i + ",\"p\":\"43000.1\",\"s\":\"BTCUSDT\"}}";
+    }
+
+    @Test
+    void replay_returnsFramesInRecordedOrder() throws Exception {
+        // given - 매핑 영역보다 큰 기록으로 영역 교체까지 확인
+        Path path = tempDir.resolve("frames.mdr");
+        List<String> recorded = new ArrayList<>();
+        try (MarketDataRecordingWriter writer = new MarketDataRecordingWriter(path, 1024)) {
+            for (int i = 0; i < 500; i++) {
+                recorded.add(frame(i));
+                writer.append(frame(i));
+            }
+        }
+
+        // when
+        List<String> replayed = new ArrayList<>();
+        MarketDataReplayer.ReplayResult result = new MarketDataReplayer(0).replay(path, replayed::add);
+
+        // then
+        assertEquals(500, result.frames());
+        assertEquals(recorded, replayed);
+    }
+
+    @Test
+    void close_truncatesUnusedRegion() throws Exception {
+        // given
+        Path path = tempDir.resolve("small.mdr");
+
+        // when
+        try (MarketDataRecordingWriter writer = new MarketDataRecordingWriter(path, 1 << 20)) {
+            writer.append("{}");
+        }
+
+        // then
+        assertEquals(MarketDataRecordingWriter.HEADER_SIZE + MarketDataRecordingWriter.RECORD_HEADER_SIZE + 2,
+            Files.size(path));
+    }
+
+    @Test
+    void reader_rejectsUnknownFile() throws Exception {
+        // given
+        Path path = tempDir.resolve("garbage.mdr");
+        Files.writeString(path, "not a recording at all");
+
+        // when & then
+        assertThrows(java.io.IOException.class, () -> new MarketDataRecordingReader(path));
+    }
+}
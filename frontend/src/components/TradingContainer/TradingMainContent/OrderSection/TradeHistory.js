@@ -70,7 +70,7 @@ export default function TradeHistory() {
   }, [activeTab, orderClient]);
 
   // 실시간 주문 업데이트 처리 함수
-  const handleOrderUpdate = useCallback((orderData) => {
+  const applyOrderUpdate = useCallback((orderData) => {
     console.log('실시간 주문 업데이트 수신:', orderData);
     console.log('[TradeHistory-DEBUG] 웹소켓으로 주문 업데이트 수신! ID:', orderData.id, '상태:', orderData.status);
     
@@ -109,6 +109,12 @@ export default function TradeHistory() {
     });
   }, []);
 
+  // 일괄 체결 알림은 주문 배열로 전달됨
+  const handleOrderUpdate = useCallback((orderData) => {
+    const updates = Array.isArray(orderData) ? orderData : [orderData];
+    updates.forEach(applyOrderUpdate);
+  }, [applyOrderUpdate]);
+
   // 주문 취소
   const handleCancelOrder = async (orderId) => {
     try {